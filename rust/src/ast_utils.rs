@@ -16,7 +16,8 @@
 */
 
 use std::ptr::null_mut;
-use std::sync::OnceLock;
+use std::sync::{Once, OnceLock};
+use std::time::Instant;
 
 use anyhow::Result;
 use jni::objects::{Global, JClass, JMethodID, JObject, JString};
@@ -24,7 +25,8 @@ use jni::strings::JNIString;
 use jni::signature::RuntimeMethodSignature;
 use jni::Env;
 
-use crate::enums::AstType;
+use crate::binary_utils::{BinaryWriter, ToBinaryWithMap};
+use crate::enums::{self, AstType, IdentifiableEnum};
 use crate::jni_utils::*;
 use crate::span_utils::{ByteToIndexMap, RegisterWithMap, ToJavaWithMap};
 
@@ -127,6 +129,153 @@ impl ToJavaWithMap<ByteToIndexMap> for BindingIdent {
   }
 }
 
+impl ToBinaryWithMap<ByteToIndexMap> for BigInt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::BigInt.get_id());
+    writer.write_id(self.value.sign().get_id());
+    writer.write_optional(self.raw.as_ref(), |writer, node| writer.write_str(node.as_str()));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for BindingIdent {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    let span = if let Some(type_ann) = self.type_ann.as_ref() {
+      Span {
+        lo: self.id.span.lo,
+        hi: type_ann.as_ref().span.hi,
+      }
+    } else {
+      self.span()
+    };
+    writer.write_id(AstType::BindingIdent.get_id());
+    self.id.to_binary_with_map(writer, map);
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&span));
+  }
+}
+
+static INIT: Once = Once::new();
+
+/// Initializes the AST classes on first use instead of on library loading.
+/// Resolving hundreds of classes and method ids is the bulk of the loading cost
+/// and the calls that never expose the AST to Java do not need them at all.
+pub fn ensure_init<'local>(env: &mut Env<'local>) {
+  INIT.call_once(|| {
+    let start = Instant::now();
+    enums::init_ast_type(env);
+    init(env);
+    log::debug!("ensure_init() took {:?}", start.elapsed());
+  });
+}
+
+/// Converts the Java program back by reusing the original top level items the Java side reports as clean.
+pub trait FromJavaWithOriginal<'local>: Sized {
+  fn from_java_with_original(env: &mut Env<'local>, jobj: &JObject<'_>, original: Self) -> Result<Self>;
+}
+
+fn body_from_java_with_original<'local, T>(
+  env: &mut Env<'local>,
+  java_body: &JObject<'_>,
+  java_clean_indexes: &JObject<'_>,
+  original_body: Vec<T>,
+) -> Result<Vec<T>>
+where
+  T: FromJava<'local>,
+{
+  let length = list_size(env, java_clean_indexes)?;
+  let mut original_body: Vec<Option<T>> = original_body.into_iter().map(Some).collect();
+  let mut body: Vec<T> = Vec::with_capacity(length);
+  for i in 0..length {
+    let java_index = list_get(env, java_clean_indexes, i)?;
+    let index = integer_int_value(env, &java_index);
+    delete_local_ref!(env, java_index);
+    // A clean item can only be moved once, so a duplicated one is converted back as well.
+    let element = usize::try_from(index?)
+      .ok()
+      .and_then(|index| original_body.get_mut(index))
+      .and_then(Option::take);
+    let element = match element {
+      Some(element) => element,
+      None => {
+        let java_item = list_get(env, java_body, i)?;
+        let element = T::from_java(env, &java_item);
+        delete_local_ref!(env, java_item);
+        *element?
+      }
+    };
+    body.push(element);
+  }
+  Ok(body)
+}
+
+impl<'local> FromJavaWithOriginal<'local> for Module {
+  fn from_java_with_original(env: &mut Env<'local>, jobj: &JObject<'_>, original: Self) -> Result<Self> {
+    let java_class = JAVA_CLASS_MODULE.get().unwrap();
+    let java_body = java_class.get_body(env, jobj)?;
+    let java_clean_indexes = java_class.get_clean_body_indexes(env, jobj)?;
+    let body = body_from_java_with_original(env, &java_body, &java_clean_indexes, original.body);
+    delete_local_ref!(env, java_clean_indexes);
+    delete_local_ref!(env, java_body);
+    let body = body?;
+    let java_optional_shebang = java_class.get_shebang(env, jobj)?;
+    let shebang = if optional_is_present(env, &java_optional_shebang)? {
+      let java_shebang = optional_get(env, &java_optional_shebang)?;
+      let shebang: Result<String> = jstring_to_string!(env, java_shebang.as_raw());
+      let shebang = shebang?;
+      delete_local_ref!(env, java_shebang);
+      Some(shebang)
+    } else {
+      None
+    };
+    delete_local_ref!(env, java_optional_shebang);
+    let shebang = shebang.map(|shebang| shebang.into());
+    Ok(Module {
+      span: original.span,
+      body,
+      shebang,
+    })
+  }
+}
+
+impl<'local> FromJavaWithOriginal<'local> for Program {
+  fn from_java_with_original(env: &mut Env<'local>, jobj: &JObject<'_>, original: Self) -> Result<Self> {
+    match original {
+      Program::Module(module) => Ok(Program::Module(Module::from_java_with_original(env, jobj, module)?)),
+      Program::Script(script) => Ok(Program::Script(Script::from_java_with_original(env, jobj, script)?)),
+    }
+  }
+}
+
+impl<'local> FromJavaWithOriginal<'local> for Script {
+  fn from_java_with_original(env: &mut Env<'local>, jobj: &JObject<'_>, original: Self) -> Result<Self> {
+    let java_class = JAVA_CLASS_SCRIPT.get().unwrap();
+    let java_body = java_class.get_body(env, jobj)?;
+    let java_clean_indexes = java_class.get_clean_body_indexes(env, jobj)?;
+    let body = body_from_java_with_original(env, &java_body, &java_clean_indexes, original.body);
+    delete_local_ref!(env, java_clean_indexes);
+    delete_local_ref!(env, java_body);
+    let body = body?;
+    let java_optional_shebang = java_class.get_shebang(env, jobj)?;
+    let shebang = if optional_is_present(env, &java_optional_shebang)? {
+      let java_shebang = optional_get(env, &java_optional_shebang)?;
+      let shebang: Result<String> = jstring_to_string!(env, java_shebang.as_raw());
+      let shebang = shebang?;
+      delete_local_ref!(env, java_shebang);
+      Some(shebang)
+    } else {
+      None
+    };
+    delete_local_ref!(env, java_optional_shebang);
+    let shebang = shebang.map(|shebang| shebang.into());
+    Ok(Script {
+      span: original.span,
+      body,
+      shebang,
+    })
+  }
+}
+
 /* JNI Begin */
 #[allow(dead_code)]
 struct JavaISwc4jAst {
@@ -11421,6 +11570,7 @@ struct JavaSwc4jAstModule {
   class: Global<JClass<'static>>,
   method_construct: JMethodID,
   method_get_body: JMethodID,
+  method_get_clean_body_indexes: JMethodID,
   method_get_shebang: JMethodID,
 }
 
@@ -11447,6 +11597,13 @@ impl JavaSwc4jAstModule {
         RuntimeMethodSignature::from_str("()Ljava/util/List;").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jAstModule.getBody");
+    let method_get_clean_body_indexes = env
+      .get_method_id(
+        &class,
+        JNIString::from("getCleanBodyIndexes"),
+        RuntimeMethodSignature::from_str("()Ljava/util/List;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jAstModule.getCleanBodyIndexes");
     let method_get_shebang = env
       .get_method_id(
         &class,
@@ -11458,6 +11615,7 @@ impl JavaSwc4jAstModule {
       class,
       method_construct,
       method_get_body,
+      method_get_clean_body_indexes,
       method_get_shebang,
     }
   }
@@ -11505,6 +11663,24 @@ impl JavaSwc4jAstModule {
     Ok(return_value)
   }
 
+  pub fn get_clean_body_indexes<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_clean_body_indexes,
+        &[],
+        "List get_clean_body_indexes()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn get_shebang<'local, 'a>(
     &self,
     env: &mut Env<'local>,
@@ -13703,6 +13879,7 @@ struct JavaSwc4jAstScript {
   class: Global<JClass<'static>>,
   method_construct: JMethodID,
   method_get_body: JMethodID,
+  method_get_clean_body_indexes: JMethodID,
   method_get_shebang: JMethodID,
 }
 
@@ -13729,6 +13906,13 @@ impl JavaSwc4jAstScript {
         RuntimeMethodSignature::from_str("()Ljava/util/List;").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jAstScript.getBody");
+    let method_get_clean_body_indexes = env
+      .get_method_id(
+        &class,
+        JNIString::from("getCleanBodyIndexes"),
+        RuntimeMethodSignature::from_str("()Ljava/util/List;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jAstScript.getCleanBodyIndexes");
     let method_get_shebang = env
       .get_method_id(
         &class,
@@ -13740,6 +13924,7 @@ impl JavaSwc4jAstScript {
       class,
       method_construct,
       method_get_body,
+      method_get_clean_body_indexes,
       method_get_shebang,
     }
   }
@@ -13787,6 +13972,24 @@ impl JavaSwc4jAstScript {
     Ok(return_value)
   }
 
+  pub fn get_clean_body_indexes<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_clean_body_indexes,
+        &[],
+        "List get_clean_body_indexes()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn get_shebang<'local, 'a>(
     &self,
     env: &mut Env<'local>,
@@ -35333,3 +35536,2263 @@ impl<'local> FromJava<'local> for YieldExpr {
   }
 }
 /* AST End */
+
+/* Binary Begin */
+impl ToBinaryWithMap<ByteToIndexMap> for AssignTarget {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      AssignTarget::Pat(node) => node.to_binary_with_map(writer, map),
+      AssignTarget::Simple(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for AssignTargetPat {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      AssignTargetPat::Array(node) => node.to_binary_with_map(writer, map),
+      AssignTargetPat::Invalid(node) => node.to_binary_with_map(writer, map),
+      AssignTargetPat::Object(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for BlockStmtOrExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      BlockStmtOrExpr::BlockStmt(node) => node.to_binary_with_map(writer, map),
+      BlockStmtOrExpr::Expr(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Callee {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Callee::Expr(node) => node.to_binary_with_map(writer, map),
+      Callee::Import(node) => node.to_binary_with_map(writer, map),
+      Callee::Super(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ClassMember {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ClassMember::AutoAccessor(node) => node.to_binary_with_map(writer, map),
+      ClassMember::ClassProp(node) => node.to_binary_with_map(writer, map),
+      ClassMember::Constructor(node) => node.to_binary_with_map(writer, map),
+      ClassMember::Empty(node) => node.to_binary_with_map(writer, map),
+      ClassMember::Method(node) => node.to_binary_with_map(writer, map),
+      ClassMember::PrivateMethod(node) => node.to_binary_with_map(writer, map),
+      ClassMember::PrivateProp(node) => node.to_binary_with_map(writer, map),
+      ClassMember::StaticBlock(node) => node.to_binary_with_map(writer, map),
+      ClassMember::TsIndexSignature(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Decl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Decl::Class(node) => node.to_binary_with_map(writer, map),
+      Decl::Fn(node) => node.to_binary_with_map(writer, map),
+      Decl::TsEnum(node) => node.to_binary_with_map(writer, map),
+      Decl::TsInterface(node) => node.to_binary_with_map(writer, map),
+      Decl::TsModule(node) => node.to_binary_with_map(writer, map),
+      Decl::TsTypeAlias(node) => node.to_binary_with_map(writer, map),
+      Decl::Using(node) => node.to_binary_with_map(writer, map),
+      Decl::Var(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for DefaultDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      DefaultDecl::Class(node) => node.to_binary_with_map(writer, map),
+      DefaultDecl::Fn(node) => node.to_binary_with_map(writer, map),
+      DefaultDecl::TsInterfaceDecl(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExportSpecifier {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ExportSpecifier::Default(node) => node.to_binary_with_map(writer, map),
+      ExportSpecifier::Named(node) => node.to_binary_with_map(writer, map),
+      ExportSpecifier::Namespace(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Expr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Expr::Array(node) => node.to_binary_with_map(writer, map),
+      Expr::Arrow(node) => node.to_binary_with_map(writer, map),
+      Expr::Assign(node) => node.to_binary_with_map(writer, map),
+      Expr::Await(node) => node.to_binary_with_map(writer, map),
+      Expr::Bin(node) => node.to_binary_with_map(writer, map),
+      Expr::Call(node) => node.to_binary_with_map(writer, map),
+      Expr::Class(node) => node.to_binary_with_map(writer, map),
+      Expr::Cond(node) => node.to_binary_with_map(writer, map),
+      Expr::Fn(node) => node.to_binary_with_map(writer, map),
+      Expr::Ident(node) => node.to_binary_with_map(writer, map),
+      Expr::Invalid(node) => node.to_binary_with_map(writer, map),
+      Expr::JSXElement(node) => node.to_binary_with_map(writer, map),
+      Expr::JSXEmpty(node) => node.to_binary_with_map(writer, map),
+      Expr::JSXFragment(node) => node.to_binary_with_map(writer, map),
+      Expr::JSXMember(node) => node.to_binary_with_map(writer, map),
+      Expr::JSXNamespacedName(node) => node.to_binary_with_map(writer, map),
+      Expr::Lit(node) => node.to_binary_with_map(writer, map),
+      Expr::Member(node) => node.to_binary_with_map(writer, map),
+      Expr::MetaProp(node) => node.to_binary_with_map(writer, map),
+      Expr::New(node) => node.to_binary_with_map(writer, map),
+      Expr::Object(node) => node.to_binary_with_map(writer, map),
+      Expr::OptChain(node) => node.to_binary_with_map(writer, map),
+      Expr::Paren(node) => node.to_binary_with_map(writer, map),
+      Expr::PrivateName(node) => node.to_binary_with_map(writer, map),
+      Expr::Seq(node) => node.to_binary_with_map(writer, map),
+      Expr::SuperProp(node) => node.to_binary_with_map(writer, map),
+      Expr::TaggedTpl(node) => node.to_binary_with_map(writer, map),
+      Expr::This(node) => node.to_binary_with_map(writer, map),
+      Expr::Tpl(node) => node.to_binary_with_map(writer, map),
+      Expr::TsAs(node) => node.to_binary_with_map(writer, map),
+      Expr::TsConstAssertion(node) => node.to_binary_with_map(writer, map),
+      Expr::TsInstantiation(node) => node.to_binary_with_map(writer, map),
+      Expr::TsNonNull(node) => node.to_binary_with_map(writer, map),
+      Expr::TsSatisfies(node) => node.to_binary_with_map(writer, map),
+      Expr::TsTypeAssertion(node) => node.to_binary_with_map(writer, map),
+      Expr::Unary(node) => node.to_binary_with_map(writer, map),
+      Expr::Update(node) => node.to_binary_with_map(writer, map),
+      Expr::Yield(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ForHead {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ForHead::Pat(node) => node.to_binary_with_map(writer, map),
+      ForHead::UsingDecl(node) => node.to_binary_with_map(writer, map),
+      ForHead::VarDecl(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ImportSpecifier {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ImportSpecifier::Default(node) => node.to_binary_with_map(writer, map),
+      ImportSpecifier::Named(node) => node.to_binary_with_map(writer, map),
+      ImportSpecifier::Namespace(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXAttrName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      JSXAttrName::Ident(node) => node.to_binary_with_map(writer, map),
+      JSXAttrName::JSXNamespacedName(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXAttrOrSpread {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      JSXAttrOrSpread::JSXAttr(node) => node.to_binary_with_map(writer, map),
+      JSXAttrOrSpread::SpreadElement(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXAttrValue {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      JSXAttrValue::JSXElement(node) => node.to_binary_with_map(writer, map),
+      JSXAttrValue::JSXExprContainer(node) => node.to_binary_with_map(writer, map),
+      JSXAttrValue::JSXFragment(node) => node.to_binary_with_map(writer, map),
+      JSXAttrValue::Str(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXElementChild {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      JSXElementChild::JSXElement(node) => node.to_binary_with_map(writer, map),
+      JSXElementChild::JSXExprContainer(node) => node.to_binary_with_map(writer, map),
+      JSXElementChild::JSXFragment(node) => node.to_binary_with_map(writer, map),
+      JSXElementChild::JSXSpreadChild(node) => node.to_binary_with_map(writer, map),
+      JSXElementChild::JSXText(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXElementName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      JSXElementName::Ident(node) => node.to_binary_with_map(writer, map),
+      JSXElementName::JSXMemberExpr(node) => node.to_binary_with_map(writer, map),
+      JSXElementName::JSXNamespacedName(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      JSXExpr::Expr(node) => node.to_binary_with_map(writer, map),
+      JSXExpr::JSXEmptyExpr(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXObject {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      JSXObject::Ident(node) => node.to_binary_with_map(writer, map),
+      JSXObject::JSXMemberExpr(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Key {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Key::Private(node) => node.to_binary_with_map(writer, map),
+      Key::Public(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Lit {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Lit::BigInt(node) => node.to_binary_with_map(writer, map),
+      Lit::Bool(node) => node.to_binary_with_map(writer, map),
+      Lit::JSXText(node) => node.to_binary_with_map(writer, map),
+      Lit::Null(node) => node.to_binary_with_map(writer, map),
+      Lit::Num(node) => node.to_binary_with_map(writer, map),
+      Lit::Regex(node) => node.to_binary_with_map(writer, map),
+      Lit::Str(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for MemberProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      MemberProp::Computed(node) => node.to_binary_with_map(writer, map),
+      MemberProp::Ident(node) => node.to_binary_with_map(writer, map),
+      MemberProp::PrivateName(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ModuleDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ModuleDecl::ExportAll(node) => node.to_binary_with_map(writer, map),
+      ModuleDecl::ExportDecl(node) => node.to_binary_with_map(writer, map),
+      ModuleDecl::ExportDefaultDecl(node) => node.to_binary_with_map(writer, map),
+      ModuleDecl::ExportDefaultExpr(node) => node.to_binary_with_map(writer, map),
+      ModuleDecl::ExportNamed(node) => node.to_binary_with_map(writer, map),
+      ModuleDecl::Import(node) => node.to_binary_with_map(writer, map),
+      ModuleDecl::TsExportAssignment(node) => node.to_binary_with_map(writer, map),
+      ModuleDecl::TsImportEquals(node) => node.to_binary_with_map(writer, map),
+      ModuleDecl::TsNamespaceExport(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ModuleExportName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ModuleExportName::Ident(node) => node.to_binary_with_map(writer, map),
+      ModuleExportName::Str(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ModuleItem {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ModuleItem::ModuleDecl(node) => node.to_binary_with_map(writer, map),
+      ModuleItem::Stmt(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ObjectPatProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ObjectPatProp::Assign(node) => node.to_binary_with_map(writer, map),
+      ObjectPatProp::KeyValue(node) => node.to_binary_with_map(writer, map),
+      ObjectPatProp::Rest(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for OptChainBase {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      OptChainBase::Call(node) => node.to_binary_with_map(writer, map),
+      OptChainBase::Member(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ParamOrTsParamProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      ParamOrTsParamProp::Param(node) => node.to_binary_with_map(writer, map),
+      ParamOrTsParamProp::TsParamProp(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Pat {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Pat::Array(node) => node.to_binary_with_map(writer, map),
+      Pat::Assign(node) => node.to_binary_with_map(writer, map),
+      Pat::Expr(node) => node.to_binary_with_map(writer, map),
+      Pat::Ident(node) => node.to_binary_with_map(writer, map),
+      Pat::Invalid(node) => node.to_binary_with_map(writer, map),
+      Pat::Object(node) => node.to_binary_with_map(writer, map),
+      Pat::Rest(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Program {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Program::Module(node) => node.to_binary_with_map(writer, map),
+      Program::Script(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Prop {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Prop::Assign(node) => node.to_binary_with_map(writer, map),
+      Prop::Getter(node) => node.to_binary_with_map(writer, map),
+      Prop::KeyValue(node) => node.to_binary_with_map(writer, map),
+      Prop::Method(node) => node.to_binary_with_map(writer, map),
+      Prop::Setter(node) => node.to_binary_with_map(writer, map),
+      Prop::Shorthand(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for PropName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      PropName::BigInt(node) => node.to_binary_with_map(writer, map),
+      PropName::Computed(node) => node.to_binary_with_map(writer, map),
+      PropName::Ident(node) => node.to_binary_with_map(writer, map),
+      PropName::Num(node) => node.to_binary_with_map(writer, map),
+      PropName::Str(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for PropOrSpread {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      PropOrSpread::Prop(node) => node.to_binary_with_map(writer, map),
+      PropOrSpread::Spread(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for SimpleAssignTarget {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      SimpleAssignTarget::Ident(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::Invalid(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::Member(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::OptChain(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::Paren(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::SuperProp(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::TsAs(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::TsInstantiation(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::TsNonNull(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::TsSatisfies(node) => node.to_binary_with_map(writer, map),
+      SimpleAssignTarget::TsTypeAssertion(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Stmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      Stmt::Block(node) => node.to_binary_with_map(writer, map),
+      Stmt::Break(node) => node.to_binary_with_map(writer, map),
+      Stmt::Continue(node) => node.to_binary_with_map(writer, map),
+      Stmt::Debugger(node) => node.to_binary_with_map(writer, map),
+      Stmt::Decl(node) => node.to_binary_with_map(writer, map),
+      Stmt::DoWhile(node) => node.to_binary_with_map(writer, map),
+      Stmt::Empty(node) => node.to_binary_with_map(writer, map),
+      Stmt::Expr(node) => node.to_binary_with_map(writer, map),
+      Stmt::For(node) => node.to_binary_with_map(writer, map),
+      Stmt::ForIn(node) => node.to_binary_with_map(writer, map),
+      Stmt::ForOf(node) => node.to_binary_with_map(writer, map),
+      Stmt::If(node) => node.to_binary_with_map(writer, map),
+      Stmt::Labeled(node) => node.to_binary_with_map(writer, map),
+      Stmt::Return(node) => node.to_binary_with_map(writer, map),
+      Stmt::Switch(node) => node.to_binary_with_map(writer, map),
+      Stmt::Throw(node) => node.to_binary_with_map(writer, map),
+      Stmt::Try(node) => node.to_binary_with_map(writer, map),
+      Stmt::While(node) => node.to_binary_with_map(writer, map),
+      Stmt::With(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for SuperProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      SuperProp::Computed(node) => node.to_binary_with_map(writer, map),
+      SuperProp::Ident(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsEntityName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsEntityName::Ident(node) => node.to_binary_with_map(writer, map),
+      TsEntityName::TsQualifiedName(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsEnumMemberId {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsEnumMemberId::Ident(node) => node.to_binary_with_map(writer, map),
+      TsEnumMemberId::Str(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsFnOrConstructorType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsFnOrConstructorType::TsConstructorType(node) => node.to_binary_with_map(writer, map),
+      TsFnOrConstructorType::TsFnType(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsFnParam {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsFnParam::Array(node) => node.to_binary_with_map(writer, map),
+      TsFnParam::Ident(node) => node.to_binary_with_map(writer, map),
+      TsFnParam::Object(node) => node.to_binary_with_map(writer, map),
+      TsFnParam::Rest(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsLit {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsLit::BigInt(node) => node.to_binary_with_map(writer, map),
+      TsLit::Bool(node) => node.to_binary_with_map(writer, map),
+      TsLit::Number(node) => node.to_binary_with_map(writer, map),
+      TsLit::Str(node) => node.to_binary_with_map(writer, map),
+      TsLit::Tpl(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsModuleName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsModuleName::Ident(node) => node.to_binary_with_map(writer, map),
+      TsModuleName::Str(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsModuleRef {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsModuleRef::TsEntityName(node) => node.to_binary_with_map(writer, map),
+      TsModuleRef::TsExternalModuleRef(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsNamespaceBody {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsNamespaceBody::TsModuleBlock(node) => node.to_binary_with_map(writer, map),
+      TsNamespaceBody::TsNamespaceDecl(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsParamPropParam {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsParamPropParam::Assign(node) => node.to_binary_with_map(writer, map),
+      TsParamPropParam::Ident(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsThisTypeOrIdent {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsThisTypeOrIdent::Ident(node) => node.to_binary_with_map(writer, map),
+      TsThisTypeOrIdent::TsThisType(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsType::TsArrayType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsConditionalType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsFnOrConstructorType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsImportType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsIndexedAccessType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsInferType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsKeywordType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsLitType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsMappedType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsOptionalType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsParenthesizedType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsRestType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsThisType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsTupleType(node) => node.to_binary_with_map(writer, map),
+      TsType::TsTypeLit(node) => node.to_binary_with_map(writer, map),
+      TsType::TsTypeOperator(node) => node.to_binary_with_map(writer, map),
+      TsType::TsTypePredicate(node) => node.to_binary_with_map(writer, map),
+      TsType::TsTypeQuery(node) => node.to_binary_with_map(writer, map),
+      TsType::TsTypeRef(node) => node.to_binary_with_map(writer, map),
+      TsType::TsUnionOrIntersectionType(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeElement {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsTypeElement::TsCallSignatureDecl(node) => node.to_binary_with_map(writer, map),
+      TsTypeElement::TsConstructSignatureDecl(node) => node.to_binary_with_map(writer, map),
+      TsTypeElement::TsGetterSignature(node) => node.to_binary_with_map(writer, map),
+      TsTypeElement::TsIndexSignature(node) => node.to_binary_with_map(writer, map),
+      TsTypeElement::TsMethodSignature(node) => node.to_binary_with_map(writer, map),
+      TsTypeElement::TsPropertySignature(node) => node.to_binary_with_map(writer, map),
+      TsTypeElement::TsSetterSignature(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeQueryExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsTypeQueryExpr::Import(node) => node.to_binary_with_map(writer, map),
+      TsTypeQueryExpr::TsEntityName(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsUnionOrIntersectionType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      TsUnionOrIntersectionType::TsIntersectionType(node) => node.to_binary_with_map(writer, map),
+      TsUnionOrIntersectionType::TsUnionType(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for VarDeclOrExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    match self {
+      VarDeclOrExpr::Expr(node) => node.to_binary_with_map(writer, map),
+      VarDeclOrExpr::VarDecl(node) => node.to_binary_with_map(writer, map),
+    }
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ArrayLit {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ArrayLit.get_id());
+    writer.write_length(self.elems.len());
+    for node in self.elems.iter() {
+      writer.write_optional(node.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    }
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ArrayPat {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ArrayPat.get_id());
+    writer.write_length(self.elems.len());
+    for node in self.elems.iter() {
+      writer.write_optional(node.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    }
+    writer.write_bool(self.optional);
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ArrowExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ArrowExpr.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    self.body.to_binary_with_map(writer, map);
+    writer.write_bool(self.is_async);
+    writer.write_bool(self.is_generator);
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.return_type.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for AssignExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::AssignExpr.get_id());
+    writer.write_id(self.op.get_id());
+    self.left.to_binary_with_map(writer, map);
+    self.right.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for AssignPat {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::AssignPat.get_id());
+    self.left.to_binary_with_map(writer, map);
+    self.right.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for AssignPatProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::AssignPatProp.get_id());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_optional(self.value.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for AssignProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::AssignProp.get_id());
+    self.key.to_binary_with_map(writer, map);
+    self.value.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for AutoAccessor {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::AutoAccessor.get_id());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_optional(self.value.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.is_static);
+    writer.write_length(self.decorators.len());
+    self.decorators.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.accessibility.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    writer.write_bool(self.is_abstract);
+    writer.write_bool(self.is_override);
+    writer.write_bool(self.definite);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for AwaitExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::AwaitExpr.get_id());
+    self.arg.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for BinExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::BinExpr.get_id());
+    writer.write_id(self.op.get_id());
+    self.left.to_binary_with_map(writer, map);
+    self.right.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for BlockStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::BlockStmt.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    writer.write_length(self.stmts.len());
+    self.stmts.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Bool {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Bool.get_id());
+    writer.write_bool(self.value);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for BreakStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::BreakStmt.get_id());
+    writer.write_optional(self.label.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for CallExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::CallExpr.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    self.callee.to_binary_with_map(writer, map);
+    writer.write_length(self.args.len());
+    self.args.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_args.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for CatchClause {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::CatchClause.get_id());
+    writer.write_optional(self.param.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Class {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Class.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    writer.write_length(self.decorators.len());
+    self.decorators.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_length(self.body.len());
+    self.body.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.super_class.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.is_abstract);
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.super_type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_length(self.implements.len());
+    self.implements.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ClassDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ClassDecl.get_id());
+    self.ident.to_binary_with_map(writer, map);
+    writer.write_bool(self.declare);
+    self.class.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ClassExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ClassExpr.get_id());
+    writer.write_optional(self.ident.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.class.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ClassMethod {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ClassMethod.get_id());
+    self.key.to_binary_with_map(writer, map);
+    self.function.to_binary_with_map(writer, map);
+    writer.write_id(self.kind.get_id());
+    writer.write_bool(self.is_static);
+    writer.write_optional(self.accessibility.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    writer.write_bool(self.is_abstract);
+    writer.write_bool(self.is_optional);
+    writer.write_bool(self.is_override);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ClassProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ClassProp.get_id());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_optional(self.value.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.is_static);
+    writer.write_length(self.decorators.len());
+    self.decorators.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.accessibility.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    writer.write_bool(self.is_abstract);
+    writer.write_bool(self.is_optional);
+    writer.write_bool(self.is_override);
+    writer.write_bool(self.readonly);
+    writer.write_bool(self.declare);
+    writer.write_bool(self.definite);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ComputedPropName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ComputedPropName.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for CondExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::CondExpr.get_id());
+    self.test.to_binary_with_map(writer, map);
+    self.cons.to_binary_with_map(writer, map);
+    self.alt.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Constructor {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Constructor.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.body.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.accessibility.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    writer.write_bool(self.is_optional);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ContinueStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ContinueStmt.get_id());
+    writer.write_optional(self.label.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for DebuggerStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::DebuggerStmt.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Decorator {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Decorator.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for DoWhileStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::DoWhileStmt.get_id());
+    self.test.to_binary_with_map(writer, map);
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for EmptyStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::EmptyStmt.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExportAll {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExportAll.get_id());
+    self.src.to_binary_with_map(writer, map);
+    writer.write_bool(self.type_only);
+    writer.write_optional(self.with.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExportDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExportDecl.get_id());
+    self.decl.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExportDefaultDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExportDefaultDecl.get_id());
+    self.decl.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExportDefaultExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExportDefaultExpr.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExportDefaultSpecifier {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExportDefaultSpecifier.get_id());
+    self.exported.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExportNamedSpecifier {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExportNamedSpecifier.get_id());
+    self.orig.to_binary_with_map(writer, map);
+    writer.write_optional(self.exported.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.is_type_only);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExportNamespaceSpecifier {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExportNamespaceSpecifier.get_id());
+    self.name.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExprOrSpread {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExprOrSpread.get_id());
+    writer.write_optional(self.spread.as_ref(), |writer, node| writer.write_span_ex(&map.get_span_ex_by_span(node)));
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ExprStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ExprStmt.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for FnDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::FnDecl.get_id());
+    self.ident.to_binary_with_map(writer, map);
+    writer.write_bool(self.declare);
+    self.function.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for FnExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::FnExpr.get_id());
+    writer.write_optional(self.ident.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.function.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ForInStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ForInStmt.get_id());
+    self.left.to_binary_with_map(writer, map);
+    self.right.to_binary_with_map(writer, map);
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ForOfStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ForOfStmt.get_id());
+    writer.write_bool(self.is_await);
+    self.left.to_binary_with_map(writer, map);
+    self.right.to_binary_with_map(writer, map);
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ForStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ForStmt.get_id());
+    writer.write_optional(self.init.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.test.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.update.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Function {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Function.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_length(self.decorators.len());
+    self.decorators.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.body.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.is_generator);
+    writer.write_bool(self.is_async);
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.return_type.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for GetterProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::GetterProp.get_id());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.body.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Ident {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Ident.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    writer.write_str(self.sym.as_str());
+    writer.write_bool(self.optional);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for IdentName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::IdentName.get_id());
+    writer.write_str(self.sym.as_str());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for IfStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::IfStmt.get_id());
+    self.test.to_binary_with_map(writer, map);
+    self.cons.to_binary_with_map(writer, map);
+    writer.write_optional(self.alt.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Import {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Import.get_id());
+    writer.write_id(self.phase.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ImportDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ImportDecl.get_id());
+    writer.write_length(self.specifiers.len());
+    self.specifiers.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    self.src.to_binary_with_map(writer, map);
+    writer.write_bool(self.type_only);
+    writer.write_optional(self.with.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_id(self.phase.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ImportDefaultSpecifier {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ImportDefaultSpecifier.get_id());
+    self.local.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ImportNamedSpecifier {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ImportNamedSpecifier.get_id());
+    self.local.to_binary_with_map(writer, map);
+    writer.write_optional(self.imported.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.is_type_only);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ImportStarAsSpecifier {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ImportStarAsSpecifier.get_id());
+    self.local.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Invalid {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Invalid.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXAttr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxAttr.get_id());
+    self.name.to_binary_with_map(writer, map);
+    writer.write_optional(self.value.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXClosingElement {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxClosingElement.get_id());
+    self.name.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXClosingFragment {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxClosingFragment.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXElement {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxElement.get_id());
+    self.opening.to_binary_with_map(writer, map);
+    writer.write_length(self.children.len());
+    self.children.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.closing.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXEmptyExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxEmptyExpr.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXExprContainer {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxExprContainer.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXFragment {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxFragment.get_id());
+    self.opening.to_binary_with_map(writer, map);
+    writer.write_length(self.children.len());
+    self.children.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    self.closing.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXMemberExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxMemberExpr.get_id());
+    self.obj.to_binary_with_map(writer, map);
+    self.prop.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXNamespacedName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxNamespacedName.get_id());
+    self.ns.to_binary_with_map(writer, map);
+    self.name.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXOpeningElement {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxOpeningElement.get_id());
+    self.name.to_binary_with_map(writer, map);
+    writer.write_length(self.attrs.len());
+    self.attrs.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.self_closing);
+    writer.write_optional(self.type_args.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXOpeningFragment {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxOpeningFragment.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXSpreadChild {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxSpreadChild.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for JSXText {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::JsxText.get_id());
+    writer.write_str(self.value.as_str());
+    writer.write_str(self.raw.as_str());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for KeyValuePatProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::KeyValuePatProp.get_id());
+    self.key.to_binary_with_map(writer, map);
+    self.value.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for KeyValueProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::KeyValueProp.get_id());
+    self.key.to_binary_with_map(writer, map);
+    self.value.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for LabeledStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::LabeledStmt.get_id());
+    self.label.to_binary_with_map(writer, map);
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for MemberExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::MemberExpr.get_id());
+    self.obj.to_binary_with_map(writer, map);
+    self.prop.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for MetaPropExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::MetaPropExpr.get_id());
+    writer.write_id(self.kind.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for MethodProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::MethodProp.get_id());
+    self.key.to_binary_with_map(writer, map);
+    self.function.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Module {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Module.get_id());
+    writer.write_length(self.body.len());
+    self.body.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.shebang.as_ref(), |writer, node| writer.write_str(node.as_str()));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for NamedExport {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::NamedExport.get_id());
+    writer.write_length(self.specifiers.len());
+    self.specifiers.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.src.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.type_only);
+    writer.write_optional(self.with.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for NewExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::NewExpr.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    self.callee.to_binary_with_map(writer, map);
+    writer.write_optional(self.args.as_ref(), |writer, nodes| {
+      writer.write_length(nodes.len());
+      nodes.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    });
+    writer.write_optional(self.type_args.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Null {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Null.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Number {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Number.get_id());
+    writer.write_double(self.value);
+    writer.write_optional(self.raw.as_ref(), |writer, node| writer.write_str(node.as_str()));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ObjectLit {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ObjectLit.get_id());
+    writer.write_length(self.props.len());
+    self.props.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ObjectPat {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ObjectPat.get_id());
+    writer.write_length(self.props.len());
+    self.props.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.optional);
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for OptCall {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::OptCall.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    self.callee.to_binary_with_map(writer, map);
+    writer.write_length(self.args.len());
+    self.args.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_args.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for OptChainExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::OptChainExpr.get_id());
+    writer.write_bool(self.optional);
+    self.base.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Param {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Param.get_id());
+    writer.write_length(self.decorators.len());
+    self.decorators.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    self.pat.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ParenExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ParenExpr.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for PrivateMethod {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::PrivateMethod.get_id());
+    self.key.to_binary_with_map(writer, map);
+    self.function.to_binary_with_map(writer, map);
+    writer.write_id(self.kind.get_id());
+    writer.write_bool(self.is_static);
+    writer.write_optional(self.accessibility.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    writer.write_bool(self.is_abstract);
+    writer.write_bool(self.is_optional);
+    writer.write_bool(self.is_override);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for PrivateName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::PrivateName.get_id());
+    writer.write_str(self.name.as_str());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for PrivateProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::PrivateProp.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_optional(self.value.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.is_static);
+    writer.write_length(self.decorators.len());
+    self.decorators.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.accessibility.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    writer.write_bool(self.is_optional);
+    writer.write_bool(self.is_override);
+    writer.write_bool(self.readonly);
+    writer.write_bool(self.definite);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Regex {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Regex.get_id());
+    writer.write_str(self.exp.as_str());
+    writer.write_str(self.flags.as_str());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for RestPat {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::RestPat.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.dot3_token));
+    self.arg.to_binary_with_map(writer, map);
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ReturnStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ReturnStmt.get_id());
+    writer.write_optional(self.arg.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Script {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Script.get_id());
+    writer.write_length(self.body.len());
+    self.body.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.shebang.as_ref(), |writer, node| writer.write_str(node.as_str()));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for SeqExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::SeqExpr.get_id());
+    writer.write_length(self.exprs.len());
+    self.exprs.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for SetterProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::SetterProp.get_id());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_optional(self.this_param.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.param.to_binary_with_map(writer, map);
+    writer.write_optional(self.body.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for SpreadElement {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::SpreadElement.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.dot3_token));
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span()));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for StaticBlock {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::StaticBlock.get_id());
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Str {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Str.get_id());
+    writer.write_str(&self.value.to_string_lossy());
+    writer.write_optional(self.raw.as_ref(), |writer, node| writer.write_str(node.as_str()));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Super {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Super.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for SuperPropExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::SuperPropExpr.get_id());
+    self.obj.to_binary_with_map(writer, map);
+    self.prop.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for SwitchCase {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::SwitchCase.get_id());
+    writer.write_optional(self.test.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_length(self.cons.len());
+    self.cons.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for SwitchStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::SwitchStmt.get_id());
+    self.discriminant.to_binary_with_map(writer, map);
+    writer.write_length(self.cases.len());
+    self.cases.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TaggedTpl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TaggedTpl.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    self.tag.to_binary_with_map(writer, map);
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.tpl.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ThisExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ThisExpr.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for ThrowStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::ThrowStmt.get_id());
+    self.arg.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for Tpl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::Tpl.get_id());
+    writer.write_length(self.exprs.len());
+    self.exprs.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_length(self.quasis.len());
+    self.quasis.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TplElement {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TplElement.get_id());
+    writer.write_bool(self.tail);
+    writer.write_optional(self.cooked.as_ref(), |writer, node| writer.write_str(&node.to_string_lossy()));
+    writer.write_str(self.raw.as_str());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TryStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TryStmt.get_id());
+    self.block.to_binary_with_map(writer, map);
+    writer.write_optional(self.handler.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.finalizer.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsArrayType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsArrayType.get_id());
+    self.elem_type.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsAsExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsAsExpr.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsCallSignatureDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsCallSignatureDecl.get_id());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsConditionalType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsConditionalType.get_id());
+    self.check_type.to_binary_with_map(writer, map);
+    self.extends_type.to_binary_with_map(writer, map);
+    self.true_type.to_binary_with_map(writer, map);
+    self.false_type.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsConstAssertion {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsConstAssertion.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsConstructSignatureDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsConstructSignatureDecl.get_id());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsConstructorType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsConstructorType.get_id());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_bool(self.is_abstract);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsEnumDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsEnumDecl.get_id());
+    writer.write_bool(self.declare);
+    writer.write_bool(self.is_const);
+    self.id.to_binary_with_map(writer, map);
+    writer.write_length(self.members.len());
+    self.members.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsEnumMember {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsEnumMember.get_id());
+    self.id.to_binary_with_map(writer, map);
+    writer.write_optional(self.init.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsExportAssignment {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsExportAssignment.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsExprWithTypeArgs {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsExprWithTypeArgs.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_optional(self.type_args.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsExternalModuleRef {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsExternalModuleRef.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsFnType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsFnType.get_id());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsGetterSignature {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsGetterSignature.get_id());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_bool(self.computed);
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsImportCallOptions {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsImportCallOptions.get_id());
+    self.with.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsImportEqualsDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsImportEqualsDecl.get_id());
+    writer.write_bool(self.is_export);
+    writer.write_bool(self.is_type_only);
+    self.id.to_binary_with_map(writer, map);
+    self.module_ref.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsImportType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsImportType.get_id());
+    self.arg.to_binary_with_map(writer, map);
+    writer.write_optional(self.qualifier.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_args.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.attributes.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsIndexSignature {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsIndexSignature.get_id());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.readonly);
+    writer.write_bool(self.is_static);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsIndexedAccessType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsIndexedAccessType.get_id());
+    writer.write_bool(self.readonly);
+    self.obj_type.to_binary_with_map(writer, map);
+    self.index_type.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsInferType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsInferType.get_id());
+    self.type_param.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsInstantiation {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsInstantiation.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    self.type_args.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsInterfaceBody {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsInterfaceBody.get_id());
+    writer.write_length(self.body.len());
+    self.body.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsInterfaceDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsInterfaceDecl.get_id());
+    self.id.to_binary_with_map(writer, map);
+    writer.write_bool(self.declare);
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_length(self.extends.len());
+    self.extends.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsIntersectionType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsIntersectionType.get_id());
+    writer.write_length(self.types.len());
+    self.types.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsKeywordType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsKeywordType.get_id());
+    writer.write_id(self.kind.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsLitType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsLitType.get_id());
+    self.lit.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsMappedType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsMappedType.get_id());
+    writer.write_optional(self.readonly.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    self.type_param.to_binary_with_map(writer, map);
+    writer.write_optional(self.name_type.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.optional.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsMethodSignature {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsMethodSignature.get_id());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_bool(self.computed);
+    writer.write_bool(self.optional);
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsModuleBlock {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsModuleBlock.get_id());
+    writer.write_length(self.body.len());
+    self.body.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsModuleDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsModuleDecl.get_id());
+    writer.write_bool(self.declare);
+    writer.write_bool(self.global);
+    writer.write_bool(self.namespace);
+    self.id.to_binary_with_map(writer, map);
+    writer.write_optional(self.body.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsNamespaceDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsNamespaceDecl.get_id());
+    writer.write_bool(self.declare);
+    writer.write_bool(self.global);
+    self.id.to_binary_with_map(writer, map);
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsNamespaceExportDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsNamespaceExportDecl.get_id());
+    self.id.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsNonNullExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsNonNullExpr.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsOptionalType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsOptionalType.get_id());
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsParamProp {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsParamProp.get_id());
+    writer.write_length(self.decorators.len());
+    self.decorators.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.accessibility.as_ref(), |writer, node| writer.write_id(node.get_id()));
+    writer.write_bool(self.is_override);
+    writer.write_bool(self.readonly);
+    self.param.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsParenthesizedType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsParenthesizedType.get_id());
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsPropertySignature {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsPropertySignature.get_id());
+    writer.write_bool(self.readonly);
+    self.key.to_binary_with_map(writer, map);
+    writer.write_bool(self.computed);
+    writer.write_bool(self.optional);
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsQualifiedName {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsQualifiedName.get_id());
+    self.left.to_binary_with_map(writer, map);
+    self.right.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsRestType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsRestType.get_id());
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsSatisfiesExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsSatisfiesExpr.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsSetterSignature {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsSetterSignature.get_id());
+    self.key.to_binary_with_map(writer, map);
+    writer.write_bool(self.computed);
+    self.param.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsThisType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsThisType.get_id());
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTplLitType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTplLitType.get_id());
+    writer.write_length(self.types.len());
+    self.types.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_length(self.quasis.len());
+    self.quasis.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTupleElement {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTupleElement.get_id());
+    writer.write_optional(self.label.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.ty.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTupleType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTupleType.get_id());
+    writer.write_length(self.elem_types.len());
+    self.elem_types.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeAliasDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeAliasDecl.get_id());
+    self.id.to_binary_with_map(writer, map);
+    writer.write_bool(self.declare);
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeAnn {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeAnn.get_id());
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeAssertion {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeAssertion.get_id());
+    self.expr.to_binary_with_map(writer, map);
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeLit {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeLit.get_id());
+    writer.write_length(self.members.len());
+    self.members.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeOperator {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeOperator.get_id());
+    writer.write_id(self.op.get_id());
+    self.type_ann.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeParam {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeParam.get_id());
+    self.name.to_binary_with_map(writer, map);
+    writer.write_bool(self.is_in);
+    writer.write_bool(self.is_out);
+    writer.write_bool(self.is_const);
+    writer.write_optional(self.constraint.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_optional(self.default.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeParamDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeParamDecl.get_id());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeParamInstantiation {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeParamInstantiation.get_id());
+    writer.write_length(self.params.len());
+    self.params.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypePredicate {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypePredicate.get_id());
+    writer.write_bool(self.asserts);
+    self.param_name.to_binary_with_map(writer, map);
+    writer.write_optional(self.type_ann.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeQuery {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeQuery.get_id());
+    self.expr_name.to_binary_with_map(writer, map);
+    writer.write_optional(self.type_args.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsTypeRef {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsTypeRef.get_id());
+    self.type_name.to_binary_with_map(writer, map);
+    writer.write_optional(self.type_params.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for TsUnionType {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::TsUnionType.get_id());
+    writer.write_length(self.types.len());
+    self.types.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for UnaryExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::UnaryExpr.get_id());
+    writer.write_id(self.op.get_id());
+    self.arg.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for UpdateExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::UpdateExpr.get_id());
+    writer.write_id(self.op.get_id());
+    writer.write_bool(self.prefix);
+    self.arg.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for UsingDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::UsingDecl.get_id());
+    writer.write_bool(self.is_await);
+    writer.write_length(self.decls.len());
+    self.decls.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for VarDecl {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::VarDecl.get_id());
+    writer.write_varint(self.ctxt.as_u32());
+    writer.write_id(self.kind.get_id());
+    writer.write_bool(self.declare);
+    writer.write_length(self.decls.len());
+    self.decls.iter().for_each(|node| node.to_binary_with_map(writer, map));
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for VarDeclarator {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::VarDeclarator.get_id());
+    self.name.to_binary_with_map(writer, map);
+    writer.write_optional(self.init.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.definite);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for WhileStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::WhileStmt.get_id());
+    self.test.to_binary_with_map(writer, map);
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for WithStmt {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::WithStmt.get_id());
+    self.obj.to_binary_with_map(writer, map);
+    self.body.to_binary_with_map(writer, map);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+
+impl ToBinaryWithMap<ByteToIndexMap> for YieldExpr {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {
+    writer.write_id(AstType::YieldExpr.get_id());
+    writer.write_optional(self.arg.as_ref(), |writer, node| node.to_binary_with_map(writer, map));
+    writer.write_bool(self.delegate);
+    writer.write_span_ex(&map.get_span_ex_by_span(&self.span));
+  }
+}
+/* Binary End */
@@ -0,0 +1,202 @@
+/*
+* Copyright (c) 2026. caoccao.com Sam Cao
+* All rights reserved.
+
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+
+* http://www.apache.org/licenses/LICENSE-2.0
+
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+use std::sync::OnceLock;
+
+use anyhow::{Error, Result};
+use jni::objects::{Global, JClass, JObject, JStaticMethodID};
+use jni::signature::RuntimeMethodSignature;
+use jni::strings::JNIString;
+use jni::Env;
+
+use crate::jni_utils::*;
+use crate::span_utils::SpanEx;
+
+const DEFAULT_CAPACITY: usize = 64 * 1024;
+
+/// Compact binary writer of the AST wire format.
+///
+/// Integers are unsigned LEB128 varints, doubles are 8 bytes in little endian,
+/// strings are a varint byte length followed by the UTF-8 bytes,
+/// optional values are prefixed by a presence byte and lists are prefixed by a varint length.
+/// The layout is decoded by `Swc4jAstBinaryDecoder` on the Java side.
+pub struct BinaryWriter {
+  buffer: Vec<u8>,
+}
+
+impl Default for BinaryWriter {
+  fn default() -> Self {
+    Self::new()
+  }
+}
+
+impl BinaryWriter {
+  pub fn new() -> Self {
+    Self::with_capacity(DEFAULT_CAPACITY)
+  }
+
+  pub fn with_capacity(capacity: usize) -> Self {
+    BinaryWriter {
+      buffer: Vec::with_capacity(capacity),
+    }
+  }
+
+  pub fn as_mut_slice(&mut self) -> &mut [u8] {
+    self.buffer.as_mut_slice()
+  }
+
+  pub fn into_bytes(self) -> Vec<u8> {
+    self.buffer
+  }
+
+  pub fn len(&self) -> usize {
+    self.buffer.len()
+  }
+
+  pub fn is_empty(&self) -> bool {
+    self.buffer.is_empty()
+  }
+
+  pub fn write_bool(&mut self, value: bool) {
+    self.buffer.push(value as u8);
+  }
+
+  pub fn write_double(&mut self, value: f64) {
+    self.buffer.extend_from_slice(&value.to_le_bytes());
+  }
+
+  pub fn write_id(&mut self, id: i32) {
+    self.write_varint(id as u32);
+  }
+
+  pub fn write_length(&mut self, length: usize) {
+    self.write_varint(length as u32);
+  }
+
+  pub fn write_optional<T, F>(&mut self, value: Option<T>, f: F)
+  where
+    F: FnOnce(&mut Self, T),
+  {
+    match value {
+      Some(value) => {
+        self.write_bool(true);
+        f(self, value);
+      }
+      None => self.write_bool(false),
+    }
+  }
+
+  pub fn write_span_ex(&mut self, span_ex: &SpanEx) {
+    self.write_varint(span_ex.start);
+    self.write_varint(span_ex.end);
+    self.write_varint(span_ex.line);
+    self.write_varint(span_ex.column);
+  }
+
+  pub fn write_str(&mut self, s: &str) {
+    self.write_length(s.len());
+    self.buffer.extend_from_slice(s.as_bytes());
+  }
+
+  pub fn write_varint(&mut self, mut value: u32) {
+    while value >= 0x80 {
+      self.buffer.push((value as u8) | 0x80);
+      value >>= 7;
+    }
+    self.buffer.push(value as u8);
+  }
+}
+
+pub trait ToBinaryWithMap<Map> {
+  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ Map);
+}
+
+/// Decode the binary AST in Java in one call.
+///
+/// The direct byte buffer borrows the writer's memory which must outlive the call.
+pub fn decode_ast<'local, 'a>(env: &mut Env<'local>, writer: &mut BinaryWriter) -> Result<JObject<'a>>
+where
+  'local: 'a,
+{
+  let bytes = writer.as_mut_slice();
+  let java_buffer = unsafe { env.new_direct_byte_buffer(bytes.as_mut_ptr(), bytes.len()) }.map_err(Error::msg)?;
+  let java_buffer: JObject = java_buffer.into();
+  let return_value = JAVA_CLASS_AST_BINARY_DECODER.get().unwrap().decode(env, &java_buffer);
+  delete_local_ref!(env, java_buffer);
+  return_value
+}
+
+/* JavaSwc4jAstBinaryDecoder Begin */
+#[allow(dead_code)]
+struct JavaSwc4jAstBinaryDecoder {
+  class: Global<JClass<'static>>,
+  method_decode: JStaticMethodID,
+}
+
+#[allow(dead_code)]
+impl JavaSwc4jAstBinaryDecoder {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/ast/Swc4jAstBinaryDecoder"))
+      .expect("Couldn't find class Swc4jAstBinaryDecoder");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jAstBinaryDecoder");
+    let method_decode = env
+      .get_static_method_id(
+        &class,
+        JNIString::from("decode"),
+        RuntimeMethodSignature::from_str("(Ljava/nio/ByteBuffer;)Lcom/caoccao/javet/swc4j/ast/interfaces/ISwc4jAst;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jAstBinaryDecoder.decode");
+    JavaSwc4jAstBinaryDecoder {
+      class,
+      method_decode,
+    }
+  }
+
+  pub fn decode<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    buffer: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let buffer = object_to_jvalue!(buffer);
+    let return_value = call_static_as_object!(
+        env,
+        &self.class,
+        self.method_decode,
+        &[buffer],
+        "ISwc4jAst decode()"
+      )?;
+    Ok(return_value)
+  }
+}
+/* JavaSwc4jAstBinaryDecoder End */
+
+static JAVA_CLASS_AST_BINARY_DECODER: OnceLock<JavaSwc4jAstBinaryDecoder> = OnceLock::new();
+
+pub fn init<'local>(env: &mut Env<'local>) {
+  log::debug!("init()");
+  unsafe {
+    JAVA_CLASS_AST_BINARY_DECODER
+      .set(JavaSwc4jAstBinaryDecoder::new(env))
+      .unwrap_unchecked();
+  }
+}
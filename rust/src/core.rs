@@ -15,30 +15,195 @@
 * limitations under the License.
 */
 
+use std::mem;
+use std::panic::{self, AssertUnwindSafe};
+use std::sync::{mpsc, Arc, Condvar, Mutex, OnceLock};
+use std::thread;
+
 use anyhow::{Error, Result};
 use base64::Engine;
 use deno_ast::swc::ast::{Module, Program, Script};
 use deno_ast::swc::codegen::{text_writer::JsWriter, Config, Emitter};
-use deno_ast::swc::common::{sync::Lrc, FileName, FilePathMapping, SourceMap};
+use deno_ast::swc::common::input::StringInput;
+use deno_ast::swc::common::{sync::Lrc, BytePos, FileName, FilePathMapping, SourceMap};
+use deno_ast::swc::ecma_visit::VisitMutWith;
+use deno_ast::swc::parser::lexer::Lexer;
 use deno_ast::*;
 use swc::common::util::take::Take;
 
-use crate::{enums, options, outputs, plugin_utils};
+use crate::deadline_utils::Deadline;
+use crate::{enums, minify_utils, options, outputs, plugin_utils, scope_utils};
 
 const VERSION: &str = "2.2.0";
+const WORKER_NAME: &str = "swc4j-worker";
+const WORKER_STACK_SIZE: usize = 16 * 1024 * 1024;
+
+type Job = Box<dyn FnOnce() + Send + 'static>;
+
+static WORKER_POOL: OnceLock<WorkerPool> = OnceLock::new();
+
+/// A persistent worker pool sized by the available parallelism, created on the first batch
+/// so that the batches do not pay the thread creation on every call.
+struct WorkerPool {
+  sender: Mutex<mpsc::Sender<Job>>,
+  worker_count: usize,
+}
+
+impl WorkerPool {
+  fn get() -> Result<&'static WorkerPool> {
+    if let Some(worker_pool) = WORKER_POOL.get() {
+      return Ok(worker_pool);
+    }
+    // The pool is not kept if a worker couldn't be spawned so that the next batch tries again.
+    // A pool losing the race of the initialization drops its sender and its workers exit.
+    let worker_pool = WorkerPool::new()?;
+    Ok(WORKER_POOL.get_or_init(|| worker_pool))
+  }
+
+  fn new() -> Result<WorkerPool> {
+    let worker_count = thread::available_parallelism().map_or(1, |count| count.get());
+    log::debug!("WorkerPool::new({})", worker_count);
+    let (sender, receiver) = mpsc::channel::<Job>();
+    let receiver = Arc::new(Mutex::new(receiver));
+    for _ in 0..worker_count {
+      let receiver = receiver.clone();
+      thread::Builder::new()
+        .name(WORKER_NAME.to_owned())
+        .stack_size(WORKER_STACK_SIZE)
+        .spawn(move || loop {
+          let job = receiver.lock().map_or(None, |receiver| receiver.recv().ok());
+          match job {
+            // The panic of a job is caught so that the worker is kept.
+            Some(job) => {
+              let _ = panic::catch_unwind(AssertUnwindSafe(job));
+            }
+            None => break,
+          }
+        })
+        .map_err(|err| Error::msg(format!("Couldn't spawn worker thread: {}", err)))?;
+    }
+    Ok(WorkerPool {
+      sender: Mutex::new(sender),
+      worker_count,
+    })
+  }
+}
+
+/// Counts the running jobs of a batch. The count is decreased on drop so that a panicking job is counted too.
+struct PendingJobs {
+  condvar: Condvar,
+  count: Mutex<usize>,
+}
+
+impl PendingJobs {
+  fn done(&self) {
+    if let Ok(mut count) = self.count.lock() {
+      *count -= 1;
+      self.condvar.notify_all();
+    }
+  }
+
+  fn wait(&self) {
+    if let Ok(mut count) = self.count.lock() {
+      while *count > 0 {
+        count = match self.condvar.wait(count) {
+          Ok(count) => count,
+          Err(_) => return,
+        };
+      }
+    }
+  }
+}
+
+struct PendingJobGuard<'a>(&'a PendingJobs);
+
+impl Drop for PendingJobGuard<'_> {
+  fn drop(&mut self) {
+    self.0.done();
+  }
+}
+
+/// Runs the given function against every code on the persistent worker pool and the calling thread.
+/// The results are returned in the same order as the codes.
+fn run_batch<T, F>(codes: Vec<String>, f: F) -> Result<Vec<Result<T>>>
+where
+  T: Send,
+  F: Fn(String) -> Result<T> + Sync,
+{
+  let length = codes.len();
+  if length <= 1 {
+    return Ok(codes.into_iter().map(f).collect());
+  }
+  let worker_pool = WorkerPool::get()?;
+  // The calling thread works on the batch too so that it needs one worker less.
+  let job_count = worker_pool.worker_count.min(length) - 1;
+  log::debug!("run_batch({}, {})", length, job_count);
+  let queue = Mutex::new(codes.into_iter().enumerate());
+  let (sender, receiver) = mpsc::channel::<(usize, Result<T>)>();
+  let work = |sender: mpsc::Sender<(usize, Result<T>)>| loop {
+    let item = queue.lock().map_or(None, |mut queue| queue.next());
+    match item {
+      Some((index, code)) => {
+        if sender.send((index, f(code))).is_err() {
+          break;
+        }
+      }
+      None => break,
+    }
+  };
+  let pending_jobs = PendingJobs {
+    condvar: Condvar::new(),
+    count: Mutex::new(job_count),
+  };
+  for _ in 0..job_count {
+    let work = &work;
+    let sender = sender.clone();
+    let guard = PendingJobGuard(&pending_jobs);
+    let job: Box<dyn FnOnce() + Send + '_> = Box::new(move || {
+      let _guard = guard;
+      work(sender);
+    });
+    // SAFETY: the job only borrows the locals of this call which waits for all the jobs below,
+    // including the jobs dropped unsent, before the locals go out of scope.
+    let job: Job = unsafe { mem::transmute::<Box<dyn FnOnce() + Send + '_>, Job>(job) };
+    if let Ok(worker_sender) = worker_pool.sender.lock() {
+      // A job that is not sent is dropped with its guard.
+      let _ = worker_sender.send(job);
+    }
+  }
+  // The jobs borrow the locals so they must be waited for even if the calling thread panics.
+  let caller_result = panic::catch_unwind(AssertUnwindSafe(|| work(sender)));
+  pending_jobs.wait();
+  if let Err(payload) = caller_result {
+    panic::resume_unwind(payload);
+  }
+  let mut results: Vec<Option<Result<T>>> = (0..length).map(|_| None).collect();
+  receiver.try_iter().for_each(|(index, result)| results[index] = Some(result));
+  Ok(
+    results
+      .into_iter()
+      .map(|result| result.unwrap_or_else(|| Err(Error::msg("Batch item was not processed"))))
+      .collect(),
+  )
+}
 
 fn parse_by_mode(
   parse_params: ParseParams,
   parse_mode: enums::ParseMode,
-  plugin_host: &mut Option<plugin_utils::PluginHost>,
+  plugin_host: &Option<plugin_utils::PluginHost>,
+  deadline: &Deadline,
 ) -> Result<ParsedSource> {
   log::debug!("parse_by_mode({:?})", parse_mode);
+  deadline.check("parse")?;
   let result = if let Some(plugin_host) = plugin_host {
     let code: &str = &parse_params.text.to_owned();
     let mut error: Option<Error> = None;
     let result = match parse_mode {
       enums::ParseMode::Module => parse_module_with_post_process(parse_params, |module, _| {
-        match plugin_host.process_module(code, module) {
+        match deadline
+          .check("plugin")
+          .and_then(|_| plugin_host.process_module(code, module))
+        {
           Ok(module) => module,
           Err(err) => {
             error = Some(err);
@@ -47,7 +212,10 @@ fn parse_by_mode(
         }
       }),
       enums::ParseMode::Script => parse_script_with_post_process(parse_params, |script, _| {
-        match plugin_host.process_script(code, script) {
+        match deadline
+          .check("plugin")
+          .and_then(|_| plugin_host.process_script(code, script))
+        {
           Ok(script) => script,
           Err(err) => {
             error = Some(err);
@@ -56,7 +224,10 @@ fn parse_by_mode(
         }
       }),
       _ => parse_program_with_post_process(parse_params, |program, _| {
-        match plugin_host.process_program(code, program) {
+        match deadline
+          .check("plugin")
+          .and_then(|_| plugin_host.process_program(code, program))
+        {
           Ok(program) => program,
           Err(err) => {
             error = Some(err);
@@ -80,39 +251,178 @@ fn parse_by_mode(
   result.map_err(Error::msg)
 }
 
-pub fn parse(code: String, options: &options::ParseOptions, plugin_host: &mut Option<plugin_utils::PluginHost>) -> Result<outputs::ParseOutput> {
+pub fn minify(
+  code: String,
+  options: &options::MinifyOptions,
+  plugin_host: &Option<plugin_utils::PluginHost>,
+) -> Result<outputs::TransformOutput> {
+  log::debug!("minify()");
+  log::debug!("{:?}", options);
+  let transform_options = &options.transform_options;
+  let deadline = transform_options.budget.start();
+  let parse_params = ParseParams {
+    specifier: transform_options.get_specifier()?,
+    text: code.into(),
+    media_type: transform_options.media_type,
+    capture_tokens: false,
+    maybe_syntax: None,
+    scope_analysis: false,
+  };
+  let parsed_source = parse_by_mode(parse_params, transform_options.parse_mode, plugin_host, &deadline)?;
+  let program = minify_utils::minify_program(parsed_source.program().as_ref().clone(), options, &deadline)?;
+  deadline.check("codegen")?;
+  let program_ref = match &program {
+    Program::Module(module) => ProgramRef::Module(module),
+    Program::Script(script) => ProgramRef::Script(script),
+  };
+  emit_program(&parsed_source, program_ref, transform_options)
+}
+
+pub fn parse(code: String, options: &options::ParseOptions, plugin_host: &Option<plugin_utils::PluginHost>) -> Result<outputs::ParseOutput> {
   log::debug!("parse()");
   log::debug!("{:?}", options);
   let specifier = options.get_specifier()?;
+  let text: Arc<str> = code.into();
   let parse_params = ParseParams {
     specifier,
+    text: text.clone(),
+    media_type: options.media_type,
+    capture_tokens: options.capture_tokens,
+    maybe_syntax: None,
+    scope_analysis: options.scope_analysis,
+  };
+  match parse_by_mode(parse_params, options.parse_mode, plugin_host, &options.budget.start()) {
+    Ok(parsed_source) => Ok(outputs::ParseOutput::new(options, &parsed_source)),
+    // The fatal syntax error becomes a diagnostic while the plugin errors are still thrown.
+    Err(err) if options.recoverable => match err.downcast_ref::<ParseDiagnostic>() {
+      Some(diagnostic) => Ok(outputs::ParseOutput::new_with_fatal_diagnostic(
+        options,
+        text.clone(),
+        diagnostic,
+      )),
+      None => Err(err),
+    },
+    Err(err) => Err(err),
+  }
+}
+
+pub fn parse_retained(
+  code: String,
+  options: &options::ParseOptions,
+  plugin_host: &Option<plugin_utils::PluginHost>,
+) -> Result<RetainedSource> {
+  log::debug!("parse_retained()");
+  log::debug!("{:?}", options);
+  let parse_params = ParseParams {
+    specifier: options.get_specifier()?,
     text: code.into(),
     media_type: options.media_type,
     capture_tokens: options.capture_tokens,
     maybe_syntax: None,
     scope_analysis: options.scope_analysis,
   };
-  let parsed_source = parse_by_mode(parse_params, options.parse_mode, plugin_host)?;
-  Ok(outputs::ParseOutput::new(options, &parsed_source))
+  let parsed_source = parse_by_mode(parse_params, options.parse_mode, plugin_host, &options.budget.start())?;
+  Ok(RetainedSource {
+    capture_tokens: options.capture_tokens,
+    parsed_source,
+    scope_analysis: options.scope_analysis,
+  })
+}
+
+pub fn parse_batch(
+  codes: Vec<String>,
+  options: &options::ParseOptions,
+  plugin_host: &Option<plugin_utils::PluginHost>,
+) -> Result<Vec<Result<outputs::ParseOutput>>> {
+  log::debug!("parse_batch()");
+  // The plugin host attaches each worker thread on demand so the batch is always fanned out.
+  run_batch(codes, |code| parse(code, options, plugin_host))
+}
+
+/// A parsed source kept alive natively so that it can be emitted repeatedly with different options.
+/// The parse related options of the emits are ignored because the source has been parsed.
+pub struct RetainedSource {
+  capture_tokens: bool,
+  parsed_source: ParsedSource,
+  scope_analysis: bool,
+}
+
+impl RetainedSource {
+  pub fn parse_output(&self, options: &options::ParseOptions) -> Result<outputs::ParseOutput> {
+    log::debug!("RetainedSource::parse_output()");
+    log::debug!("{:?}", options);
+    if options.capture_tokens && !self.capture_tokens {
+      return Err(Error::msg("Tokens are not captured by the parse"));
+    }
+    if options.scope_analysis && !self.scope_analysis {
+      return Err(Error::msg("Scope analysis is not applied by the parse"));
+    }
+    Ok(outputs::ParseOutput::new(options, &self.parsed_source))
+  }
+
+  pub fn transform(&self, options: &options::TransformOptions) -> Result<outputs::TransformOutput> {
+    log::debug!("RetainedSource::transform()");
+    log::debug!("{:?}", options);
+    options.budget.start().check("codegen")?;
+    emit(&self.parsed_source, options)
+  }
+
+  pub fn transpile(&self, options: &options::TranspileOptions) -> Result<outputs::TranspileOutput> {
+    log::debug!("RetainedSource::transpile()");
+    log::debug!("{:?}", options);
+    if options.capture_tokens && !self.capture_tokens {
+      return Err(Error::msg("Tokens are not captured by the parse"));
+    }
+    options.budget.start().check("transpile")?;
+    // The parsed source shares the program so the transpile clones the program instead of taking it.
+    transpile_parsed_source(self.parsed_source.clone(), options)
+  }
+}
+
+pub fn tokenize(code: String, options: &options::ParseOptions) -> Result<outputs::TokenizeOutput> {
+  log::debug!("tokenize()");
+  log::debug!("{:?}", options);
+  options.budget.start().check("tokenize")?;
+  // The lexer runs alone so that no AST is built. The positions start at 1 like the parser.
+  let tokens = {
+    let input = StringInput::new(code.as_str(), BytePos(1), BytePos(1 + code.len() as u32));
+    Lexer::new(get_syntax(options.media_type), ES_VERSION, input, None).collect()
+  };
+  Ok(outputs::TokenizeOutput::new(options, code, tokens))
 }
 
-pub fn transform(code: String, options: &options::TransformOptions, plugin_host: &mut Option<plugin_utils::PluginHost>) -> Result<outputs::TransformOutput> {
+pub fn transform(code: String, options: &options::TransformOptions, plugin_host: &Option<plugin_utils::PluginHost>) -> Result<outputs::TransformOutput> {
   log::debug!("transform()");
   log::debug!("{:?}", options);
   let specifier = options.get_specifier()?;
   let parse_params = ParseParams {
-    specifier: specifier.clone(),
+    specifier,
     text: code.into(),
     media_type: options.media_type,
     capture_tokens: false,
     maybe_syntax: None,
     scope_analysis: false,
   };
-  let code: String = parse_params.text.clone().to_string();
-  let parsed_source = parse_by_mode(parse_params, options.parse_mode, plugin_host)?;
+  let deadline = options.budget.start();
+  let parsed_source = parse_by_mode(parse_params, options.parse_mode, plugin_host, &deadline)?;
+  deadline.check("codegen")?;
+  emit(&parsed_source, options)
+}
+
+/// Emits the code of the parsed source with the codegen only.
+fn emit(parsed_source: &ParsedSource, options: &options::TransformOptions) -> Result<outputs::TransformOutput> {
+  emit_program(parsed_source, parsed_source.program_ref(), options)
+}
+
+/// Emits the code of the program which may replace the one of the parsed source.
+fn emit_program(
+  parsed_source: &ParsedSource,
+  program: ProgramRef,
+  options: &options::TransformOptions,
+) -> Result<outputs::TransformOutput> {
   let source_map = Lrc::new(SourceMap::new(FilePathMapping::empty()));
-  let filename = Lrc::new(FileName::Url(specifier));
-  source_map.new_source_file(filename, code);
+  let filename = Lrc::new(FileName::Url(parsed_source.specifier().clone()));
+  source_map.new_source_file(filename, parsed_source.text().to_string());
   let mut buffer = vec![];
   let mut source_map_buffer = vec![];
   let mut writer = Box::new(JsWriter::new(
@@ -139,7 +449,7 @@ pub fn transform(code: String, options: &options::TransformOptions, plugin_host:
     cm: source_map.clone(),
     wr: writer,
   };
-  match parsed_source.program_ref() {
+  match program {
     ProgramRef::Module(module) => emitter.emit_module(module)?,
     ProgramRef::Script(script) => emitter.emit_script(script)?,
   };
@@ -169,10 +479,48 @@ pub fn transform(code: String, options: &options::TransformOptions, plugin_host:
   } else {
     None
   };
-  Ok(outputs::TransformOutput::new(&parsed_source, code, source_map))
+  Ok(outputs::TransformOutput::new(parsed_source, code, source_map))
+}
+
+/// Wraps the program converted from Java in a parsed source without parsing any code,
+/// so that the program goes through the same codegen and transpile paths as the parsed one.
+/// The syntax contexts are reset, because those from the scope analysis of the original parse
+/// do not exist in the globals of this call.
+fn parse_program_from_ast(specifier: ModuleSpecifier, media_type: MediaType, mut program: Program) -> Result<ParsedSource> {
+  log::debug!("parse_program_from_ast()");
+  program.visit_mut_with(&mut scope_utils::SyntaxContextResetter);
+  let parse_params = ParseParams {
+    specifier,
+    text: "".into(),
+    media_type,
+    capture_tokens: false,
+    maybe_syntax: None,
+    scope_analysis: false,
+  };
+  let mut program = Some(program);
+  parse_program_with_post_process(parse_params, |parsed_program, _| program.take().unwrap_or(parsed_program))
+    .map_err(Error::msg)
+}
+
+pub fn transform_program(program: Program, options: &options::TransformOptions) -> Result<outputs::TransformOutput> {
+  log::debug!("transform_program()");
+  log::debug!("{:?}", options);
+  options.budget.start().check("codegen")?;
+  let parsed_source = parse_program_from_ast(options.get_specifier()?, options.media_type, program)?;
+  emit(&parsed_source, options)
 }
 
-pub fn transpile(code: String, options: &options::TranspileOptions, plugin_host: &mut Option<plugin_utils::PluginHost>) -> Result<outputs::TranspileOutput> {
+pub fn transform_batch(
+  codes: Vec<String>,
+  options: &options::TransformOptions,
+  plugin_host: &Option<plugin_utils::PluginHost>,
+) -> Result<Vec<Result<outputs::TransformOutput>>> {
+  log::debug!("transform_batch()");
+  // The plugin host attaches each worker thread on demand so the batch is always fanned out.
+  run_batch(codes, |code| transform(code, options, plugin_host))
+}
+
+pub fn transpile(code: String, options: &options::TranspileOptions, plugin_host: &Option<plugin_utils::PluginHost>) -> Result<outputs::TranspileOutput> {
   log::debug!("transpile()");
   log::debug!("{:?}", options);
   let specifier = options.get_specifier()?;
@@ -184,7 +532,13 @@ pub fn transpile(code: String, options: &options::TranspileOptions, plugin_host:
     maybe_syntax: None,
     scope_analysis: options.scope_analysis,
   };
-  let parsed_source = parse_by_mode(parse_params, options.parse_mode, plugin_host)?;
+  let deadline = options.budget.start();
+  let parsed_source = parse_by_mode(parse_params, options.parse_mode, plugin_host, &deadline)?;
+  deadline.check("transpile")?;
+  transpile_parsed_source(parsed_source, options)
+}
+
+fn transpile_parsed_source(parsed_source: ParsedSource, options: &options::TranspileOptions) -> Result<outputs::TranspileOutput> {
   let transpile_options = TranspileOptions {
     decorators: options.decorators.clone(),
     imports_not_used_as_values: options.imports_not_used_as_values,
@@ -213,6 +567,24 @@ pub fn transpile(code: String, options: &options::TranspileOptions, plugin_host:
     .map_err(Error::msg)
 }
 
+pub fn transpile_program(program: Program, options: &options::TranspileOptions) -> Result<outputs::TranspileOutput> {
+  log::debug!("transpile_program()");
+  log::debug!("{:?}", options);
+  options.budget.start().check("transpile")?;
+  let parsed_source = parse_program_from_ast(options.get_specifier()?, options.media_type, program)?;
+  transpile_parsed_source(parsed_source, options)
+}
+
+pub fn transpile_batch(
+  codes: Vec<String>,
+  options: &options::TranspileOptions,
+  plugin_host: &Option<plugin_utils::PluginHost>,
+) -> Result<Vec<Result<outputs::TranspileOutput>>> {
+  log::debug!("transpile_batch()");
+  // The plugin host attaches each worker thread on demand so the batch is always fanned out.
+  run_batch(codes, |code| transpile(code, options, plugin_host))
+}
+
 pub fn get_version<'local>() -> &'local str {
   VERSION
 }
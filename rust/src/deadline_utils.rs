@@ -0,0 +1,127 @@
+/*
+* Copyright (c) 2026. caoccao.com Sam Cao
+* All rights reserved.
+
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+
+* http://www.apache.org/licenses/LICENSE-2.0
+
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+use std::fmt;
+use std::sync::atomic::{AtomicI32, Ordering};
+use std::time::{Duration, Instant};
+
+use anyhow::{Error, Result};
+use jni::objects::{Global, JByteBuffer, JObject};
+use jni::Env;
+
+/// The cancellation token backed by the direct buffer of `Swc4jCancellationToken`.
+/// The state is read with an atomic load so that the check never calls back into Java.
+pub struct CancellationToken {
+  // The global reference keeps the buffer alive as long as the state is read.
+  _buffer: Global<JObject<'static>>,
+  state: *const AtomicI32,
+}
+unsafe impl Send for CancellationToken {}
+unsafe impl Sync for CancellationToken {}
+
+impl CancellationToken {
+  pub fn new<'local>(env: &mut Env<'local>, buffer: JObject<'_>) -> Result<Self> {
+    let java_buffer = unsafe { JByteBuffer::from_raw(env, buffer.as_raw()) };
+    let address = env.get_direct_buffer_address(&java_buffer)?;
+    if address.is_null() || address.align_offset(std::mem::align_of::<AtomicI32>()) != 0 {
+      return Err(Error::msg("Cancellation token buffer is not an aligned direct buffer"));
+    }
+    let buffer = env.new_global_ref(buffer)?;
+    Ok(CancellationToken {
+      _buffer: buffer,
+      state: address as *const AtomicI32,
+    })
+  }
+
+  pub fn is_cancelled(&self) -> bool {
+    unsafe { (*self.state).load(Ordering::Acquire) != 0 }
+  }
+}
+
+impl fmt::Debug for CancellationToken {
+  fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+    f.debug_struct("CancellationToken")
+      .field("cancelled", &self.is_cancelled())
+      .finish()
+  }
+}
+
+/// The cancellation token and the time budget of the options.
+/// The options may be compiled and reused, so the clock starts per call in `start()`.
+#[derive(Debug, Default)]
+pub struct Budget {
+  pub cancellation_token: Option<CancellationToken>,
+  pub timeout: Option<Duration>,
+}
+
+impl Budget {
+  pub fn start(&self) -> Deadline<'_> {
+    Deadline {
+      cancellation_token: self.cancellation_token.as_ref(),
+      expiry: self.timeout.map(|timeout| (Instant::now() + timeout, timeout)),
+    }
+  }
+}
+
+/// The budget of a running call which is checked between the phases.
+pub struct Deadline<'a> {
+  cancellation_token: Option<&'a CancellationToken>,
+  expiry: Option<(Instant, Duration)>,
+}
+
+impl Deadline<'_> {
+  /// Fails with `CancelledError` if the token is cancelled or the time budget is exhausted
+  /// before the given phase starts.
+  pub fn check(&self, phase: &'static str) -> Result<()> {
+    if self.cancellation_token.is_some_and(|token| token.is_cancelled()) {
+      return Err(Error::new(CancelledError { phase, timeout: None }));
+    }
+    if let Some((instant, timeout)) = self.expiry {
+      if Instant::now() >= instant {
+        return Err(Error::new(CancelledError {
+          phase,
+          timeout: Some(timeout),
+        }));
+      }
+    }
+    Ok(())
+  }
+}
+
+/// The error surfaced to Java as `Swc4jCancellationException`.
+#[derive(Debug)]
+pub struct CancelledError {
+  pub phase: &'static str,
+  pub timeout: Option<Duration>,
+}
+
+impl CancelledError {
+  pub fn is_timed_out(&self) -> bool {
+    self.timeout.is_some()
+  }
+}
+
+impl fmt::Display for CancelledError {
+  fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+    match self.timeout {
+      Some(timeout) => write!(f, "Timed out after {} ms before {}", timeout.as_millis(), self.phase),
+      None => write!(f, "Cancelled before {}", self.phase),
+    }
+  }
+}
+
+impl std::error::Error for CancelledError {}
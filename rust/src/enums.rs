@@ -225,6 +225,14 @@ declare_identifiable_enum!(
   "Swc4jSourceMapOption"
 );
 
+declare_identifiable_enum!(
+  JavaSpanMode,
+  JAVA_CLASS_SPAN_MODE,
+  SpanMode,
+  "enums/",
+  "Swc4jSpanMode"
+);
+
 declare_identifiable_enum!(
   JavaTokenType,
   JAVA_CLASS_TOKEN_TYPE,
@@ -288,7 +296,6 @@ pub fn init<'local>(env: &mut Env<'local>) {
       .set(JavaAccessibility::new(env))
       .unwrap_unchecked();
     JAVA_CLASS_ASSIGN_OP.set(JavaAssignOp::new(env)).unwrap_unchecked();
-    JAVA_CLASS_AST_TYPE.set(JavaAstType::new(env)).unwrap_unchecked();
     JAVA_CLASS_BIG_INT_SIGN.set(JavaBigIntSign::new(env)).unwrap_unchecked();
     JAVA_CLASS_BINARY_OP.set(JavaBinaryOp::new(env)).unwrap_unchecked();
     JAVA_CLASS_COMMENT_KIND
@@ -311,6 +318,7 @@ pub fn init<'local>(env: &mut Env<'local>) {
     JAVA_CLASS_SOURCE_MAP_OPTION
       .set(JavaSourceMapOption::new(env))
       .unwrap_unchecked();
+    JAVA_CLASS_SPAN_MODE.set(JavaSpanMode::new(env)).unwrap_unchecked();
     JAVA_CLASS_TOKEN_TYPE.set(JavaTokenType::new(env)).unwrap_unchecked();
     JAVA_CLASS_TRUE_PLUS_MINUS
       .set(JavaTruePlusMinus::new(env))
@@ -329,6 +337,15 @@ pub fn init<'local>(env: &mut Env<'local>) {
   }
 }
 
+/// Initializes the AST type enum together with the AST classes
+/// because its static initializer loads all the AST classes.
+pub fn init_ast_type<'local>(env: &mut Env<'local>) {
+  log::debug!("init_ast_type()");
+  unsafe {
+    JAVA_CLASS_AST_TYPE.set(JavaAstType::new(env)).unwrap_unchecked();
+  }
+}
+
 impl IdentifiableEnum<Accessibility> for Accessibility {
   fn get_id(&self) -> i32 {
     match self {
@@ -1249,6 +1266,29 @@ impl IdentifiableEnum<SourceMapOption> for SourceMapOption {
   }
 }
 
+#[derive(Default, Debug, Copy, Clone, PartialEq, Eq)]
+pub enum SpanMode {
+  #[default]
+  CharIndex,
+  ByteOffset,
+}
+
+impl IdentifiableEnum<SpanMode> for SpanMode {
+  fn get_id(&self) -> i32 {
+    match self {
+      SpanMode::CharIndex => 0,
+      SpanMode::ByteOffset => 1,
+    }
+  }
+  fn parse_by_id(id: i32) -> SpanMode {
+    match id {
+      0 => SpanMode::CharIndex,
+      1 => SpanMode::ByteOffset,
+      _ => SpanMode::CharIndex,
+    }
+  }
+}
+
 #[derive(Default, Debug, Copy, Clone)]
 pub enum TokenType {
   #[default]
@@ -18,12 +18,14 @@
 use std::ptr::null_mut;
 use std::sync::OnceLock;
 
-use jni::objects::{Global, JClass, JStaticMethodID, JThrowable};
+use jni::objects::{Global, JClass, JObject, JStaticMethodID, JThrowable};
 use jni::signature::RuntimeMethodSignature;
 use jni::strings::JNIString;
 use jni::sys::{jobject, jvalue};
+use anyhow::{Error, Result};
 use jni::Env;
 
+use crate::deadline_utils::CancelledError;
 use crate::jni_utils::*;
 
 struct JavaCoreException {
@@ -70,6 +72,21 @@ impl JavaCoreException {
     }
   }
 
+  pub fn new_error<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    method: &JStaticMethodID,
+    message: &str,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let java_message = string_to_jstring!(env, message);
+    let message = object_to_jvalue!(java_message);
+    let cause = jvalue { l: null_mut() };
+    call_static_as_object!(env, &self.class, method, &[message, cause], "error()")
+  }
+
   pub fn throw_parse_error<'local, 'a>(
     &self,
     env: &mut Env<'local>,
@@ -146,44 +163,161 @@ impl JavaCoreException {
   }
 }
 
+struct JavaCancellationException {
+  pub class: Global<JClass<'static>>,
+  pub method_cancelled: JStaticMethodID,
+  pub method_timed_out: JStaticMethodID,
+}
+
+impl JavaCancellationException {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/exceptions/Swc4jCancellationException"))
+      .expect("Couldn't find class Swc4jCancellationException");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jCancellationException");
+    let method_cancelled = env
+      .get_static_method_id(
+        &class,
+        JNIString::from("cancelled"),
+        RuntimeMethodSignature::from_str("(Ljava/lang/String;)Lcom/caoccao/javet/swc4j/exceptions/Swc4jCancellationException;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find static method Swc4jCancellationException.cancelled");
+    let method_timed_out = env
+      .get_static_method_id(
+        &class,
+        JNIString::from("timedOut"),
+        RuntimeMethodSignature::from_str("(Ljava/lang/String;)Lcom/caoccao/javet/swc4j/exceptions/Swc4jCancellationException;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find static method Swc4jCancellationException.timedOut");
+    JavaCancellationException {
+      class,
+      method_cancelled,
+      method_timed_out,
+    }
+  }
+
+  pub fn new_cancelled_error<'local, 'a>(&self, env: &mut Env<'local>, error: &CancelledError) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let java_message = string_to_jstring!(env, error.to_string());
+    let message = object_to_jvalue!(java_message);
+    let method = if error.is_timed_out() {
+      &self.method_timed_out
+    } else {
+      &self.method_cancelled
+    };
+    call_static_as_object!(env, &self.class, method, &[message], "cancelled()")
+  }
+
+  pub fn throw_cancelled_error<'local>(&self, env: &mut Env<'local>, error: &CancelledError) {
+    let exception = self
+      .new_cancelled_error(env, error)
+      .expect("Couldn't call static method Swc4jCancellationException.cancelled()");
+    let exception = unsafe { JThrowable::from_raw(env, exception.as_raw()) };
+    env.throw(exception).expect("Couldn't call throw cancelled error");
+  }
+}
+
+static JAVA_CANCELLATION_EXCEPTION: OnceLock<JavaCancellationException> = OnceLock::new();
 static JAVA_CORE_EXCEPTION: OnceLock<JavaCoreException> = OnceLock::new();
 
 pub fn init<'local>(env: &mut Env<'local>) {
   log::debug!("init()");
   unsafe {
+    JAVA_CANCELLATION_EXCEPTION
+      .set(JavaCancellationException::new(env))
+      .unwrap_unchecked();
     JAVA_CORE_EXCEPTION.set(JavaCoreException::new(env)).unwrap_unchecked();
   }
 }
 
-pub fn throw_parse_error<'local, 'a>(env: &mut Env<'local>, message: &'a str) -> jobject {
+/// Create the exception of a failed batch item without throwing it. The cancellation keeps its own type.
+fn new_error<'local, 'a>(env: &mut Env<'local>, error: &Error, method: &JStaticMethodID) -> Result<JObject<'a>>
+where
+  'local: 'a,
+{
+  if let Some(error) = error.downcast_ref::<CancelledError>() {
+    return JAVA_CANCELLATION_EXCEPTION.get().unwrap().new_cancelled_error(env, error);
+  }
+  JAVA_CORE_EXCEPTION
+    .get()
+    .unwrap()
+    .new_error(env, method, error.to_string().as_str())
+}
+
+pub fn new_parse_error<'local, 'a>(env: &mut Env<'local>, error: &Error) -> Result<JObject<'a>>
+where
+  'local: 'a,
+{
+  new_error(env, error, &JAVA_CORE_EXCEPTION.get().unwrap().method_parse_error)
+}
+
+pub fn new_transform_error<'local, 'a>(env: &mut Env<'local>, error: &Error) -> Result<JObject<'a>>
+where
+  'local: 'a,
+{
+  new_error(env, error, &JAVA_CORE_EXCEPTION.get().unwrap().method_transform_error)
+}
+
+pub fn new_transpile_error<'local, 'a>(env: &mut Env<'local>, error: &Error) -> Result<JObject<'a>>
+where
+  'local: 'a,
+{
+  new_error(env, error, &JAVA_CORE_EXCEPTION.get().unwrap().method_transpile_error)
+}
+
+pub fn throw_parse_error<'local>(env: &mut Env<'local>, error: &Error) -> jobject {
+  if let Some(error) = error.downcast_ref::<CancelledError>() {
+    return throw_cancelled_error(env, error);
+  }
   let java_core_exception = JAVA_CORE_EXCEPTION.get().unwrap();
   let cause = env.exception_occurred();
   if cause.is_some() {
     log::error!("Exception occurred in parse()");
     env.exception_clear();
   }
-  java_core_exception.throw_parse_error(env, message, cause);
+  java_core_exception.throw_parse_error(env, error.to_string().as_str(), cause);
   null_mut()
 }
 
-pub fn throw_transform_error<'local, 'a>(env: &mut Env<'local>, message: &'a str) -> jobject {
+pub fn throw_transform_error<'local>(env: &mut Env<'local>, error: &Error) -> jobject {
+  if let Some(error) = error.downcast_ref::<CancelledError>() {
+    return throw_cancelled_error(env, error);
+  }
   let java_core_exception = JAVA_CORE_EXCEPTION.get().unwrap();
   let cause = env.exception_occurred();
   if cause.is_some() {
     log::error!("Exception occurred in transform()");
     env.exception_clear();
   }
-  java_core_exception.throw_transform_error(env, message, cause);
+  java_core_exception.throw_transform_error(env, error.to_string().as_str(), cause);
   null_mut()
 }
 
-pub fn throw_transpile_error<'local, 'a>(env: &mut Env<'local>, message: &'a str) -> jobject {
+pub fn throw_transpile_error<'local>(env: &mut Env<'local>, error: &Error) -> jobject {
+  if let Some(error) = error.downcast_ref::<CancelledError>() {
+    return throw_cancelled_error(env, error);
+  }
   let java_core_exception = JAVA_CORE_EXCEPTION.get().unwrap();
   let cause = env.exception_occurred();
   if cause.is_some() {
     log::error!("Exception occurred in transpile()");
     env.exception_clear();
   }
-  java_core_exception.throw_transpile_error(env, message, cause);
+  java_core_exception.throw_transpile_error(env, error.to_string().as_str(), cause);
+  null_mut()
+}
+
+fn throw_cancelled_error<'local>(env: &mut Env<'local>, error: &CancelledError) -> jobject {
+  if env.exception_occurred().is_some() {
+    env.exception_clear();
+  }
+  JAVA_CANCELLATION_EXCEPTION
+    .get()
+    .unwrap()
+    .throw_cancelled_error(env, error);
   null_mut()
 }
@@ -0,0 +1,273 @@
+/*
+* Copyright (c) 2026. caoccao.com Sam Cao
+* All rights reserved.
+
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+
+* http://www.apache.org/licenses/LICENSE-2.0
+
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+use deno_ast::swc::ast::*;
+use deno_ast::swc::ecma_visit::{Visit, VisitWith};
+
+use crate::enums::{AstType, IdentifiableEnum};
+
+/// Finds whether a node contains any of the given AST types
+/// and stops descending as soon as one is found.
+struct AstTypeFinder<'a> {
+  ast_type_ids: &'a [i32],
+  found: bool,
+}
+
+impl AstTypeFinder<'_> {
+  /// Returns true if the children still need to be visited.
+  fn check(&mut self, ast_type: AstType) -> bool {
+    if !self.found {
+      self.found = self.ast_type_ids.contains(&ast_type.get_id());
+    }
+    !self.found
+  }
+}
+
+macro_rules! visit_ast_types {
+  ($($visit_name:ident: $node_type:ident,)*) => {
+    $(
+      fn $visit_name(&mut self, node: &$node_type) {
+        if self.check(AstType::$node_type) {
+          node.visit_children_with(self);
+        }
+      }
+    )*
+  };
+}
+
+impl Visit for AstTypeFinder<'_> {
+  visit_ast_types! {
+    visit_array_lit: ArrayLit,
+    visit_array_pat: ArrayPat,
+    visit_arrow_expr: ArrowExpr,
+    visit_assign_expr: AssignExpr,
+    visit_assign_pat: AssignPat,
+    visit_assign_pat_prop: AssignPatProp,
+    visit_assign_prop: AssignProp,
+    visit_auto_accessor: AutoAccessor,
+    visit_await_expr: AwaitExpr,
+    visit_big_int: BigInt,
+    visit_binding_ident: BindingIdent,
+    visit_bin_expr: BinExpr,
+    visit_block_stmt: BlockStmt,
+    visit_bool: Bool,
+    visit_break_stmt: BreakStmt,
+    visit_call_expr: CallExpr,
+    visit_catch_clause: CatchClause,
+    visit_class: Class,
+    visit_class_decl: ClassDecl,
+    visit_class_expr: ClassExpr,
+    visit_class_method: ClassMethod,
+    visit_class_prop: ClassProp,
+    visit_computed_prop_name: ComputedPropName,
+    visit_cond_expr: CondExpr,
+    visit_constructor: Constructor,
+    visit_continue_stmt: ContinueStmt,
+    visit_debugger_stmt: DebuggerStmt,
+    visit_decorator: Decorator,
+    visit_do_while_stmt: DoWhileStmt,
+    visit_empty_stmt: EmptyStmt,
+    visit_export_all: ExportAll,
+    visit_export_decl: ExportDecl,
+    visit_export_default_decl: ExportDefaultDecl,
+    visit_export_default_expr: ExportDefaultExpr,
+    visit_export_default_specifier: ExportDefaultSpecifier,
+    visit_export_named_specifier: ExportNamedSpecifier,
+    visit_export_namespace_specifier: ExportNamespaceSpecifier,
+    visit_expr_or_spread: ExprOrSpread,
+    visit_expr_stmt: ExprStmt,
+    visit_fn_decl: FnDecl,
+    visit_fn_expr: FnExpr,
+    visit_for_in_stmt: ForInStmt,
+    visit_for_of_stmt: ForOfStmt,
+    visit_for_stmt: ForStmt,
+    visit_function: Function,
+    visit_getter_prop: GetterProp,
+    visit_ident: Ident,
+    visit_ident_name: IdentName,
+    visit_if_stmt: IfStmt,
+    visit_import: Import,
+    visit_import_decl: ImportDecl,
+    visit_import_default_specifier: ImportDefaultSpecifier,
+    visit_import_named_specifier: ImportNamedSpecifier,
+    visit_import_star_as_specifier: ImportStarAsSpecifier,
+    visit_invalid: Invalid,
+    visit_jsx_attr: JsxAttr,
+    visit_jsx_closing_element: JsxClosingElement,
+    visit_jsx_closing_fragment: JsxClosingFragment,
+    visit_jsx_element: JsxElement,
+    visit_jsx_empty_expr: JsxEmptyExpr,
+    visit_jsx_expr_container: JsxExprContainer,
+    visit_jsx_fragment: JsxFragment,
+    visit_jsx_member_expr: JsxMemberExpr,
+    visit_jsx_namespaced_name: JsxNamespacedName,
+    visit_jsx_opening_element: JsxOpeningElement,
+    visit_jsx_opening_fragment: JsxOpeningFragment,
+    visit_jsx_spread_child: JsxSpreadChild,
+    visit_jsx_text: JsxText,
+    visit_key_value_pat_prop: KeyValuePatProp,
+    visit_key_value_prop: KeyValueProp,
+    visit_labeled_stmt: LabeledStmt,
+    visit_member_expr: MemberExpr,
+    visit_meta_prop_expr: MetaPropExpr,
+    visit_method_prop: MethodProp,
+    visit_named_export: NamedExport,
+    visit_new_expr: NewExpr,
+    visit_null: Null,
+    visit_number: Number,
+    visit_object_lit: ObjectLit,
+    visit_object_pat: ObjectPat,
+    visit_opt_call: OptCall,
+    visit_opt_chain_expr: OptChainExpr,
+    visit_param: Param,
+    visit_paren_expr: ParenExpr,
+    visit_private_method: PrivateMethod,
+    visit_private_name: PrivateName,
+    visit_private_prop: PrivateProp,
+    visit_regex: Regex,
+    visit_rest_pat: RestPat,
+    visit_return_stmt: ReturnStmt,
+    visit_seq_expr: SeqExpr,
+    visit_setter_prop: SetterProp,
+    visit_spread_element: SpreadElement,
+    visit_static_block: StaticBlock,
+    visit_str: Str,
+    visit_super: Super,
+    visit_super_prop_expr: SuperPropExpr,
+    visit_switch_case: SwitchCase,
+    visit_switch_stmt: SwitchStmt,
+    visit_tagged_tpl: TaggedTpl,
+    visit_this_expr: ThisExpr,
+    visit_throw_stmt: ThrowStmt,
+    visit_tpl: Tpl,
+    visit_tpl_element: TplElement,
+    visit_try_stmt: TryStmt,
+    visit_ts_array_type: TsArrayType,
+    visit_ts_as_expr: TsAsExpr,
+    visit_ts_call_signature_decl: TsCallSignatureDecl,
+    visit_ts_conditional_type: TsConditionalType,
+    visit_ts_const_assertion: TsConstAssertion,
+    visit_ts_constructor_type: TsConstructorType,
+    visit_ts_construct_signature_decl: TsConstructSignatureDecl,
+    visit_ts_enum_decl: TsEnumDecl,
+    visit_ts_enum_member: TsEnumMember,
+    visit_ts_export_assignment: TsExportAssignment,
+    visit_ts_expr_with_type_args: TsExprWithTypeArgs,
+    visit_ts_external_module_ref: TsExternalModuleRef,
+    visit_ts_fn_type: TsFnType,
+    visit_ts_getter_signature: TsGetterSignature,
+    visit_ts_import_call_options: TsImportCallOptions,
+    visit_ts_import_equals_decl: TsImportEqualsDecl,
+    visit_ts_import_type: TsImportType,
+    visit_ts_indexed_access_type: TsIndexedAccessType,
+    visit_ts_index_signature: TsIndexSignature,
+    visit_ts_infer_type: TsInferType,
+    visit_ts_instantiation: TsInstantiation,
+    visit_ts_interface_body: TsInterfaceBody,
+    visit_ts_interface_decl: TsInterfaceDecl,
+    visit_ts_intersection_type: TsIntersectionType,
+    visit_ts_keyword_type: TsKeywordType,
+    visit_ts_lit_type: TsLitType,
+    visit_ts_mapped_type: TsMappedType,
+    visit_ts_method_signature: TsMethodSignature,
+    visit_ts_module_block: TsModuleBlock,
+    visit_ts_module_decl: TsModuleDecl,
+    visit_ts_namespace_decl: TsNamespaceDecl,
+    visit_ts_namespace_export_decl: TsNamespaceExportDecl,
+    visit_ts_non_null_expr: TsNonNullExpr,
+    visit_ts_optional_type: TsOptionalType,
+    visit_ts_param_prop: TsParamProp,
+    visit_ts_parenthesized_type: TsParenthesizedType,
+    visit_ts_property_signature: TsPropertySignature,
+    visit_ts_qualified_name: TsQualifiedName,
+    visit_ts_rest_type: TsRestType,
+    visit_ts_satisfies_expr: TsSatisfiesExpr,
+    visit_ts_setter_signature: TsSetterSignature,
+    visit_ts_this_type: TsThisType,
+    visit_ts_tpl_lit_type: TsTplLitType,
+    visit_ts_tuple_element: TsTupleElement,
+    visit_ts_tuple_type: TsTupleType,
+    visit_ts_type_alias_decl: TsTypeAliasDecl,
+    visit_ts_type_ann: TsTypeAnn,
+    visit_ts_type_assertion: TsTypeAssertion,
+    visit_ts_type_lit: TsTypeLit,
+    visit_ts_type_operator: TsTypeOperator,
+    visit_ts_type_param: TsTypeParam,
+    visit_ts_type_param_decl: TsTypeParamDecl,
+    visit_ts_type_param_instantiation: TsTypeParamInstantiation,
+    visit_ts_type_predicate: TsTypePredicate,
+    visit_ts_type_query: TsTypeQuery,
+    visit_ts_type_ref: TsTypeRef,
+    visit_ts_union_type: TsUnionType,
+    visit_unary_expr: UnaryExpr,
+    visit_update_expr: UpdateExpr,
+    visit_using_decl: UsingDecl,
+    visit_var_decl: VarDecl,
+    visit_var_declarator: VarDeclarator,
+    visit_while_stmt: WhileStmt,
+    visit_with_stmt: WithStmt,
+    visit_yield_expr: YieldExpr,
+  }
+}
+
+fn contains_ast_types<N>(node: &N, ast_type_ids: &[i32]) -> bool
+where
+  N: for<'a> VisitWith<AstTypeFinder<'a>>,
+{
+  let mut finder = AstTypeFinder {
+    ast_type_ids,
+    found: false,
+  };
+  node.visit_with(&mut finder);
+  finder.found
+}
+
+/// Keep the top level items containing any of the given AST types.
+pub fn filter_module(module: &Module, ast_type_ids: &[i32]) -> Module {
+  Module {
+    span: module.span,
+    body: module
+      .body
+      .iter()
+      .filter(|item| contains_ast_types(*item, ast_type_ids))
+      .cloned()
+      .collect(),
+    shebang: module.shebang.clone(),
+  }
+}
+
+/// Keep the top level items containing any of the given AST types.
+pub fn filter_program(program: &Program, ast_type_ids: &[i32]) -> Program {
+  match program {
+    Program::Module(module) => Program::Module(filter_module(module, ast_type_ids)),
+    Program::Script(script) => Program::Script(filter_script(script, ast_type_ids)),
+  }
+}
+
+/// Keep the top level items containing any of the given AST types.
+pub fn filter_script(script: &Script, ast_type_ids: &[i32]) -> Script {
+  Script {
+    span: script.span,
+    body: script
+      .body
+      .iter()
+      .filter(|stmt| contains_ast_types(*stmt, ast_type_ids))
+      .cloned()
+      .collect(),
+    shebang: script.shebang.clone(),
+  }
+}
@@ -88,6 +88,25 @@ macro_rules! call_as_int {
 }
 pub(crate) use call_as_int;
 
+macro_rules! call_as_long {
+  ($env: ident, $obj: expr, $method: expr, $args: expr, $name: literal) => {
+    match unsafe {
+      $env.call_method_unchecked(
+        $obj,
+        $method,
+        jni::signature::ReturnType::Primitive(jni::signature::Primitive::Long),
+        $args,
+      )
+    } {
+      Ok(java_object) => java_object
+        .j()
+        .map_err(|err| anyhow::anyhow!("Couldn't convert {} because {}", $name, err)),
+      Err(err) => panic!("Couldn't call {} because {}", $name, err),
+    }
+  };
+}
+pub(crate) use call_as_long;
+
 macro_rules! call_as_object {
   ($env: ident, $obj: expr, $method: expr, $args: expr, $name: literal) => {
     match unsafe { $env.call_method_unchecked($obj, $method, jni::signature::ReturnType::Object, $args) } {
@@ -435,6 +454,7 @@ impl JavaHashMap {
 pub struct JavaInteger {
   #[allow(dead_code)]
   class: Global<JClass<'static>>,
+  method_int_value: JMethodID,
   method_value_of: JStaticMethodID,
 }
 
@@ -444,10 +464,21 @@ impl JavaInteger {
       .find_class(JNIString::from("java/lang/Integer"))
       .expect("Couldn't find class Integer");
     let class = env.new_global_ref(class).expect("Couldn't globalize class Integer");
+    let method_int_value = env
+      .get_method_id(&class, JNIString::from("intValue"), RuntimeMethodSignature::from_str("()I").unwrap().method_signature())
+      .expect("Couldn't find method Integer.intValue");
     let method_value_of = env
       .get_static_method_id(&class, JNIString::from("valueOf"), RuntimeMethodSignature::from_str("(I)Ljava/lang/Integer;").unwrap().method_signature())
       .expect("Couldn't find method Integer.valueOf");
-    JavaInteger { class, method_value_of }
+    JavaInteger {
+      class,
+      method_int_value,
+      method_value_of,
+    }
+  }
+
+  pub fn int_value<'local>(&self, env: &mut Env<'local>, obj: &JObject<'_>) -> Result<i32> {
+    call_as_int!(env, obj, &self.method_int_value, &[], "intValue()")
   }
 
   pub fn value_of<'local, 'a>(&self, env: &mut Env<'local>, i: i32) -> Result<JObject<'a>>
@@ -543,6 +574,10 @@ pub fn init<'local>(env: &mut Env<'local>) {
   }
 }
 
+pub fn integer_int_value<'local>(env: &mut Env<'local>, obj: &JObject<'_>) -> Result<i32> {
+  JAVA_INTEGER.get().unwrap().int_value(env, obj)
+}
+
 pub fn integer_value_of<'local, 'a>(env: &mut Env<'local>, i: i32) -> Result<JObject<'a>>
 where
   'local: 'a,
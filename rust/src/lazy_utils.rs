@@ -0,0 +1,165 @@
+/*
+* Copyright (c) 2026. caoccao.com Sam Cao
+* All rights reserved.
+
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+
+* http://www.apache.org/licenses/LICENSE-2.0
+
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+use std::sync::{Arc, OnceLock};
+
+use anyhow::{anyhow, Result};
+use deno_ast::swc::ast::*;
+
+use crate::binary_utils::{BinaryWriter, ToBinaryWithMap};
+use crate::enums::{AstType, IdentifiableEnum, SpanMode};
+use crate::outputs::ParseOutput;
+use crate::span_utils::{ByteToIndexMap, LineIndex, RegisterWithMap};
+
+/// A parsed program kept alive natively so that its top level items
+/// can be materialized in Java one by one on demand.
+///
+/// The spans are mapped per materialized node so that the whole tree is not walked by the parse.
+pub struct LazyProgram {
+  line_index: OnceLock<LineIndex>,
+  program: Arc<Program>,
+  source_text: Arc<str>,
+  span_mode: SpanMode,
+}
+
+impl LazyProgram {
+  pub fn new(parse_output: ParseOutput) -> Result<Self> {
+    let program = parse_output.program.ok_or_else(|| anyhow!("AST is not captured"))?;
+    Ok(LazyProgram {
+      line_index: OnceLock::new(),
+      program,
+      source_text: parse_output.source_text,
+      span_mode: parse_output.span_mode,
+    })
+  }
+
+  /// Create the map of the spans registered by the given function, walking only the part of the source they cover.
+  fn get_byte_to_index_map<F>(&self, register: F) -> ByteToIndexMap
+  where
+    F: FnOnce(&mut ByteToIndexMap),
+  {
+    if self.span_mode == SpanMode::ByteOffset {
+      return ByteToIndexMap::new_byte_offset();
+    }
+    let mut map = ByteToIndexMap::new();
+    register(&mut map);
+    let line_index = self.line_index.get_or_init(|| LineIndex::new(&self.source_text));
+    map.update_by_line_index(&self.source_text, line_index);
+    map
+  }
+
+  pub fn get_item_count(&self) -> usize {
+    match self.program.as_ref() {
+      Program::Module(node) => node.body.len(),
+      Program::Script(node) => node.body.len(),
+    }
+  }
+
+  pub fn get_item_types(&self) -> Vec<AstType> {
+    match self.program.as_ref() {
+      Program::Module(node) => node.body.iter().map(get_module_item_type).collect(),
+      Program::Script(node) => node.body.iter().map(get_stmt_type).collect(),
+    }
+  }
+
+  /// Write the program node with an empty body.
+  pub fn write_program(&self, writer: &mut BinaryWriter) {
+    let (ast_type, shebang, span) = match self.program.as_ref() {
+      Program::Module(node) => (AstType::Module, node.shebang.as_ref(), &node.span),
+      Program::Script(node) => (AstType::Script, node.shebang.as_ref(), &node.span),
+    };
+    writer.write_id(ast_type.get_id());
+    writer.write_length(0);
+    writer.write_optional(shebang, |writer, node| writer.write_str(node.as_str()));
+    let map = self.get_byte_to_index_map(|map| map.register_by_span(span));
+    writer.write_span_ex(&map.get_span_ex_by_span(span));
+  }
+
+  pub fn write_item(&self, writer: &mut BinaryWriter, index: usize) -> Result<()> {
+    let length = self.get_item_count();
+    if index >= length {
+      return Err(anyhow!("Index {} is out of range [0, {})", index, length));
+    }
+    match self.program.as_ref() {
+      Program::Module(node) => {
+        let item = &node.body[index];
+        let map = self.get_byte_to_index_map(|map| item.register_with_map(map));
+        item.to_binary_with_map(writer, &map);
+      }
+      Program::Script(node) => {
+        let item = &node.body[index];
+        let map = self.get_byte_to_index_map(|map| item.register_with_map(map));
+        item.to_binary_with_map(writer, &map);
+      }
+    }
+    Ok(())
+  }
+}
+
+fn get_decl_type(decl: &Decl) -> AstType {
+  match decl {
+    Decl::Class(_) => AstType::ClassDecl,
+    Decl::Fn(_) => AstType::FnDecl,
+    Decl::TsEnum(_) => AstType::TsEnumDecl,
+    Decl::TsInterface(_) => AstType::TsInterfaceDecl,
+    Decl::TsModule(_) => AstType::TsModuleDecl,
+    Decl::TsTypeAlias(_) => AstType::TsTypeAliasDecl,
+    Decl::Using(_) => AstType::UsingDecl,
+    Decl::Var(_) => AstType::VarDecl,
+  }
+}
+
+fn get_module_item_type(module_item: &ModuleItem) -> AstType {
+  match module_item {
+    ModuleItem::ModuleDecl(module_decl) => match module_decl {
+      ModuleDecl::ExportAll(_) => AstType::ExportAll,
+      ModuleDecl::ExportDecl(_) => AstType::ExportDecl,
+      ModuleDecl::ExportDefaultDecl(_) => AstType::ExportDefaultDecl,
+      ModuleDecl::ExportDefaultExpr(_) => AstType::ExportDefaultExpr,
+      ModuleDecl::ExportNamed(_) => AstType::NamedExport,
+      ModuleDecl::Import(_) => AstType::ImportDecl,
+      ModuleDecl::TsExportAssignment(_) => AstType::TsExportAssignment,
+      ModuleDecl::TsImportEquals(_) => AstType::TsImportEqualsDecl,
+      ModuleDecl::TsNamespaceExport(_) => AstType::TsNamespaceExportDecl,
+    },
+    ModuleItem::Stmt(stmt) => get_stmt_type(stmt),
+  }
+}
+
+fn get_stmt_type(stmt: &Stmt) -> AstType {
+  match stmt {
+    Stmt::Block(_) => AstType::BlockStmt,
+    Stmt::Break(_) => AstType::BreakStmt,
+    Stmt::Continue(_) => AstType::ContinueStmt,
+    Stmt::Debugger(_) => AstType::DebuggerStmt,
+    Stmt::Decl(decl) => get_decl_type(decl),
+    Stmt::DoWhile(_) => AstType::DoWhileStmt,
+    Stmt::Empty(_) => AstType::EmptyStmt,
+    Stmt::Expr(_) => AstType::ExprStmt,
+    Stmt::For(_) => AstType::ForStmt,
+    Stmt::ForIn(_) => AstType::ForInStmt,
+    Stmt::ForOf(_) => AstType::ForOfStmt,
+    Stmt::If(_) => AstType::IfStmt,
+    Stmt::Labeled(_) => AstType::LabeledStmt,
+    Stmt::Return(_) => AstType::ReturnStmt,
+    Stmt::Switch(_) => AstType::SwitchStmt,
+    Stmt::Throw(_) => AstType::ThrowStmt,
+    Stmt::Try(_) => AstType::TryStmt,
+    Stmt::While(_) => AstType::WhileStmt,
+    Stmt::With(_) => AstType::WithStmt,
+  }
+}
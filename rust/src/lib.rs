@@ -15,39 +15,56 @@
 * limitations under the License.
 */
 
-use anyhow::Result;
+use anyhow::{Error, Result};
+use deno_ast::swc::ast::Program;
 use jni::errors::ThrowRuntimeExAndDefault;
-use jni::objects::{JClass, JObject, JString};
+use jni::objects::{JByteArray, JByteBuffer, JClass, JObject, JString};
 #[cfg(target_os = "android")]
 use jni::sys::JNI_VERSION_1_6;
 #[cfg(not(target_os = "android"))]
 use jni::sys::JNI_VERSION_1_8;
-use jni::sys::{jint, jobject, jstring};
+use jni::sys::{jbyteArray, jint, jlong, jobject, jstring};
 use jni::{Env, EnvUnowned, JavaVM};
 use jni_utils::FromJava;
 
 pub mod ast_utils;
+pub mod binary_utils;
 pub mod comment_utils;
 pub mod core;
+pub mod deadline_utils;
 pub mod enums;
 pub mod error;
+pub mod filter_utils;
 pub mod jni_utils;
+pub mod lazy_utils;
+pub mod minify_utils;
 pub mod options;
 pub mod outputs;
 pub mod plugin_utils;
+pub mod scope_utils;
+pub mod source_map_utils;
 pub mod span_utils;
 pub mod token_utils;
 
-use crate::jni_utils::{jstring_to_optional_string, jstring_to_string, string_to_jstring, ToJava};
+use crate::binary_utils::BinaryWriter;
+use crate::core::RetainedSource;
+use crate::enums::IdentifiableEnum;
+use crate::jni_utils::{
+  delete_local_ref, integer_value_of, jstring_to_optional_string, jstring_to_string, list_add, list_get, list_new,
+  list_size, string_to_jstring, ToJava,
+};
+use crate::lazy_utils::LazyProgram;
+use crate::options::CompiledOptions;
 
 #[unsafe(no_mangle)]
 #[allow(improper_ctypes_definitions)]
 pub extern "system" fn JNI_OnLoad(java_vm: JavaVM, _: *const std::ffi::c_void) -> jint {
   env_logger::init();
   log::debug!("JNI_OnLoad()");
-  java_vm
+  let jni_version = java_vm
     .attach_current_thread(|env| {
-      ast_utils::init(env);
+      // The AST classes are initialized on first use by ast_utils::ensure_init().
+      binary_utils::init(env);
       comment_utils::init(env);
       enums::init(env);
       error::init(env);
@@ -63,7 +80,82 @@ pub extern "system" fn JNI_OnLoad(java_vm: JavaVM, _: *const std::ffi::c_void) -
       let jni_version = JNI_VERSION_1_8;
       Ok::<_, jni::errors::Error>(jni_version)
     })
-    .expect("Failed to initialize JNI")
+    .expect("Failed to initialize JNI");
+  // Plugin hosts attach the calling thread through the Java VM on demand.
+  plugin_utils::init_java_vm(java_vm);
+  jni_version
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreCompileParseOptions<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  options: jobject,
+) -> jlong {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreCompileParseOptions()");
+  env
+    .with_env(|env| -> jni::errors::Result<jlong> {
+      Ok(match core_compile_parse_options(env, options) {
+        Ok(handle) => handle,
+        Err(err) => {
+          error::throw_parse_error(env, &err);
+          0
+        }
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreCompileTransformOptions<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  options: jobject,
+) -> jlong {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreCompileTransformOptions()");
+  env
+    .with_env(|env| -> jni::errors::Result<jlong> {
+      Ok(match core_compile_transform_options(env, options) {
+        Ok(handle) => handle,
+        Err(err) => {
+          error::throw_transform_error(env, &err);
+          0
+        }
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreCompileTranspileOptions<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  options: jobject,
+) -> jlong {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreCompileTranspileOptions()");
+  env
+    .with_env(|env| -> jni::errors::Result<jlong> {
+      Ok(match core_compile_transpile_options(env, options) {
+        Ok(handle) => handle,
+        Err(err) => {
+          error::throw_transpile_error(env, &err);
+          0
+        }
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreCompiledOptionsClose<'local>(
+  _: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+) {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreCompiledOptionsClose()");
+  if handle != 0 {
+    drop(unsafe { Box::from_raw(handle as *mut CompiledOptions) });
+  }
 }
 
 #[unsafe(no_mangle)]
@@ -79,6 +171,24 @@ pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreGetVersion<'
     .resolve::<ThrowRuntimeExAndDefault>()
 }
 
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreMinify<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreMinify()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_minify(env, code, options) {
+        Ok(output) => output,
+        Err(err) => error::throw_transform_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
 #[unsafe(no_mangle)]
 pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParse<'local>(
   mut env: EnvUnowned<'local>,
@@ -91,7 +201,301 @@ pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParse<'local
     .with_env(|env| -> jni::errors::Result<jobject> {
       Ok(match core_parse(env, code, options) {
         Ok(output) => output,
-        Err(err) => error::throw_parse_error(env, err.to_string().as_str()),
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseBatch<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  codes: jobject,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseBatch()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_parse_batch(env, codes, options) {
+        Ok(outputs) => outputs,
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseBytes<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jbyteArray,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseBytes()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let result = java_bytes_to_string(env, code).and_then(|code| core_parse_string(env, code, options));
+      Ok(match result {
+        Ok(output) => output,
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseByteBuffer<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jobject,
+  offset: jint,
+  length: jint,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseByteBuffer()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let result = java_byte_buffer_to_string(env, code, offset, length).and_then(|code| core_parse_string(env, code, options));
+      Ok(match result {
+        Ok(output) => output,
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseFile<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  path: jstring,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseFile()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let result = java_file_to_string(env, path).and_then(|code| core_parse_string(env, code, options));
+      Ok(match result {
+        Ok(output) => output,
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseWithCompiledOptions<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  handle: jlong,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseWithCompiledOptions()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_parse_with_compiled_options(env, code, handle) {
+        Ok(output) => output,
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseLazy<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  options: jobject,
+) -> jlong {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseLazy()");
+  env
+    .with_env(|env| -> jni::errors::Result<jlong> {
+      Ok(match core_parse_lazy(env, code, options) {
+        Ok(handle) => handle,
+        Err(err) => {
+          error::throw_parse_error(env, &err);
+          0
+        }
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseRetained<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  options: jobject,
+) -> jlong {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParseRetained()");
+  env
+    .with_env(|env| -> jni::errors::Result<jlong> {
+      Ok(match core_parse_retained(env, code, options) {
+        Ok(handle) => handle,
+        Err(err) => {
+          error::throw_parse_error(env, &err);
+          0
+        }
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParsedSourceClose<'local>(
+  _: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+) {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParsedSourceClose()");
+  if handle != 0 {
+    drop(unsafe { Box::from_raw(handle as *mut RetainedSource) });
+  }
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParsedSourceGetParseOutput<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParsedSourceGetParseOutput()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_parsed_source_get_parse_output(env, handle, options) {
+        Ok(output) => output,
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParsedSourceTransform<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParsedSourceTransform()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_parsed_source_transform(env, handle, options) {
+        Ok(output) => output,
+        Err(err) => error::throw_transform_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreParsedSourceTranspile<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreParsedSourceTranspile()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_parsed_source_transpile(env, handle, options) {
+        Ok(output) => output,
+        Err(err) => error::throw_transpile_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreLazyProgramClose<'local>(
+  _: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+) {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreLazyProgramClose()");
+  if handle != 0 {
+    drop(unsafe { Box::from_raw(handle as *mut LazyProgram) });
+  }
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreLazyProgramGetItem<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+  index: jint,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreLazyProgramGetItem()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let lazy_program = unsafe { &*(handle as *const LazyProgram) };
+      let mut writer = BinaryWriter::new();
+      let result = lazy_program
+        .write_item(&mut writer, index as usize)
+        .and_then(|_| binary_utils::decode_ast(env, &mut writer));
+      Ok(match result {
+        Ok(item) => item.as_raw(),
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreLazyProgramGetItemTypeIds<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreLazyProgramGetItemTypeIds()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let lazy_program = unsafe { &*(handle as *const LazyProgram) };
+      Ok(match lazy_program_item_type_ids_to_java_list(env, lazy_program) {
+        Ok(item_type_ids) => item_type_ids,
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreLazyProgramGetProgram<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  handle: jlong,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreLazyProgramGetProgram()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let lazy_program = unsafe { &*(handle as *const LazyProgram) };
+      let mut writer = BinaryWriter::with_capacity(256);
+      lazy_program.write_program(&mut writer);
+      Ok(match binary_utils::decode_ast(env, &mut writer) {
+        Ok(program) => program.as_raw(),
+        Err(err) => error::throw_parse_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTokenize<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTokenize()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_tokenize(env, code, options) {
+        Ok(output) => output,
+        Err(err) => error::throw_parse_error(env, &err),
       })
     })
     .resolve::<ThrowRuntimeExAndDefault>()
@@ -109,7 +513,80 @@ pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransform<'l
     .with_env(|env| -> jni::errors::Result<jobject> {
       Ok(match core_transform(env, code, options) {
         Ok(output) => output,
-        Err(err) => error::throw_transform_error(env, err.to_string().as_str()),
+        Err(err) => error::throw_transform_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransformBatch<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  codes: jobject,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransformBatch()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_transform_batch(env, codes, options) {
+        Ok(outputs) => outputs,
+        Err(err) => error::throw_transform_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransformProgram<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  program: jobject,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransformProgram()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_transform_program(env, program, options) {
+        Ok(output) => output,
+        Err(err) => error::throw_transform_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransformToSink<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  options: jobject,
+  output_sink: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransformToSink()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_transform_to_sink(env, code, options, output_sink) {
+        Ok(output) => output,
+        Err(err) => error::throw_transform_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransformWithCompiledOptions<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  handle: jlong,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTransformWithCompiledOptions()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_transform_with_compiled_options(env, code, handle) {
+        Ok(output) => output,
+        Err(err) => error::throw_transform_error(env, &err),
       })
     })
     .resolve::<ThrowRuntimeExAndDefault>()
@@ -127,41 +604,445 @@ pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspile<'l
     .with_env(|env| -> jni::errors::Result<jobject> {
       Ok(match core_transpile(env, code, options) {
         Ok(output) => output,
-        Err(err) => error::throw_transpile_error(env, err.to_string().as_str()),
+        Err(err) => error::throw_transpile_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileBatch<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  codes: jobject,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileBatch()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_transpile_batch(env, codes, options) {
+        Ok(outputs) => outputs,
+        Err(err) => error::throw_transpile_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileProgram<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  program: jobject,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileProgram()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_transpile_program(env, program, options) {
+        Ok(output) => output,
+        Err(err) => error::throw_transpile_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileBytes<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jbyteArray,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileBytes()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let result = java_bytes_to_string(env, code).and_then(|code| core_transpile_string(env, code, options));
+      Ok(match result {
+        Ok(output) => output,
+        Err(err) => error::throw_transpile_error(env, &err),
       })
     })
     .resolve::<ThrowRuntimeExAndDefault>()
 }
 
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileByteBuffer<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jobject,
+  offset: jint,
+  length: jint,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileByteBuffer()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let result = java_byte_buffer_to_string(env, code, offset, length).and_then(|code| core_transpile_string(env, code, options));
+      Ok(match result {
+        Ok(output) => output,
+        Err(err) => error::throw_transpile_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileToSink<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  options: jobject,
+  output_sink: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileToSink()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_transpile_to_sink(env, code, options, output_sink) {
+        Ok(output) => output,
+        Err(err) => error::throw_transpile_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileFile<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  path: jstring,
+  options: jobject,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileFile()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      let result = java_file_to_string(env, path).and_then(|code| core_transpile_string(env, code, options));
+      Ok(match result {
+        Ok(output) => output,
+        Err(err) => error::throw_transpile_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileWithCompiledOptions<'local>(
+  mut env: EnvUnowned<'local>,
+  _: JClass<'local>,
+  code: jstring,
+  handle: jlong,
+) -> jobject {
+  log::debug!("Java_com_caoccao_javet_swc4j_Swc4jNative_coreTranspileWithCompiledOptions()");
+  env
+    .with_env(|env| -> jni::errors::Result<jobject> {
+      Ok(match core_transpile_with_compiled_options(env, code, handle) {
+        Ok(output) => output,
+        Err(err) => error::throw_transpile_error(env, &err),
+      })
+    })
+    .resolve::<ThrowRuntimeExAndDefault>()
+}
+
+fn core_compile_parse_options<'local>(env: &mut Env<'local>, options: jobject) -> Result<jlong> {
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::ParseOptions::from_java(env, &options)?;
+  Ok(Box::into_raw(Box::new(CompiledOptions::Parse(options))) as jlong)
+}
+
+fn core_compile_transform_options<'local>(env: &mut Env<'local>, options: jobject) -> Result<jlong> {
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TransformOptions::from_java(env, &options)?;
+  Ok(Box::into_raw(Box::new(CompiledOptions::Transform(options))) as jlong)
+}
+
+fn core_compile_transpile_options<'local>(env: &mut Env<'local>, options: jobject) -> Result<jlong> {
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TranspileOptions::from_java(env, &options)?;
+  Ok(Box::into_raw(Box::new(CompiledOptions::Transpile(options))) as jlong)
+}
+
+fn core_minify<'local>(env: &mut Env<'local>, code: jstring, options: jobject) -> Result<jobject> {
+  let code: Result<String> = jstring_to_string!(env, code);
+  let code = code?;
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::MinifyOptions::from_java(env, &options)?;
+  let output = core::minify(code, &options, &options.transform_options.plugin_host)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
 fn core_parse<'local>(env: &mut Env<'local>, code: jstring, options: jobject) -> Result<jobject> {
+  let code: Result<String> = jstring_to_string!(env, code);
+  core_parse_string(env, code?, options)
+}
+
+fn core_parse_string<'local>(env: &mut Env<'local>, code: String, options: jobject) -> Result<jobject> {
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::ParseOptions::from_java(env, &options)?;
+  let output = core::parse(code, &options, &options.plugin_host)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_parse_lazy<'local>(env: &mut Env<'local>, code: jstring, options: jobject) -> Result<jlong> {
   let code: Result<String> = jstring_to_string!(env, code);
   let code = code?;
   let options = unsafe { JObject::from_raw(env, options) };
   let mut options = *options::ParseOptions::from_java(env, &options)?;
-  let mut plugin_host = options.plugin_host.take();
-  let output = core::parse(code, &options, &mut plugin_host)?;
+  options.capture_ast = true;
+  let output = core::parse(code, &options, &options.plugin_host)?;
+  let lazy_program = LazyProgram::new(output)?;
+  Ok(Box::into_raw(Box::new(lazy_program)) as jlong)
+}
+
+fn core_parse_retained<'local>(env: &mut Env<'local>, code: jstring, options: jobject) -> Result<jlong> {
+  let code: Result<String> = jstring_to_string!(env, code);
+  let code = code?;
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::ParseOptions::from_java(env, &options)?;
+  let retained_source = core::parse_retained(code, &options, &options.plugin_host)?;
+  Ok(Box::into_raw(Box::new(retained_source)) as jlong)
+}
+
+fn core_parsed_source_get_parse_output<'local>(env: &mut Env<'local>, handle: jlong, options: jobject) -> Result<jobject> {
+  let retained_source = unsafe { &*(handle as *const RetainedSource) };
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::ParseOptions::from_java(env, &options)?;
+  let output = retained_source.parse_output(&options)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_parsed_source_transform<'local>(env: &mut Env<'local>, handle: jlong, options: jobject) -> Result<jobject> {
+  let retained_source = unsafe { &*(handle as *const RetainedSource) };
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TransformOptions::from_java(env, &options)?;
+  let output = retained_source.transform(&options)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_parsed_source_transpile<'local>(env: &mut Env<'local>, handle: jlong, options: jobject) -> Result<jobject> {
+  let retained_source = unsafe { &*(handle as *const RetainedSource) };
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TranspileOptions::from_java(env, &options)?;
+  let output = retained_source.transpile(&options)?;
   let output = output.to_java(env)?;
   Ok(output.as_raw())
 }
 
+fn core_parse_batch<'local>(env: &mut Env<'local>, codes: jobject, options: jobject) -> Result<jobject> {
+  let codes = java_list_to_strings(env, codes)?;
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::ParseOptions::from_java(env, &options)?;
+  let results = core::parse_batch(codes, &options, &options.plugin_host)?;
+  batch_results_to_java_list(env, results, error::new_parse_error)
+}
+
+fn core_parse_with_compiled_options<'local>(env: &mut Env<'local>, code: jstring, handle: jlong) -> Result<jobject> {
+  let code: Result<String> = jstring_to_string!(env, code);
+  let code = code?;
+  let compiled_options = unsafe { &*(handle as *const CompiledOptions) };
+  let options = compiled_options.as_parse_options()?;
+  let output = core::parse(code, options, &options.plugin_host)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_tokenize<'local>(env: &mut Env<'local>, code: jstring, options: jobject) -> Result<jobject> {
+  let java_code = unsafe { JObject::from_raw(env, code) };
+  let code: Result<String> = jstring_to_string!(env, code);
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::ParseOptions::from_java(env, &options)?;
+  let output = core::tokenize(code?, &options)?;
+  let output = output.to_java(env, &java_code)?;
+  Ok(output.as_raw())
+}
+
 fn core_transform<'local>(env: &mut Env<'local>, code: jstring, options: jobject) -> Result<jobject> {
   let code: Result<String> = jstring_to_string!(env, code);
   let code = code?;
   let options = unsafe { JObject::from_raw(env, options) };
-  let mut options = *options::TransformOptions::from_java(env, &options)?;
-  let mut plugin_host = options.plugin_host.take();
-  let output = core::transform(code, &options, &mut plugin_host)?;
+  let options = *options::TransformOptions::from_java(env, &options)?;
+  let output = core::transform(code, &options, &options.plugin_host)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_transform_batch<'local>(env: &mut Env<'local>, codes: jobject, options: jobject) -> Result<jobject> {
+  let codes = java_list_to_strings(env, codes)?;
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TransformOptions::from_java(env, &options)?;
+  let results = core::transform_batch(codes, &options, &options.plugin_host)?;
+  batch_results_to_java_list(env, results, error::new_transform_error)
+}
+
+fn core_transform_program<'local>(env: &mut Env<'local>, program: jobject, options: jobject) -> Result<jobject> {
+  ast_utils::ensure_init(env);
+  let program = unsafe { JObject::from_raw(env, program) };
+  let program = *Program::from_java(env, &program)?;
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TransformOptions::from_java(env, &options)?;
+  let output = core::transform_program(program, &options)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_transform_to_sink<'local>(
+  env: &mut Env<'local>,
+  code: jstring,
+  options: jobject,
+  output_sink: jobject,
+) -> Result<jobject> {
+  let code: Result<String> = jstring_to_string!(env, code);
+  let code = code?;
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TransformOptions::from_java(env, &options)?;
+  let mut output = core::transform(code, &options, &options.plugin_host)?;
+  let output_sink = unsafe { JObject::from_raw(env, output_sink) };
+  outputs::write_to_output_sink(env, &output_sink, &mut output.code, &mut output.source_map)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_transform_with_compiled_options<'local>(env: &mut Env<'local>, code: jstring, handle: jlong) -> Result<jobject> {
+  let code: Result<String> = jstring_to_string!(env, code);
+  let code = code?;
+  let compiled_options = unsafe { &*(handle as *const CompiledOptions) };
+  let options = compiled_options.as_transform_options()?;
+  let output = core::transform(code, options, &options.plugin_host)?;
   let output = output.to_java(env)?;
   Ok(output.as_raw())
 }
 
 fn core_transpile<'local>(env: &mut Env<'local>, code: jstring, options: jobject) -> Result<jobject> {
+  let code: Result<String> = jstring_to_string!(env, code);
+  core_transpile_string(env, code?, options)
+}
+
+fn core_transpile_program<'local>(env: &mut Env<'local>, program: jobject, options: jobject) -> Result<jobject> {
+  ast_utils::ensure_init(env);
+  let program = unsafe { JObject::from_raw(env, program) };
+  let program = *Program::from_java(env, &program)?;
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TranspileOptions::from_java(env, &options)?;
+  let output = core::transpile_program(program, &options)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_transpile_string<'local>(env: &mut Env<'local>, code: String, options: jobject) -> Result<jobject> {
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TranspileOptions::from_java(env, &options)?;
+  let output = core::transpile(code, &options, &options.plugin_host)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_transpile_to_sink<'local>(
+  env: &mut Env<'local>,
+  code: jstring,
+  options: jobject,
+  output_sink: jobject,
+) -> Result<jobject> {
   let code: Result<String> = jstring_to_string!(env, code);
   let code = code?;
   let options = unsafe { JObject::from_raw(env, options) };
-  let mut options = *options::TranspileOptions::from_java(env, &options)?;
-  let mut plugin_host = options.plugin_host.take();
-  let output = core::transpile(code, &options, &mut plugin_host)?;
+  let options = *options::TranspileOptions::from_java(env, &options)?;
+  let mut output = core::transpile(code, &options, &options.plugin_host)?;
+  let output_sink = unsafe { JObject::from_raw(env, output_sink) };
+  outputs::write_to_output_sink(env, &output_sink, &mut output.code, &mut output.source_map)?;
+  let output = output.to_java(env)?;
+  Ok(output.as_raw())
+}
+
+fn core_transpile_batch<'local>(env: &mut Env<'local>, codes: jobject, options: jobject) -> Result<jobject> {
+  let codes = java_list_to_strings(env, codes)?;
+  let options = unsafe { JObject::from_raw(env, options) };
+  let options = *options::TranspileOptions::from_java(env, &options)?;
+  let results = core::transpile_batch(codes, &options, &options.plugin_host)?;
+  batch_results_to_java_list(env, results, error::new_transpile_error)
+}
+
+fn core_transpile_with_compiled_options<'local>(env: &mut Env<'local>, code: jstring, handle: jlong) -> Result<jobject> {
+  let code: Result<String> = jstring_to_string!(env, code);
+  let code = code?;
+  let compiled_options = unsafe { &*(handle as *const CompiledOptions) };
+  let options = compiled_options.as_transpile_options()?;
+  let output = core::transpile(code, options, &options.plugin_host)?;
   let output = output.to_java(env)?;
   Ok(output.as_raw())
 }
+
+fn java_byte_buffer_to_string<'local>(env: &mut Env<'local>, code: jobject, offset: jint, length: jint) -> Result<String> {
+  let code = unsafe { JByteBuffer::from_raw(env, code) };
+  let address = env.get_direct_buffer_address(&code)?;
+  let capacity = env.get_direct_buffer_capacity(&code)?;
+  let offset = offset as usize;
+  let length = length as usize;
+  if offset + length > capacity {
+    return Err(Error::msg(format!(
+      "Range [{}, {}) is out of the buffer capacity {}",
+      offset,
+      offset + length,
+      capacity
+    )));
+  }
+  // The direct buffer is read in place so the only copy is the one owned by the parser.
+  let bytes = unsafe { std::slice::from_raw_parts(address.add(offset), length) };
+  let code = std::str::from_utf8(bytes).map_err(Error::msg)?;
+  Ok(code.to_owned())
+}
+
+fn java_bytes_to_string<'local>(env: &mut Env<'local>, code: jbyteArray) -> Result<String> {
+  let code = unsafe { JByteArray::from_raw(env, code) };
+  let bytes = env.convert_byte_array(&code)?;
+  String::from_utf8(bytes).map_err(Error::msg)
+}
+
+fn java_file_to_string<'local>(env: &mut Env<'local>, path: jstring) -> Result<String> {
+  let path: Result<String> = jstring_to_string!(env, path);
+  let path = path?;
+  std::fs::read_to_string(&path).map_err(|err| Error::msg(format!("Failed to read {}: {}", path, err)))
+}
+
+fn java_list_to_strings<'local>(env: &mut Env<'local>, java_list: jobject) -> Result<Vec<String>> {
+  let java_list = unsafe { JObject::from_raw(env, java_list) };
+  let length = list_size(env, &java_list)?;
+  let mut strings: Vec<String> = Vec::with_capacity(length);
+  for i in 0..length {
+    let java_item = list_get(env, &java_list, i)?;
+    let item: Result<String> = jstring_to_string!(env, java_item.as_raw());
+    strings.push(item?);
+    delete_local_ref!(env, java_item);
+  }
+  Ok(strings)
+}
+
+/// Each item of the list is either the output or the exception so that the cancellation keeps its own type.
+fn batch_results_to_java_list<'local, T, F>(env: &mut Env<'local>, results: Vec<Result<T>>, new_error: F) -> Result<jobject>
+where
+  T: ToJava,
+  F: Fn(&mut Env<'local>, &Error) -> Result<JObject<'local>>,
+{
+  let java_list = list_new(env, results.len())?;
+  for result in results {
+    let java_item: JObject = match result {
+      Ok(output) => output.to_java(env)?,
+      Err(err) => new_error(env, &err)?,
+    };
+    list_add(env, &java_list, &java_item)?;
+    delete_local_ref!(env, java_item);
+  }
+  Ok(java_list.as_raw())
+}
+
+fn lazy_program_item_type_ids_to_java_list<'local>(env: &mut Env<'local>, lazy_program: &LazyProgram) -> Result<jobject> {
+  let item_types = lazy_program.get_item_types();
+  let java_list = list_new(env, item_types.len())?;
+  for item_type in item_types {
+    let java_item = integer_value_of(env, item_type.get_id())?;
+    list_add(env, &java_list, &java_item)?;
+    delete_local_ref!(env, java_item);
+  }
+  Ok(java_list.as_raw())
+}
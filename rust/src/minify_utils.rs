@@ -0,0 +1,273 @@
+/*
+* Copyright (c) 2026. caoccao.com Sam Cao
+* All rights reserved.
+
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+
+* http://www.apache.org/licenses/LICENSE-2.0
+
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+use std::collections::{HashMap, HashSet};
+
+use anyhow::Result;
+use deno_ast::swc::ast::*;
+use deno_ast::swc::atoms::Atom;
+use deno_ast::swc::common::{Globals, Mark, SyntaxContext, GLOBALS};
+use deno_ast::swc::ecma_visit::{Visit, VisitWith};
+use deno_ast::MediaType;
+use rustc_hash::FxHashMap;
+use swc_ecma_transforms_base::fixer::fixer;
+use swc_ecma_transforms_base::hygiene::hygiene;
+use swc_ecma_transforms_base::rename::rename;
+use swc_ecma_transforms_base::resolver;
+use swc_ecma_transforms_optimization::simplify::{dce, simplifier, Config as SimplifyConfig};
+
+use crate::deadline_utils::Deadline;
+use crate::options::MinifyOptions;
+
+/// The characters are ordered by their frequency in the typical code so that the output compresses well.
+const NAME_CHARS: &[u8] = b"etnrisoaclufdhpmgvybwxkjqzETNRISOACLUFDHPMGVYBWXKJQZ_$0123456789";
+const NAME_FIRST_CHAR_COUNT: usize = 54;
+
+const RESERVED_NAMES: &[&str] = &[
+  "arguments",
+  "await",
+  "break",
+  "case",
+  "catch",
+  "class",
+  "const",
+  "continue",
+  "debugger",
+  "default",
+  "delete",
+  "do",
+  "else",
+  "enum",
+  "eval",
+  "export",
+  "extends",
+  "false",
+  "finally",
+  "for",
+  "function",
+  "if",
+  "implements",
+  "import",
+  "in",
+  "instanceof",
+  "interface",
+  "let",
+  "new",
+  "null",
+  "package",
+  "private",
+  "protected",
+  "public",
+  "return",
+  "static",
+  "super",
+  "switch",
+  "this",
+  "throw",
+  "true",
+  "try",
+  "typeof",
+  "undefined",
+  "var",
+  "void",
+  "while",
+  "with",
+  "yield",
+];
+
+/// Minifies the program with the compress passes and the mangler, then fixes the hygiene and the parentheses.
+///
+/// The compressor is the simplifier of SWC which simplifies the expressions, removes the dead branches
+/// and the dead code and inlines the constants. The mangler renames every binding to a short name
+/// that is unique in the whole program so that no scope analysis is needed for the renaming.
+pub fn minify_program(program: Program, options: &MinifyOptions, deadline: &Deadline) -> Result<Program> {
+  log::debug!("minify_program()");
+  let globals = Globals::new();
+  GLOBALS.set(&globals, || {
+    let unresolved_mark = Mark::new();
+    let top_level_mark = Mark::new();
+    let is_type_script = matches!(
+      options.transform_options.media_type,
+      MediaType::TypeScript
+        | MediaType::Mts
+        | MediaType::Cts
+        | MediaType::Dts
+        | MediaType::Dmts
+        | MediaType::Dcts
+        | MediaType::Tsx
+    );
+    let mut program = program;
+    program.mutate(resolver(unresolved_mark, top_level_mark, is_type_script));
+    if options.compress {
+      for _ in 0..options.passes {
+        deadline.check("compress")?;
+        program.mutate(simplifier(
+          unresolved_mark,
+          SimplifyConfig {
+            dce: dce::Config {
+              top_level: options.top_level,
+              ..Default::default()
+            },
+            ..Default::default()
+          },
+        ));
+      }
+    }
+    if options.mangle {
+      deadline.check("mangle")?;
+      mangle(&mut program, unresolved_mark, top_level_mark, options);
+    }
+    program.mutate(hygiene());
+    program.mutate(fixer(None));
+    Ok(program)
+  })
+}
+
+fn mangle(program: &mut Program, unresolved_mark: Mark, top_level_mark: Mark, options: &MinifyOptions) {
+  let mut collector = BindingCollector {
+    counts: HashMap::new(),
+    has_eval_or_with: false,
+    keep_class_names: options.keep_class_names,
+    keep_fn_names: options.keep_fn_names,
+    preserved_ids: HashSet::new(),
+    top_level: options.top_level,
+    top_level_ctxt: SyntaxContext::empty().apply_mark(top_level_mark),
+    unresolved_ctxt: SyntaxContext::empty().apply_mark(unresolved_mark),
+    used_names: HashSet::new(),
+  };
+  program.visit_with(&mut collector);
+  if collector.has_eval_or_with {
+    // The direct eval and the with statement can reach any binding by name.
+    log::debug!("mangle() is skipped because of eval or with");
+    return;
+  }
+  let BindingCollector {
+    counts,
+    preserved_ids,
+    mut used_names,
+    ..
+  } = collector;
+  let mut ids: Vec<(Id, usize)> = Vec::with_capacity(counts.len());
+  for (id, count) in counts {
+    if preserved_ids.contains(&id) {
+      used_names.insert(id.0.clone());
+    } else {
+      ids.push((id, count));
+    }
+  }
+  // The most referenced bindings get the shortest names. The ties are broken for a stable output.
+  ids.sort_by(|(id1, count1), (id2, count2)| {
+    count2
+      .cmp(count1)
+      .then_with(|| id1.0.cmp(&id2.0))
+      .then_with(|| id1.1.as_u32().cmp(&id2.1.as_u32()))
+  });
+  let mut map: FxHashMap<Id, Atom> = FxHashMap::default();
+  let mut index = 0usize;
+  for (id, _) in ids {
+    let name = loop {
+      let name = get_name(index);
+      index += 1;
+      if !used_names.contains(name.as_str()) && !RESERVED_NAMES.contains(&name.as_str()) {
+        break name;
+      }
+    };
+    map.insert(id, Atom::from(name));
+  }
+  program.mutate(rename(&map));
+}
+
+/// Gets the name by index in the bijective base of the name characters.
+fn get_name(index: usize) -> String {
+  let mut name = String::new();
+  let mut index = index;
+  name.push(NAME_CHARS[index % NAME_FIRST_CHAR_COUNT] as char);
+  index /= NAME_FIRST_CHAR_COUNT;
+  while index > 0 {
+    index -= 1;
+    name.push(NAME_CHARS[index % NAME_CHARS.len()] as char);
+    index /= NAME_CHARS.len();
+  }
+  name
+}
+
+struct BindingCollector {
+  counts: HashMap<Id, usize>,
+  has_eval_or_with: bool,
+  keep_class_names: bool,
+  keep_fn_names: bool,
+  preserved_ids: HashSet<Id>,
+  top_level: bool,
+  top_level_ctxt: SyntaxContext,
+  unresolved_ctxt: SyntaxContext,
+  used_names: HashSet<Atom>,
+}
+
+impl Visit for BindingCollector {
+  fn visit_class_decl(&mut self, node: &ClassDecl) {
+    if self.keep_class_names {
+      self.preserved_ids.insert(node.ident.to_id());
+    }
+    node.visit_children_with(self);
+  }
+
+  fn visit_class_expr(&mut self, node: &ClassExpr) {
+    if self.keep_class_names {
+      if let Some(ident) = node.ident.as_ref() {
+        self.preserved_ids.insert(ident.to_id());
+      }
+    }
+    node.visit_children_with(self);
+  }
+
+  fn visit_fn_decl(&mut self, node: &FnDecl) {
+    if self.keep_fn_names {
+      self.preserved_ids.insert(node.ident.to_id());
+    }
+    node.visit_children_with(self);
+  }
+
+  fn visit_fn_expr(&mut self, node: &FnExpr) {
+    if self.keep_fn_names {
+      if let Some(ident) = node.ident.as_ref() {
+        self.preserved_ids.insert(ident.to_id());
+      }
+    }
+    node.visit_children_with(self);
+  }
+
+  fn visit_ident(&mut self, node: &Ident) {
+    // The labels are not resolved, the globals are unresolved and the top level bindings are only
+    // mangled on demand. Their names are kept and must not be taken by the mangled names.
+    if node.ctxt == SyntaxContext::empty()
+      || node.ctxt == self.unresolved_ctxt
+      || (!self.top_level && node.ctxt == self.top_level_ctxt)
+    {
+      if node.ctxt == self.unresolved_ctxt && node.sym == "eval" {
+        self.has_eval_or_with = true;
+      }
+      self.used_names.insert(node.sym.clone());
+    } else {
+      *self.counts.entry(node.to_id()).or_default() += 1;
+    }
+  }
+
+  fn visit_with_stmt(&mut self, node: &WithStmt) {
+    self.has_eval_or_with = true;
+    node.visit_children_with(self);
+  }
+}
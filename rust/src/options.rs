@@ -16,6 +16,7 @@
 */
 
 use std::sync::OnceLock;
+use std::time::Duration;
 
 use anyhow::{Error, Result};
 use deno_ast::{
@@ -26,21 +27,623 @@ use jni::strings::JNIString;
 use jni::signature::RuntimeMethodSignature;
 use jni::Env;
 
+use crate::deadline_utils::{Budget, CancellationToken};
 use crate::enums::*;
 use crate::jni_utils::*;
 use crate::plugin_utils::PluginHost;
 
+/* JavaSwc4jCancellationToken Begin */
+#[allow(dead_code)]
+struct JavaSwc4jCancellationToken {
+  class: Global<JClass<'static>>,
+  method_get_buffer: JMethodID,
+}
+
+#[allow(dead_code)]
+impl JavaSwc4jCancellationToken {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/options/Swc4jCancellationToken"))
+      .expect("Couldn't find class Swc4jCancellationToken");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jCancellationToken");
+    let method_get_buffer = env
+      .get_method_id(
+        &class,
+        JNIString::from("getBuffer"),
+        RuntimeMethodSignature::from_str("()Ljava/nio/ByteBuffer;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jCancellationToken.getBuffer");
+    JavaSwc4jCancellationToken {
+      class,
+      method_get_buffer,
+    }
+  }
+
+  pub fn get_buffer<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_buffer,
+        &[],
+        "ByteBuffer get_buffer()"
+      )?;
+    Ok(return_value)
+  }
+}
+/* JavaSwc4jCancellationToken End */
+
+/* JavaSwc4jMinifyOptions Begin */
+#[allow(dead_code)]
+struct JavaSwc4jMinifyOptions {
+  class: Global<JClass<'static>>,
+  method_get_cancellation_token: JMethodID,
+  method_get_media_type: JMethodID,
+  method_get_parse_mode: JMethodID,
+  method_get_passes: JMethodID,
+  method_get_plugin_host: JMethodID,
+  method_get_source_map: JMethodID,
+  method_get_specifier: JMethodID,
+  method_get_target: JMethodID,
+  method_get_timeout_millis: JMethodID,
+  method_is_ascii_only: JMethodID,
+  method_is_compress: JMethodID,
+  method_is_emit_assert_for_import_attributes: JMethodID,
+  method_is_inline_sources: JMethodID,
+  method_is_keep_class_names: JMethodID,
+  method_is_keep_comments: JMethodID,
+  method_is_keep_fn_names: JMethodID,
+  method_is_mangle: JMethodID,
+  method_is_minify: JMethodID,
+  method_is_omit_last_semi: JMethodID,
+  method_is_top_level: JMethodID,
+}
+
+#[allow(dead_code)]
+impl JavaSwc4jMinifyOptions {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/options/Swc4jMinifyOptions"))
+      .expect("Couldn't find class Swc4jMinifyOptions");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jMinifyOptions");
+    let method_get_cancellation_token = env
+      .get_method_id(
+        &class,
+        JNIString::from("getCancellationToken"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/options/Swc4jCancellationToken;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getCancellationToken");
+    let method_get_media_type = env
+      .get_method_id(
+        &class,
+        JNIString::from("getMediaType"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/enums/Swc4jMediaType;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getMediaType");
+    let method_get_parse_mode = env
+      .get_method_id(
+        &class,
+        JNIString::from("getParseMode"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/enums/Swc4jParseMode;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getParseMode");
+    let method_get_passes = env
+      .get_method_id(
+        &class,
+        JNIString::from("getPasses"),
+        RuntimeMethodSignature::from_str("()I").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getPasses");
+    let method_get_plugin_host = env
+      .get_method_id(
+        &class,
+        JNIString::from("getPluginHost"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/plugins/ISwc4jPluginHost;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getPluginHost");
+    let method_get_source_map = env
+      .get_method_id(
+        &class,
+        JNIString::from("getSourceMap"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/enums/Swc4jSourceMapOption;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getSourceMap");
+    let method_get_specifier = env
+      .get_method_id(
+        &class,
+        JNIString::from("getSpecifier"),
+        RuntimeMethodSignature::from_str("()Ljava/net/URL;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getSpecifier");
+    let method_get_target = env
+      .get_method_id(
+        &class,
+        JNIString::from("getTarget"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/enums/Swc4jEsVersion;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getTarget");
+    let method_get_timeout_millis = env
+      .get_method_id(
+        &class,
+        JNIString::from("getTimeoutMillis"),
+        RuntimeMethodSignature::from_str("()J").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.getTimeoutMillis");
+    let method_is_ascii_only = env
+      .get_method_id(
+        &class,
+        JNIString::from("isAsciiOnly"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isAsciiOnly");
+    let method_is_compress = env
+      .get_method_id(
+        &class,
+        JNIString::from("isCompress"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isCompress");
+    let method_is_emit_assert_for_import_attributes = env
+      .get_method_id(
+        &class,
+        JNIString::from("isEmitAssertForImportAttributes"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isEmitAssertForImportAttributes");
+    let method_is_inline_sources = env
+      .get_method_id(
+        &class,
+        JNIString::from("isInlineSources"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isInlineSources");
+    let method_is_keep_class_names = env
+      .get_method_id(
+        &class,
+        JNIString::from("isKeepClassNames"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isKeepClassNames");
+    let method_is_keep_comments = env
+      .get_method_id(
+        &class,
+        JNIString::from("isKeepComments"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isKeepComments");
+    let method_is_keep_fn_names = env
+      .get_method_id(
+        &class,
+        JNIString::from("isKeepFnNames"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isKeepFnNames");
+    let method_is_mangle = env
+      .get_method_id(
+        &class,
+        JNIString::from("isMangle"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isMangle");
+    let method_is_minify = env
+      .get_method_id(
+        &class,
+        JNIString::from("isMinify"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isMinify");
+    let method_is_omit_last_semi = env
+      .get_method_id(
+        &class,
+        JNIString::from("isOmitLastSemi"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isOmitLastSemi");
+    let method_is_top_level = env
+      .get_method_id(
+        &class,
+        JNIString::from("isTopLevel"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jMinifyOptions.isTopLevel");
+    JavaSwc4jMinifyOptions {
+      class,
+      method_get_cancellation_token,
+      method_get_media_type,
+      method_get_parse_mode,
+      method_get_passes,
+      method_get_plugin_host,
+      method_get_source_map,
+      method_get_specifier,
+      method_get_target,
+      method_get_timeout_millis,
+      method_is_ascii_only,
+      method_is_compress,
+      method_is_emit_assert_for_import_attributes,
+      method_is_inline_sources,
+      method_is_keep_class_names,
+      method_is_keep_comments,
+      method_is_keep_fn_names,
+      method_is_mangle,
+      method_is_minify,
+      method_is_omit_last_semi,
+      method_is_top_level,
+    }
+  }
+
+  pub fn get_cancellation_token<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<Option<JObject<'a>>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_cancellation_token,
+        &[],
+        "Swc4jCancellationToken get_cancellation_token()"
+      )?;
+    let return_value = if return_value.is_null() {
+      None
+    } else {
+      Some(return_value)
+    };
+    Ok(return_value)
+  }
+
+  pub fn get_media_type<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_media_type,
+        &[],
+        "Swc4jMediaType get_media_type()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn get_parse_mode<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_parse_mode,
+        &[],
+        "Swc4jParseMode get_parse_mode()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn get_passes<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<i32>
+  {
+    let return_value = call_as_int!(
+        env,
+        obj,
+        self.method_get_passes,
+        &[],
+        "int get_passes()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn get_plugin_host<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<Option<JObject<'a>>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_plugin_host,
+        &[],
+        "ISwc4jPluginHost get_plugin_host()"
+      )?;
+    let return_value = if return_value.is_null() {
+      None
+    } else {
+      Some(return_value)
+    };
+    Ok(return_value)
+  }
+
+  pub fn get_source_map<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_source_map,
+        &[],
+        "Swc4jSourceMapOption get_source_map()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn get_specifier<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_specifier,
+        &[],
+        "URL get_specifier()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn get_target<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_target,
+        &[],
+        "Swc4jEsVersion get_target()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn get_timeout_millis<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<i64>
+  {
+    let return_value = call_as_long!(
+        env,
+        obj,
+        self.method_get_timeout_millis,
+        &[],
+        "long get_timeout_millis()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_ascii_only<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_ascii_only,
+        &[],
+        "boolean is_ascii_only()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_compress<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_compress,
+        &[],
+        "boolean is_compress()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_emit_assert_for_import_attributes<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_emit_assert_for_import_attributes,
+        &[],
+        "boolean is_emit_assert_for_import_attributes()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_inline_sources<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_inline_sources,
+        &[],
+        "boolean is_inline_sources()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_keep_class_names<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_keep_class_names,
+        &[],
+        "boolean is_keep_class_names()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_keep_comments<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_keep_comments,
+        &[],
+        "boolean is_keep_comments()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_keep_fn_names<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_keep_fn_names,
+        &[],
+        "boolean is_keep_fn_names()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_mangle<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_mangle,
+        &[],
+        "boolean is_mangle()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_minify<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_minify,
+        &[],
+        "boolean is_minify()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_omit_last_semi<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_omit_last_semi,
+        &[],
+        "boolean is_omit_last_semi()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_top_level<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_top_level,
+        &[],
+        "boolean is_top_level()"
+      )?;
+    Ok(return_value)
+  }
+}
+/* JavaSwc4jMinifyOptions End */
+
 /* JavaSwc4jParseOptions Begin */
 #[allow(dead_code)]
 struct JavaSwc4jParseOptions {
   class: Global<JClass<'static>>,
+  method_get_cancellation_token: JMethodID,
   method_get_media_type: JMethodID,
   method_get_parse_mode: JMethodID,
   method_get_plugin_host: JMethodID,
+  method_get_span_mode: JMethodID,
   method_get_specifier: JMethodID,
+  method_get_timeout_millis: JMethodID,
+  method_is_binary_ast: JMethodID,
   method_is_capture_ast: JMethodID,
   method_is_capture_comments: JMethodID,
+  method_is_capture_source_text: JMethodID,
   method_is_capture_tokens: JMethodID,
+  method_is_recoverable: JMethodID,
   method_is_scope_analysis: JMethodID,
 }
 
@@ -53,6 +656,13 @@ impl JavaSwc4jParseOptions {
     let class = env
       .new_global_ref(class)
       .expect("Couldn't globalize class Swc4jParseOptions");
+    let method_get_cancellation_token = env
+      .get_method_id(
+        &class,
+        JNIString::from("getCancellationToken"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/options/Swc4jCancellationToken;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jParseOptions.getCancellationToken");
     let method_get_media_type = env
       .get_method_id(
         &class,
@@ -74,6 +684,13 @@ impl JavaSwc4jParseOptions {
         RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/plugins/ISwc4jPluginHost;").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jParseOptions.getPluginHost");
+    let method_get_span_mode = env
+      .get_method_id(
+        &class,
+        JNIString::from("getSpanMode"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/enums/Swc4jSpanMode;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jParseOptions.getSpanMode");
     let method_get_specifier = env
       .get_method_id(
         &class,
@@ -81,6 +698,20 @@ impl JavaSwc4jParseOptions {
         RuntimeMethodSignature::from_str("()Ljava/net/URL;").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jParseOptions.getSpecifier");
+    let method_get_timeout_millis = env
+      .get_method_id(
+        &class,
+        JNIString::from("getTimeoutMillis"),
+        RuntimeMethodSignature::from_str("()J").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jParseOptions.getTimeoutMillis");
+    let method_is_binary_ast = env
+      .get_method_id(
+        &class,
+        JNIString::from("isBinaryAst"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jParseOptions.isBinaryAst");
     let method_is_capture_ast = env
       .get_method_id(
         &class,
@@ -95,6 +726,13 @@ impl JavaSwc4jParseOptions {
         RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jParseOptions.isCaptureComments");
+    let method_is_capture_source_text = env
+      .get_method_id(
+        &class,
+        JNIString::from("isCaptureSourceText"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jParseOptions.isCaptureSourceText");
     let method_is_capture_tokens = env
       .get_method_id(
         &class,
@@ -102,6 +740,13 @@ impl JavaSwc4jParseOptions {
         RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jParseOptions.isCaptureTokens");
+    let method_is_recoverable = env
+      .get_method_id(
+        &class,
+        JNIString::from("isRecoverable"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jParseOptions.isRecoverable");
     let method_is_scope_analysis = env
       .get_method_id(
         &class,
@@ -111,17 +756,46 @@ impl JavaSwc4jParseOptions {
       .expect("Couldn't find method Swc4jParseOptions.isScopeAnalysis");
     JavaSwc4jParseOptions {
       class,
+      method_get_cancellation_token,
       method_get_media_type,
       method_get_parse_mode,
       method_get_plugin_host,
+      method_get_span_mode,
       method_get_specifier,
+      method_get_timeout_millis,
+      method_is_binary_ast,
       method_is_capture_ast,
       method_is_capture_comments,
+      method_is_capture_source_text,
       method_is_capture_tokens,
+      method_is_recoverable,
       method_is_scope_analysis,
     }
   }
 
+  pub fn get_cancellation_token<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<Option<JObject<'a>>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_cancellation_token,
+        &[],
+        "Swc4jCancellationToken get_cancellation_token()"
+      )?;
+    let return_value = if return_value.is_null() {
+      None
+    } else {
+      Some(return_value)
+    };
+    Ok(return_value)
+  }
+
   pub fn get_media_type<'local, 'a>(
     &self,
     env: &mut Env<'local>,
@@ -181,6 +855,24 @@ impl JavaSwc4jParseOptions {
     Ok(return_value)
   }
 
+  pub fn get_span_mode<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_span_mode,
+        &[],
+        "Swc4jSpanMode get_span_mode()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn get_specifier<'local, 'a>(
     &self,
     env: &mut Env<'local>,
@@ -199,6 +891,38 @@ impl JavaSwc4jParseOptions {
     Ok(return_value)
   }
 
+  pub fn get_timeout_millis<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<i64>
+  {
+    let return_value = call_as_long!(
+        env,
+        obj,
+        self.method_get_timeout_millis,
+        &[],
+        "long get_timeout_millis()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_binary_ast<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_binary_ast,
+        &[],
+        "boolean is_binary_ast()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn is_capture_ast<'local>(
     &self,
     env: &mut Env<'local>,
@@ -231,6 +955,22 @@ impl JavaSwc4jParseOptions {
     Ok(return_value)
   }
 
+  pub fn is_capture_source_text<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_capture_source_text,
+        &[],
+        "boolean is_capture_source_text()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn is_capture_tokens<'local>(
     &self,
     env: &mut Env<'local>,
@@ -247,6 +987,22 @@ impl JavaSwc4jParseOptions {
     Ok(return_value)
   }
 
+  pub fn is_recoverable<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_recoverable,
+        &[],
+        "boolean is_recoverable()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn is_scope_analysis<'local>(
     &self,
     env: &mut Env<'local>,
@@ -269,12 +1025,14 @@ impl JavaSwc4jParseOptions {
 #[allow(dead_code)]
 struct JavaSwc4jTransformOptions {
   class: Global<JClass<'static>>,
+  method_get_cancellation_token: JMethodID,
   method_get_media_type: JMethodID,
   method_get_parse_mode: JMethodID,
   method_get_plugin_host: JMethodID,
   method_get_source_map: JMethodID,
   method_get_specifier: JMethodID,
   method_get_target: JMethodID,
+  method_get_timeout_millis: JMethodID,
   method_is_ascii_only: JMethodID,
   method_is_emit_assert_for_import_attributes: JMethodID,
   method_is_inline_sources: JMethodID,
@@ -292,6 +1050,13 @@ impl JavaSwc4jTransformOptions {
     let class = env
       .new_global_ref(class)
       .expect("Couldn't globalize class Swc4jTransformOptions");
+    let method_get_cancellation_token = env
+      .get_method_id(
+        &class,
+        JNIString::from("getCancellationToken"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/options/Swc4jCancellationToken;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTransformOptions.getCancellationToken");
     let method_get_media_type = env
       .get_method_id(
         &class,
@@ -334,6 +1099,13 @@ impl JavaSwc4jTransformOptions {
         RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/enums/Swc4jEsVersion;").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jTransformOptions.getTarget");
+    let method_get_timeout_millis = env
+      .get_method_id(
+        &class,
+        JNIString::from("getTimeoutMillis"),
+        RuntimeMethodSignature::from_str("()J").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTransformOptions.getTimeoutMillis");
     let method_is_ascii_only = env
       .get_method_id(
         &class,
@@ -378,12 +1150,14 @@ impl JavaSwc4jTransformOptions {
       .expect("Couldn't find method Swc4jTransformOptions.isOmitLastSemi");
     JavaSwc4jTransformOptions {
       class,
+      method_get_cancellation_token,
       method_get_media_type,
       method_get_parse_mode,
       method_get_plugin_host,
       method_get_source_map,
       method_get_specifier,
       method_get_target,
+      method_get_timeout_millis,
       method_is_ascii_only,
       method_is_emit_assert_for_import_attributes,
       method_is_inline_sources,
@@ -393,6 +1167,29 @@ impl JavaSwc4jTransformOptions {
     }
   }
 
+  pub fn get_cancellation_token<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<Option<JObject<'a>>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_cancellation_token,
+        &[],
+        "Swc4jCancellationToken get_cancellation_token()"
+      )?;
+    let return_value = if return_value.is_null() {
+      None
+    } else {
+      Some(return_value)
+    };
+    Ok(return_value)
+  }
+
   pub fn get_media_type<'local, 'a>(
     &self,
     env: &mut Env<'local>,
@@ -506,6 +1303,22 @@ impl JavaSwc4jTransformOptions {
     Ok(return_value)
   }
 
+  pub fn get_timeout_millis<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<i64>
+  {
+    let return_value = call_as_long!(
+        env,
+        obj,
+        self.method_get_timeout_millis,
+        &[],
+        "long get_timeout_millis()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn is_ascii_only<'local>(
     &self,
     env: &mut Env<'local>,
@@ -608,6 +1421,7 @@ impl JavaSwc4jTransformOptions {
 #[allow(dead_code)]
 struct JavaSwc4jTranspileOptions {
   class: Global<JClass<'static>>,
+  method_get_cancellation_token: JMethodID,
   method_get_decorators: JMethodID,
   method_get_imports_not_used_as_values: JMethodID,
   method_get_jsx: JMethodID,
@@ -616,12 +1430,17 @@ struct JavaSwc4jTranspileOptions {
   method_get_parse_mode: JMethodID,
   method_get_plugin_host: JMethodID,
   method_get_source_map: JMethodID,
+  method_get_span_mode: JMethodID,
   method_get_specifier: JMethodID,
+  method_get_timeout_millis: JMethodID,
+  method_is_binary_ast: JMethodID,
   method_is_capture_ast: JMethodID,
   method_is_capture_comments: JMethodID,
+  method_is_capture_source_text: JMethodID,
   method_is_capture_tokens: JMethodID,
   method_is_inline_sources: JMethodID,
   method_is_keep_comments: JMethodID,
+  method_is_recoverable: JMethodID,
   method_is_scope_analysis: JMethodID,
   method_is_var_decl_imports: JMethodID,
   method_is_verbatim_module_syntax: JMethodID,
@@ -636,6 +1455,13 @@ impl JavaSwc4jTranspileOptions {
     let class = env
       .new_global_ref(class)
       .expect("Couldn't globalize class Swc4jTranspileOptions");
+    let method_get_cancellation_token = env
+      .get_method_id(
+        &class,
+        JNIString::from("getCancellationToken"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/options/Swc4jCancellationToken;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTranspileOptions.getCancellationToken");
     let method_get_decorators = env
       .get_method_id(
         &class,
@@ -692,6 +1518,13 @@ impl JavaSwc4jTranspileOptions {
         RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/enums/Swc4jSourceMapOption;").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jTranspileOptions.getSourceMap");
+    let method_get_span_mode = env
+      .get_method_id(
+        &class,
+        JNIString::from("getSpanMode"),
+        RuntimeMethodSignature::from_str("()Lcom/caoccao/javet/swc4j/enums/Swc4jSpanMode;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTranspileOptions.getSpanMode");
     let method_get_specifier = env
       .get_method_id(
         &class,
@@ -699,6 +1532,20 @@ impl JavaSwc4jTranspileOptions {
         RuntimeMethodSignature::from_str("()Ljava/net/URL;").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jTranspileOptions.getSpecifier");
+    let method_get_timeout_millis = env
+      .get_method_id(
+        &class,
+        JNIString::from("getTimeoutMillis"),
+        RuntimeMethodSignature::from_str("()J").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTranspileOptions.getTimeoutMillis");
+    let method_is_binary_ast = env
+      .get_method_id(
+        &class,
+        JNIString::from("isBinaryAst"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTranspileOptions.isBinaryAst");
     let method_is_capture_ast = env
       .get_method_id(
         &class,
@@ -713,6 +1560,13 @@ impl JavaSwc4jTranspileOptions {
         RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jTranspileOptions.isCaptureComments");
+    let method_is_capture_source_text = env
+      .get_method_id(
+        &class,
+        JNIString::from("isCaptureSourceText"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTranspileOptions.isCaptureSourceText");
     let method_is_capture_tokens = env
       .get_method_id(
         &class,
@@ -734,6 +1588,13 @@ impl JavaSwc4jTranspileOptions {
         RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jTranspileOptions.isKeepComments");
+    let method_is_recoverable = env
+      .get_method_id(
+        &class,
+        JNIString::from("isRecoverable"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTranspileOptions.isRecoverable");
     let method_is_scope_analysis = env
       .get_method_id(
         &class,
@@ -757,6 +1618,7 @@ impl JavaSwc4jTranspileOptions {
       .expect("Couldn't find method Swc4jTranspileOptions.isVerbatimModuleSyntax");
     JavaSwc4jTranspileOptions {
       class,
+      method_get_cancellation_token,
       method_get_decorators,
       method_get_imports_not_used_as_values,
       method_get_jsx,
@@ -765,18 +1627,46 @@ impl JavaSwc4jTranspileOptions {
       method_get_parse_mode,
       method_get_plugin_host,
       method_get_source_map,
+      method_get_span_mode,
       method_get_specifier,
+      method_get_timeout_millis,
+      method_is_binary_ast,
       method_is_capture_ast,
       method_is_capture_comments,
+      method_is_capture_source_text,
       method_is_capture_tokens,
       method_is_inline_sources,
       method_is_keep_comments,
+      method_is_recoverable,
       method_is_scope_analysis,
       method_is_var_decl_imports,
       method_is_verbatim_module_syntax,
     }
   }
 
+  pub fn get_cancellation_token<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<Option<JObject<'a>>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_cancellation_token,
+        &[],
+        "Swc4jCancellationToken get_cancellation_token()"
+      )?;
+    let return_value = if return_value.is_null() {
+      None
+    } else {
+      Some(return_value)
+    };
+    Ok(return_value)
+  }
+
   pub fn get_decorators<'local, 'a>(
     &self,
     env: &mut Env<'local>,
@@ -931,6 +1821,24 @@ impl JavaSwc4jTranspileOptions {
     Ok(return_value)
   }
 
+  pub fn get_span_mode<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_span_mode,
+        &[],
+        "Swc4jSpanMode get_span_mode()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn get_specifier<'local, 'a>(
     &self,
     env: &mut Env<'local>,
@@ -949,6 +1857,38 @@ impl JavaSwc4jTranspileOptions {
     Ok(return_value)
   }
 
+  pub fn get_timeout_millis<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<i64>
+  {
+    let return_value = call_as_long!(
+        env,
+        obj,
+        self.method_get_timeout_millis,
+        &[],
+        "long get_timeout_millis()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_binary_ast<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_binary_ast,
+        &[],
+        "boolean is_binary_ast()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn is_capture_ast<'local>(
     &self,
     env: &mut Env<'local>,
@@ -981,6 +1921,22 @@ impl JavaSwc4jTranspileOptions {
     Ok(return_value)
   }
 
+  pub fn is_capture_source_text<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_capture_source_text,
+        &[],
+        "boolean is_capture_source_text()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn is_capture_tokens<'local>(
     &self,
     env: &mut Env<'local>,
@@ -1029,6 +1985,22 @@ impl JavaSwc4jTranspileOptions {
     Ok(return_value)
   }
 
+  pub fn is_recoverable<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_recoverable,
+        &[],
+        "boolean is_recoverable()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn is_scope_analysis<'local>(
     &self,
     env: &mut Env<'local>,
@@ -1438,6 +2410,8 @@ impl JavaSwc4jJsxRuntimeOptionPrecompile {
 }
 /* JavaSwc4jJsxRuntimeOptionPrecompile End */
 
+static JAVA_CANCELLATION_TOKEN: OnceLock<JavaSwc4jCancellationToken> = OnceLock::new();
+static JAVA_MINIFY_OPTIONS: OnceLock<JavaSwc4jMinifyOptions> = OnceLock::new();
 static JAVA_PARSE_OPTIONS: OnceLock<JavaSwc4jParseOptions> = OnceLock::new();
 static JAVA_TRANSFORM_OPTIONS: OnceLock<JavaSwc4jTransformOptions> = OnceLock::new();
 static JAVA_TRANSPILE_OPTIONS: OnceLock<JavaSwc4jTranspileOptions> = OnceLock::new();
@@ -1453,6 +2427,12 @@ static JAVA_JSX_RUNTIME_OPTION_PRECOMPILE: OnceLock<JavaSwc4jJsxRuntimeOptionPre
 pub fn init<'local>(env: &mut Env<'local>) {
   log::debug!("init()");
   unsafe {
+    JAVA_CANCELLATION_TOKEN
+      .set(JavaSwc4jCancellationToken::new(env))
+      .unwrap_unchecked();
+    JAVA_MINIFY_OPTIONS
+      .set(JavaSwc4jMinifyOptions::new(env))
+      .unwrap_unchecked();
     JAVA_PARSE_OPTIONS
       .set(JavaSwc4jParseOptions::new(env))
       .unwrap_unchecked();
@@ -1483,12 +2463,105 @@ pub fn init<'local>(env: &mut Env<'local>) {
   }
 }
 
+/// Reads the cancellation token and the time budget that all the options share.
+fn budget_from_java<'local>(
+  env: &mut Env<'local>,
+  java_optional_cancellation_token: Option<JObject<'_>>,
+  timeout_millis: i64,
+) -> Result<Budget> {
+  let cancellation_token = match java_optional_cancellation_token {
+    Some(java_cancellation_token) => {
+      let java_buffer = JAVA_CANCELLATION_TOKEN
+        .get()
+        .unwrap()
+        .get_buffer(env, &java_cancellation_token)?;
+      let cancellation_token = CancellationToken::new(env, java_buffer)?;
+      delete_local_ref!(env, java_cancellation_token);
+      Some(cancellation_token)
+    }
+    None => None,
+  };
+  let timeout = if timeout_millis > 0 {
+    Some(Duration::from_millis(timeout_millis as u64))
+  } else {
+    None
+  };
+  Ok(Budget {
+    cancellation_token,
+    timeout,
+  })
+}
+
+#[derive(Debug)]
+pub struct MinifyOptions {
+  /// Whether to compress the code. Defaults to `true`.
+  pub compress: bool,
+  /// Whether to keep the class names. Defaults to `false`.
+  pub keep_class_names: bool,
+  /// Whether to keep the function names. Defaults to `false`.
+  pub keep_fn_names: bool,
+  /// Whether to mangle the names of the local bindings. Defaults to `true`.
+  pub mangle: bool,
+  /// The number of the compress passes. Defaults to `1`.
+  pub passes: usize,
+  /// Whether to compress and mangle the top level bindings as well. Defaults to `false`.
+  pub top_level: bool,
+  /// The transform options for the parser and the code generator.
+  pub transform_options: TransformOptions,
+}
+
+impl Default for MinifyOptions {
+  fn default() -> Self {
+    MinifyOptions {
+      compress: true,
+      keep_class_names: false,
+      keep_fn_names: false,
+      mangle: true,
+      passes: 1,
+      top_level: false,
+      transform_options: TransformOptions {
+        media_type: MediaType::JavaScript,
+        ..Default::default()
+      },
+    }
+  }
+}
+
+impl<'local> FromJava<'local> for MinifyOptions {
+  fn from_java(env: &mut Env<'local>, obj: &JObject<'_>) -> Result<Box<MinifyOptions>> {
+    let java_minify_options = JAVA_MINIFY_OPTIONS.get().unwrap();
+    let compress = java_minify_options.is_compress(env, obj)?;
+    let keep_class_names = java_minify_options.is_keep_class_names(env, obj)?;
+    let keep_fn_names = java_minify_options.is_keep_fn_names(env, obj)?;
+    let mangle = java_minify_options.is_mangle(env, obj)?;
+    let passes = java_minify_options.get_passes(env, obj)?.max(1) as usize;
+    let top_level = java_minify_options.is_top_level(env, obj)?;
+    // The minify options extend the transform options so the inherited ones are read the same way.
+    let transform_options = *TransformOptions::from_java(env, obj)?;
+    Ok(Box::new(MinifyOptions {
+      compress,
+      keep_class_names,
+      keep_fn_names,
+      mangle,
+      passes,
+      top_level,
+      transform_options,
+    }))
+  }
+}
+
 #[derive(Debug)]
 pub struct ParseOptions {
+  /// Cancellation token and time budget checked between the phases.
+  pub budget: Budget,
+  /// Whether to transfer the captured ast as a compact binary buffer or not.
+  pub binary_ast: bool,
   /// Whether to capture ast or not.
   pub capture_ast: bool,
   /// Whether to capture comments or not.
   pub capture_comments: bool,
+  /// Whether to capture source text or not.
+  pub capture_source_text: bool,
   /// Whether to capture tokens or not.
   pub capture_tokens: bool,
   /// Media type of the source text.
@@ -1497,8 +2570,12 @@ pub struct ParseOptions {
   pub parse_mode: ParseMode,
   /// AST plugin host.
   pub plugin_host: Option<PluginHost>,
+  /// Whether to report the syntax errors as diagnostics instead of throwing or not.
+  pub recoverable: bool,
   /// Whether to apply swc's scope analysis.
   pub scope_analysis: bool,
+  /// How the positions in the spans are computed.
+  pub span_mode: SpanMode,
   /// Specifier of the source text.
   pub specifier: String,
 }
@@ -1512,13 +2589,18 @@ impl ParseOptions {
 impl Default for ParseOptions {
   fn default() -> Self {
     ParseOptions {
+      budget: Default::default(),
+      binary_ast: false,
       capture_ast: false,
       capture_comments: false,
+      capture_source_text: true,
       capture_tokens: false,
       media_type: MediaType::TypeScript,
       parse_mode: ParseMode::Program,
       plugin_host: None,
+      recoverable: false,
       scope_analysis: false,
+      span_mode: SpanMode::CharIndex,
       specifier: "file:///main.js".to_owned(),
     }
   }
@@ -1527,12 +2609,21 @@ impl Default for ParseOptions {
 impl<'local> FromJava<'local> for ParseOptions {
   fn from_java(env: &mut Env<'local>, obj: &JObject<'_>) -> Result<Box<ParseOptions>> {
     let java_parse_options = JAVA_PARSE_OPTIONS.get().unwrap();
+    let java_optional_cancellation_token = java_parse_options.get_cancellation_token(env, obj)?;
+    let timeout_millis = java_parse_options.get_timeout_millis(env, obj)?;
+    let budget = budget_from_java(env, java_optional_cancellation_token, timeout_millis)?;
+    let binary_ast = java_parse_options.is_binary_ast(env, obj)?;
     let capture_ast = java_parse_options.is_capture_ast(env, obj)?;
     let capture_comments = java_parse_options.is_capture_comments(env, obj)?;
+    let capture_source_text = java_parse_options.is_capture_source_text(env, obj)?;
     let capture_tokens = java_parse_options.is_capture_tokens(env, obj)?;
     let java_media_type = java_parse_options.get_media_type(env, obj)?;
     let media_type = *MediaType::from_java(env, &java_media_type)?;
+    let recoverable = java_parse_options.is_recoverable(env, obj)?;
     let scope_analysis = java_parse_options.is_scope_analysis(env, obj)?;
+    let java_span_mode = java_parse_options.get_span_mode(env, obj)?;
+    let span_mode = *SpanMode::from_java(env, &java_span_mode)?;
+    delete_local_ref!(env, java_span_mode);
     let specifier = java_parse_options.get_specifier(env, obj)?;
     let specifier = url_to_string(env, &specifier)?;
     let java_optional_plugin_host = java_parse_options.get_plugin_host(env, obj)?;
@@ -1540,20 +2631,25 @@ impl<'local> FromJava<'local> for ParseOptions {
       let host = env
         .new_global_ref(host)
         .expect("Failed to create global reference for plugin host");
-      PluginHost::new(env, host)
+      PluginHost::new(host)
     });
     let java_parse_mode = java_parse_options.get_parse_mode(env, obj)?;
     let parse_mode = *ParseMode::from_java(env, &java_parse_mode)?;
     delete_local_ref!(env, java_media_type);
     delete_local_ref!(env, java_parse_mode);
     Ok(Box::new(ParseOptions {
+      budget,
+      binary_ast,
       capture_ast,
       capture_comments,
+      capture_source_text,
       capture_tokens,
       media_type,
       parse_mode,
       plugin_host,
+      recoverable,
       scope_analysis,
+      span_mode,
       specifier,
     }))
   }
@@ -1561,6 +2657,8 @@ impl<'local> FromJava<'local> for ParseOptions {
 
 #[derive(Debug)]
 pub struct TransformOptions {
+  /// Cancellation token and time budget checked between the phases.
+  pub budget: Budget,
   /// Forces the code generator to use only ascii characters.
   ///
   /// This is useful for environments that do not support unicode.
@@ -1608,6 +2706,7 @@ impl TransformOptions {
 impl Default for TransformOptions {
   fn default() -> Self {
     TransformOptions {
+      budget: Default::default(),
       ascii_only: false,
       emit_assert_for_import_attributes: false,
       inline_sources: true,
@@ -1627,6 +2726,9 @@ impl Default for TransformOptions {
 impl<'local> FromJava<'local> for TransformOptions {
   fn from_java(env: &mut Env<'local>, obj: &JObject<'_>) -> Result<Box<TransformOptions>> {
     let java_transform_options = JAVA_TRANSFORM_OPTIONS.get().unwrap();
+    let java_optional_cancellation_token = java_transform_options.get_cancellation_token(env, obj)?;
+    let timeout_millis = java_transform_options.get_timeout_millis(env, obj)?;
+    let budget = budget_from_java(env, java_optional_cancellation_token, timeout_millis)?;
     let ascii_only = java_transform_options.is_ascii_only(env, obj)?;
     let emit_assert_for_import_attributes = java_transform_options.is_emit_assert_for_import_attributes(env, obj)?;
     let inline_sources = java_transform_options.is_inline_sources(env, obj)?;
@@ -1644,7 +2746,7 @@ impl<'local> FromJava<'local> for TransformOptions {
       let host = env
         .new_global_ref(host)
         .expect("Failed to create global reference for plugin host");
-      PluginHost::new(env, host)
+      PluginHost::new(host)
     });
     let specifier = java_transform_options.get_specifier(env, obj)?;
     let specifier = url_to_string(env, &specifier)?;
@@ -1655,6 +2757,7 @@ impl<'local> FromJava<'local> for TransformOptions {
     delete_local_ref!(env, java_parse_mode);
     delete_local_ref!(env, java_target);
     Ok(Box::new(TransformOptions {
+      budget,
       ascii_only,
       emit_assert_for_import_attributes,
       inline_sources,
@@ -1673,10 +2776,16 @@ impl<'local> FromJava<'local> for TransformOptions {
 
 #[derive(Debug)]
 pub struct TranspileOptions {
+  /// Cancellation token and time budget checked between the phases.
+  pub budget: Budget,
+  /// Whether to transfer the captured ast as a compact binary buffer or not.
+  pub binary_ast: bool,
   /// Whether to capture ast or not.
   pub capture_ast: bool,
   /// Whether to capture comments or not.
   pub capture_comments: bool,
+  /// Whether to capture source text or not.
+  pub capture_source_text: bool,
   /// Whether to capture tokens or not.
   pub capture_tokens: bool,
   /// Kind of decorators to use.
@@ -1703,6 +2812,8 @@ pub struct TranspileOptions {
   pub scope_analysis: bool,
   /// How and if source maps should be generated.
   pub source_map: SourceMapOption,
+  /// How the positions in the spans are computed.
+  pub span_mode: SpanMode,
   /// Specifier of the source text.
   pub specifier: String,
   /// Should import declarations be transformed to variable declarations using
@@ -1723,8 +2834,11 @@ impl TranspileOptions {
 impl Default for TranspileOptions {
   fn default() -> Self {
     TranspileOptions {
+      budget: Default::default(),
+      binary_ast: false,
       capture_ast: false,
       capture_comments: false,
+      capture_source_text: true,
       capture_tokens: false,
       decorators: DecoratorsTranspileOption::None,
       imports_not_used_as_values: ImportsNotUsedAsValues::Remove,
@@ -1737,6 +2851,7 @@ impl Default for TranspileOptions {
       plugin_host: None,
       scope_analysis: false,
       source_map: SourceMapOption::Inline,
+      span_mode: SpanMode::CharIndex,
       specifier: "file:///main.js".to_owned(),
       var_decl_imports: false,
       verbatim_module_syntax: false,
@@ -1747,6 +2862,9 @@ impl Default for TranspileOptions {
 impl<'local> FromJava<'local> for TranspileOptions {
   fn from_java(env: &mut Env<'local>, obj: &JObject<'_>) -> Result<Box<TranspileOptions>> {
     let java_transpile_options = JAVA_TRANSPILE_OPTIONS.get().unwrap();
+    let java_optional_cancellation_token = java_transpile_options.get_cancellation_token(env, obj)?;
+    let timeout_millis = java_transpile_options.get_timeout_millis(env, obj)?;
+    let budget = budget_from_java(env, java_optional_cancellation_token, timeout_millis)?;
     let java_decorators = java_transpile_options.get_decorators(env, obj)?;
     let java_decorators_transpile_option_ecma = JAVA_DECORATORS_TRANSPILE_OPTION_ECMA.get().unwrap();
     let java_decorators_transpile_option_legacy_type_script =
@@ -1770,8 +2888,10 @@ impl<'local> FromJava<'local> for TranspileOptions {
       DecoratorsTranspileOption::None
     };
     delete_local_ref!(env, java_decorators);
+    let binary_ast = java_transpile_options.is_binary_ast(env, obj)?;
     let capture_ast = java_transpile_options.is_capture_ast(env, obj)?;
     let capture_comments = java_transpile_options.is_capture_comments(env, obj)?;
+    let capture_source_text = java_transpile_options.is_capture_source_text(env, obj)?;
     let capture_tokens = java_transpile_options.is_capture_tokens(env, obj)?;
     let java_imports_not_used_as_values = java_transpile_options.get_imports_not_used_as_values(env, obj)?;
     let imports_not_used_as_values = *ImportsNotUsedAsValues::from_java(env, &java_imports_not_used_as_values)?;
@@ -1857,20 +2977,26 @@ impl<'local> FromJava<'local> for TranspileOptions {
       let host = env
         .new_global_ref(host)
         .expect("Failed to create global reference for plugin host");
-      PluginHost::new(env, host)
+      PluginHost::new(host)
     });
     delete_local_optional_ref!(env, java_optional_plugin_host);
     let scope_analysis = java_transpile_options.is_scope_analysis(env, obj)?;
     let java_source_map = java_transpile_options.get_source_map(env, obj)?;
     let source_map = *SourceMapOption::from_java(env, &java_source_map)?;
+    let java_span_mode = java_transpile_options.get_span_mode(env, obj)?;
+    let span_mode = *SpanMode::from_java(env, &java_span_mode)?;
+    delete_local_ref!(env, java_span_mode);
     let specifier = java_transpile_options.get_specifier(env, obj)?;
     let specifier = url_to_string(env, &specifier)?;
     let var_decl_imports = java_transpile_options.is_var_decl_imports(env, obj)?;
     let verbatim_module_syntax = java_transpile_options.is_verbatim_module_syntax(env, obj)?;
     delete_local_ref!(env, java_source_map);
     Ok(Box::new(TranspileOptions {
+      budget,
+      binary_ast,
       capture_ast,
       capture_comments,
+      capture_source_text,
       capture_tokens,
       decorators,
       imports_not_used_as_values,
@@ -1883,9 +3009,41 @@ impl<'local> FromJava<'local> for TranspileOptions {
       plugin_host,
       scope_analysis,
       source_map,
+      span_mode,
       specifier,
       var_decl_imports,
       verbatim_module_syntax,
     }))
   }
 }
+
+/// Options decoded from Java once and reused by the native handle of `Swc4jCompiledOptions`.
+#[derive(Debug)]
+pub enum CompiledOptions {
+  Parse(ParseOptions),
+  Transform(TransformOptions),
+  Transpile(TranspileOptions),
+}
+
+impl CompiledOptions {
+  pub fn as_parse_options(&self) -> Result<&ParseOptions> {
+    match self {
+      CompiledOptions::Parse(options) => Ok(options),
+      _ => Err(Error::msg("Compiled options are not parse options")),
+    }
+  }
+
+  pub fn as_transform_options(&self) -> Result<&TransformOptions> {
+    match self {
+      CompiledOptions::Transform(options) => Ok(options),
+      _ => Err(Error::msg("Compiled options are not transform options")),
+    }
+  }
+
+  pub fn as_transpile_options(&self) -> Result<&TranspileOptions> {
+    match self {
+      CompiledOptions::Transpile(options) => Ok(options),
+      _ => Err(Error::msg("Compiled options are not transpile options")),
+    }
+  }
+}
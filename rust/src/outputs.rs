@@ -15,24 +15,165 @@
 * limitations under the License.
 */
 
-use anyhow::Result;
+use anyhow::{Error, Result};
 use deno_ast::swc::ast::*;
 use deno_ast::swc::parser::token::TokenAndSpan;
-use deno_ast::{MultiThreadedComments, ParsedSource, TranspileResult};
-use jni::objects::{Global, JClass, JMethodID, JObject};
+use deno_ast::swc::common::Span;
+use deno_ast::{MultiThreadedComments, ParseDiagnostic, ParsedSource, TranspileResult};
+use jni::objects::{Global, JClass, JMethodID, JObject, JStaticMethodID};
 use jni::strings::JNIString;
 use jni::signature::RuntimeMethodSignature;
 use jni::Env;
 
 use std::sync::{Arc, OnceLock};
 
+use crate::ast_utils;
+use crate::binary_utils::{self, BinaryWriter, ToBinaryWithMap};
 use crate::comment_utils::*;
 use crate::enums::*;
 use crate::jni_utils::*;
 use crate::options::*;
-use crate::span_utils::{ByteToIndexMap, RegisterWithMap, ToJavaWithMap};
+use crate::scope_utils::SymbolTable;
+use crate::source_map_utils;
+use crate::span_utils::{ByteToIndexMap, RegisterWithMap, SpanEx, ToJavaWithMap};
 use crate::token_utils;
 
+/* JavaSwc4jOutputSink Begin */
+#[allow(dead_code)]
+struct JavaSwc4jOutputSink {
+  class: Global<JClass<'static>>,
+  method_write_code: JMethodID,
+  method_write_source_map: JMethodID,
+}
+
+#[allow(dead_code)]
+impl JavaSwc4jOutputSink {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/outputs/Swc4jOutputSink"))
+      .expect("Couldn't find class Swc4jOutputSink");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jOutputSink");
+    let method_write_code = env
+      .get_method_id(
+        &class,
+        JNIString::from("writeCode"),
+        RuntimeMethodSignature::from_str("(Ljava/nio/ByteBuffer;)Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jOutputSink.writeCode");
+    let method_write_source_map = env
+      .get_method_id(
+        &class,
+        JNIString::from("writeSourceMap"),
+        RuntimeMethodSignature::from_str("(Ljava/nio/ByteBuffer;)Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jOutputSink.writeSourceMap");
+    JavaSwc4jOutputSink {
+      class,
+      method_write_code,
+      method_write_source_map,
+    }
+  }
+
+  pub fn write_code<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+    buffer: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let buffer = object_to_jvalue!(buffer);
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_write_code,
+        &[buffer],
+        "boolean write_code()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn write_source_map<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+    buffer: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let buffer = object_to_jvalue!(buffer);
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_write_source_map,
+        &[buffer],
+        "boolean write_source_map()"
+      )?;
+    Ok(return_value)
+  }
+}
+/* JavaSwc4jOutputSink End */
+
+/* JavaSwc4jParseDiagnostic Begin */
+#[allow(dead_code)]
+struct JavaSwc4jParseDiagnostic {
+  class: Global<JClass<'static>>,
+  method_construct: JMethodID,
+}
+
+#[allow(dead_code)]
+impl JavaSwc4jParseDiagnostic {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/outputs/Swc4jParseDiagnostic"))
+      .expect("Couldn't find class Swc4jParseDiagnostic");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jParseDiagnostic");
+    let method_construct = env
+      .get_method_id(
+        &class,
+        JNIString::from("<init>"),
+        RuntimeMethodSignature::from_str("(Ljava/lang/String;Ljava/lang/String;ZLcom/caoccao/javet/swc4j/span/Swc4jSpan;)V").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jParseDiagnostic::new");
+    JavaSwc4jParseDiagnostic {
+      class,
+      method_construct,
+    }
+  }
+
+  pub fn construct<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    code: &str,
+    message: &str,
+    fatal: bool,
+    span: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let java_code = string_to_jstring!(env, &code);
+    let code = object_to_jvalue!(java_code);
+    let java_message = string_to_jstring!(env, &message);
+    let message = object_to_jvalue!(java_message);
+    let fatal = boolean_to_jvalue!(fatal);
+    let span = object_to_jvalue!(span);
+    let return_value = call_as_construct!(
+        env,
+        &self.class,
+        self.method_construct,
+        &[code, message, fatal, span],
+        "Swc4jParseDiagnostic construct()"
+      )?;
+    delete_local_ref!(env, java_code);
+    delete_local_ref!(env, java_message);
+    Ok(return_value)
+  }
+}
+/* JavaSwc4jParseDiagnostic End */
+
 /* JavaSwc4jParseOutput Begin */
 #[allow(dead_code)]
 struct JavaSwc4jParseOutput {
@@ -53,7 +194,7 @@ impl JavaSwc4jParseOutput {
       .get_method_id(
         &class,
         JNIString::from("<init>"),
-        RuntimeMethodSignature::from_str("(Lcom/caoccao/javet/swc4j/ast/interfaces/ISwc4jAstProgram;Lcom/caoccao/javet/swc4j/enums/Swc4jMediaType;Lcom/caoccao/javet/swc4j/enums/Swc4jParseMode;Ljava/lang/String;Ljava/util/List;Lcom/caoccao/javet/swc4j/comments/Swc4jComments;)V").unwrap().method_signature(),
+        RuntimeMethodSignature::from_str("(Lcom/caoccao/javet/swc4j/ast/interfaces/ISwc4jAstProgram;Lcom/caoccao/javet/swc4j/enums/Swc4jMediaType;Lcom/caoccao/javet/swc4j/enums/Swc4jParseMode;Ljava/lang/String;Ljava/util/List;Lcom/caoccao/javet/swc4j/comments/Swc4jComments;Ljava/util/List;Lcom/caoccao/javet/swc4j/outputs/Swc4jSymbolTable;)V").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jParseOutput::new");
     JavaSwc4jParseOutput {
@@ -68,9 +209,11 @@ impl JavaSwc4jParseOutput {
     program: &JObject<'_>,
     media_type: &JObject<'_>,
     parse_mode: &JObject<'_>,
-    source_text: &str,
+    source_text: Option<&str>,
     tokens: &JObject<'_>,
     comments: &JObject<'_>,
+    diagnostics: &JObject<'_>,
+    symbol_table: &Option<JObject>,
   ) -> Result<JObject<'a>>
   where
     'local: 'a,
@@ -78,15 +221,17 @@ impl JavaSwc4jParseOutput {
     let program = object_to_jvalue!(program);
     let media_type = object_to_jvalue!(media_type);
     let parse_mode = object_to_jvalue!(parse_mode);
-    let java_source_text = string_to_jstring!(env, &source_text);
+    let java_source_text = optional_string_to_jstring!(env, &source_text);
     let source_text = object_to_jvalue!(java_source_text);
     let tokens = object_to_jvalue!(tokens);
     let comments = object_to_jvalue!(comments);
+    let diagnostics = object_to_jvalue!(diagnostics);
+    let symbol_table = optional_object_to_jvalue!(symbol_table);
     let return_value = call_as_construct!(
         env,
         &self.class,
         self.method_construct,
-        &[program, media_type, parse_mode, source_text, tokens, comments],
+        &[program, media_type, parse_mode, source_text, tokens, comments, diagnostics, symbol_table],
         "Swc4jParseOutput construct()"
       )?;
     delete_local_ref!(env, java_source_text);
@@ -95,6 +240,159 @@ impl JavaSwc4jParseOutput {
 }
 /* JavaSwc4jParseOutput End */
 
+/* JavaSwc4jSourceMap Begin */
+#[allow(dead_code)]
+struct JavaSwc4jSourceMap {
+  class: Global<JClass<'static>>,
+  method_decode_with_segments: JStaticMethodID,
+}
+
+#[allow(dead_code)]
+impl JavaSwc4jSourceMap {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/outputs/Swc4jSourceMap"))
+      .expect("Couldn't find class Swc4jSourceMap");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jSourceMap");
+    let method_decode_with_segments = env
+      .get_static_method_id(
+        &class,
+        JNIString::from("decodeWithSegments"),
+        RuntimeMethodSignature::from_str("(Ljava/nio/ByteBuffer;)Lcom/caoccao/javet/swc4j/outputs/Swc4jSourceMap;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jSourceMap.decodeWithSegments");
+    JavaSwc4jSourceMap {
+      class,
+      method_decode_with_segments,
+    }
+  }
+
+  pub fn decode_with_segments<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    buffer: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let buffer = object_to_jvalue!(buffer);
+    let return_value = call_static_as_object!(
+        env,
+        &self.class,
+        self.method_decode_with_segments,
+        &[buffer],
+        "Swc4jSourceMap decode_with_segments()"
+      )?;
+    Ok(return_value)
+  }
+}
+/* JavaSwc4jSourceMap End */
+
+/* JavaSwc4jSymbolTable Begin */
+#[allow(dead_code)]
+struct JavaSwc4jSymbolTable {
+  class: Global<JClass<'static>>,
+  method_decode: JStaticMethodID,
+}
+
+#[allow(dead_code)]
+impl JavaSwc4jSymbolTable {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/outputs/Swc4jSymbolTable"))
+      .expect("Couldn't find class Swc4jSymbolTable");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jSymbolTable");
+    let method_decode = env
+      .get_static_method_id(
+        &class,
+        JNIString::from("decode"),
+        RuntimeMethodSignature::from_str("(Ljava/nio/ByteBuffer;)Lcom/caoccao/javet/swc4j/outputs/Swc4jSymbolTable;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jSymbolTable.decode");
+    JavaSwc4jSymbolTable {
+      class,
+      method_decode,
+    }
+  }
+
+  pub fn decode<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    buffer: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let buffer = object_to_jvalue!(buffer);
+    let return_value = call_static_as_object!(
+        env,
+        &self.class,
+        self.method_decode,
+        &[buffer],
+        "Swc4jSymbolTable decode()"
+      )?;
+    Ok(return_value)
+  }
+}
+/* JavaSwc4jSymbolTable End */
+
+/* JavaSwc4jTokenizeOutput Begin */
+#[allow(dead_code)]
+struct JavaSwc4jTokenizeOutput {
+  class: Global<JClass<'static>>,
+  method_decode: JStaticMethodID,
+}
+
+#[allow(dead_code)]
+impl JavaSwc4jTokenizeOutput {
+  pub fn new<'local>(env: &mut Env<'local>) -> Self {
+    let class = env
+      .find_class(JNIString::from("com/caoccao/javet/swc4j/outputs/Swc4jTokenizeOutput"))
+      .expect("Couldn't find class Swc4jTokenizeOutput");
+    let class = env
+      .new_global_ref(class)
+      .expect("Couldn't globalize class Swc4jTokenizeOutput");
+    let method_decode = env
+      .get_static_method_id(
+        &class,
+        JNIString::from("decode"),
+        RuntimeMethodSignature::from_str("(Ljava/nio/ByteBuffer;Ljava/lang/String;)Lcom/caoccao/javet/swc4j/outputs/Swc4jTokenizeOutput;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method Swc4jTokenizeOutput.decode");
+    JavaSwc4jTokenizeOutput {
+      class,
+      method_decode,
+    }
+  }
+
+  pub fn decode<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    buffer: &JObject<'_>,
+    code: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let buffer = object_to_jvalue!(buffer);
+    let code = object_to_jvalue!(code);
+    let return_value = call_static_as_object!(
+        env,
+        &self.class,
+        self.method_decode,
+        &[buffer, code],
+        "Swc4jTokenizeOutput decode()"
+      )?;
+    // The code is the Java string passed in by the caller so it is not deleted here.
+    Ok(return_value)
+  }
+}
+/* JavaSwc4jTokenizeOutput End */
+
 /* JavaSwc4jTransformOutput Begin */
 #[allow(dead_code)]
 struct JavaSwc4jTransformOutput {
@@ -175,7 +473,7 @@ impl JavaSwc4jTranspileOutput {
       .get_method_id(
         &class,
         JNIString::from("<init>"),
-        RuntimeMethodSignature::from_str("(Lcom/caoccao/javet/swc4j/ast/interfaces/ISwc4jAstProgram;Ljava/lang/String;Lcom/caoccao/javet/swc4j/enums/Swc4jMediaType;Lcom/caoccao/javet/swc4j/enums/Swc4jParseMode;Ljava/lang/String;Ljava/lang/String;Ljava/util/List;Lcom/caoccao/javet/swc4j/comments/Swc4jComments;)V").unwrap().method_signature(),
+        RuntimeMethodSignature::from_str("(Lcom/caoccao/javet/swc4j/ast/interfaces/ISwc4jAstProgram;Ljava/lang/String;Lcom/caoccao/javet/swc4j/enums/Swc4jMediaType;Lcom/caoccao/javet/swc4j/enums/Swc4jParseMode;Ljava/lang/String;Lcom/caoccao/javet/swc4j/outputs/Swc4jSourceMap;Ljava/lang/String;Ljava/util/List;Lcom/caoccao/javet/swc4j/comments/Swc4jComments;)V").unwrap().method_signature(),
       )
       .expect("Couldn't find method Swc4jTranspileOutput::new");
     JavaSwc4jTranspileOutput {
@@ -192,7 +490,8 @@ impl JavaSwc4jTranspileOutput {
     media_type: &JObject<'_>,
     parse_mode: &JObject<'_>,
     source_map: &Option<String>,
-    source_text: &str,
+    raw_source_map: &Option<JObject>,
+    source_text: Option<&str>,
     tokens: &JObject<'_>,
     comments: &JObject<'_>,
   ) -> Result<JObject<'a>>
@@ -206,7 +505,8 @@ impl JavaSwc4jTranspileOutput {
     let parse_mode = object_to_jvalue!(parse_mode);
     let java_source_map = optional_string_to_jstring!(env, &source_map);
     let source_map = object_to_jvalue!(java_source_map);
-    let java_source_text = string_to_jstring!(env, &source_text);
+    let raw_source_map = optional_object_to_jvalue!(raw_source_map);
+    let java_source_text = optional_string_to_jstring!(env, &source_text);
     let source_text = object_to_jvalue!(java_source_text);
     let tokens = object_to_jvalue!(tokens);
     let comments = object_to_jvalue!(comments);
@@ -214,7 +514,7 @@ impl JavaSwc4jTranspileOutput {
         env,
         &self.class,
         self.method_construct,
-        &[program, code, media_type, parse_mode, source_map, source_text, tokens, comments],
+        &[program, code, media_type, parse_mode, source_map, raw_source_map, source_text, tokens, comments],
         "Swc4jTranspileOutput construct()"
       )?;
     delete_local_ref!(env, java_code);
@@ -225,14 +525,32 @@ impl JavaSwc4jTranspileOutput {
 }
 /* JavaSwc4jTranspileOutput End */
 
+static JAVA_OUTPUT_SINK: OnceLock<JavaSwc4jOutputSink> = OnceLock::new();
+static JAVA_PARSE_DIAGNOSTIC: OnceLock<JavaSwc4jParseDiagnostic> = OnceLock::new();
 static JAVA_PARSE_OUTPUT: OnceLock<JavaSwc4jParseOutput> = OnceLock::new();
+static JAVA_SOURCE_MAP: OnceLock<JavaSwc4jSourceMap> = OnceLock::new();
+static JAVA_SYMBOL_TABLE: OnceLock<JavaSwc4jSymbolTable> = OnceLock::new();
+static JAVA_TOKENIZE_OUTPUT: OnceLock<JavaSwc4jTokenizeOutput> = OnceLock::new();
 static JAVA_TRANSFORM_OUTPUT: OnceLock<JavaSwc4jTransformOutput> = OnceLock::new();
 static JAVA_TRANSPILE_OUTPUT: OnceLock<JavaSwc4jTranspileOutput> = OnceLock::new();
 
 pub fn init<'local>(env: &mut Env<'local>) {
   log::debug!("init()");
   unsafe {
+    JAVA_OUTPUT_SINK.set(JavaSwc4jOutputSink::new(env)).unwrap_unchecked();
+    JAVA_PARSE_DIAGNOSTIC
+      .set(JavaSwc4jParseDiagnostic::new(env))
+      .unwrap_unchecked();
     JAVA_PARSE_OUTPUT.set(JavaSwc4jParseOutput::new(env)).unwrap_unchecked();
+    JAVA_SOURCE_MAP
+      .set(JavaSwc4jSourceMap::new(env))
+      .unwrap_unchecked();
+    JAVA_SYMBOL_TABLE
+      .set(JavaSwc4jSymbolTable::new(env))
+      .unwrap_unchecked();
+    JAVA_TOKENIZE_OUTPUT
+      .set(JavaSwc4jTokenizeOutput::new(env))
+      .unwrap_unchecked();
     JAVA_TRANSFORM_OUTPUT
       .set(JavaSwc4jTransformOutput::new(env))
       .unwrap_unchecked();
@@ -242,23 +560,126 @@ pub fn init<'local>(env: &mut Env<'local>) {
   }
 }
 
+/// Move the code and the source map to the Java output sink as UTF-8 bytes
+/// so that they are never converted to Java strings.
+///
+/// The source map is skipped if the sink fails to write the code.
+pub fn write_to_output_sink<'local>(
+  env: &mut Env<'local>,
+  java_output_sink: &JObject<'_>,
+  code: &mut String,
+  source_map: &mut Option<String>,
+) -> Result<()> {
+  let java_class = JAVA_OUTPUT_SINK.get().unwrap();
+  let mut bytes = std::mem::take(code).into_bytes();
+  let written = write_bytes_to_output_sink(env, &mut bytes, |env, java_buffer| {
+    java_class.write_code(env, java_output_sink, java_buffer)
+  })?;
+  if let Some(source_map) = source_map.take() {
+    if written {
+      let mut bytes = source_map.into_bytes();
+      write_bytes_to_output_sink(env, &mut bytes, |env, java_buffer| {
+        java_class.write_source_map(env, java_output_sink, java_buffer)
+      })?;
+    }
+  }
+  Ok(())
+}
+
+fn write_bytes_to_output_sink<'local, F>(env: &mut Env<'local>, bytes: &mut [u8], f: F) -> Result<bool>
+where
+  F: FnOnce(&mut Env<'local>, &JObject<'_>) -> Result<bool>,
+{
+  let java_buffer = unsafe { env.new_direct_byte_buffer(bytes.as_mut_ptr(), bytes.len()) }.map_err(Error::msg)?;
+  let java_buffer: JObject = java_buffer.into();
+  let return_value = f(env, &java_buffer);
+  delete_local_ref!(env, java_buffer);
+  return_value
+}
+
+#[derive(Debug)]
+pub struct Diagnostic {
+  pub code: String,
+  pub fatal: bool,
+  pub message: String,
+  pub span: Span,
+}
+
+impl Diagnostic {
+  pub fn new(diagnostic: &ParseDiagnostic, fatal: bool) -> Self {
+    // The code is the name of the swc syntax error, e.g. Expected, TS1005.
+    let kind = format!("{:?}", diagnostic.kind);
+    let code = kind
+      .split(|c: char| !c.is_ascii_alphanumeric())
+      .next()
+      .unwrap_or_default()
+      .to_owned();
+    let message = diagnostic.message().to_string();
+    let span = Span {
+      lo: diagnostic.range.start.as_byte_pos(),
+      hi: diagnostic.range.end.as_byte_pos(),
+    };
+    Diagnostic {
+      code,
+      fatal,
+      message,
+      span,
+    }
+  }
+}
+
+impl ToJavaWithMap<ByteToIndexMap> for Diagnostic {
+  fn to_java_with_map<'local, 'a>(&self, env: &mut Env<'local>, map: &'_ ByteToIndexMap) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let java_span_ex = map.get_span_ex_by_span(&self.span).to_java(env)?;
+    let return_value = JAVA_PARSE_DIAGNOSTIC.get().unwrap().construct(
+      env,
+      &self.code,
+      &self.message,
+      self.fatal,
+      &java_span_ex,
+    );
+    delete_local_ref!(env, java_span_ex);
+    return_value
+  }
+}
+
 #[derive(Debug)]
 pub struct ParseOutput {
+  pub binary_ast: bool,
+  pub capture_source_text: bool,
   pub comments: Option<MultiThreadedComments>,
+  pub diagnostics: Vec<Diagnostic>,
   pub media_type: MediaType,
   pub parse_mode: ParseMode,
   pub program: Option<Arc<Program>>,
-  pub source_text: String,
+  /// The source text shared with the parsed source without being copied.
+  pub source_text: Arc<str>,
+  pub span_mode: SpanMode,
+  pub symbol_table: Option<SymbolTable>,
   pub tokens: Option<Arc<Vec<TokenAndSpan>>>,
 }
 
 impl ParseOutput {
   pub fn new(parse_options: &ParseOptions, parsed_source: &ParsedSource) -> Self {
+    let binary_ast = parse_options.binary_ast;
+    let capture_source_text = parse_options.capture_source_text;
     let comments = if parse_options.capture_comments {
       Some(parsed_source.comments().clone())
     } else {
       None
     };
+    let diagnostics = if parse_options.recoverable {
+      parsed_source
+        .diagnostics()
+        .iter()
+        .map(|diagnostic| Diagnostic::new(diagnostic, false))
+        .collect()
+    } else {
+      Vec::new()
+    };
     let media_type = parsed_source.media_type();
     let parse_mode = if parsed_source.compute_is_script() {
       ParseMode::Script
@@ -270,23 +691,69 @@ impl ParseOutput {
     } else {
       None
     };
-    let source_text = parsed_source.text().to_string();
+    let source_text = parsed_source.text().clone();
+    let span_mode = parse_options.span_mode;
+    // The symbol table is collected from the resolved program whether the ast is captured or not.
+    let symbol_table = if parse_options.scope_analysis {
+      Some(SymbolTable::new(&parsed_source.program()))
+    } else {
+      None
+    };
     let tokens = if parse_options.capture_tokens {
       Some(Arc::new(parsed_source.tokens().to_vec()))
     } else {
       None
     };
     ParseOutput {
+      binary_ast,
+      capture_source_text,
       comments,
+      diagnostics,
       media_type,
       parse_mode,
       program,
       source_text,
+      span_mode,
+      symbol_table,
       tokens,
     }
   }
 
+  /// Create the output of a parse that failed without recovery. It only carries the fatal diagnostic.
+  pub fn new_with_fatal_diagnostic(parse_options: &ParseOptions, source_text: Arc<str>, diagnostic: &ParseDiagnostic) -> Self {
+    ParseOutput {
+      binary_ast: parse_options.binary_ast,
+      capture_source_text: parse_options.capture_source_text,
+      comments: None,
+      diagnostics: vec![Diagnostic::new(diagnostic, true)],
+      media_type: parse_options.media_type,
+      parse_mode: parse_options.parse_mode,
+      program: None,
+      source_text,
+      span_mode: parse_options.span_mode,
+      symbol_table: None,
+      tokens: None,
+    }
+  }
+
+  pub fn diagnostics_to_java<'local, 'a>(&self, env: &mut Env<'local>, map: &'_ ByteToIndexMap) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let java_diagnostics = list_new(env, self.diagnostics.len())?;
+    for diagnostic in self.diagnostics.iter() {
+      let java_diagnostic = diagnostic.to_java_with_map(env, map)?;
+      list_add(env, &java_diagnostics, &java_diagnostic)?;
+      delete_local_ref!(env, java_diagnostic);
+    }
+    Ok(java_diagnostics)
+  }
+
   pub fn get_byte_to_index_map(&self) -> ByteToIndexMap {
+    if self.span_mode == SpanMode::ByteOffset {
+      // The byte offsets are taken from the spans as is.
+      return ByteToIndexMap::new_byte_offset();
+    }
     // Register the keys
     let mut map = ByteToIndexMap::new();
     if let Some(comments) = self.comments.as_ref() {
@@ -299,13 +766,57 @@ impl ParseOutput {
         value.iter().for_each(|comment| map.register_by_span(&comment.span));
       });
     }
+    self.diagnostics.iter().for_each(|diagnostic| map.register_by_span(&diagnostic.span));
     if let Some(program) = self.program.as_ref() { program.register_with_map(&mut map) }
+    if let Some(symbol_table) = self.symbol_table.as_ref() { symbol_table.register_with_map(&mut map) }
     if let Some(token_and_spans) = self.tokens.as_ref() { token_and_spans.iter().for_each(|token_and_span| {
         map.register_by_span(&token_and_span.span);
       }) }
-    map.update_by_str(self.source_text.as_str());
+    map.update_by_str(&self.source_text);
     map
   }
+
+  pub fn program_to_java<'local, 'a>(&self, env: &mut Env<'local>, map: &'_ ByteToIndexMap) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    match self.program.as_ref() {
+      Some(program) => {
+        if self.binary_ast {
+          let mut writer = BinaryWriter::new();
+          program.to_binary_with_map(&mut writer, map);
+          binary_utils::decode_ast(env, &mut writer)
+        } else {
+          ast_utils::ensure_init(env);
+          program.to_java_with_map(env, map)
+        }
+      }
+      None => Ok(Default::default()),
+    }
+  }
+
+  /// Pass the symbol table as a direct byte buffer so that Java copies out the arrays in bulk.
+  pub fn symbol_table_to_java<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    map: &'_ ByteToIndexMap,
+  ) -> Result<Option<JObject<'a>>>
+  where
+    'local: 'a,
+  {
+    match self.symbol_table.as_ref() {
+      Some(symbol_table) => {
+        let mut bytes = symbol_table.to_bytes(map);
+        let java_buffer =
+          unsafe { env.new_direct_byte_buffer(bytes.as_mut_ptr(), bytes.len()) }.map_err(Error::msg)?;
+        let java_buffer: JObject = java_buffer.into();
+        let java_symbol_table = JAVA_SYMBOL_TABLE.get().unwrap().decode(env, &java_buffer);
+        delete_local_ref!(env, java_buffer);
+        java_symbol_table.map(Some)
+      }
+      None => Ok(None),
+    }
+  }
 }
 
 impl ToJava for ParseOutput {
@@ -314,26 +825,32 @@ impl ToJava for ParseOutput {
     'local: 'a,
   {
     let byte_to_index_map = self.get_byte_to_index_map();
-    let java_program = self.program.as_ref().map_or(Ok(Default::default()), |program| {
-      program.to_java_with_map(env, &byte_to_index_map)
-    })?;
+    let java_program = self.program_to_java(env, &byte_to_index_map)?;
     let java_media_type = self.media_type.to_java(env)?;
     let java_parse_mode = self.parse_mode.to_java(env)?;
-    let source_text = self.source_text.as_str();
+    let source_text = &*self.source_text;
     let java_tokens =
       token_utils::token_and_spans_to_java_list(env, &byte_to_index_map, source_text, self.tokens.clone())?;
     let java_comments = self.comments.as_ref().map_or(Ok(Default::default()), |comments| {
       comments_new(env, comments, &byte_to_index_map)
     })?;
+    let java_diagnostics = self.diagnostics_to_java(env, &byte_to_index_map)?;
+    let java_optional_symbol_table = self.symbol_table_to_java(env, &byte_to_index_map)?;
     let return_value = JAVA_PARSE_OUTPUT.get().unwrap().construct(
       env,
       &java_program,
       &java_media_type,
       &java_parse_mode,
-      source_text,
+      self.capture_source_text.then_some(source_text),
       &java_tokens,
       &java_comments,
+      &java_diagnostics,
+      &java_optional_symbol_table,
     );
+    delete_local_ref!(env, java_diagnostics);
+    if let Some(java_symbol_table) = java_optional_symbol_table {
+      delete_local_ref!(env, java_symbol_table);
+    }
     delete_local_ref!(env, java_program);
     delete_local_ref!(env, java_media_type);
     delete_local_ref!(env, java_parse_mode);
@@ -343,6 +860,79 @@ impl ToJava for ParseOutput {
   }
 }
 
+#[derive(Debug)]
+pub struct TokenizeOutput {
+  pub source_text: String,
+  pub span_mode: SpanMode,
+  pub tokens: Vec<TokenAndSpan>,
+}
+
+impl TokenizeOutput {
+  pub fn new(parse_options: &ParseOptions, source_text: String, tokens: Vec<TokenAndSpan>) -> Self {
+    TokenizeOutput {
+      source_text,
+      span_mode: parse_options.span_mode,
+      tokens,
+    }
+  }
+
+  pub fn get_byte_to_index_map(&self) -> ByteToIndexMap {
+    if self.span_mode == SpanMode::ByteOffset {
+      return ByteToIndexMap::new_byte_offset();
+    }
+    let mut map = ByteToIndexMap::new();
+    self
+      .tokens
+      .iter()
+      .for_each(|token_and_span| map.register_by_span(&token_and_span.span));
+    map.update_by_str(self.source_text.as_str());
+    map
+  }
+
+  /// Pack the tokens as little endian arrays of the type ids, the starts, the ends
+  /// and the line break bits so that Java copies them out in bulk.
+  pub fn to_java<'local, 'a>(&self, env: &mut Env<'local>, java_code: &JObject<'_>) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let map = self.get_byte_to_index_map();
+    let size = self.tokens.len();
+    let word_count = size.div_ceil(64);
+    let mut bytes: Vec<u8> = Vec::with_capacity(8 + size * 12 + word_count * 8);
+    bytes.extend_from_slice(&self.span_mode.get_id().to_le_bytes());
+    bytes.extend_from_slice(&(size as i32).to_le_bytes());
+    self.tokens.iter().for_each(|token_and_span| {
+      let type_id = token_utils::get_token_type(&token_and_span.token).get_id();
+      bytes.extend_from_slice(&type_id.to_le_bytes());
+    });
+    let span_exs: Vec<SpanEx> = self
+      .tokens
+      .iter()
+      .map(|token_and_span| map.get_span_ex_by_span(&token_and_span.span))
+      .collect();
+    span_exs
+      .iter()
+      .for_each(|span_ex| bytes.extend_from_slice(&(span_ex.start as i32).to_le_bytes()));
+    span_exs
+      .iter()
+      .for_each(|span_ex| bytes.extend_from_slice(&(span_ex.end as i32).to_le_bytes()));
+    let mut words = vec![0u64; word_count];
+    self.tokens.iter().enumerate().for_each(|(index, token_and_span)| {
+      if token_and_span.had_line_break {
+        words[index / 64] |= 1u64 << (index % 64);
+      }
+    });
+    words
+      .iter()
+      .for_each(|word| bytes.extend_from_slice(&word.to_le_bytes()));
+    let java_buffer = unsafe { env.new_direct_byte_buffer(bytes.as_mut_ptr(), bytes.len()) }.map_err(Error::msg)?;
+    let java_buffer: JObject = java_buffer.into();
+    let return_value = JAVA_TOKENIZE_OUTPUT.get().unwrap().decode(env, &java_buffer, java_code);
+    delete_local_ref!(env, java_buffer);
+    return_value
+  }
+}
+
 #[derive(Debug)]
 pub struct TransformOutput {
   pub code: String,
@@ -403,6 +993,8 @@ impl TranspileOutput {
     parsed_source: &ParsedSource,
     transpile_result: &TranspileResult,
   ) -> Self {
+    let binary_ast = transpile_options.binary_ast;
+    let capture_source_text = transpile_options.capture_source_text;
     let comments = if transpile_options.capture_comments {
       Some(parsed_source.comments().clone())
     } else {
@@ -422,18 +1014,24 @@ impl TranspileOutput {
       None
     };
     let source_map = emitted_source.source_map.clone();
-    let source_text = parsed_source.text().to_string();
+    let source_text = parsed_source.text().clone();
+    let span_mode = transpile_options.span_mode;
     let tokens = if transpile_options.capture_tokens {
       Some(Arc::new(parsed_source.tokens().to_vec()))
     } else {
       None
     };
     let parse_output = ParseOutput {
+      binary_ast,
+      capture_source_text,
       comments,
+      diagnostics: Vec::new(),
       media_type,
       parse_mode,
       program,
       source_text,
+      span_mode,
+      symbol_table: None,
       tokens,
     };
     TranspileOutput {
@@ -450,18 +1048,32 @@ impl ToJava for TranspileOutput {
     'local: 'a,
   {
     let byte_to_index_map = self.parse_output.get_byte_to_index_map();
-    let java_program = self
-      .parse_output
-      .program
-      .as_ref()
-      .map_or(Ok(Default::default()), |program| {
-        program.to_java_with_map(env, &byte_to_index_map)
-      })?;
+    let java_program = self.parse_output.program_to_java(env, &byte_to_index_map)?;
     let code = self.code.as_str();
     let java_media_type = self.parse_output.media_type.to_java(env)?;
     let java_parse_mode = self.parse_output.parse_mode.to_java(env)?;
-    let optional_source_map = &self.source_map;
-    let source_text = self.parse_output.source_text.as_str();
+    // The separate source map is passed as the little endian array of the segments decoded here
+    // followed by the UTF-8 json bytes which are copied as they are, so that the segment lookups
+    // never parse the json and the json is not turned into a Java string unless it is asked for.
+    let java_optional_raw_source_map = match self.source_map.as_deref() {
+      Some(source_map) => {
+        let source_map: &[u8] = source_map.as_ref();
+        let segments = source_map_utils::decode_segments(source_map)?;
+        let mut bytes: Vec<u8> = Vec::with_capacity(4 + segments.len() * 4 + source_map.len());
+        bytes.extend_from_slice(&(segments.len() as i32).to_le_bytes());
+        segments
+          .iter()
+          .for_each(|value| bytes.extend_from_slice(&value.to_le_bytes()));
+        bytes.extend_from_slice(source_map);
+        let java_buffer = unsafe { env.new_direct_byte_buffer(bytes.as_mut_ptr(), bytes.len()) }.map_err(Error::msg)?;
+        let java_buffer: JObject = java_buffer.into();
+        let java_raw_source_map = JAVA_SOURCE_MAP.get().unwrap().decode_with_segments(env, &java_buffer)?;
+        delete_local_ref!(env, java_buffer);
+        Some(java_raw_source_map)
+      }
+      None => None,
+    };
+    let source_text = &*self.parse_output.source_text;
     let java_tokens = token_utils::token_and_spans_to_java_list(
       env,
       &byte_to_index_map,
@@ -481,14 +1093,18 @@ impl ToJava for TranspileOutput {
       code,
       &java_media_type,
       &java_parse_mode,
-      optional_source_map,
-      source_text,
+      &None,
+      &java_optional_raw_source_map,
+      self.parse_output.capture_source_text.then_some(source_text),
       &java_tokens,
       &java_comments,
     );
     delete_local_ref!(env, java_program);
     delete_local_ref!(env, java_media_type);
     delete_local_ref!(env, java_parse_mode);
+    if let Some(java_raw_source_map) = java_optional_raw_source_map {
+      delete_local_ref!(env, java_raw_source_map);
+    }
     delete_local_ref!(env, java_tokens);
     delete_local_ref!(env, java_comments);
     return_value
@@ -22,116 +22,119 @@ use deno_ast::swc::ast::{Module, Program, Script};
 use jni::objects::{Global, JClass, JMethodID, JObject};
 use jni::signature::RuntimeMethodSignature;
 use jni::strings::JNIString;
-use jni::{AttachGuard, Env};
+use jni::{Env, JavaVM};
 
+use crate::ast_utils::{self, FromJavaWithOriginal};
+use crate::enums::{AstType, IdentifiableEnum};
+use crate::filter_utils;
 use crate::jni_utils::*;
 use crate::span_utils::{ByteToIndexMap, RegisterWithMap, ToJavaWithMap};
 
+/// The plugin host only keeps a global reference to the Java host and attaches
+/// the current thread on every call, so it can be shared by any number of threads.
+/// The Java host is responsible for being thread-safe.
+///
+/// A read-only Java host never gets its program converted back, and when it declares AST types,
+/// only the top level items containing these types are sent to Java.
 #[derive(Debug)]
 pub struct PluginHost {
-  env: *mut jni::sys::JNIEnv,
   host: Global<JObject<'static>>,
 }
 unsafe impl Send for PluginHost {}
 unsafe impl Sync for PluginHost {}
 
 impl PluginHost {
-  pub fn new(env: &Env<'_>, host: Global<JObject<'static>>) -> Self {
-    PluginHost {
-      env: env.get_raw(),
-      host,
-    }
+  pub fn new(host: Global<JObject<'static>>) -> Self {
+    PluginHost { host }
   }
 
-  /// Reconstructs a JNI `Env` from the stored raw pointer.
-  ///
-  /// # Safety
-  /// This is safe as long as the raw pointer is still valid (i.e., we are
-  /// on the same JNI-attached thread that created this PluginHost). This is
-  /// the jni 0.22 equivalent of the removed `JNIEnv::unsafe_clone()`.
-  fn guard(&self) -> AttachGuard<'_> {
-    unsafe { AttachGuard::from_unowned(self.env) }
+  /// Runs the callback with the env of the current thread, attaching it if it is a native worker thread.
+  fn with_env<T, F>(&self, f: F) -> Result<T>
+  where
+    F: FnOnce(&mut Env<'_>) -> Result<T>,
+  {
+    JAVA_VM
+      .get()
+      .expect("Java VM is not initialized")
+      .attach_current_thread(|env| f(env))
   }
 
-  pub fn process_module(&mut self, s: &str, module: Module) -> Result<Module> {
-    log::debug!("process_module()");
-    let mut guard = self.guard();
-    let env = guard.borrow_env_mut();
-    let java_class = JAVA_CLASS_I_PLUGIN_HOST.get().unwrap();
-    let mut map = ByteToIndexMap::new();
-    module.register_with_map(&mut map);
-    map.update_by_str(s);
-    let java_module = module.to_java_with_map(env, &map)?;
-    match java_class.process(env, &self.host, &java_module) {
-      Ok(result) => {
-        if result {
-          let module = Module::from_java(env, &java_module);
-          delete_local_ref!(env, java_module);
-          Ok(*module?)
-        } else {
-          delete_local_ref!(env, java_module);
-          Ok(module)
-        }
-      }
-      Err(err) => {
-        delete_local_ref!(env, java_module);
-        Err(err)
-      }
+  /// Gets the ids of the AST types the read-only host is interested in. An empty list means all the types.
+  fn get_ast_type_ids(&self, env: &mut Env<'_>) -> Result<Vec<i32>> {
+    let java_ast_types = JAVA_CLASS_I_PLUGIN_HOST.get().unwrap().get_ast_types(env, &self.host)?;
+    let length = list_size(env, &java_ast_types)?;
+    let mut ast_type_ids: Vec<i32> = Vec::with_capacity(length);
+    for i in 0..length {
+      let java_ast_type = list_get(env, &java_ast_types, i)?;
+      let ast_type = *AstType::from_java(env, &java_ast_type)?;
+      delete_local_ref!(env, java_ast_type);
+      ast_type_ids.push(ast_type.get_id());
     }
+    delete_local_ref!(env, java_ast_types);
+    Ok(ast_type_ids)
   }
 
-  pub fn process_program(&mut self, s: &str, program: Program) -> Result<Program> {
-    log::debug!("process_program()");
-    let mut guard = self.guard();
-    let env = guard.borrow_env_mut();
-    let java_class = JAVA_CLASS_I_PLUGIN_HOST.get().unwrap();
-    let mut map = ByteToIndexMap::new();
-    program.register_with_map(&mut map);
-    map.update_by_str(s);
-    let java_program = program.to_java_with_map(env, &map)?;
-    match java_class.process(env, &self.host, &java_program) {
-      Ok(result) => {
-        if result {
-          let program = Program::from_java(env, &java_program);
-          delete_local_ref!(env, java_program);
-          Ok(*program?)
-        } else {
-          delete_local_ref!(env, java_program);
-          Ok(program)
+  /// Sends the node to the Java host and converts it back if the host changes it.
+  /// A read-only host with AST types only gets the node filtered by them.
+  fn process_node<T, F>(&self, s: &str, node: T, filter: F) -> Result<T>
+  where
+    T: RegisterWithMap<ByteToIndexMap>
+      + ToJavaWithMap<ByteToIndexMap>
+      + for<'local> FromJava<'local>
+      + for<'local> FromJavaWithOriginal<'local>,
+    F: FnOnce(&T, &[i32]) -> T,
+  {
+    self.with_env(|env| {
+      ast_utils::ensure_init(env);
+      let java_class = JAVA_CLASS_I_PLUGIN_HOST.get().unwrap();
+      let read_only = java_class.is_read_only(env, &self.host)?;
+      let filtered_node = if read_only {
+        let ast_type_ids = self.get_ast_type_ids(env)?;
+        (!ast_type_ids.is_empty()).then(|| filter(&node, &ast_type_ids))
+      } else {
+        None
+      };
+      let visible_node = filtered_node.as_ref().unwrap_or(&node);
+      let mut map = ByteToIndexMap::new();
+      visible_node.register_with_map(&mut map);
+      map.update_by_str(s);
+      let java_node = visible_node.to_java_with_map(env, &map)?;
+      match java_class.process(env, &self.host, &java_node) {
+        Ok(result) => {
+          if result && !read_only {
+            let node = match java_class.is_dirty_tracking(env, &self.host) {
+              Ok(true) => T::from_java_with_original(env, &java_node, node),
+              Ok(false) => T::from_java(env, &java_node).map(|node| *node),
+              Err(err) => Err(err),
+            };
+            delete_local_ref!(env, java_node);
+            node
+          } else {
+            delete_local_ref!(env, java_node);
+            Ok(node)
+          }
+        }
+        Err(err) => {
+          delete_local_ref!(env, java_node);
+          Err(err)
         }
       }
-      Err(err) => {
-        delete_local_ref!(env, java_program);
-        Err(err)
-      }
-    }
+    })
+  }
+
+  pub fn process_module(&self, s: &str, module: Module) -> Result<Module> {
+    log::debug!("process_module()");
+    self.process_node(s, module, filter_utils::filter_module)
+  }
+
+  pub fn process_program(&self, s: &str, program: Program) -> Result<Program> {
+    log::debug!("process_program()");
+    self.process_node(s, program, filter_utils::filter_program)
   }
 
-  pub fn process_script(&mut self, s: &str, script: Script) -> Result<Script> {
+  pub fn process_script(&self, s: &str, script: Script) -> Result<Script> {
     log::debug!("process_script()");
-    let mut guard = self.guard();
-    let env = guard.borrow_env_mut();
-    let java_class = JAVA_CLASS_I_PLUGIN_HOST.get().unwrap();
-    let mut map = ByteToIndexMap::new();
-    script.register_with_map(&mut map);
-    map.update_by_str(s);
-    let java_script = script.to_java_with_map(env, &map)?;
-    match java_class.process(env, &self.host, &java_script) {
-      Ok(result) => {
-        if result {
-          let script = Script::from_java(env, &java_script);
-          delete_local_ref!(env, java_script);
-          Ok(*script?)
-        } else {
-          delete_local_ref!(env, java_script);
-          Ok(script)
-        }
-      }
-      Err(err) => {
-        delete_local_ref!(env, java_script);
-        Err(err)
-      }
-    }
+    self.process_node(s, script, filter_utils::filter_script)
   }
 }
 
@@ -139,6 +142,9 @@ impl PluginHost {
 #[allow(dead_code)]
 struct JavaISwc4jPluginHost {
   class: Global<JClass<'static>>,
+  method_get_ast_types: JMethodID,
+  method_is_dirty_tracking: JMethodID,
+  method_is_read_only: JMethodID,
   method_process: JMethodID,
 }
 
@@ -151,6 +157,27 @@ impl JavaISwc4jPluginHost {
     let class = env
       .new_global_ref(class)
       .expect("Couldn't globalize class ISwc4jPluginHost");
+    let method_get_ast_types = env
+      .get_method_id(
+        &class,
+        JNIString::from("getAstTypes"),
+        RuntimeMethodSignature::from_str("()Ljava/util/List;").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method ISwc4jPluginHost.getAstTypes");
+    let method_is_dirty_tracking = env
+      .get_method_id(
+        &class,
+        JNIString::from("isDirtyTracking"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method ISwc4jPluginHost.isDirtyTracking");
+    let method_is_read_only = env
+      .get_method_id(
+        &class,
+        JNIString::from("isReadOnly"),
+        RuntimeMethodSignature::from_str("()Z").unwrap().method_signature(),
+      )
+      .expect("Couldn't find method ISwc4jPluginHost.isReadOnly");
     let method_process = env
       .get_method_id(
         &class,
@@ -160,10 +187,63 @@ impl JavaISwc4jPluginHost {
       .expect("Couldn't find method ISwc4jPluginHost.process");
     JavaISwc4jPluginHost {
       class,
+      method_get_ast_types,
+      method_is_dirty_tracking,
+      method_is_read_only,
       method_process,
     }
   }
 
+  pub fn get_ast_types<'local, 'a>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<JObject<'a>>
+  where
+    'local: 'a,
+  {
+    let return_value = call_as_object!(
+        env,
+        obj,
+        self.method_get_ast_types,
+        &[],
+        "List get_ast_types()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_dirty_tracking<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_dirty_tracking,
+        &[],
+        "boolean is_dirty_tracking()"
+      )?;
+    Ok(return_value)
+  }
+
+  pub fn is_read_only<'local>(
+    &self,
+    env: &mut Env<'local>,
+    obj: &JObject<'_>,
+  ) -> Result<bool>
+  {
+    let return_value = call_as_boolean!(
+        env,
+        obj,
+        self.method_is_read_only,
+        &[],
+        "boolean is_read_only()"
+      )?;
+    Ok(return_value)
+  }
+
   pub fn process<'local>(
     &self,
     env: &mut Env<'local>,
@@ -185,6 +265,7 @@ impl JavaISwc4jPluginHost {
 /* JavaISwc4jPluginHost End */
 
 static JAVA_CLASS_I_PLUGIN_HOST: OnceLock<JavaISwc4jPluginHost> = OnceLock::new();
+static JAVA_VM: OnceLock<JavaVM> = OnceLock::new();
 
 pub fn init<'local>(env: &mut Env<'local>) {
   log::debug!("init()");
@@ -194,3 +275,10 @@ pub fn init<'local>(env: &mut Env<'local>) {
       .unwrap_unchecked();
   }
 }
+
+pub fn init_java_vm(java_vm: JavaVM) {
+  log::debug!("init_java_vm()");
+  unsafe {
+    JAVA_VM.set(java_vm).unwrap_unchecked();
+  }
+}
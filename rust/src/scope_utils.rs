@@ -0,0 +1,342 @@
+/*
+* Copyright (c) 2026. caoccao.com Sam Cao
+* All rights reserved.
+
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+
+* http://www.apache.org/licenses/LICENSE-2.0
+
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+use deno_ast::swc::ast::*;
+use deno_ast::swc::common::{BytePos, Span, SyntaxContext};
+use deno_ast::swc::ecma_visit::{Visit, VisitMut, VisitMutWith, VisitWith};
+use rustc_hash::{FxHashMap, FxHashSet};
+
+use crate::span_utils::{ByteToIndexMap, RegisterWithMap};
+
+const ABSENT: i32 = -1;
+
+/// The flag of the occurrence declaring the binding.
+pub const FLAG_DECLARATION: i32 = 1;
+
+#[derive(Debug)]
+pub struct Binding {
+  pub ctxt: SyntaxContext,
+  /// The span of the first declaration, none for the unresolved globals.
+  pub declaration: Option<Span>,
+  pub name: String,
+}
+
+#[derive(Debug)]
+pub struct Occurrence {
+  pub binding_id: u32,
+  pub flags: i32,
+  pub span: Span,
+}
+
+/// The bindings resolved by swc's scope analysis and every identifier occurrence referring to them.
+///
+/// A binding is identified by the symbol and the syntax context assigned by the resolver,
+/// so that the shadowed bindings with the same name are kept apart.
+/// The occurrences are sorted by the start position.
+#[derive(Debug)]
+pub struct SymbolTable {
+  pub bindings: Vec<Binding>,
+  pub occurrences: Vec<Occurrence>,
+}
+
+impl SymbolTable {
+  /// Collects the symbol table from the program which must have been resolved by the scope analysis.
+  pub fn new(program: &Program) -> Self {
+    let mut collector = SymbolCollector::default();
+    program.visit_with(&mut collector);
+    let mut occurrences = collector.occurrences;
+    occurrences.sort_by_key(|occurrence| occurrence.span.lo);
+    SymbolTable {
+      bindings: collector.bindings,
+      occurrences,
+    }
+  }
+
+  /// Converts the symbol table into the compact buffer read by `Swc4jSymbolTable.decode()`.
+  /// The layout in little endian is: the binding count, the binding contexts, the declaration starts,
+  /// the declaration ends and the binding names as the UTF-8 strings with the byte length ahead,
+  /// then the occurrence count, the occurrence starts, ends, binding ids and flags.
+  /// The absent declarations have the start and the end -1.
+  pub fn to_bytes(&self, map: &ByteToIndexMap) -> Vec<u8> {
+    let binding_count = self.bindings.len();
+    let occurrence_count = self.occurrences.len();
+    let mut bytes: Vec<u8> = Vec::with_capacity(8 + binding_count * 20 + occurrence_count * 16);
+    push_i32(&mut bytes, binding_count as i32);
+    self
+      .bindings
+      .iter()
+      .for_each(|binding| push_i32(&mut bytes, binding.ctxt.as_u32() as i32));
+    let declarations: Vec<(i32, i32)> = self
+      .bindings
+      .iter()
+      .map(|binding| match binding.declaration.as_ref() {
+        Some(span) => {
+          let span_ex = map.get_span_ex_by_span(span);
+          (span_ex.start as i32, span_ex.end as i32)
+        }
+        None => (ABSENT, ABSENT),
+      })
+      .collect();
+    declarations.iter().for_each(|(start, _)| push_i32(&mut bytes, *start));
+    declarations.iter().for_each(|(_, end)| push_i32(&mut bytes, *end));
+    self.bindings.iter().for_each(|binding| {
+      push_i32(&mut bytes, binding.name.len() as i32);
+      bytes.extend_from_slice(binding.name.as_bytes());
+    });
+    push_i32(&mut bytes, occurrence_count as i32);
+    let spans: Vec<(i32, i32)> = self
+      .occurrences
+      .iter()
+      .map(|occurrence| {
+        let span_ex = map.get_span_ex_by_span(&occurrence.span);
+        (span_ex.start as i32, span_ex.end as i32)
+      })
+      .collect();
+    spans.iter().for_each(|(start, _)| push_i32(&mut bytes, *start));
+    spans.iter().for_each(|(_, end)| push_i32(&mut bytes, *end));
+    self
+      .occurrences
+      .iter()
+      .for_each(|occurrence| push_i32(&mut bytes, occurrence.binding_id as i32));
+    self
+      .occurrences
+      .iter()
+      .for_each(|occurrence| push_i32(&mut bytes, occurrence.flags));
+    bytes
+  }
+}
+
+impl RegisterWithMap<ByteToIndexMap> for SymbolTable {
+  fn register_with_map(&self, map: &'_ mut ByteToIndexMap) {
+    // The declarations are occurrences as well.
+    self
+      .occurrences
+      .iter()
+      .for_each(|occurrence| map.register_by_span(&occurrence.span));
+  }
+}
+
+fn push_i32(bytes: &mut Vec<u8>, value: i32) {
+  bytes.extend_from_slice(&value.to_le_bytes());
+}
+
+macro_rules! reset_syntax_context {
+  ($($method:ident: $node_type:ty),* $(,)?) => {
+    $(
+      fn $method(&mut self, node: &mut $node_type) {
+        node.ctxt = SyntaxContext::empty();
+        node.visit_mut_children_with(self);
+      }
+    )*
+  };
+}
+
+/// Resets the syntax contexts of a program converted from Java.
+///
+/// The contexts assigned by the scope analysis of an earlier parse belong to the globals of that parse,
+/// so they are meaningless to the resolver and the hygiene running on the program again.
+pub struct SyntaxContextResetter;
+
+impl VisitMut for SyntaxContextResetter {
+  reset_syntax_context!(
+    visit_mut_arrow_expr: ArrowExpr,
+    visit_mut_block_stmt: BlockStmt,
+    visit_mut_call_expr: CallExpr,
+    visit_mut_class: Class,
+    visit_mut_constructor: Constructor,
+    visit_mut_function: Function,
+    visit_mut_ident: Ident,
+    visit_mut_new_expr: NewExpr,
+    visit_mut_opt_call: OptCall,
+    visit_mut_private_prop: PrivateProp,
+    visit_mut_tagged_tpl: TaggedTpl,
+    visit_mut_var_decl: VarDecl,
+  );
+}
+
+/// Finds the identifiers bound by a pattern, skipping the default values, the computed keys and the types.
+#[derive(Default)]
+struct DeclarationFinder {
+  positions: FxHashSet<BytePos>,
+}
+
+impl DeclarationFinder {
+  fn add(&mut self, ident: &Ident) {
+    self.positions.insert(ident.span.lo);
+  }
+}
+
+impl Visit for DeclarationFinder {
+  fn visit_expr(&mut self, _: &Expr) {}
+
+  fn visit_ident(&mut self, node: &Ident) {
+    self.add(node);
+  }
+
+  fn visit_prop_name(&mut self, _: &PropName) {}
+
+  fn visit_ts_type_ann(&mut self, _: &TsTypeAnn) {}
+}
+
+/// Collects the occurrences in one walk. The declaring identifiers are always visited
+/// after their parents, so the parents mark their positions before the occurrences are recorded.
+#[derive(Default)]
+struct SymbolCollector {
+  bindings: Vec<Binding>,
+  declarations: DeclarationFinder,
+  ids: FxHashMap<Id, u32>,
+  occurrences: Vec<Occurrence>,
+}
+
+impl Visit for SymbolCollector {
+  fn visit_arrow_expr(&mut self, node: &ArrowExpr) {
+    node.params.iter().for_each(|param| param.visit_with(&mut self.declarations));
+    node.visit_children_with(self);
+  }
+
+  fn visit_catch_clause(&mut self, node: &CatchClause) {
+    if let Some(param) = node.param.as_ref() {
+      param.visit_with(&mut self.declarations);
+    }
+    node.visit_children_with(self);
+  }
+
+  fn visit_class_decl(&mut self, node: &ClassDecl) {
+    self.declarations.add(&node.ident);
+    node.visit_children_with(self);
+  }
+
+  fn visit_class_expr(&mut self, node: &ClassExpr) {
+    if let Some(ident) = node.ident.as_ref() {
+      self.declarations.add(ident);
+    }
+    node.visit_children_with(self);
+  }
+
+  fn visit_fn_decl(&mut self, node: &FnDecl) {
+    self.declarations.add(&node.ident);
+    node.visit_children_with(self);
+  }
+
+  fn visit_fn_expr(&mut self, node: &FnExpr) {
+    if let Some(ident) = node.ident.as_ref() {
+      self.declarations.add(ident);
+    }
+    node.visit_children_with(self);
+  }
+
+  fn visit_ident(&mut self, node: &Ident) {
+    // The labels, the property keys and the exported names are not resolved and have no context.
+    if node.ctxt == SyntaxContext::empty() || node.span.is_dummy() {
+      return;
+    }
+    let next_id = self.bindings.len() as u32;
+    let binding_id = *self.ids.entry(node.to_id()).or_insert(next_id);
+    if binding_id == next_id {
+      self.bindings.push(Binding {
+        ctxt: node.ctxt,
+        declaration: None,
+        name: node.sym.to_string(),
+      });
+    }
+    let mut flags = 0;
+    if self.declarations.positions.contains(&node.span.lo) {
+      flags |= FLAG_DECLARATION;
+      let binding = &mut self.bindings[binding_id as usize];
+      if binding.declaration.is_none() {
+        binding.declaration = Some(node.span);
+      }
+    }
+    self.occurrences.push(Occurrence {
+      binding_id,
+      flags,
+      span: node.span,
+    });
+  }
+
+  fn visit_import_default_specifier(&mut self, node: &ImportDefaultSpecifier) {
+    self.declarations.add(&node.local);
+    node.visit_children_with(self);
+  }
+
+  fn visit_import_named_specifier(&mut self, node: &ImportNamedSpecifier) {
+    self.declarations.add(&node.local);
+    node.visit_children_with(self);
+  }
+
+  fn visit_import_star_as_specifier(&mut self, node: &ImportStarAsSpecifier) {
+    self.declarations.add(&node.local);
+    node.visit_children_with(self);
+  }
+
+  fn visit_param(&mut self, node: &Param) {
+    node.pat.visit_with(&mut self.declarations);
+    node.visit_children_with(self);
+  }
+
+  fn visit_setter_prop(&mut self, node: &SetterProp) {
+    node.param.visit_with(&mut self.declarations);
+    node.visit_children_with(self);
+  }
+
+  fn visit_ts_enum_decl(&mut self, node: &TsEnumDecl) {
+    self.declarations.add(&node.id);
+    node.visit_children_with(self);
+  }
+
+  fn visit_ts_fn_param(&mut self, node: &TsFnParam) {
+    node.visit_with(&mut self.declarations);
+    node.visit_children_with(self);
+  }
+
+  fn visit_ts_import_equals_decl(&mut self, node: &TsImportEqualsDecl) {
+    self.declarations.add(&node.id);
+    node.visit_children_with(self);
+  }
+
+  fn visit_ts_interface_decl(&mut self, node: &TsInterfaceDecl) {
+    self.declarations.add(&node.id);
+    node.visit_children_with(self);
+  }
+
+  fn visit_ts_module_decl(&mut self, node: &TsModuleDecl) {
+    if let TsModuleName::Ident(ident) = &node.id {
+      self.declarations.add(ident);
+    }
+    node.visit_children_with(self);
+  }
+
+  fn visit_ts_param_prop(&mut self, node: &TsParamProp) {
+    node.param.visit_with(&mut self.declarations);
+    node.visit_children_with(self);
+  }
+
+  fn visit_ts_type_alias_decl(&mut self, node: &TsTypeAliasDecl) {
+    self.declarations.add(&node.id);
+    node.visit_children_with(self);
+  }
+
+  fn visit_ts_type_param(&mut self, node: &TsTypeParam) {
+    self.declarations.add(&node.name);
+    node.visit_children_with(self);
+  }
+
+  fn visit_var_declarator(&mut self, node: &VarDeclarator) {
+    node.name.visit_with(&mut self.declarations);
+    node.visit_children_with(self);
+  }
+}
@@ -0,0 +1,185 @@
+/*
+* Copyright (c) 2026. caoccao.com Sam Cao
+* All rights reserved.
+
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+
+* http://www.apache.org/licenses/LICENSE-2.0
+
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+use anyhow::{anyhow, Result};
+
+/// The value of the absent fields of a segment, the same as `Swc4jSourceMap.ABSENT`.
+pub const ABSENT: i32 = -1;
+/// The number of the fields of a segment, the same as `Swc4jSourceMap.SEGMENT_SIZE`.
+pub const SEGMENT_SIZE: usize = 6;
+
+const MAPPINGS: &[u8] = b"mappings";
+const VLQ_SHIFT: u32 = 5;
+const VLQ_CONTINUATION_BIT: u8 = 1 << VLQ_SHIFT;
+const VLQ_VALUE_MASK: u8 = VLQ_CONTINUATION_BIT - 1;
+
+fn decode_base64(c: u8) -> Result<u8> {
+  match c {
+    b'A'..=b'Z' => Ok(c - b'A'),
+    b'a'..=b'z' => Ok(c - b'a' + 26),
+    b'0'..=b'9' => Ok(c - b'0' + 52),
+    b'+' => Ok(62),
+    b'/' => Ok(63),
+    _ => Err(anyhow!("Invalid base64 char {} in mappings", c as char)),
+  }
+}
+
+/// Decode the VLQ mappings into the raw segments in the layout of `Swc4jSourceMap`,
+/// that is the generated line, the generated column, the source index,
+/// the original line, the original column and the name index per segment.
+pub fn decode_mappings(mappings: &[u8]) -> Result<Vec<i32>> {
+  let mut segments: Vec<i32> = Vec::with_capacity(mappings.len() / 4 * SEGMENT_SIZE);
+  let mut fields = [0i64; SEGMENT_SIZE - 1];
+  // The generated column restarts per line while the other fields run across the lines.
+  let mut previous = [0i64; SEGMENT_SIZE - 1];
+  let mut field_count = 0usize;
+  let mut generated_line = 0i32;
+  let mut index = 0usize;
+  while index <= mappings.len() {
+    let c = mappings.get(index).copied().unwrap_or(b';');
+    if c == b';' || c == b',' {
+      if field_count > 0 {
+        if !matches!(field_count, 1 | 4 | 5) {
+          return Err(anyhow!("Invalid segment with {} fields in mappings", field_count));
+        }
+        segments.push(generated_line);
+        for i in 0..fields.len() {
+          if i < field_count {
+            previous[i] += fields[i];
+            segments.push(previous[i] as i32);
+          } else {
+            segments.push(ABSENT);
+          }
+        }
+        field_count = 0;
+      }
+      if c == b';' {
+        generated_line += 1;
+        previous[0] = 0;
+      }
+      index += 1;
+    } else {
+      let mut value = 0i64;
+      let mut shift = 0u32;
+      loop {
+        let c = *mappings
+          .get(index)
+          .ok_or_else(|| anyhow!("Unexpected end of mappings"))?;
+        if shift > 32 {
+          return Err(anyhow!("VLQ value overflows in mappings"));
+        }
+        let digit = decode_base64(c)?;
+        index += 1;
+        value += ((digit & VLQ_VALUE_MASK) as i64) << shift;
+        shift += VLQ_SHIFT;
+        if digit & VLQ_CONTINUATION_BIT == 0 {
+          break;
+        }
+      }
+      if field_count >= fields.len() {
+        return Err(anyhow!("Too many fields in a segment of mappings"));
+      }
+      fields[field_count] = if value & 1 == 1 { -(value >> 1) } else { value >> 1 };
+      field_count += 1;
+    }
+  }
+  Ok(segments)
+}
+
+/// Decode the mappings of the source map json into the raw segments.
+pub fn decode_segments(json: &[u8]) -> Result<Vec<i32>> {
+  decode_mappings(find_mappings(json)?)
+}
+
+/// Find the mappings in the source map json. Only the top level keys are read
+/// and the other values are skipped without being parsed.
+fn find_mappings(json: &[u8]) -> Result<&[u8]> {
+  let mut index = skip_whitespace(json, 0);
+  if json.get(index) != Some(&b'{') {
+    return Err(anyhow!("Invalid source map: it is not an object"));
+  }
+  index += 1;
+  loop {
+    index = skip_whitespace(json, index);
+    if json.get(index) != Some(&b'"') {
+      break;
+    }
+    let key_end = skip_string(json, index)?;
+    let is_mappings = &json[index + 1..key_end - 1] == MAPPINGS;
+    index = skip_whitespace(json, key_end);
+    if json.get(index) != Some(&b':') {
+      break;
+    }
+    index = skip_whitespace(json, index + 1);
+    if is_mappings {
+      if json.get(index) != Some(&b'"') {
+        break;
+      }
+      // The mappings only have the base64 chars, the commas and the semicolons, so they are never escaped.
+      let value_end = skip_string(json, index)?;
+      return Ok(&json[index + 1..value_end - 1]);
+    }
+    index = skip_whitespace(json, skip_value(json, index)?);
+    if json.get(index) != Some(&b',') {
+      break;
+    }
+    index += 1;
+  }
+  Err(anyhow!("Invalid source map: mappings is not found"))
+}
+
+/// Skip the string starting at the opening quote and return the index after the closing quote.
+fn skip_string(json: &[u8], mut index: usize) -> Result<usize> {
+  index += 1;
+  while index < json.len() {
+    match json[index] {
+      b'\\' => index += 2,
+      b'"' => return Ok(index + 1),
+      _ => index += 1,
+    }
+  }
+  Err(anyhow!("Invalid source map: string is not closed"))
+}
+
+/// Skip the value and return the index of the comma or the closing bracket after it.
+fn skip_value(json: &[u8], mut index: usize) -> Result<usize> {
+  let mut depth = 0usize;
+  while index < json.len() {
+    match json[index] {
+      b'"' => index = skip_string(json, index)?,
+      b'{' | b'[' => {
+        depth += 1;
+        index += 1;
+      }
+      b'}' | b']' if depth == 0 => return Ok(index),
+      b'}' | b']' => {
+        depth -= 1;
+        index += 1;
+      }
+      b',' if depth == 0 => return Ok(index),
+      _ => index += 1,
+    }
+  }
+  Ok(index)
+}
+
+fn skip_whitespace(json: &[u8], mut index: usize) -> usize {
+  while index < json.len() && json[index].is_ascii_whitespace() {
+    index += 1;
+  }
+  index
+}
@@ -63,8 +63,13 @@ pub trait ToJavaWithMap<Map> {
     'local: 'a;
 }
 
+/// Maps the UTF-8 byte positions to the char indexes, lines and columns.
+///
+/// In byte offset mode nothing is registered and the spans carry the UTF-8 byte offsets
+/// with line and column set to 0.
 #[derive(Debug)]
 pub struct ByteToIndexMap {
+  byte_offset: bool,
   map: BTreeMap<usize, SpanEx>,
 }
 
@@ -76,10 +81,33 @@ impl Default for ByteToIndexMap {
 
 impl ByteToIndexMap {
   pub fn new() -> Self {
-    ByteToIndexMap { map: BTreeMap::new() }
+    ByteToIndexMap {
+      byte_offset: false,
+      map: BTreeMap::new(),
+    }
+  }
+
+  pub fn new_byte_offset() -> Self {
+    ByteToIndexMap {
+      byte_offset: true,
+      map: BTreeMap::new(),
+    }
+  }
+
+  pub fn is_byte_offset(&self) -> bool {
+    self.byte_offset
   }
 
   pub fn get_span_ex_by_byte_pos(&self, byte_pos: &BytePos) -> SpanEx {
+    if self.byte_offset {
+      let position = (byte_pos.to_usize() - 1) as u32;
+      return SpanEx {
+        start: position,
+        end: position,
+        line: 0,
+        column: 0,
+      };
+    }
     *self
       .map
       .get(&(byte_pos.to_usize() - 1))
@@ -87,6 +115,14 @@ impl ByteToIndexMap {
   }
 
   pub fn get_span_ex_by_span(&self, span: &Span) -> SpanEx {
+    if self.byte_offset {
+      return SpanEx {
+        start: (span.lo().to_usize() - 1) as u32,
+        end: (span.hi().to_usize() - 1) as u32,
+        line: 0,
+        column: 0,
+      };
+    }
     let span_start = self.map.get(&(span.lo().to_usize() - 1)).expect("Couldn't find start");
     let span_end = self.map.get(&(span.hi().to_usize() - 1)).expect("Couldn't find end");
     SpanEx {
@@ -98,6 +134,9 @@ impl ByteToIndexMap {
   }
 
   pub fn register_by_byte_pos(&mut self, byte_pos: &BytePos) {
+    if self.byte_offset {
+      return;
+    }
     let position = byte_pos.to_usize() - 1;
     self.map.entry(position).or_default();
   }
@@ -116,12 +155,39 @@ impl ByteToIndexMap {
     }
   }
 
+  /// Update the registered keys by walking only the part of the source text between the first and the last keys.
+  /// The location of the first key is taken from the line index.
+  pub fn update_by_line_index(&mut self, s: &str, line_index: &LineIndex) {
+    if self.byte_offset {
+      return;
+    }
+    let (start, end) = match (self.map.first_key_value(), self.map.last_key_value()) {
+      (Some((start, _)), Some((end, _))) => (*start, *end),
+      _ => return,
+    };
+    let location = line_index.locate(s, start);
+    self.update_by_range(s, start, end, location);
+  }
+
   pub fn update_by_str(&mut self, s: &str) {
-    let mut utf8_byte_length: usize = 0;
-    let mut char_count = 0u32;
-    let mut line = 1u32;
-    let mut column = 1u32;
-    s.chars().for_each(|c| {
+    if self.byte_offset {
+      return;
+    }
+    let location = SpanEx {
+      start: 0,
+      end: 0,
+      line: 1,
+      column: 1,
+    };
+    self.update_by_range(s, 0, s.len(), location);
+  }
+
+  fn update_by_range(&mut self, s: &str, start: usize, end: usize, location: SpanEx) {
+    let mut utf8_byte_length: usize = start;
+    let mut char_count = location.start;
+    let mut line = location.line;
+    let mut column = location.column;
+    s[start..end].chars().for_each(|c| {
       self.update(&utf8_byte_length, char_count, line, column);
       utf8_byte_length += c.len_utf8();
       char_count += 1;
@@ -132,11 +198,80 @@ impl ByteToIndexMap {
         column + 1
       }
     });
-    column = 1;
+    if end == s.len() {
+      column = 1;
+    }
     self.update(&utf8_byte_length, char_count, line, column);
   }
 }
 
+const LINE_INDEX_CHECKPOINT_INTERVAL: u32 = 256;
+
+#[derive(Debug)]
+struct LineIndexCheckpoint {
+  byte_position: usize,
+  char_index: u32,
+  line: u32,
+  column: u32,
+}
+
+/// Locates the UTF-8 byte positions of a source text by the checkpoints taken at every line start
+/// and every 256 chars of a long line, so that the spans of a part of the source text can be mapped
+/// without walking the whole source text again. It is built in one pass.
+#[derive(Debug)]
+pub struct LineIndex {
+  checkpoints: Vec<LineIndexCheckpoint>,
+}
+
+impl LineIndex {
+  pub fn new(s: &str) -> Self {
+    let mut checkpoints = vec![LineIndexCheckpoint {
+      byte_position: 0,
+      char_index: 0,
+      line: 1,
+      column: 1,
+    }];
+    let mut char_count = 0u32;
+    let mut line = 1u32;
+    let mut column = 1u32;
+    s.char_indices().for_each(|(byte_position, c)| {
+      char_count += 1;
+      column = if c == '\n' {
+        line += 1;
+        1
+      } else {
+        column + 1
+      };
+      if column == 1 || column % LINE_INDEX_CHECKPOINT_INTERVAL == 0 {
+        checkpoints.push(LineIndexCheckpoint {
+          byte_position: byte_position + c.len_utf8(),
+          char_index: char_count,
+          line,
+          column,
+        });
+      }
+    });
+    LineIndex { checkpoints }
+  }
+
+  /// Locate the byte position at a char boundary. The char index is kept in both start and end.
+  pub fn locate(&self, s: &str, byte_position: usize) -> SpanEx {
+    let index = self
+      .checkpoints
+      .partition_point(|checkpoint| checkpoint.byte_position <= byte_position)
+      - 1;
+    let checkpoint = &self.checkpoints[index];
+    let char_count = s[checkpoint.byte_position..byte_position].chars().count() as u32;
+    let position = checkpoint.char_index + char_count;
+    SpanEx {
+      start: position,
+      end: position,
+      line: checkpoint.line,
+      column: checkpoint.column + char_count,
+    }
+  }
+}
+
 /* JavaSwc4jSpan Begin */
 #[allow(dead_code)]
 struct JavaSwc4jSpan {
@@ -721,6 +721,32 @@ pub fn init<'local>(env: &mut Env<'local>) {
   }
 }
 
+/// Get the token type that the Java token factory assigns to the token.
+pub fn get_token_type(token: &Token) -> TokenType {
+  match token {
+    Token::Word(word) => match word {
+      Word::Keyword(keyword) => TokenType::parse_by_keyword(keyword),
+      Word::Null => TokenType::Null,
+      Word::True => TokenType::True,
+      Word::False => TokenType::False,
+      Word::Ident(IdentLike::Known(_)) => TokenType::IdentKnown,
+      Word::Ident(IdentLike::Other(_)) => TokenType::IdentOther,
+    },
+    Token::BinOp(bin_op) => TokenType::parse_by_binary_operator(bin_op),
+    Token::AssignOp(assign_op) => TokenType::parse_by_assign_operator(assign_op),
+    Token::Str { .. } => TokenType::Str,
+    Token::Num { .. } => TokenType::Num,
+    Token::BigInt { .. } => TokenType::BigInt,
+    Token::Regex(..) => TokenType::Regex,
+    Token::Template { .. } => TokenType::Template,
+    Token::Shebang(_) => TokenType::Shebang,
+    Token::Error(_) => TokenType::Error,
+    Token::JSXName { .. } => TokenType::JSXTagName,
+    Token::JSXText { .. } => TokenType::JSXTagText,
+    token => TokenType::parse_by_generic_operator(token),
+  }
+}
+
 pub fn token_and_spans_to_java_list<'local, 'a>(
   env: &mut Env<'local>,
   map: &ByteToIndexMap,
@@ -15,7 +15,10 @@
 * limitations under the License.
 */
 
+use std::time::Duration;
+
 use deno_ast::swc::{
+  ast::Program,
   atoms::Atom,
   common::{comments::CommentKind, BytePos, Span, Spanned},
   parser::token::{IdentLike, Keyword, Token, Word},
@@ -30,6 +33,21 @@ fn test_get_version() {
   assert_eq!(core::get_version(), "2.2.0");
 }
 
+#[test]
+fn test_minify() {
+  let code = "function outer(firstParameter) { var localVariable = firstParameter + 1; if (false) { console.log('dead'); } return localVariable; }";
+  let mut options = options::MinifyOptions::default();
+  options.transform_options.parse_mode = ParseMode::Script;
+  options.transform_options.source_map = enums::SourceMapOption::None;
+  let output = core::minify(code.to_owned(), &options, &None);
+  assert!(output.is_ok());
+  let output = output.unwrap();
+  assert!(output.code.starts_with("function outer("));
+  assert!(!output.code.contains("dead"));
+  assert!(!output.code.contains("firstParameter"));
+  assert!(!output.code.contains("localVariable"));
+}
+
 #[test]
 fn test_parse_jsx_with_default_options() {
   let code = String::from("import React from 'react';\n")
@@ -51,6 +69,118 @@ fn test_parse_jsx_with_default_options() {
   assert_eq!(MediaType::Jsx, output.media_type);
 }
 
+#[test]
+fn test_parse_typescript_with_compiled_options() {
+  let code = "function add(a:number, b:number) { return a+b; }";
+  let compiled_options = options::CompiledOptions::Parse(options::ParseOptions {
+    capture_ast: true,
+    media_type: MediaType::TypeScript,
+    ..Default::default()
+  });
+  assert!(compiled_options.as_transform_options().is_err());
+  assert!(compiled_options.as_transpile_options().is_err());
+  let options = compiled_options.as_parse_options();
+  assert!(options.is_ok());
+  let options = options.unwrap();
+  for _ in 0..3 {
+    let output = core::parse(code.to_owned(), options, &mut None);
+    assert!(output.is_ok());
+    assert!(output.unwrap().program.is_some());
+  }
+}
+
+#[test]
+fn test_parse_typescript_with_binary_ast() {
+  use binary_utils::{BinaryWriter, ToBinaryWithMap};
+  let code = "function add(a:number, b:number) { return a+b; }";
+  let options = options::ParseOptions {
+    binary_ast: true,
+    capture_ast: true,
+    media_type: MediaType::TypeScript,
+    ..Default::default()
+  };
+  let output = core::parse(code.to_owned(), &options, &mut None);
+  assert!(output.is_ok());
+  let output = output.unwrap();
+  assert!(output.binary_ast);
+  let map = output.get_byte_to_index_map();
+  let mut writer = BinaryWriter::new();
+  output.program.as_ref().unwrap().to_binary_with_map(&mut writer, &map);
+  let bytes = writer.into_bytes();
+  assert!(!bytes.is_empty());
+  assert_eq!(AstType::Script.get_id() as u8, bytes[0]);
+}
+
+#[test]
+fn test_parse_typescript_with_lazy_program() {
+  use binary_utils::BinaryWriter;
+  use lazy_utils::LazyProgram;
+  let code = "import a from 'a';\nconst b = 1;\nexport function c() {}";
+  let options = options::ParseOptions {
+    capture_ast: true,
+    media_type: MediaType::TypeScript,
+    parse_mode: ParseMode::Module,
+    ..Default::default()
+  };
+  let output = core::parse(code.to_owned(), &options, &mut None);
+  assert!(output.is_ok());
+  let lazy_program = LazyProgram::new(output.unwrap());
+  assert!(lazy_program.is_ok());
+  let lazy_program = lazy_program.unwrap();
+  assert_eq!(3, lazy_program.get_item_count());
+  assert_eq!(
+    vec![
+      AstType::ImportDecl.get_id(),
+      AstType::VarDecl.get_id(),
+      AstType::ExportDecl.get_id()
+    ],
+    lazy_program
+      .get_item_types()
+      .iter()
+      .map(|item_type| item_type.get_id())
+      .collect::<Vec<i32>>()
+  );
+  let mut writer = BinaryWriter::new();
+  lazy_program.write_program(&mut writer);
+  let bytes = writer.into_bytes();
+  assert_eq!(AstType::Module.get_id() as u8, bytes[0]);
+  assert_eq!(0u8, bytes[1]);
+  let mut writer = BinaryWriter::new();
+  assert!(lazy_program.write_item(&mut writer, 1).is_ok());
+  assert!(!writer.is_empty());
+  assert!(lazy_program.write_item(&mut BinaryWriter::new(), 3).is_err());
+}
+
+#[test]
+fn test_parse_typescript_with_lazy_program_spans() {
+  use binary_utils::{BinaryWriter, ToBinaryWithMap};
+  use lazy_utils::LazyProgram;
+  // The items after the non-ASCII chars and inside a long line are mapped per item.
+  let code = format!(
+    "const a = '\u{1F600}\u{4E2D}';\nconst b = [{}];\nexport function c() {{ return a + b; }}",
+    (0..300).map(|i| i.to_string()).collect::<Vec<String>>().join(", ")
+  );
+  let options = options::ParseOptions {
+    capture_ast: true,
+    media_type: MediaType::TypeScript,
+    parse_mode: ParseMode::Module,
+    ..Default::default()
+  };
+  let lazy_program = LazyProgram::new(core::parse(code.clone(), &options, &mut None).unwrap()).unwrap();
+  let output = core::parse(code, &options, &mut None).unwrap();
+  let map = output.get_byte_to_index_map();
+  let Program::Module(module) = output.program.as_ref().unwrap().as_ref() else {
+    panic!("Module is expected");
+  };
+  for (index, item) in module.body.iter().enumerate() {
+    let mut expected_writer = BinaryWriter::new();
+    item.to_binary_with_map(&mut expected_writer, &map);
+    let mut writer = BinaryWriter::new();
+    assert!(lazy_program.write_item(&mut writer, index).is_ok());
+    assert_eq!(expected_writer.into_bytes(), writer.into_bytes());
+  }
+}
+
 #[test]
 fn test_parse_typescript_with_capture_tokens() {
   let code = "function add(a:number, b:number) { return a+b; }";
@@ -158,6 +288,26 @@ fn test_parse_typescript_with_comments() {
   assert_eq!(1, tailing_comment_map.len());
 }
 
+#[test]
+fn test_parse_with_symbol_table() {
+  let code = "let a = 1; { let a = 2; a; } a; b;";
+  let options = options::ParseOptions {
+    media_type: MediaType::JavaScript,
+    scope_analysis: true,
+    ..Default::default()
+  };
+  let output = core::parse(code.to_owned(), &options, &mut None).unwrap();
+  let symbol_table = output.symbol_table.unwrap();
+  let names: Vec<&str> = symbol_table.bindings.iter().map(|binding| binding.name.as_str()).collect();
+  assert_eq!(vec!["a", "a", "b"], names);
+  assert!(symbol_table.bindings[0].declaration.is_some());
+  assert!(symbol_table.bindings[2].declaration.is_none());
+  let binding_ids: Vec<u32> = symbol_table.occurrences.iter().map(|occurrence| occurrence.binding_id).collect();
+  assert_eq!(vec![0, 1, 1, 0, 2], binding_ids);
+  let flags: Vec<i32> = symbol_table.occurrences.iter().map(|occurrence| occurrence.flags).collect();
+  assert_eq!(vec![scope_utils::FLAG_DECLARATION, scope_utils::FLAG_DECLARATION, 0, 0, 0], flags);
+}
+
 #[test]
 fn test_parse_wrong_media_type() {
   let code = "function add(a:number, b:number) { return a+b; }";
@@ -177,6 +327,49 @@ fn test_parse_wrong_media_type() {
   assert_eq!(expected_message, output_message);
 }
 
+#[test]
+fn test_source_map_decode_segments() {
+  let json = br#"{ "sourcesContent" : ["\"mappings\":\"B\" {["], "x":{"mappings":"C"}, "mappings" : "AAAA;;AACAA,CAAC" }"#;
+  assert_eq!(
+    vec![0, 0, 0, 0, 0, -1, 2, 0, 0, 1, 0, 0, 2, 1, 0, 1, 1, -1],
+    source_map_utils::decode_segments(json).unwrap()
+  );
+  assert!(source_map_utils::decode_segments(br#"{"version":3}"#).is_err());
+  assert!(source_map_utils::decode_mappings(b"AAA").is_err());
+  let options = options::TranspileOptions {
+    source_map: enums::SourceMapOption::Separate,
+    specifier: "file:///main.ts".to_owned(),
+    ..Default::default()
+  };
+  let output = core::transpile(
+    "function add(a:number, b:number) { return a+b; }".to_owned(),
+    &options,
+    &mut None,
+  )
+  .unwrap();
+  let source_map: &[u8] = output.source_map.as_deref().unwrap().as_ref();
+  let segments = source_map_utils::decode_segments(source_map).unwrap();
+  assert!(!segments.is_empty());
+  assert_eq!(0, segments.len() % source_map_utils::SEGMENT_SIZE);
+  assert_eq!(&[0, 0, 0, 0], &segments[0..4]);
+}
+
+#[test]
+fn test_tokenize() {
+  let code = "let a = 1;\nconst b = a;";
+  let options = options::ParseOptions {
+    media_type: MediaType::TypeScript,
+    ..Default::default()
+  };
+  let output = core::tokenize(code.to_owned(), &options);
+  assert!(output.is_ok());
+  let output = output.unwrap();
+  assert_eq!(10, output.tokens.len());
+  assert!(!output.tokens[4].had_line_break);
+  assert!(output.tokens[5].had_line_break);
+  assert_eq!(12, output.tokens[5].span.lo().0);
+}
+
 #[test]
 fn test_transform_with_default_options() {
   let code = "function add(a:number, b:number) { return a+b; }";
@@ -196,6 +389,56 @@ fn test_transform_with_default_options() {
   assert!(output_code[expected_code.len()..].starts_with(expected_source_map_prefix));
 }
 
+#[test]
+fn test_transform_program() {
+  let code = "function add(a:number, b:number) { return a+b; }";
+  let options = options::TransformOptions {
+    media_type: MediaType::TypeScript,
+    source_map: enums::SourceMapOption::None,
+    ..Default::default()
+  };
+  let expected_output = core::transform(code.to_owned(), &options, &mut None).unwrap();
+  let parsed_source = deno_ast::parse_script(deno_ast::ParseParams {
+    specifier: options.get_specifier().unwrap(),
+    text: code.into(),
+    media_type: MediaType::TypeScript,
+    capture_tokens: false,
+    maybe_syntax: None,
+    scope_analysis: false,
+  })
+  .unwrap();
+  let program = match parsed_source.program_ref() {
+    deno_ast::ProgramRef::Module(module) => Program::Module(module.clone()),
+    deno_ast::ProgramRef::Script(script) => Program::Script(script.clone()),
+  };
+  let output = core::transform_program(program, &options);
+  assert!(output.is_ok());
+  let output = output.unwrap();
+  assert_eq!(expected_output.code, output.code);
+  assert!(matches!(output.parse_mode, ParseMode::Script));
+  assert!(output.source_map.is_none());
+}
+
+#[test]
+fn test_transpile_batch() {
+  let codes: Vec<String> = (0..32)
+    .map(|i| format!("function add{}(a:number, b:number) {{ return a+b; }}", i))
+    .chain(std::iter::once("function (".to_owned()))
+    .collect();
+  let options = options::TranspileOptions {
+    source_map: enums::SourceMapOption::None,
+    ..Default::default()
+  };
+  let outputs = core::transpile_batch(codes, &options, &mut None).unwrap();
+  assert_eq!(33, outputs.len());
+  outputs.iter().take(32).enumerate().for_each(|(i, output)| {
+    assert!(output.is_ok());
+    let expected_code = format!("function add{}(a, b) {{\n  return a + b;\n}}\n", i);
+    assert_eq!(expected_code, output.as_ref().unwrap().code);
+  });
+  assert!(outputs[32].is_err());
+}
+
 #[test]
 fn test_transpile_jsx_with_custom_jsx_factory() {
   let code = String::from("import React from 'react';\n")
@@ -262,6 +505,34 @@ fn test_transpile_jsx_with_default_options() {
   assert!(output_code[expected_code.len()..].starts_with(expected_source_map_prefix));
 }
 
+#[test]
+fn test_transpile_program_with_scope_analysis() {
+  let code = "const a = 1; function f(a: number) { { const a = 2; return a; } }";
+  let options = options::TranspileOptions {
+    media_type: MediaType::TypeScript,
+    source_map: enums::SourceMapOption::None,
+    ..Default::default()
+  };
+  let expected_output = core::transpile(code.to_owned(), &options, &mut None).unwrap();
+  // The syntax contexts of the scope analysis belong to the globals of this parse.
+  let parsed_source = deno_ast::parse_script(deno_ast::ParseParams {
+    specifier: options.get_specifier().unwrap(),
+    text: code.into(),
+    media_type: MediaType::TypeScript,
+    capture_tokens: false,
+    maybe_syntax: None,
+    scope_analysis: true,
+  })
+  .unwrap();
+  let program = match parsed_source.program_ref() {
+    deno_ast::ProgramRef::Module(module) => Program::Module(module.clone()),
+    deno_ast::ProgramRef::Script(script) => Program::Script(script.clone()),
+  };
+  let output = core::transpile_program(program, &options);
+  assert!(output.is_ok());
+  assert_eq!(expected_output.code, output.unwrap().code);
+}
+
 #[test]
 fn test_transpile_type_script_with_inline_source_map() {
   let code = "function add(a:number, b:number) { return a+b; }";
@@ -299,6 +570,27 @@ fn test_transpile_type_script_without_inline_source_map() {
     });
 }
 
+#[test]
+fn test_transpile_with_exhausted_budget() {
+  let code = "function add(a:number, b:number) { return a+b; }";
+  let options = options::TranspileOptions {
+    budget: deadline_utils::Budget {
+      timeout: Some(Duration::ZERO),
+      ..Default::default()
+    },
+    ..Default::default()
+  };
+  let output = core::transpile(code.to_owned(), &options, &mut None);
+  assert!(output.is_err());
+  let err = output.err().unwrap();
+  let cancelled_error = err.downcast_ref::<deadline_utils::CancelledError>();
+  assert!(cancelled_error.is_some());
+  let cancelled_error = cancelled_error.unwrap();
+  assert!(cancelled_error.is_timed_out());
+  assert_eq!("parse", cancelled_error.phase);
+  assert_eq!("Timed out after 0 ms before parse", err.to_string());
+}
+
 #[test]
 fn test_transpile_wrong_media_type() {
   let code = "function add(a:number, b:number) { return a+b; }";
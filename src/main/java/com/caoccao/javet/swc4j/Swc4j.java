@@ -16,15 +16,27 @@
 
 package com.caoccao.javet.swc4j;
 
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstProgram;
 import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jMinifyOptions;
 import com.caoccao.javet.swc4j.options.Swc4jParseOptions;
 import com.caoccao.javet.swc4j.options.Swc4jTransformOptions;
 import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jBatchResult;
+import com.caoccao.javet.swc4j.outputs.Swc4jOutputSink;
 import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTokenizeOutput;
 import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
 import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.span.Swc4jTextEdit;
 import com.caoccao.javet.swc4j.utils.AssertionUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The type Swc4j.
  *
@@ -44,6 +56,80 @@ public final class Swc4j {
     public Swc4j() {
     }
 
+    private static <Output> List<Swc4jBatchResult<Output>> toBatchResults(
+            List<?> items,
+            Class<Output> outputClass) {
+        List<Swc4jBatchResult<Output>> results = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (item instanceof Swc4jCoreException error) {
+                results.add(Swc4jBatchResult.error(error));
+            } else {
+                results.add(Swc4jBatchResult.ok(outputClass.cast(item)));
+            }
+        }
+        return results;
+    }
+
+    private static byte[] toBytes(ByteBuffer byteBuffer) {
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Compile the parse options into an immutable native snapshot that can be reused by
+     * {@link #parse(String, Swc4jCompiledOptions)} without reading the options over JNI again.
+     * The plugin host is kept by the compiled options and shared by all the calls.
+     *
+     * @param options the options
+     * @return the swc4j compiled options
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jCompiledOptions<Swc4jParseOptions> compile(Swc4jParseOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(options, "Options");
+        return new Swc4jCompiledOptions<>(
+                options.getClass(),
+                Swc4jNative.coreCompileParseOptions(options));
+    }
+
+    /**
+     * Compile the transform options into an immutable native snapshot that can be reused by
+     * {@link #transform(String, Swc4jCompiledOptions)} without reading the options over JNI again.
+     * The plugin host is kept by the compiled options and shared by all the calls.
+     *
+     * @param options the options
+     * @return the swc4j compiled options
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jCompiledOptions<Swc4jTransformOptions> compile(Swc4jTransformOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(options, "Options");
+        return new Swc4jCompiledOptions<>(
+                options.getClass(),
+                Swc4jNative.coreCompileTransformOptions(options));
+    }
+
+    /**
+     * Compile the transpile options into an immutable native snapshot that can be reused by
+     * {@link #transpile(String, Swc4jCompiledOptions)} without reading the options over JNI again.
+     * The plugin host is kept by the compiled options and shared by all the calls.
+     *
+     * @param options the options
+     * @return the swc4j compiled options
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jCompiledOptions<Swc4jTranspileOptions> compile(Swc4jTranspileOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(options, "Options");
+        return new Swc4jCompiledOptions<>(
+                options.getClass(),
+                Swc4jNative.coreCompileTranspileOptions(options));
+    }
+
     /**
      * Gets version.
      *
@@ -54,6 +140,80 @@ public final class Swc4j {
         return Swc4jNative.coreGetVersion();
     }
 
+    /**
+     * Minify the code in process with the compressor and the mangler.
+     * The output is a transform output with the minified code and the source map mapped to the original code.
+     * TypeScript should be transpiled before being minified because the types are kept.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the swc4j transform output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTransformOutput minify(String code, Swc4jMinifyOptions options) throws Swc4jCoreException {
+        return (Swc4jTransformOutput) Swc4jNative.coreMinify(
+                code,
+                AssertionUtils.notNull(options, "Options"));
+    }
+
+    /**
+     * Parse the UTF-8 code in a byte buffer from its position to its limit.
+     * A direct byte buffer is read in place by the native side.
+     * The position of the byte buffer is not changed.
+     *
+     * @param code    the UTF-8 code
+     * @param options the options
+     * @return the swc4j parse output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jParseOutput parse(ByteBuffer code, Swc4jParseOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(code, "Code");
+        if (!code.isDirect()) {
+            return parse(toBytes(code), options);
+        }
+        return (Swc4jParseOutput) Swc4jNative.coreParseByteBuffer(
+                code,
+                code.position(),
+                code.remaining(),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
+    /**
+     * Parse the UTF-8 code.
+     *
+     * @param code    the UTF-8 code
+     * @param options the options
+     * @return the swc4j parse output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jParseOutput parse(byte[] code, Swc4jParseOptions options) throws Swc4jCoreException {
+        return (Swc4jParseOutput) Swc4jNative.coreParseBytes(
+                AssertionUtils.notNull(code, "Code"),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
+    /**
+     * Parse the UTF-8 file which is read by the native side directly.
+     *
+     * @param path    the path
+     * @param options the options
+     * @return the swc4j parse output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jParseOutput parse(Path path, Swc4jParseOptions options) throws Swc4jCoreException {
+        return (Swc4jParseOutput) Swc4jNative.coreParseFile(
+                AssertionUtils.notNull(path, "Path").toAbsolutePath().toString(),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
     /**
      * Parse with default options.
      *
@@ -82,6 +242,192 @@ public final class Swc4j {
                 AssertionUtils.notNull(options, "Options"));
     }
 
+    /**
+     * Parse with the compiled options.
+     *
+     * @param code            the code
+     * @param compiledOptions the compiled options
+     * @return the swc4j parse output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jParseOutput parse(
+            String code,
+            Swc4jCompiledOptions<Swc4jParseOptions> compiledOptions) throws Swc4jCoreException {
+        final long handle = AssertionUtils.notNull(compiledOptions, "Compiled options").acquireHandle();
+        try {
+            return (Swc4jParseOutput) Swc4jNative.coreParseWithCompiledOptions(code, handle);
+        } finally {
+            compiledOptions.releaseHandle();
+        }
+    }
+
+    /**
+     * Parse on the default executor.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the completable future of the swc4j parse output
+     * @see Swc4jExecutor#getDefault()
+     * @since 2.3.0
+     */
+    public CompletableFuture<Swc4jParseOutput> parseAsync(String code, Swc4jParseOptions options) {
+        return parseAsync(code, options, Swc4jExecutor.getDefault());
+    }
+
+    /**
+     * Parse on the given executor so that the calling thread, e.g. a virtual thread,
+     * is not pinned by the blocking native call.
+     * The calling thread is blocked while the executor is at capacity.
+     * The options are copied at submit time so that they can be changed or reused right away.
+     * The copy is shallow so the nested objects, e.g. the plugin host, must not be changed
+     * until the future completes.
+     *
+     * @param code     the code
+     * @param options  the options
+     * @param executor the executor
+     * @return the completable future of the swc4j parse output
+     * @since 2.3.0
+     */
+    public CompletableFuture<Swc4jParseOutput> parseAsync(
+            String code,
+            Swc4jParseOptions options,
+            Swc4jExecutor executor) {
+        AssertionUtils.notNull(code, "Code");
+        Swc4jParseOptions optionsCopy = AssertionUtils.notNull(options, "Options").copy();
+        return AssertionUtils.notNull(executor, "Executor").submit(() -> parse(code, optionsCopy));
+    }
+
+    /**
+     * Parse a batch of codes with one native call.
+     * The codes are parsed in parallel by the native worker pool.
+     * The plugin host, if any, is called from the worker threads so it must be thread-safe.
+     *
+     * @param codes   the codes
+     * @param options the options
+     * @return the batch results in the same order as the codes
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public List<Swc4jBatchResult<Swc4jParseOutput>> parseBatch(
+            List<String> codes,
+            Swc4jParseOptions options) throws Swc4jCoreException {
+        return toBatchResults(
+                Swc4jNative.coreParseBatch(
+                        AssertionUtils.notNull(codes, "Codes"),
+                        AssertionUtils.notNull(options, "Options")),
+                Swc4jParseOutput.class);
+    }
+
+    /**
+     * Parse and keep the program alive natively so that the top level items are
+     * only built in Java when they are first accessed.
+     * The AST is always captured regardless of the options and the returned lazy program must be closed.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the swc4j lazy program
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jLazyProgram parseLazy(String code, Swc4jParseOptions options) throws Swc4jCoreException {
+        return new Swc4jLazyProgram(Swc4jNative.coreParseLazy(
+                code,
+                AssertionUtils.notNull(options, "Options")));
+    }
+
+    /**
+     * Parse and keep the parsed source alive natively so that it can be transformed or transpiled
+     * repeatedly with different options without being parsed again.
+     * The returned parsed source must be closed.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the swc4j parsed source
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jParsedSource parseRetained(String code, Swc4jParseOptions options) throws Swc4jCoreException {
+        return new Swc4jParsedSource(Swc4jNative.coreParseRetained(
+                code,
+                AssertionUtils.notNull(options, "Options")));
+    }
+
+    /**
+     * Re-parse the previous output after the text edits.
+     * Only the top level items touched by the edits are parsed again and the other top level items
+     * of the previous program are moved to the new program with shifted spans,
+     * so the previous output must not be used afterwards.
+     * <p>
+     * The previous output must capture the source text. The whole code is parsed instead
+     * if the options capture the comments or the tokens, are recoverable, apply the scope analysis,
+     * have a plugin host, are not in {@link com.caoccao.javet.swc4j.enums.Swc4jSpanMode#CharIndex}
+     * or do not have the same media type and parse mode as the previous output.
+     *
+     * @param previous the previous output
+     * @param edits    the sorted and non-overlapping edits on the source text of the previous output
+     * @param options  the options
+     * @return the swc4j parse output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    public Swc4jParseOutput reparse(
+            Swc4jParseOutput previous,
+            List<Swc4jTextEdit> edits,
+            Swc4jParseOptions options) throws Swc4jCoreException {
+        return Swc4jReparser.reparse(this::parse, previous, edits, options);
+    }
+
+    /**
+     * Tokenize the code without building the AST.
+     * The tokens are returned as primitive arrays so that no Java object is created per token.
+     * Only the media type and the span mode of the options are used.
+     * <p>
+     * The lexer runs alone, so a few tokens whose meaning depends on the parser context,
+     * e.g. a slash after a closing parenthesis, may be typed differently from
+     * the tokens captured by {@link #parse(String, Swc4jParseOptions)}.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the swc4j tokenize output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTokenizeOutput tokenize(String code, Swc4jParseOptions options) throws Swc4jCoreException {
+        return (Swc4jTokenizeOutput) Swc4jNative.coreTokenize(
+                AssertionUtils.notNull(code, "Code"),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
+    /**
+     * Transform the program built or changed in Java without parsing any code.
+     * The program is converted to the native AST and only the codegen runs,
+     * so the spans, comments and the source map mappings of the original code are not available.
+     * The syntax contexts, e.g. those assigned by the scope analysis, are reset during the conversion,
+     * so the program is resolved again as if it was parsed without the scope analysis.
+     * The plugin host in the options is not called.
+     *
+     * @param program the program
+     * @param options the options
+     * @return the swc4j transform output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTransformOutput transform(
+            ISwc4jAstProgram<?> program,
+            Swc4jTransformOptions options)
+            throws Swc4jCoreException {
+        return (Swc4jTransformOutput) Swc4jNative.coreTransformProgram(
+                AssertionUtils.notNull(program, "Program"),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
     /**
      * Transform with default options.
      *
@@ -110,6 +456,191 @@ public final class Swc4j {
                 AssertionUtils.notNull(options, "Options"));
     }
 
+    /**
+     * Transform with the compiled options.
+     *
+     * @param code            the code
+     * @param compiledOptions the compiled options
+     * @return the swc4j transform output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTransformOutput transform(
+            String code,
+            Swc4jCompiledOptions<Swc4jTransformOptions> compiledOptions) throws Swc4jCoreException {
+        final long handle = AssertionUtils.notNull(compiledOptions, "Compiled options").acquireHandle();
+        try {
+            return (Swc4jTransformOutput) Swc4jNative.coreTransformWithCompiledOptions(code, handle);
+        } finally {
+            compiledOptions.releaseHandle();
+        }
+    }
+
+    /**
+     * Transform and write the code and the source map to the output sink as UTF-8 bytes.
+     * The code of the returned output is empty and the source map is null.
+     *
+     * @param code       the code
+     * @param options    the options
+     * @param outputSink the output sink
+     * @return the swc4j transform output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTransformOutput transform(
+            String code,
+            Swc4jTransformOptions options,
+            Swc4jOutputSink outputSink) throws Swc4jCoreException {
+        Swc4jTransformOutput output = (Swc4jTransformOutput) Swc4jNative.coreTransformToSink(
+                code,
+                AssertionUtils.notNull(options, "Options"),
+                AssertionUtils.notNull(outputSink, "Output sink"));
+        if (outputSink.getError() != null) {
+            throw Swc4jCoreException.transformError("Failed to write the output", outputSink.getError());
+        }
+        return output;
+    }
+
+    /**
+     * Transform on the default executor.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the completable future of the swc4j transform output
+     * @see Swc4jExecutor#getDefault()
+     * @since 2.3.0
+     */
+    public CompletableFuture<Swc4jTransformOutput> transformAsync(String code, Swc4jTransformOptions options) {
+        return transformAsync(code, options, Swc4jExecutor.getDefault());
+    }
+
+    /**
+     * Transform on the given executor so that the calling thread, e.g. a virtual thread,
+     * is not pinned by the blocking native call.
+     * The calling thread is blocked while the executor is at capacity.
+     * The options are copied at submit time so that they can be changed or reused right away.
+     * The copy is shallow so the nested objects, e.g. the plugin host, must not be changed
+     * until the future completes.
+     *
+     * @param code     the code
+     * @param options  the options
+     * @param executor the executor
+     * @return the completable future of the swc4j transform output
+     * @since 2.3.0
+     */
+    public CompletableFuture<Swc4jTransformOutput> transformAsync(
+            String code,
+            Swc4jTransformOptions options,
+            Swc4jExecutor executor) {
+        AssertionUtils.notNull(code, "Code");
+        Swc4jTransformOptions optionsCopy = AssertionUtils.notNull(options, "Options").copy();
+        return AssertionUtils.notNull(executor, "Executor").submit(() -> transform(code, optionsCopy));
+    }
+
+    /**
+     * Transform a batch of codes with one native call.
+     * The codes are transformed in parallel by the native worker pool.
+     * The plugin host, if any, is called from the worker threads so it must be thread-safe.
+     *
+     * @param codes   the codes
+     * @param options the options
+     * @return the batch results in the same order as the codes
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public List<Swc4jBatchResult<Swc4jTransformOutput>> transformBatch(
+            List<String> codes,
+            Swc4jTransformOptions options) throws Swc4jCoreException {
+        return toBatchResults(
+                Swc4jNative.coreTransformBatch(
+                        AssertionUtils.notNull(codes, "Codes"),
+                        AssertionUtils.notNull(options, "Options")),
+                Swc4jTransformOutput.class);
+    }
+
+    /**
+     * Transpile the UTF-8 code in a byte buffer from its position to its limit.
+     * A direct byte buffer is read in place by the native side.
+     * The position of the byte buffer is not changed.
+     *
+     * @param code    the UTF-8 code
+     * @param options the options
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTranspileOutput transpile(ByteBuffer code, Swc4jTranspileOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(code, "Code");
+        if (!code.isDirect()) {
+            return transpile(toBytes(code), options);
+        }
+        return (Swc4jTranspileOutput) Swc4jNative.coreTranspileByteBuffer(
+                code,
+                code.position(),
+                code.remaining(),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
+    /**
+     * Transpile the UTF-8 code.
+     *
+     * @param code    the UTF-8 code
+     * @param options the options
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTranspileOutput transpile(byte[] code, Swc4jTranspileOptions options) throws Swc4jCoreException {
+        return (Swc4jTranspileOutput) Swc4jNative.coreTranspileBytes(
+                AssertionUtils.notNull(code, "Code"),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
+    /**
+     * Transpile the program built or changed in Java without parsing any code.
+     * The program is converted to the native AST and goes through the transpile passes and the codegen,
+     * so the spans, comments and the source map mappings of the original code are not available.
+     * The syntax contexts, e.g. those assigned by the scope analysis, are reset during the conversion,
+     * so the program is resolved again as if it was parsed without the scope analysis.
+     * The plugin host in the options is not called.
+     *
+     * @param program the program
+     * @param options the options
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTranspileOutput transpile(
+            ISwc4jAstProgram<?> program,
+            Swc4jTranspileOptions options)
+            throws Swc4jCoreException {
+        return (Swc4jTranspileOutput) Swc4jNative.coreTranspileProgram(
+                AssertionUtils.notNull(program, "Program"),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
+    /**
+     * Transpile the UTF-8 file which is read by the native side directly.
+     *
+     * @param path    the path
+     * @param options the options
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTranspileOutput transpile(Path path, Swc4jTranspileOptions options) throws Swc4jCoreException {
+        return (Swc4jTranspileOutput) Swc4jNative.coreTranspileFile(
+                AssertionUtils.notNull(path, "Path").toAbsolutePath().toString(),
+                AssertionUtils.notNull(options, "Options"));
+    }
+
     /**
      * Transpile with default options.
      *
@@ -137,4 +668,109 @@ public final class Swc4j {
                 code,
                 AssertionUtils.notNull(options, "Options"));
     }
+
+    /**
+     * Transpile with the compiled options.
+     *
+     * @param code            the code
+     * @param compiledOptions the compiled options
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTranspileOutput transpile(
+            String code,
+            Swc4jCompiledOptions<Swc4jTranspileOptions> compiledOptions) throws Swc4jCoreException {
+        final long handle = AssertionUtils.notNull(compiledOptions, "Compiled options").acquireHandle();
+        try {
+            return (Swc4jTranspileOutput) Swc4jNative.coreTranspileWithCompiledOptions(code, handle);
+        } finally {
+            compiledOptions.releaseHandle();
+        }
+    }
+
+    /**
+     * Transpile and write the code and the source map to the output sink as UTF-8 bytes.
+     * The code of the returned output is empty and the source map is null.
+     *
+     * @param code       the code
+     * @param options    the options
+     * @param outputSink the output sink
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public Swc4jTranspileOutput transpile(
+            String code,
+            Swc4jTranspileOptions options,
+            Swc4jOutputSink outputSink) throws Swc4jCoreException {
+        Swc4jTranspileOutput output = (Swc4jTranspileOutput) Swc4jNative.coreTranspileToSink(
+                code,
+                AssertionUtils.notNull(options, "Options"),
+                AssertionUtils.notNull(outputSink, "Output sink"));
+        if (outputSink.getError() != null) {
+            throw Swc4jCoreException.transpileError("Failed to write the output", outputSink.getError());
+        }
+        return output;
+    }
+
+    /**
+     * Transpile on the default executor.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the completable future of the swc4j transpile output
+     * @see Swc4jExecutor#getDefault()
+     * @since 2.3.0
+     */
+    public CompletableFuture<Swc4jTranspileOutput> transpileAsync(String code, Swc4jTranspileOptions options) {
+        return transpileAsync(code, options, Swc4jExecutor.getDefault());
+    }
+
+    /**
+     * Transpile on the given executor so that the calling thread, e.g. a virtual thread,
+     * is not pinned by the blocking native call.
+     * The calling thread is blocked while the executor is at capacity.
+     * The options are copied at submit time so that they can be changed or reused right away.
+     * The copy is shallow so the nested objects, e.g. the plugin host, must not be changed
+     * until the future completes.
+     *
+     * @param code     the code
+     * @param options  the options
+     * @param executor the executor
+     * @return the completable future of the swc4j transpile output
+     * @since 2.3.0
+     */
+    public CompletableFuture<Swc4jTranspileOutput> transpileAsync(
+            String code,
+            Swc4jTranspileOptions options,
+            Swc4jExecutor executor) {
+        AssertionUtils.notNull(code, "Code");
+        Swc4jTranspileOptions optionsCopy = AssertionUtils.notNull(options, "Options").copy();
+        return AssertionUtils.notNull(executor, "Executor").submit(() -> transpile(code, optionsCopy));
+    }
+
+    /**
+     * Transpile a batch of codes with one native call.
+     * The codes are transpiled in parallel by the native worker pool.
+     * The plugin host, if any, is called from the worker threads so it must be thread-safe.
+     *
+     * @param codes   the codes
+     * @param options the options
+     * @return the batch results in the same order as the codes
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public List<Swc4jBatchResult<Swc4jTranspileOutput>> transpileBatch(
+            List<String> codes,
+            Swc4jTranspileOptions options) throws Swc4jCoreException {
+        return toBatchResults(
+                Swc4jNative.coreTranspileBatch(
+                        AssertionUtils.notNull(codes, "Codes"),
+                        AssertionUtils.notNull(options, "Options")),
+                Swc4jTranspileOutput.class);
+    }
 }
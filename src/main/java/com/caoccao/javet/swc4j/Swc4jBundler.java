@@ -0,0 +1,1002 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstAutoAccessor;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstClass;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstClassMethod;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstClassProp;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstComputedPropName;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstConstructor;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstFunction;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstParam;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstPrivateMethod;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstPrivateProp;
+import com.caoccao.javet.swc4j.ast.clazz.Swc4jAstStaticBlock;
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstArrowExpr;
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstCallExpr;
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstClassExpr;
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstFnExpr;
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstIdent;
+import com.caoccao.javet.swc4j.ast.expr.lit.Swc4jAstBigInt;
+import com.caoccao.javet.swc4j.ast.expr.lit.Swc4jAstBool;
+import com.caoccao.javet.swc4j.ast.expr.lit.Swc4jAstNull;
+import com.caoccao.javet.swc4j.ast.expr.lit.Swc4jAstNumber;
+import com.caoccao.javet.swc4j.ast.expr.lit.Swc4jAstRegex;
+import com.caoccao.javet.swc4j.ast.expr.lit.Swc4jAstStr;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstClassMember;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstExportSpecifier;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstExpr;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstImportSpecifier;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstKey;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstModuleExportName;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstModuleItem;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstParamOrTsParamProp;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstExportAll;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstExportDecl;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstExportDefaultDecl;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstExportDefaultSpecifier;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstExportNamedSpecifier;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstImport;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstImportDecl;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstImportDefaultSpecifier;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstImportNamedSpecifier;
+import com.caoccao.javet.swc4j.ast.module.Swc4jAstNamedExport;
+import com.caoccao.javet.swc4j.ast.pat.Swc4jAstBindingIdent;
+import com.caoccao.javet.swc4j.ast.program.Swc4jAstModule;
+import com.caoccao.javet.swc4j.ast.stmt.Swc4jAstClassDecl;
+import com.caoccao.javet.swc4j.ast.stmt.Swc4jAstFnDecl;
+import com.caoccao.javet.swc4j.ast.stmt.Swc4jAstVarDecl;
+import com.caoccao.javet.swc4j.ast.stmt.Swc4jAstVarDeclarator;
+import com.caoccao.javet.swc4j.ast.ts.Swc4jAstTsParamProp;
+import com.caoccao.javet.swc4j.ast.visitors.Swc4jAstVisitor;
+import com.caoccao.javet.swc4j.ast.visitors.Swc4jAstVisitorResponse;
+import com.caoccao.javet.swc4j.bundler.BaseSwc4jBundlerResolver;
+import com.caoccao.javet.swc4j.bundler.ISwc4jBundlerResolver;
+import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
+import com.caoccao.javet.swc4j.enums.Swc4jModuleKind;
+import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCancellationException;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jBundleOptions;
+import com.caoccao.javet.swc4j.options.Swc4jParseOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jBundleChunk;
+import com.caoccao.javet.swc4j.outputs.Swc4jBundleOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jSourceMap;
+import com.caoccao.javet.swc4j.outputs.Swc4jSymbolTable;
+import com.caoccao.javet.swc4j.outputs.Swc4jTokenizeOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.tokens.Swc4jTokenType;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.SimpleJsonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The type Swc4j bundler bundles the module graph starting from the entries into one chunk per entry.
+ * <p>
+ * The imports are resolved by the {@link ISwc4jBundlerResolver}. The modules are loaded and parsed
+ * in parallel on the executor, one wave of newly found modules at a time, then transpiled to CommonJS
+ * in parallel and wrapped in a small module registry. The bare specifiers the resolver leaves unresolved
+ * are externals passed to the require of the runtime, if any. The static and the dynamic imports with
+ * string literal specifiers are followed, and the dynamic imports are bundled into the same chunk.
+ * <p>
+ * Without tree shaking, the imports are found in the tokens so that no AST is built in Java, and the modules
+ * are only parsed by the transpile. With tree shaking, the parsed sources are kept natively, so that
+ * the modules left unchanged by the tree shaking are transpiled without being parsed again.
+ * <p>
+ * With tree shaking, the exported and the top level declarations of the non-entry modules that are
+ * neither imported by other modules nor referenced by the kept code are removed, following the
+ * references in the symbol table of the scope analysis. Only the functions, the classes without static
+ * side effects and the variables initialized with literals, identifiers, functions or classes are removed.
+ * The removed code is blanked out with spaces, so the lines and columns of the kept code do not change.
+ * <p>
+ * The combined source map of a chunk is merged from the raw source maps of the modules
+ * by shifting their generated lines, and its sources are the module ids.
+ * <p>
+ * The bundler is stateless and thread-safe if the resolver is.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jBundler {
+    private static final String EXPORT_DEFAULT = "default";
+    private static final String RUNTIME = "var __swc4j_cache = [];\n" +
+            "function __swc4j_require(index) {\n" +
+            "  var cached = __swc4j_cache[index];\n" +
+            "  if (cached) {\n" +
+            "    return cached.exports;\n" +
+            "  }\n" +
+            "  var module = __swc4j_cache[index] = { exports: {} };\n" +
+            "  var dependencies = __swc4j_dependencies[index];\n" +
+            "  __swc4j_modules[index].call(module.exports, module, module.exports, function (specifier) {\n" +
+            "    var dependency = dependencies[specifier];\n" +
+            "    if (typeof dependency === \"number\") {\n" +
+            "      return __swc4j_require(dependency);\n" +
+            "    }\n" +
+            "    if (typeof require === \"function\") {\n" +
+            "      return require(specifier);\n" +
+            "    }\n" +
+            "    throw new Error(\"Cannot find module '\" + specifier + \"'\");\n" +
+            "  });\n" +
+            "  return module.exports;\n" +
+            "}\n";
+    private static final String SOURCE_MAPPING_URL_PREFIX = "//# sourceMappingURL=data:application/json;base64,";
+    private final ISwc4jBundlerResolver resolver;
+    private final Swc4j swc4j;
+
+    /**
+     * Instantiates a new Swc4j bundler.
+     *
+     * @param swc4j    the swc4j
+     * @param resolver the resolver
+     * @since 2.3.0
+     */
+    public Swc4jBundler(Swc4j swc4j, ISwc4jBundlerResolver resolver) {
+        this.resolver = AssertionUtils.notNull(resolver, "Resolver");
+        this.swc4j = AssertionUtils.notNull(swc4j, "Swc4j");
+    }
+
+    private static void blank(char[] chars, int start, int end) {
+        for (int i = start; i < end; i++) {
+            final char c = chars[i];
+            if (c != '\n' && c != '\r' && c != '\u2028' && c != '\u2029') {
+                chars[i] = ' ';
+            }
+        }
+    }
+
+    private static int findItem(int[] starts, int[] ends, int position) {
+        int index = Arrays.binarySearch(starts, position);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index >= 0 && position < ends[index] ? index : -1;
+    }
+
+    private static List<String> getDeclaredNames(ISwc4jAst decl) {
+        if (decl instanceof Swc4jAstFnDecl fnDecl) {
+            return List.of(fnDecl.getIdent().getSym());
+        } else if (decl instanceof Swc4jAstClassDecl classDecl) {
+            return List.of(classDecl.getIdent().getSym());
+        } else if (decl instanceof Swc4jAstVarDecl varDecl) {
+            final List<String> names = new ArrayList<>(varDecl.getDecls().size());
+            for (Swc4jAstVarDeclarator varDeclarator : varDecl.getDecls()) {
+                if (varDeclarator.getName() instanceof Swc4jAstBindingIdent bindingIdent) {
+                    names.add(bindingIdent.getId().getSym());
+                } else {
+                    return null;
+                }
+            }
+            return names;
+        }
+        return null;
+    }
+
+    private static String getExportName(ISwc4jAstModuleExportName name) {
+        if (name instanceof Swc4jAstIdent ident) {
+            return ident.getSym();
+        } else if (name instanceof Swc4jAstStr str) {
+            return str.getValue();
+        }
+        return null;
+    }
+
+    private static String getStringValue(String text) {
+        // The text of a string literal token keeps the quotes and the escapes.
+        final int end = text.length() - 1;
+        if (text.indexOf('\\') < 0) {
+            return text.substring(1, end);
+        }
+        final StringBuilder sb = new StringBuilder(end);
+        for (int i = 1; i < end; i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 >= end) {
+                sb.append(c);
+                continue;
+            }
+            c = text.charAt(++i);
+            switch (c) {
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'v' -> sb.append('\u000B');
+                case '0' -> sb.append('\0');
+                case 'x' -> {
+                    sb.append((char) Integer.parseInt(text, i + 1, i + 3, 16));
+                    i += 2;
+                }
+                case 'u' -> {
+                    if (text.charAt(i + 1) == '{') {
+                        final int close = text.indexOf('}', i);
+                        sb.appendCodePoint(Integer.parseInt(text, i + 2, close, 16));
+                        i = close;
+                    } else {
+                        sb.append((char) Integer.parseInt(text, i + 1, i + 5, 16));
+                        i += 4;
+                    }
+                }
+                case '\r' -> {
+                    // The line continuation.
+                    if (i + 1 < end && text.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                }
+                case '\n', '\u2028', '\u2029' -> {
+                }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isIdent(Swc4jTokenType type) {
+        return type == Swc4jTokenType.IdentKnown || type == Swc4jTokenType.IdentOther;
+    }
+
+    private static boolean isPure(ISwc4jAst node) {
+        if (node instanceof Swc4jAstFnDecl || node instanceof Swc4jAstFnExpr || node instanceof Swc4jAstArrowExpr) {
+            return true;
+        } else if (node instanceof Swc4jAstClassDecl classDecl) {
+            return isPureClass(classDecl.getClazz());
+        } else if (node instanceof Swc4jAstClassExpr classExpr) {
+            return isPureClass(classExpr.getClazz());
+        } else if (node instanceof Swc4jAstVarDecl varDecl) {
+            for (Swc4jAstVarDeclarator varDeclarator : varDecl.getDecls()) {
+                if (!(varDeclarator.getName() instanceof Swc4jAstBindingIdent)
+                        || !varDeclarator.getInit().map(Swc4jBundler::isPure).orElse(true)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return node instanceof Swc4jAstIdent
+                || node instanceof Swc4jAstStr
+                || node instanceof Swc4jAstNumber
+                || node instanceof Swc4jAstBool
+                || node instanceof Swc4jAstNull
+                || node instanceof Swc4jAstBigInt
+                || node instanceof Swc4jAstRegex;
+    }
+
+    private static boolean isPureClass(Swc4jAstClass clazz) {
+        if (!clazz.getDecorators().isEmpty()
+                || !clazz.getSuperClass().map(superClass -> superClass instanceof Swc4jAstIdent).orElse(true)) {
+            return false;
+        }
+        // The computed keys, the decorators, the static blocks and the static values run when the class is defined.
+        for (ISwc4jAstClassMember member : clazz.getBody()) {
+            final boolean pure;
+            if (member instanceof Swc4jAstStaticBlock) {
+                pure = false;
+            } else if (member instanceof Swc4jAstConstructor constructor) {
+                pure = isPureKey(constructor.getKey())
+                        && constructor.getParams().stream().allMatch(Swc4jBundler::isPureParam);
+            } else if (member instanceof Swc4jAstClassMethod classMethod) {
+                pure = isPureKey(classMethod.getKey()) && isPureFunction(classMethod.getFunction());
+            } else if (member instanceof Swc4jAstPrivateMethod privateMethod) {
+                pure = isPureFunction(privateMethod.getFunction());
+            } else if (member instanceof Swc4jAstClassProp classProp) {
+                pure = isPureKey(classProp.getKey())
+                        && classProp.getDecorators().isEmpty()
+                        && isPureStaticValue(classProp.isStatic(), classProp.getValue());
+            } else if (member instanceof Swc4jAstPrivateProp privateProp) {
+                pure = privateProp.getDecorators().isEmpty()
+                        && isPureStaticValue(privateProp.isStatic(), privateProp.getValue());
+            } else if (member instanceof Swc4jAstAutoAccessor autoAccessor) {
+                pure = isPureKey(autoAccessor.getKey())
+                        && autoAccessor.getDecorators().isEmpty()
+                        && isPureStaticValue(autoAccessor.isStatic(), autoAccessor.getValue());
+            } else {
+                pure = true;
+            }
+            if (!pure) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPureFunction(Swc4jAstFunction function) {
+        return function.getDecorators().isEmpty()
+                && function.getParams().stream().allMatch(Swc4jBundler::isPureParam);
+    }
+
+    private static boolean isPureKey(ISwc4jAstKey key) {
+        if (key instanceof Swc4jAstComputedPropName computedPropName) {
+            final ISwc4jAstExpr expr = computedPropName.getExpr();
+            return expr instanceof Swc4jAstStr
+                    || expr instanceof Swc4jAstNumber
+                    || expr instanceof Swc4jAstBigInt
+                    || expr instanceof Swc4jAstBool
+                    || expr instanceof Swc4jAstNull;
+        }
+        return true;
+    }
+
+    private static boolean isPureParam(ISwc4jAstParamOrTsParamProp param) {
+        if (param instanceof Swc4jAstParam p) {
+            return p.getDecorators().isEmpty();
+        } else if (param instanceof Swc4jAstTsParamProp tsParamProp) {
+            return tsParamProp.getDecorators().isEmpty();
+        }
+        return true;
+    }
+
+    private static boolean isPureStaticValue(boolean isStatic, Optional<ISwc4jAstExpr> value) {
+        return !isStatic || value.map(Swc4jBundler::isPure).orElse(true);
+    }
+
+    private static boolean isWord(Swc4jTokenizeOutput tokens, int index, String word) {
+        return isIdent(tokens.getType(index)) && word.equals(tokens.getText(index));
+    }
+
+    private static <T> List<T> join(List<CompletableFuture<T>> futures) throws Swc4jCoreException {
+        final List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException | CancellationException e) {
+                futures.forEach(f -> f.cancel(false));
+                final Throwable cause = e.getCause() == null ? e : e.getCause();
+                if (cause instanceof Swc4jCoreException swc4jCoreException) {
+                    throw swc4jCoreException;
+                }
+                throw Swc4jCoreException.bundleError(cause.getMessage(), cause);
+            }
+        }
+        return results;
+    }
+
+    private static void scanDependencies(Module module) {
+        for (ISwc4jAstModuleItem item : module.program.getBody()) {
+            if (item instanceof Swc4jAstImportDecl importDecl) {
+                if (importDecl.isTypeOnly()) {
+                    continue;
+                }
+                final Dependency dependency = module.getDependency(importDecl.getSrc().getValue());
+                for (ISwc4jAstImportSpecifier specifier : importDecl.getSpecifiers()) {
+                    if (specifier instanceof Swc4jAstImportNamedSpecifier namedSpecifier) {
+                        if (!namedSpecifier.isTypeOnly()) {
+                            dependency.addName(namedSpecifier.getImported()
+                                    .map(Swc4jBundler::getExportName)
+                                    .orElse(namedSpecifier.getLocal().getSym()));
+                        }
+                    } else if (specifier instanceof Swc4jAstImportDefaultSpecifier) {
+                        dependency.addName(EXPORT_DEFAULT);
+                    } else {
+                        dependency.allNames = true;
+                    }
+                }
+            } else if (item instanceof Swc4jAstExportAll exportAll) {
+                if (!exportAll.isTypeOnly()) {
+                    module.getDependency(exportAll.getSrc().getValue()).allNames = true;
+                }
+            } else if (item instanceof Swc4jAstNamedExport namedExport) {
+                if (namedExport.isTypeOnly() || namedExport.getSrc().isEmpty()) {
+                    continue;
+                }
+                final Dependency dependency = module.getDependency(namedExport.getSrc().get().getValue());
+                for (ISwc4jAstExportSpecifier specifier : namedExport.getSpecifiers()) {
+                    if (specifier instanceof Swc4jAstExportNamedSpecifier namedSpecifier) {
+                        if (!namedSpecifier.isTypeOnly()) {
+                            dependency.addName(getExportName(namedSpecifier.getOrig()));
+                        }
+                    } else if (specifier instanceof Swc4jAstExportDefaultSpecifier) {
+                        dependency.addName(EXPORT_DEFAULT);
+                    } else {
+                        dependency.allNames = true;
+                    }
+                }
+            }
+        }
+        module.program.visit(new Swc4jAstVisitor() {
+            @Override
+            public Swc4jAstVisitorResponse visitCallExpr(Swc4jAstCallExpr node) {
+                if (node.getCallee() instanceof Swc4jAstImport
+                        && !node.getArgs().isEmpty()
+                        && node.getArgs().get(0).getExpr() instanceof Swc4jAstStr str) {
+                    module.getDependency(str.getValue()).allNames = true;
+                }
+                return super.visitCallExpr(node);
+            }
+        });
+    }
+
+    private static void scanDependencies(Module module, Swc4jTokenizeOutput tokens) {
+        // Only the specifiers are needed without tree shaking, so the imported names are not collected.
+        final int size = tokens.getSize();
+        for (int i = 0; i < size; i++) {
+            final Swc4jTokenType type = tokens.getType(i);
+            if ((type != Swc4jTokenType.Import && type != Swc4jTokenType.Export)
+                    || (i > 0 && tokens.getType(i - 1) == Swc4jTokenType.Dot)
+                    || i + 1 >= size) {
+                continue;
+            }
+            int j = i + 1;
+            final Swc4jTokenType nextType = tokens.getType(j);
+            if (type == Swc4jTokenType.Import && nextType == Swc4jTokenType.LParen) {
+                // The dynamic import with a string literal specifier.
+                if (j + 2 < size
+                        && tokens.getType(j + 1) == Swc4jTokenType.Str
+                        && (tokens.getType(j + 2) == Swc4jTokenType.RParen
+                        || tokens.getType(j + 2) == Swc4jTokenType.Comma)) {
+                    module.getDependency(getStringValue(tokens.getText(j + 1))).allNames = true;
+                }
+                continue;
+            }
+            if (type == Swc4jTokenType.Import && nextType == Swc4jTokenType.Str) {
+                module.getDependency(getStringValue(tokens.getText(j))).allNames = true;
+                continue;
+            }
+            if (isWord(tokens, j, "type") && j + 1 < size && !isWord(tokens, j + 1, "from")
+                    && tokens.getType(j + 1) != Swc4jTokenType.Comma
+                    && tokens.getType(j + 1) != Swc4jTokenType.Assign) {
+                // The type only imports and exports are removed by the transpile.
+                continue;
+            }
+            if (type == Swc4jTokenType.Import
+                    ? nextType != Swc4jTokenType.LBrace && nextType != Swc4jTokenType.Mul && !isIdent(nextType)
+                    : nextType != Swc4jTokenType.LBrace && nextType != Swc4jTokenType.Mul) {
+                continue;
+            }
+            // Find the specifier after from, e.g. import a, { b as c } from "d" or export * as e from "f".
+            for (; j + 1 < size; j++) {
+                final Swc4jTokenType clauseType = tokens.getType(j);
+                if (clauseType == Swc4jTokenType.Semi
+                        || clauseType == Swc4jTokenType.Assign
+                        || clauseType == Swc4jTokenType.LParen
+                        || clauseType == Swc4jTokenType.Import
+                        || clauseType == Swc4jTokenType.Export) {
+                    break;
+                }
+                if (isWord(tokens, j, "from") && tokens.getType(j + 1) == Swc4jTokenType.Str) {
+                    module.getDependency(getStringValue(tokens.getText(j + 1))).allNames = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Bundle the entries with the default options.
+     *
+     * @param entries the entries resolved by the resolver without importer
+     * @return the swc4j bundle output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    public Swc4jBundleOutput bundle(List<String> entries) throws Swc4jCoreException {
+        return bundle(entries, new Swc4jBundleOptions());
+    }
+
+    /**
+     * Bundle the entries into one chunk per entry.
+     *
+     * @param entries the entries resolved by the resolver without importer
+     * @param options the options
+     * @return the swc4j bundle output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    public Swc4jBundleOutput bundle(List<String> entries, Swc4jBundleOptions options) throws Swc4jCoreException {
+        AssertionUtils.notTrue(!AssertionUtils.notNull(entries, "Entries").isEmpty(), "Entries must not be empty");
+        AssertionUtils.notNull(options, "Options");
+        final Set<String> entryIds = new LinkedHashSet<>();
+        for (String entry : entries) {
+            final String entryId = resolver.resolve(entry, null);
+            if (entryId == null) {
+                throw Swc4jCoreException.bundleError(MessageFormat.format("Couldn''t resolve entry {0}", entry));
+            }
+            entryIds.add(entryId);
+        }
+        // The parsed sources are released even if the bundle fails or some tasks are still running.
+        try (ParsedSources parsedSources = new ParsedSources()) {
+            return bundle(entryIds, options, parsedSources);
+        }
+    }
+
+    private Swc4jBundleOutput bundle(
+            Set<String> entryIds,
+            Swc4jBundleOptions options,
+            ParsedSources parsedSources) throws Swc4jCoreException {
+        final Swc4jExecutor executor = Optional.ofNullable(options.getExecutor()).orElseGet(Swc4jExecutor::getDefault);
+        // Parse the module graph wave by wave.
+        final Map<String, Module> modules = new LinkedHashMap<>();
+        final Set<String> externals = new LinkedHashSet<>();
+        final Set<String> foundIds = new HashSet<>(entryIds);
+        List<String> wave = new ArrayList<>(entryIds);
+        while (!wave.isEmpty()) {
+            final List<CompletableFuture<Module>> futures = new ArrayList<>(wave.size());
+            for (String id : wave) {
+                futures.add(executor.submit(() -> parseModule(id, options, parsedSources)));
+            }
+            wave = new ArrayList<>();
+            for (Module module : join(futures)) {
+                modules.put(module.id, module);
+                for (Dependency dependency : module.dependencies.values()) {
+                    final String dependencyId = resolver.resolve(dependency.specifier, module.id);
+                    if (dependencyId == null) {
+                        if (BaseSwc4jBundlerResolver.isPathSpecifier(dependency.specifier)) {
+                            throw Swc4jCoreException.bundleError(MessageFormat.format(
+                                    "Couldn''t resolve {0} imported by {1}", dependency.specifier, module.id));
+                        }
+                        externals.add(dependency.specifier);
+                    } else if (foundIds.add(dependencyId)) {
+                        wave.add(dependencyId);
+                    }
+                    dependency.id = dependencyId;
+                }
+            }
+        }
+        if (options.isTreeShaking()) {
+            for (Module module : modules.values()) {
+                module.allExportsUsed |= entryIds.contains(module.id);
+                for (Dependency dependency : module.dependencies.values()) {
+                    if (dependency.id != null) {
+                        final Module dependencyModule = modules.get(dependency.id);
+                        dependencyModule.allExportsUsed |= dependency.allNames;
+                        dependencyModule.usedExports.addAll(dependency.names);
+                    }
+                }
+            }
+            for (Module module : modules.values()) {
+                if (!module.allExportsUsed) {
+                    shake(module);
+                }
+            }
+        }
+        // Transpile the modules once for all the chunks.
+        final List<CompletableFuture<Swc4jTranspileOutput>> futures = new ArrayList<>(modules.size());
+        for (Module module : modules.values()) {
+            futures.add(executor.submit(() -> transpileModule(module, options)));
+        }
+        final List<Swc4jTranspileOutput> transpileOutputs = join(futures);
+        int index = 0;
+        for (Module module : modules.values()) {
+            module.transpileOutput = transpileOutputs.get(index++);
+            // The AST and the parsed source are not needed any more.
+            module.parsedSource = null;
+            module.program = null;
+            module.symbolTable = null;
+        }
+        final List<Swc4jBundleChunk> chunks = new ArrayList<>(entryIds.size());
+        for (String entryId : entryIds) {
+            chunks.add(emitChunk(modules, entryId, options));
+        }
+        return new Swc4jBundleOutput(chunks, new ArrayList<>(modules.keySet()), externals);
+    }
+
+    private Swc4jBundleChunk emitChunk(Map<String, Module> modules, String entryId, Swc4jBundleOptions options) {
+        // Order the modules of the chunk breadth first from the entry.
+        final List<Module> chunkModules = new ArrayList<>();
+        final Map<String, Integer> indexes = new HashMap<>();
+        chunkModules.add(modules.get(entryId));
+        indexes.put(entryId, 0);
+        for (int i = 0; i < chunkModules.size(); i++) {
+            for (Dependency dependency : chunkModules.get(i).dependencies.values()) {
+                if (dependency.id != null && !indexes.containsKey(dependency.id)) {
+                    indexes.put(dependency.id, chunkModules.size());
+                    chunkModules.add(modules.get(dependency.id));
+                }
+            }
+        }
+        final ChunkBuilder chunkBuilder = new ChunkBuilder();
+        final int[] lineOffsets = new int[chunkModules.size()];
+        chunkBuilder.append("(function () {\nvar __swc4j_modules = [\n");
+        for (int i = 0; i < chunkModules.size(); i++) {
+            final Module module = chunkModules.get(i);
+            chunkBuilder.append("function (module, exports, require) {\n");
+            lineOffsets[i] = chunkBuilder.lineCount;
+            chunkBuilder.append(module.transpileOutput.getCode());
+            chunkBuilder.append("\n},\n");
+        }
+        chunkBuilder.append("];\nvar __swc4j_dependencies = [\n");
+        for (Module module : chunkModules) {
+            chunkBuilder.append("{");
+            boolean first = true;
+            for (Dependency dependency : module.dependencies.values()) {
+                if (!first) {
+                    chunkBuilder.append(", ");
+                }
+                first = false;
+                chunkBuilder.append("\"").append(SimpleJsonUtils.escape(dependency.specifier)).append("\": ");
+                if (dependency.id == null) {
+                    chunkBuilder.append("\"").append(SimpleJsonUtils.escape(dependency.specifier)).append("\"");
+                } else {
+                    chunkBuilder.append(String.valueOf(indexes.get(dependency.id)));
+                }
+            }
+            chunkBuilder.append("},\n");
+        }
+        chunkBuilder.append("];\n").append(RUNTIME).append("return __swc4j_require(0);\n})();\n");
+        final List<String> moduleIds = new ArrayList<>(chunkModules.size());
+        chunkModules.forEach(module -> moduleIds.add(module.id));
+        Swc4jSourceMap sourceMap = null;
+        if (options.getSourceMap() != Swc4jSourceMapOption.None) {
+            sourceMap = mergeSourceMaps(chunkModules, lineOffsets, options);
+            if (options.getSourceMap() == Swc4jSourceMapOption.Inline) {
+                chunkBuilder.append(SOURCE_MAPPING_URL_PREFIX).append(Base64.getEncoder().encodeToString(
+                        sourceMap.toJson().getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        return new Swc4jBundleChunk(entryId, chunkBuilder.toString(), moduleIds, sourceMap);
+    }
+
+    /**
+     * Gets resolver.
+     *
+     * @return the resolver
+     * @since 2.3.0
+     */
+    public ISwc4jBundlerResolver getResolver() {
+        return resolver;
+    }
+
+    private Swc4jSourceMap mergeSourceMaps(List<Module> chunkModules, int[] lineOffsets, Swc4jBundleOptions options) {
+        final List<String> sources = new ArrayList<>(chunkModules.size());
+        final List<String> sourcesContent = options.isInlineSources() ? new ArrayList<>(chunkModules.size()) : null;
+        final List<String> names = new ArrayList<>();
+        int segmentLength = 0;
+        for (Module module : chunkModules) {
+            final Swc4jSourceMap moduleSourceMap = module.transpileOutput.getRawSourceMap();
+            segmentLength += moduleSourceMap == null ? 0 : moduleSourceMap.getSegments().length;
+        }
+        final int[] segments = new int[segmentLength];
+        int offset = 0;
+        for (int i = 0; i < chunkModules.size(); i++) {
+            final Module module = chunkModules.get(i);
+            sources.add(module.id);
+            if (sourcesContent != null) {
+                sourcesContent.add(module.code);
+            }
+            final Swc4jSourceMap moduleSourceMap = module.transpileOutput.getRawSourceMap();
+            if (moduleSourceMap == null) {
+                continue;
+            }
+            // Each module is transpiled alone, so all its segments point to the module itself.
+            final int nameOffset = names.size();
+            names.addAll(moduleSourceMap.getNames());
+            final int[] moduleSegments = moduleSourceMap.getSegments();
+            System.arraycopy(moduleSegments, 0, segments, offset, moduleSegments.length);
+            for (int j = offset; j < offset + moduleSegments.length; j += Swc4jSourceMap.SEGMENT_SIZE) {
+                segments[j] += lineOffsets[i];
+                if (segments[j + 2] != Swc4jSourceMap.ABSENT) {
+                    segments[j + 2] = i;
+                }
+                if (segments[j + 5] != Swc4jSourceMap.ABSENT) {
+                    segments[j + 5] += nameOffset;
+                }
+            }
+            offset += moduleSegments.length;
+        }
+        return new Swc4jSourceMap(sources, sourcesContent, names, segments);
+    }
+
+    private Module parseModule(
+            String id,
+            Swc4jBundleOptions options,
+            ParsedSources parsedSources) throws Swc4jCoreException {
+        final String code;
+        try {
+            code = resolver.load(id);
+        } catch (IOException e) {
+            throw Swc4jCoreException.bundleError(MessageFormat.format("Couldn''t load module {0}", id), e);
+        }
+        if (code == null) {
+            throw Swc4jCoreException.bundleError(MessageFormat.format("Couldn''t load module {0}", id));
+        }
+        final Swc4jMediaType mediaType = resolver.getMediaType(id);
+        final Module module = new Module(id, code, mediaType);
+        final Swc4jParseOptions parseOptions = new Swc4jParseOptions()
+                .setCancellationToken(options.getCancellationToken())
+                .setCaptureAst(options.isTreeShaking())
+                .setCaptureSourceText(false)
+                .setMediaType(mediaType)
+                .setParseMode(Swc4jParseMode.Module)
+                .setScopeAnalysis(options.isTreeShaking())
+                .setTimeoutMillis(options.getTimeoutMillis());
+        try {
+            if (options.isTreeShaking()) {
+                module.parsedSource = parsedSources.add(swc4j.parseRetained(code, parseOptions));
+                final Swc4jParseOutput output = module.parsedSource.getParseOutput(parseOptions);
+                module.program = output.getProgram().as(Swc4jAstModule.class);
+                module.symbolTable = output.getSymbolTable();
+                scanDependencies(module);
+            } else {
+                scanDependencies(module, swc4j.tokenize(code, parseOptions));
+            }
+        } catch (Swc4jCancellationException e) {
+            throw e;
+        } catch (Swc4jCoreException e) {
+            throw Swc4jCoreException.bundleError(
+                    MessageFormat.format("Couldn''t parse module {0}: {1}", id, e.getMessage()), e);
+        }
+        return module;
+    }
+
+    private void shake(Module module) {
+        final Swc4jSymbolTable symbolTable = module.symbolTable;
+        if (symbolTable == null) {
+            return;
+        }
+        final List<ISwc4jAstModuleItem> items = module.program.getBody();
+        final int itemCount = items.size();
+        final int[] starts = new int[itemCount];
+        final int[] ends = new int[itemCount];
+        final int[] declStarts = new int[itemCount];
+        final boolean[] removable = new boolean[itemCount];
+        final boolean[] kept = new boolean[itemCount];
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = 0; i < itemCount; i++) {
+            final ISwc4jAstModuleItem item = items.get(i);
+            starts[i] = item.getSpan().getStart();
+            ends[i] = item.getSpan().getEnd();
+            declStarts[i] = Swc4jSymbolTable.ABSENT;
+            boolean root = true;
+            if (item instanceof Swc4jAstExportDecl exportDecl) {
+                final List<String> names = getDeclaredNames(exportDecl.getDecl());
+                removable[i] = names != null && isPure(exportDecl.getDecl());
+                root = !removable[i] || names.stream().anyMatch(module.usedExports::contains);
+                declStarts[i] = exportDecl.getDecl().getSpan().getStart();
+            } else if (item instanceof Swc4jAstExportDefaultDecl exportDefaultDecl) {
+                removable[i] = isPure(exportDefaultDecl.getDecl());
+                root = !removable[i] || module.usedExports.contains(EXPORT_DEFAULT);
+                declStarts[i] = exportDefaultDecl.getDecl().getSpan().getStart();
+            } else if (item instanceof Swc4jAstFnDecl
+                    || item instanceof Swc4jAstClassDecl
+                    || item instanceof Swc4jAstVarDecl) {
+                removable[i] = isPure(item);
+                root = !removable[i];
+            }
+            if (root) {
+                kept[i] = true;
+                queue.add(i);
+            }
+        }
+        // A binding may be declared by more than one item, e.g. the overloads or the redeclared vars.
+        final Map<Integer, List<Integer>> declarationItems = new HashMap<>();
+        final int occurrenceCount = symbolTable.getOccurrenceCount();
+        for (int j = 0; j < occurrenceCount; j++) {
+            if (symbolTable.isDeclaration(j)) {
+                final int itemIndex = findItem(starts, ends, symbolTable.getOccurrenceStart(j));
+                if (itemIndex >= 0) {
+                    declarationItems
+                            .computeIfAbsent(symbolTable.getOccurrenceBindingId(j), k -> new ArrayList<>())
+                            .add(itemIndex);
+                }
+            }
+        }
+        // Keep the items declaring the bindings referenced by the kept items.
+        while (!queue.isEmpty()) {
+            final int i = queue.poll();
+            int low = 0;
+            int high = occurrenceCount;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (symbolTable.getOccurrenceStart(middle) < starts[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int j = low; j < occurrenceCount && symbolTable.getOccurrenceStart(j) < ends[i]; j++) {
+                if (!symbolTable.isDeclaration(j)) {
+                    for (int k : declarationItems.getOrDefault(symbolTable.getOccurrenceBindingId(j), List.of())) {
+                        if (!kept[k]) {
+                            kept[k] = true;
+                            queue.add(k);
+                        }
+                    }
+                }
+            }
+        }
+        // Blank out the removed items and the export keywords of the kept unused exports.
+        final List<int[]> ranges = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            if (!kept[i]) {
+                ranges.add(new int[]{starts[i], ends[i]});
+            } else if (removable[i] && declStarts[i] != Swc4jSymbolTable.ABSENT) {
+                final ISwc4jAstModuleItem item = items.get(i);
+                final List<String> names = item instanceof Swc4jAstExportDecl exportDecl
+                        ? getDeclaredNames(exportDecl.getDecl())
+                        : List.of(EXPORT_DEFAULT);
+                if (names.stream().noneMatch(module.usedExports::contains)) {
+                    ranges.add(new int[]{starts[i], declStarts[i]});
+                }
+            }
+        }
+        if (ranges.isEmpty()) {
+            return;
+        }
+        // The spans are in code points and the removed code points are replaced per UTF-16 char,
+        // so that the lines and the UTF-16 columns of the source map stay the same.
+        final String code = module.code;
+        final char[] chars = code.toCharArray();
+        int charIndex = 0;
+        int codePointIndex = 0;
+        for (int[] range : ranges) {
+            while (codePointIndex < range[0] && charIndex < chars.length) {
+                charIndex += Character.charCount(code.codePointAt(charIndex));
+                codePointIndex++;
+            }
+            final int start = charIndex;
+            while (codePointIndex < range[1] && charIndex < chars.length) {
+                charIndex += Character.charCount(code.codePointAt(charIndex));
+                codePointIndex++;
+            }
+            blank(chars, start, charIndex);
+        }
+        module.shakenCode = new String(chars);
+    }
+
+    private Swc4jTranspileOutput transpileModule(Module module, Swc4jBundleOptions options) throws Swc4jCoreException {
+        final Swc4jTranspileOptions transpileOptions = new Swc4jTranspileOptions()
+                .setCancellationToken(options.getCancellationToken())
+                .setDecorators(options.getDecorators())
+                .setInlineSources(false)
+                .setJsx(options.getJsx())
+                .setKeepComments(options.isKeepComments())
+                .setMediaType(module.mediaType)
+                .setModuleKind(Swc4jModuleKind.Cjs)
+                .setParseMode(Swc4jParseMode.Module)
+                .setSourceMap(options.getSourceMap() == Swc4jSourceMapOption.None
+                        ? Swc4jSourceMapOption.None
+                        : Swc4jSourceMapOption.Separate)
+                .setTimeoutMillis(options.getTimeoutMillis());
+        try {
+            if (module.shakenCode != null) {
+                return swc4j.transpile(module.shakenCode, transpileOptions);
+            } else if (module.parsedSource != null) {
+                // The module is left unchanged by the tree shaking so the parse is reused.
+                try (Swc4jParsedSource parsedSource = module.parsedSource) {
+                    return parsedSource.transpile(transpileOptions);
+                }
+            }
+            return swc4j.transpile(module.code, transpileOptions);
+        } catch (Swc4jCancellationException e) {
+            throw e;
+        } catch (Swc4jCoreException e) {
+            throw Swc4jCoreException.bundleError(
+                    MessageFormat.format("Couldn''t transpile module {0}: {1}", module.id, e.getMessage()), e);
+        }
+    }
+
+    private static final class ChunkBuilder {
+        private final StringBuilder sb = new StringBuilder();
+        private int lineCount = 0;
+
+        public ChunkBuilder append(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    lineCount++;
+                }
+            }
+            sb.append(text);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
+
+    private static final class Dependency {
+        private final Set<String> names;
+        private final String specifier;
+        private boolean allNames;
+        private String id;
+
+        public Dependency(String specifier) {
+            allNames = false;
+            id = null;
+            names = new HashSet<>();
+            this.specifier = specifier;
+        }
+
+        public void addName(String name) {
+            if (name == null) {
+                allNames = true;
+            } else {
+                names.add(name);
+            }
+        }
+    }
+
+    private static final class Module {
+        private final String code;
+        private final Map<String, Dependency> dependencies;
+        private final String id;
+        private final Swc4jMediaType mediaType;
+        private final Set<String> usedExports;
+        private boolean allExportsUsed;
+        private Swc4jParsedSource parsedSource;
+        private Swc4jAstModule program;
+        private String shakenCode;
+        private Swc4jSymbolTable symbolTable;
+        private Swc4jTranspileOutput transpileOutput;
+
+        public Module(String id, String code, Swc4jMediaType mediaType) {
+            allExportsUsed = false;
+            this.code = code;
+            dependencies = new LinkedHashMap<>();
+            this.id = id;
+            this.mediaType = mediaType;
+            parsedSource = null;
+            program = null;
+            shakenCode = null;
+            symbolTable = null;
+            transpileOutput = null;
+            usedExports = new HashSet<>();
+        }
+
+        public Dependency getDependency(String specifier) {
+            return dependencies.computeIfAbsent(specifier, Dependency::new);
+        }
+    }
+
+    private static final class ParsedSources implements AutoCloseable {
+        private final List<Swc4jParsedSource> parsedSources;
+        private boolean closed;
+
+        public ParsedSources() {
+            closed = false;
+            parsedSources = new ArrayList<>();
+        }
+
+        public synchronized Swc4jParsedSource add(Swc4jParsedSource parsedSource) {
+            if (closed) {
+                // The bundle has failed while the parse was running.
+                parsedSource.close();
+            } else {
+                parsedSources.add(parsedSource);
+            }
+            return parsedSource;
+        }
+
+        @Override
+        public synchronized void close() {
+            closed = true;
+            parsedSources.forEach(Swc4jParsedSource::close);
+            parsedSources.clear();
+        }
+    }
+}
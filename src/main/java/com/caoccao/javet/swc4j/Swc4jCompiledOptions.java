@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.options.Swc4jOptions;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The type Swc4j compiled options is an immutable snapshot of the options decoded natively once
+ * so that the calls reusing it skip reading the options over JNI.
+ * <p>
+ * Changing the original options after compilation has no effect on the compiled options.
+ * The compiled options can be shared across threads. Closing them waits for the calls in progress,
+ * and the calls after closing fail with an {@link IllegalStateException}.
+ *
+ * @param <Options> the type of the options
+ * @since 2.3.0
+ */
+public final class Swc4jCompiledOptions<Options extends Swc4jOptions> implements AutoCloseable {
+    private final ReadWriteLock lock;
+    private final Class<?> optionsClass;
+    private volatile long handle;
+
+    Swc4jCompiledOptions(Class<?> optionsClass, long handle) {
+        AssertionUtils.notTrue(handle != 0L, "Handle must not be 0");
+        this.handle = handle;
+        lock = new ReentrantReadWriteLock();
+        this.optionsClass = optionsClass;
+    }
+
+    /**
+     * Acquire the handle for a native call. The handle is kept valid until it is released
+     * so that closing the compiled options on another thread does not free it during the call.
+     *
+     * @return the handle
+     */
+    long acquireHandle() {
+        lock.readLock().lock();
+        final long handle = this.handle;
+        if (handle == 0L) {
+            lock.readLock().unlock();
+            throw new IllegalStateException("Swc4jCompiledOptions is closed");
+        }
+        return handle;
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (handle != 0L) {
+                Swc4jNative.coreCompiledOptionsClose(handle);
+                handle = 0L;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets options class.
+     *
+     * @return the options class
+     * @since 2.3.0
+     */
+    public Class<?> getOptionsClass() {
+        return optionsClass;
+    }
+
+    /**
+     * Is closed.
+     *
+     * @return true : closed, false : not closed
+     * @since 2.3.0
+     */
+    public boolean isClosed() {
+        return handle == 0L;
+    }
+
+    void releaseHandle() {
+        lock.readLock().unlock();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The type Swc4j executor runs the blocking native calls on a bounded pool of platform threads,
+ * so that the virtual threads waiting for the results do not pin their carrier threads.
+ * <p>
+ * The capacity bounds the number of the calls that are either running or queued.
+ * Once the capacity is reached, the submitting thread is blocked until a call completes,
+ * which is cheap for a virtual thread and applies the backpressure to the callers.
+ * <p>
+ * The worker threads are daemon threads with the same stack size as the native batch workers
+ * because parsing the deeply nested code is recursive.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jExecutor implements AutoCloseable {
+    /**
+     * The constant DEFAULT_QUEUE_CAPACITY.
+     *
+     * @since 2.3.0
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    /**
+     * The constant WORKER_STACK_SIZE.
+     *
+     * @since 2.3.0
+     */
+    public static final long WORKER_STACK_SIZE = 16L * 1024L * 1024L;
+    private static final AtomicInteger POOL_INDEX = new AtomicInteger();
+    private static volatile Swc4jExecutor defaultInstance;
+    private final int capacity;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+    private final int threadCount;
+
+    /**
+     * Instantiates a new Swc4j executor.
+     *
+     * @param threadCount   the number of the worker threads
+     * @param queueCapacity the max number of the queued calls
+     * @since 2.3.0
+     */
+    public Swc4jExecutor(int threadCount, int queueCapacity) {
+        AssertionUtils.notTrue(threadCount > 0, "Thread count must be positive");
+        AssertionUtils.notTrue(queueCapacity >= 0, "Queue capacity must not be negative");
+        capacity = threadCount + queueCapacity;
+        permits = new Semaphore(capacity, true);
+        this.threadCount = threadCount;
+        final int poolIndex = POOL_INDEX.incrementAndGet();
+        final AtomicInteger threadIndex = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(
+                    null,
+                    runnable,
+                    "swc4j-executor-" + poolIndex + "-" + threadIndex.incrementAndGet(),
+                    WORKER_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+        // The queue is unbounded because the permits bound it.
+        executor = new ThreadPoolExecutor(
+                threadCount, threadCount, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    /**
+     * Gets the shared default executor with one thread per available processor.
+     * It is created on first use and never closed.
+     *
+     * @return the default executor
+     * @since 2.3.0
+     */
+    public static Swc4jExecutor getDefault() {
+        Swc4jExecutor instance = defaultInstance;
+        if (instance == null) {
+            synchronized (Swc4jExecutor.class) {
+                instance = defaultInstance;
+                if (instance == null) {
+                    instance = new Swc4jExecutor(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+                    defaultInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Close the executor. The submitted calls still run to completion,
+     * and no more calls can be submitted.
+     *
+     * @since 2.3.0
+     */
+    @Override
+    public void close() {
+        if (this == defaultInstance) {
+            throw new IllegalStateException("The default Swc4jExecutor cannot be closed");
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Gets the number of the calls that are running.
+     *
+     * @return the active count
+     * @since 2.3.0
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Gets the max number of the calls that are either running or queued.
+     *
+     * @return the capacity
+     * @since 2.3.0
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the approximate number of the completed calls.
+     *
+     * @return the completed count
+     * @since 2.3.0
+     */
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /**
+     * Gets the number of the calls that are waiting in the queue for a worker thread.
+     *
+     * @return the queue depth
+     * @since 2.3.0
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Gets the number of the worker threads.
+     *
+     * @return the thread count
+     * @since 2.3.0
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Gets the approximate number of the threads that are blocked by the backpressure.
+     *
+     * @return the waiting count
+     * @since 2.3.0
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Is closed.
+     *
+     * @return true : closed, false : not closed
+     * @since 2.3.0
+     */
+    public boolean isClosed() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Submit the call. The calling thread is blocked while the executor is at capacity.
+     * The returned future is completed exceptionally with the exception thrown by the call,
+     * or with {@link InterruptedException} if the calling thread is interrupted while being blocked.
+     *
+     * @param <T>      the type parameter
+     * @param callable the callable
+     * @return the completable future
+     * @since 2.3.0
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> callable) {
+        AssertionUtils.notNull(callable, "Callable");
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("Swc4jExecutor is closed");
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+            return future;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(callable.call());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw new IllegalStateException("Swc4jExecutor is closed", e);
+        }
+        return future;
+    }
+}
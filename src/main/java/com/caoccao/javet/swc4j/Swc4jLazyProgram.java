@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.ast.enums.Swc4jAstType;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstProgram;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+
+import java.util.List;
+
+/**
+ * The type Swc4j lazy program keeps the parsed program alive natively and
+ * only materializes the top level items in Java when they are first accessed.
+ * <p>
+ * The program returned by {@link #getProgram()} carries the span and shebang with an empty body
+ * until {@link #getItem(int)} or {@link #materialize()} is called.
+ * It must be closed to release the native memory.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jLazyProgram implements AutoCloseable {
+    private final ISwc4jAst[] items;
+    private final Swc4jAstType[] itemTypes;
+    private long handle;
+    private ISwc4jAstProgram<?> program;
+
+    Swc4jLazyProgram(long handle) {
+        AssertionUtils.notTrue(handle != 0L, "Handle must not be 0");
+        this.handle = handle;
+        List<Integer> itemTypeIds = Swc4jNative.coreLazyProgramGetItemTypeIds(handle);
+        final int length = itemTypeIds.size();
+        items = new ISwc4jAst[length];
+        itemTypes = new Swc4jAstType[length];
+        for (int i = 0; i < length; i++) {
+            itemTypes[i] = Swc4jAstType.parse(itemTypeIds.get(i));
+        }
+        program = null;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (handle != 0L) {
+            Swc4jNative.coreLazyProgramClose(handle);
+            handle = 0L;
+        }
+    }
+
+    /**
+     * Gets the top level item by index.
+     * The item is built in Java on the first call and cached afterwards.
+     *
+     * @param index the index
+     * @return the item
+     * @since 2.3.0
+     */
+    public synchronized ISwc4jAst getItem(int index) {
+        if (index < 0 || index >= items.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of range [0, " + items.length + ")");
+        }
+        ISwc4jAst item = items[index];
+        if (item == null) {
+            validate();
+            item = (ISwc4jAst) Swc4jNative.coreLazyProgramGetItem(handle, index);
+            item.setParent(getProgram());
+            items[index] = item;
+        }
+        return item;
+    }
+
+    /**
+     * Gets item count.
+     *
+     * @return the item count
+     * @since 2.3.0
+     */
+    public int getItemCount() {
+        return items.length;
+    }
+
+    /**
+     * Gets item type without building the item.
+     *
+     * @param index the index
+     * @return the item type
+     * @since 2.3.0
+     */
+    public Swc4jAstType getItemType(int index) {
+        return itemTypes[index];
+    }
+
+    /**
+     * Gets item types without building the items.
+     *
+     * @return the item types
+     * @since 2.3.0
+     */
+    public List<Swc4jAstType> getItemTypes() {
+        return SimpleList.of(itemTypes);
+    }
+
+    /**
+     * Gets the program with an empty body.
+     * Call {@link #materialize()} to fill the body.
+     *
+     * @return the program
+     * @since 2.3.0
+     */
+    public synchronized ISwc4jAstProgram<?> getProgram() {
+        if (program == null) {
+            validate();
+            program = (ISwc4jAstProgram<?>) Swc4jNative.coreLazyProgramGetProgram(handle);
+        }
+        return program;
+    }
+
+    /**
+     * Is closed.
+     *
+     * @return true : closed, false : not closed
+     * @since 2.3.0
+     */
+    public synchronized boolean isClosed() {
+        return handle == 0L;
+    }
+
+    /**
+     * Build all the items and fill the body of the program.
+     * The items already built are reused.
+     *
+     * @return the program
+     * @since 2.3.0
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized ISwc4jAstProgram<?> materialize() {
+        ISwc4jAstProgram<?> program = getProgram();
+        List<ISwc4jAst> body = (List<ISwc4jAst>) program.getBody();
+        if (body.size() < items.length) {
+            body.clear();
+            for (int i = 0; i < items.length; i++) {
+                body.add(getItem(i));
+            }
+        }
+        return program;
+    }
+
+    private void validate() {
+        if (handle == 0L) {
+            throw new IllegalStateException("Swc4jLazyProgram is closed");
+        }
+    }
+}
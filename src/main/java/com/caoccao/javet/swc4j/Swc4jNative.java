@@ -16,6 +16,9 @@
 
 package com.caoccao.javet.swc4j;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
 /**
  * The type swc4j native.
  */
@@ -24,6 +27,37 @@ final class Swc4jNative {
     private Swc4jNative() {
     }
 
+    /**
+     * Core compile parse options long.
+     *
+     * @param options the options
+     * @return the handle of the native compiled options
+     */
+    static native long coreCompileParseOptions(Object options);
+
+    /**
+     * Core compile transform options long.
+     *
+     * @param options the options
+     * @return the handle of the native compiled options
+     */
+    static native long coreCompileTransformOptions(Object options);
+
+    /**
+     * Core compile transpile options long.
+     *
+     * @param options the options
+     * @return the handle of the native compiled options
+     */
+    static native long coreCompileTranspileOptions(Object options);
+
+    /**
+     * Core compiled options close.
+     *
+     * @param handle the handle
+     */
+    static native void coreCompiledOptionsClose(long handle);
+
     /**
      * Core get version string.
      *
@@ -31,6 +65,47 @@ final class Swc4jNative {
      */
     static native String coreGetVersion();
 
+    /**
+     * Core lazy program close.
+     *
+     * @param handle the handle
+     */
+    static native void coreLazyProgramClose(long handle);
+
+    /**
+     * Core lazy program get item object.
+     *
+     * @param handle the handle
+     * @param index  the index
+     * @return the object
+     */
+    static native Object coreLazyProgramGetItem(long handle, int index);
+
+    /**
+     * Core lazy program get item type ids list.
+     *
+     * @param handle the handle
+     * @return the list
+     */
+    static native List<Integer> coreLazyProgramGetItemTypeIds(long handle);
+
+    /**
+     * Core lazy program get program object with an empty body.
+     *
+     * @param handle the handle
+     * @return the object
+     */
+    static native Object coreLazyProgramGetProgram(long handle);
+
+    /**
+     * Core minify object.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreMinify(String code, Object options);
+
     /**
      * Core parse object.
      *
@@ -40,6 +115,118 @@ final class Swc4jNative {
      */
     static native Object coreParse(String code, Object options);
 
+    /**
+     * Core parse batch list.
+     * Each item of the returned list is either the output or the swc4j core exception.
+     *
+     * @param codes   the codes
+     * @param options the options
+     * @return the list
+     */
+    static native List<?> coreParseBatch(List<String> codes, Object options);
+
+    /**
+     * Core parse byte buffer object.
+     * The direct byte buffer is read in place.
+     *
+     * @param code    the UTF-8 code in a direct byte buffer
+     * @param offset  the offset
+     * @param length  the length
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreParseByteBuffer(ByteBuffer code, int offset, int length, Object options);
+
+    /**
+     * Core parse bytes object.
+     *
+     * @param code    the UTF-8 code
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreParseBytes(byte[] code, Object options);
+
+    /**
+     * Core parse file object.
+     * The file is read natively as UTF-8.
+     *
+     * @param path    the path
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreParseFile(String path, Object options);
+
+    /**
+     * Core parse lazy long.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the handle of the native lazy program
+     */
+    static native long coreParseLazy(String code, Object options);
+
+    /**
+     * Core parse retained long.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the handle of the native parsed source
+     */
+    static native long coreParseRetained(String code, Object options);
+
+    /**
+     * Core parse with compiled options object.
+     *
+     * @param code   the code
+     * @param handle the handle of the native compiled options
+     * @return the object
+     */
+    static native Object coreParseWithCompiledOptions(String code, long handle);
+
+    /**
+     * Core parsed source close.
+     *
+     * @param handle the handle
+     */
+    static native void coreParsedSourceClose(long handle);
+
+    /**
+     * Core parsed source get parse output object.
+     *
+     * @param handle  the handle
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreParsedSourceGetParseOutput(long handle, Object options);
+
+    /**
+     * Core parsed source transform object.
+     *
+     * @param handle  the handle
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreParsedSourceTransform(long handle, Object options);
+
+    /**
+     * Core parsed source transpile object.
+     *
+     * @param handle  the handle
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreParsedSourceTranspile(long handle, Object options);
+
+    /**
+     * Core tokenize object.
+     * Only the lexer runs so that no AST is built.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreTokenize(String code, Object options);
+
     /**
      * Core transform object.
      *
@@ -49,6 +236,46 @@ final class Swc4jNative {
      */
     static native Object coreTransform(String code, Object options);
 
+    /**
+     * Core transform batch list.
+     * Each item of the returned list is either the output or the swc4j core exception.
+     *
+     * @param codes   the codes
+     * @param options the options
+     * @return the list
+     */
+    static native List<?> coreTransformBatch(List<String> codes, Object options);
+
+    /**
+     * Core transform program object.
+     * The program is converted from Java and only the codegen runs without parsing.
+     *
+     * @param program the program
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreTransformProgram(Object program, Object options);
+
+    /**
+     * Core transform to sink object.
+     * The code and the source map are written to the output sink instead of the output.
+     *
+     * @param code       the code
+     * @param options    the options
+     * @param outputSink the output sink
+     * @return the object
+     */
+    static native Object coreTransformToSink(String code, Object options, Object outputSink);
+
+    /**
+     * Core transform with compiled options object.
+     *
+     * @param code   the code
+     * @param handle the handle of the native compiled options
+     * @return the object
+     */
+    static native Object coreTransformWithCompiledOptions(String code, long handle);
+
     /**
      * Core transpile object.
      *
@@ -57,4 +284,75 @@ final class Swc4jNative {
      * @return the object
      */
     static native Object coreTranspile(String code, Object options);
+
+    /**
+     * Core transpile batch list.
+     * Each item of the returned list is either the output or the swc4j core exception.
+     *
+     * @param codes   the codes
+     * @param options the options
+     * @return the list
+     */
+    static native List<?> coreTranspileBatch(List<String> codes, Object options);
+
+    /**
+     * Core transpile byte buffer object.
+     * The direct byte buffer is read in place.
+     *
+     * @param code    the UTF-8 code in a direct byte buffer
+     * @param offset  the offset
+     * @param length  the length
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreTranspileByteBuffer(ByteBuffer code, int offset, int length, Object options);
+
+    /**
+     * Core transpile bytes object.
+     *
+     * @param code    the UTF-8 code
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreTranspileBytes(byte[] code, Object options);
+
+    /**
+     * Core transpile file object.
+     * The file is read natively as UTF-8.
+     *
+     * @param path    the path
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreTranspileFile(String path, Object options);
+
+    /**
+     * Core transpile program object.
+     * The program is converted from Java and only the codegen runs without parsing.
+     *
+     * @param program the program
+     * @param options the options
+     * @return the object
+     */
+    static native Object coreTranspileProgram(Object program, Object options);
+
+    /**
+     * Core transpile to sink object.
+     * The code and the source map are written to the output sink instead of the output.
+     *
+     * @param code       the code
+     * @param options    the options
+     * @param outputSink the output sink
+     * @return the object
+     */
+    static native Object coreTranspileToSink(String code, Object options, Object outputSink);
+
+    /**
+     * Core transpile with compiled options object.
+     *
+     * @param code   the code
+     * @param handle the handle of the native compiled options
+     * @return the object
+     */
+    static native Object coreTranspileWithCompiledOptions(String code, long handle);
 }
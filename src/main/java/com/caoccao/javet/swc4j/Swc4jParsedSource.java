@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jParseOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTransformOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+/**
+ * The type Swc4j parsed source keeps the parsed source alive natively so that
+ * it can be transformed or transpiled repeatedly with different options without being parsed again,
+ * e.g. emitting ES2015, ES2022 and a minified build from one parse.
+ * <p>
+ * The parse related options, e.g. the media type, parse mode, specifier and plugin host, are taken from the parse
+ * and the ones in the transform or transpile options are ignored.
+ * It must be closed to release the native memory.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jParsedSource implements AutoCloseable {
+    private long handle;
+
+    Swc4jParsedSource(long handle) {
+        AssertionUtils.notTrue(handle != 0L, "Handle must not be 0");
+        this.handle = handle;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (handle != 0L) {
+            Swc4jNative.coreParsedSourceClose(handle);
+            handle = 0L;
+        }
+    }
+
+    /**
+     * Gets the parse output of the parsed source without parsing it again,
+     * e.g. to analyze the AST before transpiling the parsed source.
+     * The capture options are taken from the given options.
+     * The tokens can only be captured and the scope analysis can only be applied if they are by the parse.
+     *
+     * @param options the options
+     * @return the swc4j parse output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public synchronized Swc4jParseOutput getParseOutput(Swc4jParseOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(options, "Options");
+        validate();
+        return (Swc4jParseOutput) Swc4jNative.coreParsedSourceGetParseOutput(handle, options);
+    }
+
+    /**
+     * Is closed.
+     *
+     * @return true : closed, false : not closed
+     * @since 2.3.0
+     */
+    public synchronized boolean isClosed() {
+        return handle == 0L;
+    }
+
+    /**
+     * Transform the parsed source.
+     *
+     * @param options the options
+     * @return the swc4j transform output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public synchronized Swc4jTransformOutput transform(Swc4jTransformOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(options, "Options");
+        validate();
+        return (Swc4jTransformOutput) Swc4jNative.coreParsedSourceTransform(handle, options);
+    }
+
+    /**
+     * Transpile the parsed source.
+     * The tokens can only be captured if they are captured by the parse.
+     *
+     * @param options the options
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantThrows")
+    public synchronized Swc4jTranspileOutput transpile(Swc4jTranspileOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(options, "Options");
+        validate();
+        return (Swc4jTranspileOutput) Swc4jNative.coreParsedSourceTranspile(handle, options);
+    }
+
+    private void validate() {
+        if (handle == 0L) {
+            throw new IllegalStateException("Swc4jParsedSource is closed");
+        }
+    }
+}
@@ -0,0 +1,716 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
+import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.interfaces.ISwc4jLogger;
+import com.caoccao.javet.swc4j.options.Swc4jOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTransformOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jSourceMap;
+import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.Swc4jDefaultLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * The type Swc4j persistent cache keeps the transpile and transform outputs on disk
+ * so that they survive JVM restarts and can be shared by the builds on the same machine.
+ * <p>
+ * The entries are content-addressed files named by the SHA-256 of the source, the options fingerprint
+ * from {@link Swc4jTranspileCache#getFingerprint(Swc4jOptions)} and the swc4j version,
+ * so upgrading swc4j never hits an entry produced by another version.
+ * A memory-mapped index file tracks the size of every entry and links the entries in the access order,
+ * so a lookup never lists the directory and the eviction removes the least recently used entries
+ * in constant time once the max entries or the max bytes are exceeded.
+ * <p>
+ * The entries are written to temporary files and atomically moved in place,
+ * so readers never see partial entries. The index file is locked while the cache is open,
+ * so only one cache instance can use a directory at a time.
+ * The I/O errors never fail the calls. They are logged and the calls fall back to the native side.
+ * <p>
+ * Only the code, the source map, the media type, the parse mode and optionally the source text are restored.
+ * The calls with a plugin host or capturing the AST, the comments or the tokens bypass the cache.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jPersistentCache implements AutoCloseable {
+    private static final String ENTRIES = "entries";
+    private static final int ENTRY_MAGIC = 0x53344345;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final String INDEX = "index";
+    private static final int INDEX_MAGIC = 0x53344349;
+    private static final int KEY_SIZE = 32;
+    private static final byte KIND_TRANSFORM = 1;
+    private static final byte KIND_TRANSPILE = 0;
+    private static final ISwc4jLogger LOGGER = new Swc4jDefaultLogger(Swc4jPersistentCache.class.getName());
+    private static final int MAX_ENTRIES = 1 << 20;
+    private static final int NONE = -1;
+    private static final int OFFSET_CAPACITY = 8;
+    private static final int OFFSET_COUNT = 12;
+    private static final int OFFSET_HEAD = 24;
+    private static final int OFFSET_NEXT = 44;
+    private static final int OFFSET_PREVIOUS = 40;
+    private static final int OFFSET_SIZE = 32;
+    private static final int OFFSET_TAIL = 28;
+    private static final int OFFSET_TOTAL_BYTES = 16;
+    private static final int SLOT_SIZE = 48;
+    private final AtomicLong bypassCount;
+    private final int capacity;
+    private final FileChannel channel;
+    private final Path directory;
+    private final Path entriesDirectory;
+    private final AtomicLong errorCount;
+    private final AtomicLong evictionCount;
+    private final AtomicLong hitCount;
+    private final MappedByteBuffer index;
+    private final FileLock lock;
+    private final long maxBytes;
+    private final int maxEntries;
+    private final AtomicLong missCount;
+    private final Swc4j swc4j;
+    private final byte[] version;
+    private boolean closed;
+    private long probeCount;
+
+    /**
+     * Instantiates a new Swc4j persistent cache.
+     * The existing entries are kept if the index is compatible, otherwise they are removed.
+     *
+     * @param swc4j      the swc4j
+     * @param directory  the directory
+     * @param maxEntries the max number of the entries
+     * @param maxBytes   the max total bytes of the entries
+     * @throws IOException the io exception
+     * @since 2.3.0
+     */
+    public Swc4jPersistentCache(Swc4j swc4j, Path directory, int maxEntries, long maxBytes) throws IOException {
+        AssertionUtils.notTrue(maxEntries > 0 && maxEntries <= MAX_ENTRIES,
+                "Max entries must be in range [1, " + MAX_ENTRIES + "]");
+        AssertionUtils.notTrue(maxBytes > 0, "Max bytes must be positive");
+        bypassCount = new AtomicLong();
+        closed = false;
+        errorCount = new AtomicLong();
+        evictionCount = new AtomicLong();
+        hitCount = new AtomicLong();
+        missCount = new AtomicLong();
+        probeCount = 0;
+        this.directory = AssertionUtils.notNull(directory, "Directory");
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+        this.swc4j = AssertionUtils.notNull(swc4j, "Swc4j");
+        version = swc4j.getVersion().getBytes(StandardCharsets.UTF_8);
+        // The load factor is at most 0.5 so that the linear probing stays short.
+        int slots = 16;
+        while (slots < maxEntries * 2) {
+            slots <<= 1;
+        }
+        capacity = slots;
+        entriesDirectory = directory.resolve(ENTRIES);
+        Files.createDirectories(entriesDirectory);
+        channel = FileChannel.open(
+                directory.resolve(INDEX),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            FileLock fileLock;
+            try {
+                fileLock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                fileLock = null;
+            }
+            if (fileLock == null) {
+                throw new IOException(directory + " is in use by another Swc4jPersistentCache");
+            }
+            lock = fileLock;
+            final long indexSize = HEADER_SIZE + (long) capacity * SLOT_SIZE;
+            final boolean sizeMatched = channel.size() == indexSize;
+            if (!sizeMatched) {
+                channel.truncate(0);
+            }
+            index = channel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize);
+            if (!sizeMatched
+                    || index.getInt(0) != INDEX_MAGIC
+                    || index.getInt(4) != FORMAT_VERSION
+                    || index.getInt(OFFSET_CAPACITY) != capacity) {
+                reset();
+            }
+            evict();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static int getHash(byte[] key) {
+        return ByteBuffer.wrap(key).getInt();
+    }
+
+    private static boolean isInRange(int slot, int start, int end) {
+        return start <= end ? start < slot && slot <= end : start < slot || slot <= end;
+    }
+
+    private static void update(MessageDigest messageDigest, byte[] bytes) {
+        // The length prefix keeps the parts from running into each other.
+        messageDigest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        messageDigest.update(bytes);
+    }
+
+    /**
+     * Remove all the entries. The metrics are kept.
+     *
+     * @since 2.3.0
+     */
+    public synchronized void clear() {
+        validate();
+        reset();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                index.force();
+                lock.release();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    private void deleteEntry(byte[] key) {
+        try {
+            Files.deleteIfExists(getEntryPath(key));
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    private void evict() {
+        while (getSize() > maxEntries || getTotalBytes() > maxBytes) {
+            // The head of the access list is the least recently used entry.
+            final int leastRecentlyUsedSlot = index.getInt(OFFSET_HEAD);
+            probeCount++;
+            if (leastRecentlyUsedSlot < 0) {
+                // The header is out of sync with the slots.
+                reset();
+                return;
+            }
+            deleteEntry(getKey(leastRecentlyUsedSlot));
+            removeSlot(leastRecentlyUsedSlot);
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private int findSlot(byte[] key) {
+        final int mask = capacity - 1;
+        int slot = getHash(key) & mask;
+        while (true) {
+            final int position = getPosition(slot);
+            probeCount++;
+            if (index.getLong(position + OFFSET_SIZE) <= 0) {
+                return -slot - 1;
+            }
+            if (isKeyMatched(position, key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Gets the number of calls that bypassed the cache.
+     *
+     * @return the bypass count
+     * @since 2.3.0
+     */
+    public long getBypassCount() {
+        return bypassCount.get();
+    }
+
+    /**
+     * Gets directory.
+     *
+     * @return the directory
+     * @since 2.3.0
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Path getEntryPath(byte[] key) {
+        final String name = HexFormat.of().formatHex(key);
+        return entriesDirectory.resolve(name.substring(0, 2)).resolve(name);
+    }
+
+    /**
+     * Gets the number of the I/O errors.
+     *
+     * @return the error count
+     * @since 2.3.0
+     */
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * Gets the number of the evicted entries.
+     *
+     * @return the eviction count
+     * @since 2.3.0
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Gets hit count.
+     *
+     * @return the hit count
+     * @since 2.3.0
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    private byte[] getKey(byte kind, String code, Swc4jOptions options) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required by the Java platform.
+            throw new IllegalStateException(e);
+        }
+        messageDigest.update(kind);
+        update(messageDigest, version);
+        update(messageDigest, Swc4jTranspileCache.getFingerprint(options).getBytes(StandardCharsets.UTF_8));
+        update(messageDigest, code.getBytes(StandardCharsets.UTF_8));
+        return messageDigest.digest();
+    }
+
+    private byte[] getKey(int slot) {
+        byte[] key = new byte[KEY_SIZE];
+        index.get(getPosition(slot), key);
+        return key;
+    }
+
+    /**
+     * Gets max bytes.
+     *
+     * @return the max bytes
+     * @since 2.3.0
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Gets max entries.
+     *
+     * @return the max entries
+     * @since 2.3.0
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Gets miss count.
+     *
+     * @return the miss count
+     * @since 2.3.0
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private int getPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * Gets the number of the index slots visited by the lookups, the puts and the evictions,
+     * so that the tests can check that the cost per operation does not depend on the capacity.
+     *
+     * @return the probe count
+     */
+    synchronized long getProbeCount() {
+        return probeCount;
+    }
+
+    /**
+     * Gets the number of the entries.
+     *
+     * @return the size
+     * @since 2.3.0
+     */
+    public synchronized int getSize() {
+        return index.getInt(OFFSET_COUNT);
+    }
+
+    /**
+     * Gets the total bytes of the entries.
+     *
+     * @return the total bytes
+     * @since 2.3.0
+     */
+    public synchronized long getTotalBytes() {
+        return index.getLong(OFFSET_TOTAL_BYTES);
+    }
+
+    /**
+     * Is closed.
+     *
+     * @return true : closed, false : not closed
+     * @since 2.3.0
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private boolean isKeyMatched(int position, byte[] key) {
+        for (int i = 0; i < KEY_SIZE; i++) {
+            if (index.get(position + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void linkLast(int slot) {
+        final int tail = index.getInt(OFFSET_TAIL);
+        index.putInt(getPosition(slot) + OFFSET_PREVIOUS, tail);
+        index.putInt(getPosition(slot) + OFFSET_NEXT, NONE);
+        if (tail < 0) {
+            index.putInt(OFFSET_HEAD, slot);
+        } else {
+            index.putInt(getPosition(tail) + OFFSET_NEXT, slot);
+        }
+        index.putInt(OFFSET_TAIL, slot);
+    }
+
+    private void onError(Exception e) {
+        errorCount.incrementAndGet();
+        LOGGER.logWarn("Swc4jPersistentCache {0}: {1}", directory, e.getMessage());
+    }
+
+    synchronized void put(byte[] key, long size) {
+        if (closed) {
+            return;
+        }
+        int slot = findSlot(key);
+        if (slot < 0) {
+            slot = -slot - 1;
+            index.put(getPosition(slot), key);
+            index.putInt(OFFSET_COUNT, index.getInt(OFFSET_COUNT) + 1);
+            linkLast(slot);
+        } else {
+            index.putLong(OFFSET_TOTAL_BYTES,
+                    index.getLong(OFFSET_TOTAL_BYTES) - index.getLong(getPosition(slot) + OFFSET_SIZE));
+            touch(slot);
+        }
+        index.putLong(getPosition(slot) + OFFSET_SIZE, size);
+        index.putLong(OFFSET_TOTAL_BYTES, index.getLong(OFFSET_TOTAL_BYTES) + size);
+        evict();
+    }
+
+    private Entry read(byte[] key) {
+        synchronized (this) {
+            validate();
+            final int slot = findSlot(key);
+            if (slot < 0) {
+                return null;
+            }
+            touch(slot);
+        }
+        try {
+            return Entry.of(Files.readAllBytes(getEntryPath(key)));
+        } catch (IOException e) {
+            onError(e);
+            remove(key);
+            return null;
+        }
+    }
+
+    private void relink(int slot) {
+        // The neighbors of the moved slot point to its new position.
+        final int previous = index.getInt(getPosition(slot) + OFFSET_PREVIOUS);
+        final int next = index.getInt(getPosition(slot) + OFFSET_NEXT);
+        if (previous < 0) {
+            index.putInt(OFFSET_HEAD, slot);
+        } else {
+            index.putInt(getPosition(previous) + OFFSET_NEXT, slot);
+        }
+        if (next < 0) {
+            index.putInt(OFFSET_TAIL, slot);
+        } else {
+            index.putInt(getPosition(next) + OFFSET_PREVIOUS, slot);
+        }
+    }
+
+    private synchronized void remove(byte[] key) {
+        if (!closed) {
+            final int slot = findSlot(key);
+            if (slot >= 0) {
+                deleteEntry(key);
+                removeSlot(slot);
+            }
+        }
+    }
+
+    private void removeSlot(int slot) {
+        final int mask = capacity - 1;
+        index.putInt(OFFSET_COUNT, index.getInt(OFFSET_COUNT) - 1);
+        index.putLong(OFFSET_TOTAL_BYTES,
+                index.getLong(OFFSET_TOTAL_BYTES) - index.getLong(getPosition(slot) + OFFSET_SIZE));
+        unlink(slot);
+        // Shift the following slots back so that the probing never stops at the hole.
+        int hole = slot;
+        for (int next = (hole + 1) & mask;
+             index.getLong(getPosition(next) + OFFSET_SIZE) > 0;
+             next = (next + 1) & mask) {
+            probeCount++;
+            final int home = getHash(getKey(next)) & mask;
+            if (!isInRange(home, hole, next)) {
+                index.put(getPosition(hole), index, getPosition(next), SLOT_SIZE);
+                relink(hole);
+                hole = next;
+            }
+        }
+        index.put(getPosition(hole), new byte[SLOT_SIZE]);
+    }
+
+    private void reset() {
+        final int indexSize = index.capacity();
+        final byte[] zeros = new byte[Math.min(indexSize, 1 << 16)];
+        for (int position = 0; position < indexSize; position += zeros.length) {
+            index.put(position, zeros, 0, Math.min(zeros.length, indexSize - position));
+        }
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, FORMAT_VERSION);
+        index.putInt(OFFSET_CAPACITY, capacity);
+        index.putInt(OFFSET_HEAD, NONE);
+        index.putInt(OFFSET_TAIL, NONE);
+        try (Stream<Path> stream = Files.walk(entriesDirectory)) {
+            stream.sorted(Comparator.reverseOrder())
+                    .filter(path -> !path.equals(entriesDirectory))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            onError(e);
+                        }
+                    });
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    private void touch(int slot) {
+        if (index.getInt(OFFSET_TAIL) != slot) {
+            unlink(slot);
+            linkLast(slot);
+        }
+    }
+
+    /**
+     * Transform or return the cached output.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the swc4j transform output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    public Swc4jTransformOutput transform(String code, Swc4jTransformOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(code, "Code");
+        if (AssertionUtils.notNull(options, "Options").getPluginHost() != null) {
+            bypassCount.incrementAndGet();
+            return swc4j.transform(code, options);
+        }
+        byte[] key = getKey(KIND_TRANSFORM, code, options);
+        Entry entry = read(key);
+        if (entry != null) {
+            hitCount.incrementAndGet();
+            return new Swc4jTransformOutput(entry.code(), entry.mediaType(), entry.parseMode(), entry.sourceMap());
+        }
+        missCount.incrementAndGet();
+        Swc4jTransformOutput output = swc4j.transform(code, options);
+        write(key, new Entry(output.getCode(), output.getMediaType(), output.getParseMode(), output.getSourceMap()));
+        return output;
+    }
+
+    /**
+     * Transpile or return the cached output.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    public Swc4jTranspileOutput transpile(String code, Swc4jTranspileOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(code, "Code");
+        AssertionUtils.notNull(options, "Options");
+        if (options.getPluginHost() != null
+                || options.isCaptureAst()
+                || options.isCaptureComments()
+                || options.isCaptureTokens()) {
+            bypassCount.incrementAndGet();
+            return swc4j.transpile(code, options);
+        }
+        byte[] key = getKey(KIND_TRANSPILE, code, options);
+        Entry entry = read(key);
+        if (entry != null) {
+            hitCount.incrementAndGet();
+            // The separate source map is kept as the raw source map like the one transpiled natively.
+            final Swc4jSourceMap rawSourceMap = entry.sourceMap() == null
+                    ? null
+                    : Swc4jSourceMap.decode(ByteBuffer.wrap(entry.sourceMap().getBytes(StandardCharsets.UTF_8)));
+            return new Swc4jTranspileOutput(
+                    null,
+                    entry.code(),
+                    entry.mediaType(),
+                    entry.parseMode(),
+                    null,
+                    rawSourceMap,
+                    options.isCaptureSourceText() ? code : null,
+                    null,
+                    null);
+        }
+        missCount.incrementAndGet();
+        Swc4jTranspileOutput output = swc4j.transpile(code, options);
+        write(key, new Entry(output.getCode(), output.getMediaType(), output.getParseMode(), output.getSourceMap()));
+        return output;
+    }
+
+    private void unlink(int slot) {
+        final int previous = index.getInt(getPosition(slot) + OFFSET_PREVIOUS);
+        final int next = index.getInt(getPosition(slot) + OFFSET_NEXT);
+        if (previous < 0) {
+            index.putInt(OFFSET_HEAD, next);
+        } else {
+            index.putInt(getPosition(previous) + OFFSET_NEXT, next);
+        }
+        if (next < 0) {
+            index.putInt(OFFSET_TAIL, previous);
+        } else {
+            index.putInt(getPosition(next) + OFFSET_PREVIOUS, previous);
+        }
+    }
+
+    private void validate() {
+        if (closed) {
+            throw new IllegalStateException("Swc4jPersistentCache is closed");
+        }
+    }
+
+    private void write(byte[] key, Entry entry) {
+        final byte[] bytes = entry.toBytes();
+        if (bytes.length > maxBytes) {
+            return;
+        }
+        final Path path = getEntryPath(key);
+        try {
+            Files.createDirectories(path.getParent());
+            Path tempPath = Files.createTempFile(path.getParent(), null, ".tmp");
+            try {
+                Files.write(tempPath, bytes);
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempPath);
+            }
+        } catch (IOException e) {
+            onError(e);
+            return;
+        }
+        put(key, bytes.length);
+    }
+
+    private record Entry(String code, Swc4jMediaType mediaType, Swc4jParseMode parseMode, String sourceMap) {
+        static Entry of(byte[] bytes) throws IOException {
+            try (DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                if (dataInputStream.readInt() != ENTRY_MAGIC || dataInputStream.readInt() != FORMAT_VERSION) {
+                    throw new IOException("Invalid entry");
+                }
+                Swc4jMediaType mediaType = Swc4jMediaType.parse(dataInputStream.readInt());
+                Swc4jParseMode parseMode = Swc4jParseMode.parse(dataInputStream.readInt());
+                String code = readString(dataInputStream);
+                String sourceMap = dataInputStream.readBoolean() ? readString(dataInputStream) : null;
+                return new Entry(code, mediaType, parseMode, sourceMap);
+            }
+        }
+
+        private static String readString(DataInputStream dataInputStream) throws IOException {
+            final int length = dataInputStream.readInt();
+            if (length < 0 || length > dataInputStream.available()) {
+                throw new IOException("Invalid entry");
+            }
+            return new String(dataInputStream.readNBytes(length), StandardCharsets.UTF_8);
+        }
+
+        private static void writeString(DataOutputStream dataOutputStream, String string) throws IOException {
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            dataOutputStream.writeInt(bytes.length);
+            dataOutputStream.write(bytes);
+        }
+
+        byte[] toBytes() {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(code.length() + 64);
+            try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+                dataOutputStream.writeInt(ENTRY_MAGIC);
+                dataOutputStream.writeInt(FORMAT_VERSION);
+                dataOutputStream.writeInt(mediaType.getId());
+                dataOutputStream.writeInt(parseMode.getId());
+                writeString(dataOutputStream, code);
+                dataOutputStream.writeBoolean(sourceMap != null);
+                if (sourceMap != null) {
+                    writeString(dataOutputStream, sourceMap);
+                }
+            } catch (IOException e) {
+                // The byte array output stream never throws.
+                throw new IllegalStateException(e);
+            }
+            return byteArrayOutputStream.toByteArray();
+        }
+    }
+}
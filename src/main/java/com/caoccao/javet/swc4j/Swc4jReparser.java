@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstProgram;
+import com.caoccao.javet.swc4j.ast.program.Swc4jAstModule;
+import com.caoccao.javet.swc4j.ast.program.Swc4jAstScript;
+import com.caoccao.javet.swc4j.enums.Swc4jSpanMode;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jParseOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.span.Swc4jSpan;
+import com.caoccao.javet.swc4j.span.Swc4jTextEdit;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+
+import java.util.List;
+
+/**
+ * The type Swc4j reparser re-parses the top level items touched by the text edits
+ * and moves the other top level items of the previous program to the new program.
+ * <p>
+ * The window to be re-parsed is extended by one untouched top level item on each side.
+ * These two items must come back with the same spans, otherwise the edits changed how the
+ * surrounding code is tokenized, e.g. an unterminated comment or a missing semicolon,
+ * and the whole code is parsed instead.
+ */
+final class Swc4jReparser {
+    private Swc4jReparser() {
+    }
+
+    private static int[] applyEdits(int[] codePoints, List<Swc4jTextEdit> edits) {
+        int length = codePoints.length;
+        for (Swc4jTextEdit edit : edits) {
+            length += (int) edit.getText().codePoints().count() - (edit.getEnd() - edit.getStart());
+        }
+        int[] newCodePoints = new int[length];
+        int position = 0;
+        int newPosition = 0;
+        for (Swc4jTextEdit edit : edits) {
+            final int count = edit.getStart() - position;
+            System.arraycopy(codePoints, position, newCodePoints, newPosition, count);
+            newPosition += count;
+            for (int codePoint : edit.getText().codePoints().toArray()) {
+                newCodePoints[newPosition++] = codePoint;
+            }
+            position = edit.getEnd();
+        }
+        System.arraycopy(codePoints, position, newCodePoints, newPosition, codePoints.length - position);
+        return newCodePoints;
+    }
+
+    private static int getColumn(int[] codePoints, int position) {
+        int column = 1;
+        for (int i = position - 1; i >= 0 && codePoints[i] != '\n'; i--) {
+            ++column;
+        }
+        return column;
+    }
+
+    private static int getLineCount(int[] codePoints, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (codePoints[i] == '\n') {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isIncremental(Swc4jParseOutput previous, Swc4jParseOptions options) {
+        final ISwc4jAstProgram<?> program = previous.getProgram();
+        if (program == null
+                || !options.isCaptureAst()
+                || options.isCaptureComments()
+                || options.isCaptureTokens()
+                || options.isRecoverable()
+                || options.isScopeAnalysis()
+                || options.getPluginHost() != null
+                || options.getSpanMode() != Swc4jSpanMode.CharIndex
+                || options.getMediaType() != previous.getMediaType()
+                || options.getParseMode() != previous.getParseMode()) {
+            return false;
+        }
+        if (!(program instanceof Swc4jAstModule) && !(program instanceof Swc4jAstScript)) {
+            return false;
+        }
+        // The previous output in the byte offset span mode has no lines.
+        final List<? extends ISwc4jAst> body = program.getBody();
+        return body.isEmpty() || body.get(0).getSpan().getLine() > 0;
+    }
+
+    private static boolean isSameSpan(ISwc4jAst node, ISwc4jAst oldNode, int delta) {
+        final Swc4jSpan span = node.getSpan();
+        final Swc4jSpan oldSpan = oldNode.getSpan();
+        return node.getType() == oldNode.getType()
+                && span.getStart() == oldSpan.getStart() + delta
+                && span.getEnd() == oldSpan.getEnd() + delta;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static Swc4jParseOutput reparse(
+            Parser parser,
+            Swc4jParseOutput previous,
+            List<Swc4jTextEdit> edits,
+            Swc4jParseOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(previous, "Previous output");
+        AssertionUtils.notNull(edits, "Edits");
+        AssertionUtils.notNull(options, "Options");
+        final int[] oldCodePoints = AssertionUtils.notNull(previous.getSourceText(), "Source text")
+                .codePoints()
+                .toArray();
+        int position = 0;
+        for (Swc4jTextEdit edit : edits) {
+            AssertionUtils.notNull(edit, "Edit");
+            AssertionUtils.notTrue(
+                    edit.getStart() >= position && edit.getEnd() <= oldCodePoints.length,
+                    "Edits must be sorted, must not overlap and must be in the source text");
+            position = edit.getEnd();
+        }
+        final int[] newCodePoints = applyEdits(oldCodePoints, edits);
+        final String newText = new String(newCodePoints, 0, newCodePoints.length);
+        if (edits.isEmpty() || !isIncremental(previous, options)) {
+            return parser.parse(newText, options);
+        }
+        final ISwc4jAstProgram<?> program = previous.getProgram();
+        final List<ISwc4jAst> oldBody = (List<ISwc4jAst>) program.getBody();
+        final int size = oldBody.size();
+        final int editStart = edits.get(0).getStart();
+        final int editEnd = edits.get(edits.size() - 1).getEnd();
+        int first = 0;
+        while (first < size && oldBody.get(first).getSpan().getEnd() < editStart) {
+            ++first;
+        }
+        int last = size - 1;
+        while (last >= 0 && oldBody.get(last).getSpan().getStart() > editEnd) {
+            --last;
+        }
+        final int low = first - 1;
+        final int high = last + 1;
+        final int delta = newCodePoints.length - oldCodePoints.length;
+        final int windowStart = low >= 0 ? oldBody.get(low).getSpan().getStart() : 0;
+        final int windowEnd = high < size ? oldBody.get(high).getSpan().getEnd() : oldCodePoints.length;
+        final int newWindowEnd = windowEnd + delta;
+        final Swc4jParseOutput windowOutput;
+        try {
+            windowOutput = parser.parse(
+                    new String(newCodePoints, windowStart, newWindowEnd - windowStart),
+                    options);
+        } catch (Swc4jCoreException e) {
+            // The whole code is parsed so that the error has the right position.
+            return parser.parse(newText, options);
+        }
+        final ISwc4jAstProgram<?> windowProgram = windowOutput.getProgram();
+        final List<ISwc4jAst> windowBody = (List<ISwc4jAst>) windowProgram.getBody();
+        final Shift windowShift = low >= 0
+                ? new Shift(
+                        windowStart,
+                        1,
+                        oldBody.get(low).getSpan().getLine() - 1,
+                        oldBody.get(low).getSpan().getColumn() - 1)
+                : new Shift(0, 1, 0, 0);
+        windowShift.apply(windowProgram);
+        final int windowSize = windowBody.size();
+        if (windowSize < (low >= 0 ? 1 : 0) + (high < size ? 1 : 0)
+                || (low >= 0 && !isSameSpan(windowBody.get(0), oldBody.get(low), 0))
+                || (high < size && !isSameSpan(windowBody.get(windowSize - 1), oldBody.get(high), delta))) {
+            return parser.parse(newText, options);
+        }
+        final List<ISwc4jAst> body = SimpleList.of();
+        for (int i = 0; i < low; i++) {
+            body.add(oldBody.get(i));
+        }
+        body.addAll(windowBody);
+        final Swc4jSpan oldProgramSpan = program.getSpan();
+        final Swc4jSpan windowProgramSpan = windowProgram.getSpan();
+        int programEnd = windowProgramSpan.getEnd();
+        if (high < size) {
+            final Swc4jSpan highSpan = oldBody.get(high).getSpan();
+            final Shift shift = new Shift(
+                    delta,
+                    highSpan.getLine() + getLineCount(oldCodePoints, highSpan.getStart(), windowEnd),
+                    getLineCount(newCodePoints, windowStart, newWindowEnd)
+                            - getLineCount(oldCodePoints, windowStart, windowEnd),
+                    getColumn(newCodePoints, newWindowEnd) - getColumn(oldCodePoints, windowEnd));
+            for (int i = high + 1; i < size; i++) {
+                ISwc4jAst node = oldBody.get(i);
+                shift.apply(node);
+                body.add(node);
+            }
+            programEnd = oldProgramSpan.getEnd() + delta;
+        }
+        final Swc4jSpan programStartSpan = low >= 0 ? oldProgramSpan : windowProgramSpan;
+        final Swc4jSpan programSpan = new Swc4jSpan(
+                programStartSpan.getStart(),
+                programEnd,
+                programStartSpan.getLine(),
+                programStartSpan.getColumn());
+        final String shebang = (low >= 0 ? program : windowProgram).getShebang().orElse(null);
+        final ISwc4jAstProgram<?> newProgram;
+        if (program instanceof Swc4jAstModule) {
+            newProgram = new Swc4jAstModule((List) body, shebang, programSpan);
+        } else {
+            newProgram = new Swc4jAstScript((List) body, shebang, programSpan);
+        }
+        return new Swc4jParseOutput(
+                newProgram,
+                previous.getMediaType(),
+                previous.getParseMode(),
+                options.isCaptureSourceText() ? newText : null,
+                null,
+                null,
+                SimpleList.immutable(SimpleList.of()));
+    }
+
+    @FunctionalInterface
+    interface Parser {
+        Swc4jParseOutput parse(String code, Swc4jParseOptions options) throws Swc4jCoreException;
+    }
+
+    private record Shift(int delta, int anchorLine, int lineDelta, int columnDelta) {
+        void apply(ISwc4jAst node) {
+            if (node == null) {
+                return;
+            }
+            if (delta != 0 || lineDelta != 0 || columnDelta != 0) {
+                final Swc4jSpan span = node.getSpan();
+                if (span.getStart() >= 0) {
+                    node.setSpan(new Swc4jSpan(
+                            span.getStart() + delta,
+                            span.getEnd() + delta,
+                            span.getLine() + lineDelta,
+                            span.getLine() == anchorLine ? span.getColumn() + columnDelta : span.getColumn()));
+                }
+                node.getChildNodes().forEach(this::apply);
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The type Swc4j transpile cache wraps {@link Swc4j#transpile(String, Swc4jTranspileOptions)}
+ * with a size bounded LRU cache keyed by the code and the fingerprint of the options.
+ * <p>
+ * The fingerprint covers every field of the options, including the ones added in the future,
+ * so changing any option never hits an entry transpiled with different options.
+ * The cancellation token and the time budget do not change the output so they are left out.
+ * The calls with a plugin host bypass the cache because the plugins may not be deterministic.
+ * <p>
+ * The cache is thread-safe. The cached outputs are shared by all the callers and must not be changed.
+ * Concurrent misses of the same key may transpile the code more than once, and the first output wins.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jTranspileCache {
+    /**
+     * The fields of {@link Swc4jOptions} that do not change the output and are left out of the fingerprint.
+     */
+    private static final Set<String> EXCLUDED_OPTIONS_FIELD_NAMES = Set.of("cancellationToken", "timeoutMillis");
+    private static final Map<Class<?>, List<Field>> FIELDS_MAP = new ConcurrentHashMap<>();
+    private final AtomicLong bypassCount;
+    private final LinkedHashMap<Key, Swc4jTranspileOutput> entries;
+    private final AtomicLong evictionCount;
+    private final AtomicLong hitCount;
+    private final int maxSize;
+    private final AtomicLong missCount;
+    private final Swc4j swc4j;
+
+    /**
+     * Instantiates a new Swc4j transpile cache.
+     *
+     * @param swc4j   the swc4j
+     * @param maxSize the max number of the cached outputs
+     * @since 2.3.0
+     */
+    public Swc4jTranspileCache(Swc4j swc4j, int maxSize) {
+        AssertionUtils.notTrue(maxSize > 0, "Max size must be positive");
+        bypassCount = new AtomicLong();
+        evictionCount = new AtomicLong();
+        hitCount = new AtomicLong();
+        missCount = new AtomicLong();
+        this.maxSize = maxSize;
+        this.swc4j = AssertionUtils.notNull(swc4j, "Swc4j");
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Swc4jTranspileOutput> eldest) {
+                if (size() > Swc4jTranspileCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private static void appendFingerprint(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof Boolean || value instanceof Number || value instanceof Character) {
+            sb.append(value);
+        } else if (value instanceof String string) {
+            // The length prefix keeps the strings from running into each other.
+            sb.append(string.length()).append(':').append(string);
+        } else if (value instanceof Enum<?> enumValue) {
+            sb.append(enumValue.name());
+        } else if (value instanceof URL url) {
+            appendFingerprint(sb, url.toString());
+        } else if (value instanceof List<?> list) {
+            sb.append('[');
+            for (Object item : list) {
+                appendFingerprint(sb, item);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else {
+            sb.append(value.getClass().getName()).append('{');
+            for (Field field : getFields(value.getClass())) {
+                sb.append(field.getDeclaringClass().getSimpleName()).append('.').append(field.getName()).append('=');
+                try {
+                    appendFingerprint(sb, field.get(value));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Couldn't read " + field, e);
+                }
+                sb.append(';');
+            }
+            sb.append('}');
+        }
+    }
+
+    /**
+     * Gets the fingerprint of the options.
+     * It is stable across runs as long as the options classes do not change.
+     *
+     * @param options the options
+     * @return the fingerprint
+     * @since 2.3.0
+     */
+    public static String getFingerprint(Swc4jOptions options) {
+        StringBuilder sb = new StringBuilder(512);
+        appendFingerprint(sb, AssertionUtils.notNull(options, "Options"));
+        return sb.toString();
+    }
+
+    private static List<Field> getFields(Class<?> clazz) {
+        return FIELDS_MAP.computeIfAbsent(clazz, c -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = c; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    final boolean excluded = current == Swc4jOptions.class
+                            && EXCLUDED_OPTIONS_FIELD_NAMES.contains(field.getName());
+                    if (!Modifier.isStatic(modifiers) && !field.isSynthetic() && !excluded) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            fields.sort(Comparator.comparing((Field field) -> field.getDeclaringClass().getName())
+                    .thenComparing(Field::getName));
+            return fields;
+        });
+    }
+
+    /**
+     * Clear the cached outputs. The metrics are kept.
+     *
+     * @since 2.3.0
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the number of calls that bypassed the cache.
+     *
+     * @return the bypass count
+     * @since 2.3.0
+     */
+    public long getBypassCount() {
+        return bypassCount.get();
+    }
+
+    /**
+     * Gets the number of the evicted outputs.
+     *
+     * @return the eviction count
+     * @since 2.3.0
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Gets hit count.
+     *
+     * @return the hit count
+     * @since 2.3.0
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets max size.
+     *
+     * @return the max size
+     * @since 2.3.0
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets miss count.
+     *
+     * @return the miss count
+     * @since 2.3.0
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of the cached outputs.
+     *
+     * @return the size
+     * @since 2.3.0
+     */
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Transpile or return the cached output.
+     *
+     * @param code    the code
+     * @param options the options
+     * @return the swc4j transpile output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    public Swc4jTranspileOutput transpile(String code, Swc4jTranspileOptions options) throws Swc4jCoreException {
+        AssertionUtils.notNull(code, "Code");
+        if (AssertionUtils.notNull(options, "Options").getPluginHost() != null) {
+            bypassCount.incrementAndGet();
+            return swc4j.transpile(code, options);
+        }
+        Key key = new Key(code, getFingerprint(options));
+        Swc4jTranspileOutput output;
+        synchronized (entries) {
+            output = entries.get(key);
+        }
+        if (output != null) {
+            hitCount.incrementAndGet();
+            return output;
+        }
+        missCount.incrementAndGet();
+        output = swc4j.transpile(code, options);
+        synchronized (entries) {
+            Swc4jTranspileOutput existingOutput = entries.putIfAbsent(key, output);
+            return existingOutput == null ? output : existingOutput;
+        }
+    }
+
+    private record Key(String code, String fingerprint) {
+    }
+}
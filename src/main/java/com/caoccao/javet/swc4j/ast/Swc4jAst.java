@@ -25,6 +25,7 @@ import com.caoccao.javet.swc4j.utils.StringUtils;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,7 +54,14 @@ public abstract class Swc4jAst implements ISwc4jAst {
      * @since 0.2.0
      */
     @Jni2RustField(ignore = true)
-    protected final Swc4jSpan span;
+    protected Swc4jSpan span;
+    /**
+     * The Dirty.
+     *
+     * @since 2.3.0
+     */
+    @Jni2RustField(ignore = true)
+    protected boolean dirty;
     /**
      * The Parent.
      *
@@ -70,10 +78,35 @@ public abstract class Swc4jAst implements ISwc4jAst {
      */
     protected Swc4jAst(
             Swc4jSpan span) {
+        dirty = false;
         parent = null;
         this.span = AssertionUtils.notNull(span, "Span");
     }
 
+    /**
+     * Gets the indexes of the nodes in the original nodes.
+     * A node that is new, moved in from elsewhere or dirty gets -1.
+     *
+     * @param originalNodes the original nodes
+     * @param nodes         the nodes
+     * @return the clean indexes
+     * @since 2.3.0
+     */
+    protected static List<Integer> getCleanIndexes(
+            List<? extends ISwc4jAst> originalNodes,
+            List<? extends ISwc4jAst> nodes) {
+        final Map<ISwc4jAst, Integer> originalIndexMap = new IdentityHashMap<>(originalNodes.size());
+        for (int i = 0; i < originalNodes.size(); i++) {
+            originalIndexMap.put(originalNodes.get(i), i);
+        }
+        final List<Integer> indexes = new ArrayList<>(nodes.size());
+        for (ISwc4jAst node : nodes) {
+            Integer index = originalIndexMap.get(node);
+            indexes.add(index == null || node.isDirty() ? -1 : index);
+        }
+        return indexes;
+    }
+
     @Override
     public ISwc4jAst getParent() {
         return parent;
@@ -84,11 +117,31 @@ public abstract class Swc4jAst implements ISwc4jAst {
         return span;
     }
 
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty() {
+        // The setters called by the constructors are not changes because the node is not attached yet.
+        ISwc4jAst node = this;
+        while (node instanceof Swc4jAst ast && ast.parent != null && !ast.dirty) {
+            ast.dirty = true;
+            node = ast.parent;
+        }
+    }
+
     @Override
     public void setParent(ISwc4jAst parent) {
         this.parent = parent;
     }
 
+    @Override
+    public void setSpan(Swc4jSpan span) {
+        this.span = AssertionUtils.notNull(span, "Span");
+    }
+
     /**
      * To debug string.
      *
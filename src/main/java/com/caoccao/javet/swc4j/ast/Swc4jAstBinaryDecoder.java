@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.ast;
+
+import com.caoccao.javet.swc4j.ast.enums.Swc4jAstType;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
+import com.caoccao.javet.swc4j.interfaces.ISwc4jEnumId;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustParam;
+import com.caoccao.javet.swc4j.span.Swc4jSpan;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.ReflectionUtils;
+
+import java.lang.reflect.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The type Swc4j ast binary decoder decodes the compact binary AST produced by the native side
+ * into the regular AST classes.
+ * <p>
+ * Each node is encoded as its {@link Swc4jAstType} id followed by its constructor arguments in order.
+ * Integers are unsigned LEB128 varints, doubles are 8 bytes in little endian, strings are
+ * a varint byte length followed by the UTF-8 bytes, optional values are prefixed by a presence byte
+ * and lists are prefixed by a varint length.
+ *
+ * @since 2.3.0
+ */
+@Jni2RustClass(filePath = Jni2RustFilePath.BinaryUtils)
+public final class Swc4jAstBinaryDecoder {
+    private static final Map<Class<?>, Object[]> ENUM_VALUES_MAP = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, NodeFactory> NODE_FACTORY_MAP = new ConcurrentHashMap<>();
+    private final ByteBuffer buffer;
+    private byte[] stringBuffer;
+
+    private Swc4jAstBinaryDecoder(ByteBuffer buffer) {
+        this.buffer = AssertionUtils.notNull(buffer, "Buffer").order(ByteOrder.LITTLE_ENDIAN);
+        stringBuffer = new byte[64];
+    }
+
+    /**
+     * Decode the binary AST.
+     *
+     * @param buffer the buffer
+     * @return the ast
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public static ISwc4jAst decode(ByteBuffer buffer) {
+        return new Swc4jAstBinaryDecoder(buffer).readNode();
+    }
+
+    private static Object[] getEnumValues(Class<?> enumClass) {
+        return ENUM_VALUES_MAP.computeIfAbsent(enumClass, clazz -> {
+            Object[] constants = clazz.getEnumConstants();
+            int length = 0;
+            for (Object constant : constants) {
+                length = Math.max(length, ((ISwc4jEnumId) constant).getId() + 1);
+            }
+            Object[] values = new Object[length];
+            for (Object constant : constants) {
+                values[((ISwc4jEnumId) constant).getId()] = constant;
+            }
+            return values;
+        });
+    }
+
+    private static NodeFactory getNodeFactory(Class<?> astClass) {
+        return NODE_FACTORY_MAP.computeIfAbsent(astClass, NodeFactory::new);
+    }
+
+    private static ValueReader getValueReader(Type type) {
+        if (type instanceof ParameterizedType parameterizedType) {
+            Class<?> rawClass = (Class<?>) parameterizedType.getRawType();
+            Type innerType = parameterizedType.getActualTypeArguments()[0];
+            if (Optional.class.isAssignableFrom(rawClass)) {
+                final ValueReader innerReader = getValueReader(innerType);
+                return decoder -> decoder.readBoolean() ? innerReader.read(decoder) : null;
+            }
+            if (List.class.isAssignableFrom(rawClass)) {
+                final ValueReader itemReader = getValueReader(innerType);
+                return decoder -> {
+                    final int length = decoder.readVarInt();
+                    List<Object> list = new ArrayList<>(length);
+                    for (int i = 0; i < length; i++) {
+                        list.add(itemReader.read(decoder));
+                    }
+                    return list;
+                };
+            }
+        } else if (type instanceof Class<?> clazz) {
+            if (clazz == boolean.class) {
+                return Swc4jAstBinaryDecoder::readBoolean;
+            }
+            if (clazz == int.class) {
+                return Swc4jAstBinaryDecoder::readVarInt;
+            }
+            if (clazz == double.class) {
+                return Swc4jAstBinaryDecoder::readDouble;
+            }
+            if (clazz == String.class) {
+                return Swc4jAstBinaryDecoder::readString;
+            }
+            if (clazz == Swc4jSpan.class) {
+                return Swc4jAstBinaryDecoder::readSpan;
+            }
+            if (clazz.isEnum() && ISwc4jEnumId.class.isAssignableFrom(clazz)) {
+                final Object[] values = getEnumValues(clazz);
+                return decoder -> values[decoder.readVarInt()];
+            }
+            if (ISwc4jAst.class.isAssignableFrom(clazz)) {
+                return Swc4jAstBinaryDecoder::readNode;
+            }
+        }
+        throw new IllegalArgumentException(type.getTypeName() + " is not supported by the binary decoder");
+    }
+
+    private boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    private double readDouble() {
+        return buffer.getDouble();
+    }
+
+    private ISwc4jAst readNode() {
+        Swc4jAstType type = Swc4jAstType.parse(readVarInt());
+        return getNodeFactory(type.getAstClass()).create(this);
+    }
+
+    private Swc4jSpan readSpan() {
+        final int start = readVarInt();
+        final int end = readVarInt();
+        final int line = readVarInt();
+        final int column = readVarInt();
+        return new Swc4jSpan(start, end, line, column);
+    }
+
+    private String readString() {
+        final int length = readVarInt();
+        if (length == 0) {
+            return "";
+        }
+        if (stringBuffer.length < length) {
+            stringBuffer = new byte[Math.max(length, stringBuffer.length << 1)];
+        }
+        buffer.get(stringBuffer, 0, length);
+        return new String(stringBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(Swc4jAstBinaryDecoder decoder);
+    }
+
+    private static final class NodeFactory {
+        private final Constructor<?> constructor;
+        private final ValueReader[] valueReaders;
+
+        private NodeFactory(Class<?> astClass) {
+            Constructor<?>[] constructors = astClass.getConstructors();
+            AssertionUtils.notTrue(constructors.length == 1, astClass.getSimpleName() + " must have 1 constructor");
+            constructor = constructors[0];
+            Map<String, Field> fieldMap = ReflectionUtils.getDeclaredFields(astClass);
+            Parameter[] parameters = constructor.getParameters();
+            valueReaders = new ValueReader[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                Parameter parameter = parameters[i];
+                Field field = fieldMap.get(parameter.getName());
+                if (field != null && (Optional.class.isAssignableFrom(field.getType())
+                        || List.class.isAssignableFrom(field.getType()))) {
+                    // The field type tells whether the value or the list items are optional.
+                    valueReaders[i] = getValueReader(field.getGenericType());
+                } else {
+                    final ValueReader valueReader = getValueReader(parameter.getParameterizedType());
+                    Jni2RustParam jni2RustParam = parameter.getAnnotation(Jni2RustParam.class);
+                    if (jni2RustParam != null && jni2RustParam.optional()) {
+                        valueReaders[i] = decoder -> decoder.readBoolean() ? valueReader.read(decoder) : null;
+                    } else {
+                        valueReaders[i] = valueReader;
+                    }
+                }
+            }
+        }
+
+        private ISwc4jAst create(Swc4jAstBinaryDecoder decoder) {
+            final int length = valueReaders.length;
+            Object[] args = new Object[length];
+            for (int i = 0; i < length; i++) {
+                args[i] = valueReaders[i].read(decoder);
+            }
+            try {
+                return (ISwc4jAst) constructor.newInstance(args);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Failed to create " + constructor.getDeclaringClass().getSimpleName(), e);
+            }
+        }
+    }
+}
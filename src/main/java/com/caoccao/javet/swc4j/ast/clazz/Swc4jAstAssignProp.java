@@ -131,6 +131,7 @@ public class Swc4jAstAssignProp
     public Swc4jAstAssignProp setKey(Swc4jAstIdent key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -143,6 +144,7 @@ public class Swc4jAstAssignProp
     public Swc4jAstAssignProp setValue(ISwc4jAstExpr value) {
         this.value = AssertionUtils.notNull(value, "Value");
         this.value.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -418,6 +418,7 @@ public class Swc4jAstAutoAccessor
                 if (decorators.get(i) == oldNode) {
                     decorators.set(i, newDecorator);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -433,6 +434,7 @@ public class Swc4jAstAutoAccessor
      */
     public Swc4jAstAutoAccessor setAbstract(boolean _abstract) {
         this._abstract = _abstract;
+        markDirty();
         return this;
     }
 
@@ -444,6 +446,7 @@ public class Swc4jAstAutoAccessor
      */
     public Swc4jAstAutoAccessor setAccessibility(Swc4jAstAccessibility accessibility) {
         this.accessibility = Optional.ofNullable(accessibility);
+        markDirty();
         return this;
     }
 
@@ -455,6 +458,7 @@ public class Swc4jAstAutoAccessor
      */
     public Swc4jAstAutoAccessor setDefinite(boolean definite) {
         this.definite = definite;
+        markDirty();
         return this;
     }
 
@@ -467,6 +471,7 @@ public class Swc4jAstAutoAccessor
     public Swc4jAstAutoAccessor setKey(ISwc4jAstKey key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -478,6 +483,7 @@ public class Swc4jAstAutoAccessor
      */
     public Swc4jAstAutoAccessor setOverride(boolean _override) {
         this._override = _override;
+        markDirty();
         return this;
     }
 
@@ -489,6 +495,7 @@ public class Swc4jAstAutoAccessor
      */
     public Swc4jAstAutoAccessor setStatic(boolean _static) {
         this._static = _static;
+        markDirty();
         return this;
     }
 
@@ -501,6 +508,7 @@ public class Swc4jAstAutoAccessor
     public Swc4jAstAutoAccessor setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -513,6 +521,7 @@ public class Swc4jAstAutoAccessor
     public Swc4jAstAutoAccessor setValue(ISwc4jAstExpr value) {
         this.value = Optional.ofNullable(value);
         this.value.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
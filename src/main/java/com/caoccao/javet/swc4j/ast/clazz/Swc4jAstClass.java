@@ -373,6 +373,7 @@ public class Swc4jAstClass
                 if (_implements.get(i) == oldNode) {
                     _implements.set(i, newImplement);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -383,6 +384,7 @@ public class Swc4jAstClass
                 if (body.get(i) == oldNode) {
                     body.set(i, (ISwc4jAstClassMember) newNode);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -393,6 +395,7 @@ public class Swc4jAstClass
                 if (decorators.get(i) == oldNode) {
                     decorators.set(i, (Swc4jAstDecorator) newNode);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -420,6 +423,7 @@ public class Swc4jAstClass
      */
     public Swc4jAstClass setAbstract(boolean _abstract) {
         this._abstract = _abstract;
+        markDirty();
         return this;
     }
 
@@ -431,6 +435,7 @@ public class Swc4jAstClass
      */
     public Swc4jAstClass setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -443,6 +448,7 @@ public class Swc4jAstClass
     public Swc4jAstClass setSuperClass(ISwc4jAstExpr superClass) {
         this.superClass = Optional.ofNullable(superClass);
         this.superClass.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -455,6 +461,7 @@ public class Swc4jAstClass
     public Swc4jAstClass setSuperTypeParams(Swc4jAstTsTypeParamInstantiation superTypeParams) {
         this.superTypeParams = Optional.ofNullable(superTypeParams);
         this.superTypeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -467,6 +474,7 @@ public class Swc4jAstClass
     public Swc4jAstClass setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
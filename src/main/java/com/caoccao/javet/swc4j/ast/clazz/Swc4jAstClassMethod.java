@@ -346,6 +346,7 @@ public class Swc4jAstClassMethod
      */
     public Swc4jAstClassMethod setAbstract(boolean _abstract) {
         this._abstract = _abstract;
+        markDirty();
         return this;
     }
 
@@ -357,6 +358,7 @@ public class Swc4jAstClassMethod
      */
     public Swc4jAstClassMethod setAccessibility(Swc4jAstAccessibility accessibility) {
         this.accessibility = Optional.ofNullable(accessibility);
+        markDirty();
         return this;
     }
 
@@ -369,6 +371,7 @@ public class Swc4jAstClassMethod
     public Swc4jAstClassMethod setFunction(Swc4jAstFunction function) {
         this.function = AssertionUtils.notNull(function, "Function");
         this.function.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -381,6 +384,7 @@ public class Swc4jAstClassMethod
     public Swc4jAstClassMethod setKey(ISwc4jAstPropName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -392,6 +396,7 @@ public class Swc4jAstClassMethod
      */
     public Swc4jAstClassMethod setKind(Swc4jAstMethodKind kind) {
         this.kind = AssertionUtils.notNull(kind, "Kind");
+        markDirty();
         return this;
     }
 
@@ -403,6 +408,7 @@ public class Swc4jAstClassMethod
      */
     public Swc4jAstClassMethod setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -414,6 +420,7 @@ public class Swc4jAstClassMethod
      */
     public Swc4jAstClassMethod setOverride(boolean _override) {
         this._override = _override;
+        markDirty();
         return this;
     }
 
@@ -425,6 +432,7 @@ public class Swc4jAstClassMethod
      */
     public Swc4jAstClassMethod setStatic(boolean _static) {
         this._static = _static;
+        markDirty();
         return this;
     }
 
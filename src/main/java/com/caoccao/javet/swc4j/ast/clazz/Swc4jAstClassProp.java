@@ -558,6 +558,7 @@ public class Swc4jAstClassProp
                 if (decorators.get(i) == oldNode) {
                     decorators.set(i, newDecorator);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -587,6 +588,7 @@ public class Swc4jAstClassProp
      */
     public Swc4jAstClassProp setAbstract(boolean _abstract) {
         this._abstract = _abstract;
+        markDirty();
         return this;
     }
 
@@ -598,6 +600,7 @@ public class Swc4jAstClassProp
      */
     public Swc4jAstClassProp setAccessibility(Swc4jAstAccessibility accessibility) {
         this.accessibility = Optional.ofNullable(accessibility);
+        markDirty();
         return this;
     }
 
@@ -609,6 +612,7 @@ public class Swc4jAstClassProp
      */
     public Swc4jAstClassProp setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -620,6 +624,7 @@ public class Swc4jAstClassProp
      */
     public Swc4jAstClassProp setDefinite(boolean definite) {
         this.definite = definite;
+        markDirty();
         return this;
     }
 
@@ -632,6 +637,7 @@ public class Swc4jAstClassProp
     public Swc4jAstClassProp setKey(ISwc4jAstPropName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -643,6 +649,7 @@ public class Swc4jAstClassProp
      */
     public Swc4jAstClassProp setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -654,6 +661,7 @@ public class Swc4jAstClassProp
      */
     public Swc4jAstClassProp setOverride(boolean _override) {
         this._override = _override;
+        markDirty();
         return this;
     }
 
@@ -665,6 +673,7 @@ public class Swc4jAstClassProp
      */
     public Swc4jAstClassProp setReadonly(boolean readonly) {
         this.readonly = readonly;
+        markDirty();
         return this;
     }
 
@@ -676,6 +685,7 @@ public class Swc4jAstClassProp
      */
     public Swc4jAstClassProp setStatic(boolean _static) {
         this._static = _static;
+        markDirty();
         return this;
     }
 
@@ -688,6 +698,7 @@ public class Swc4jAstClassProp
     public Swc4jAstClassProp setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -700,6 +711,7 @@ public class Swc4jAstClassProp
     public Swc4jAstClassProp setValue(ISwc4jAstExpr value) {
         this.value = Optional.ofNullable(value);
         this.value.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
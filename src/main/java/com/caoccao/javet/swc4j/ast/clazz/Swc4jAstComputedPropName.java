@@ -106,6 +106,7 @@ public class Swc4jAstComputedPropName
     public Swc4jAstComputedPropName setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -283,6 +283,7 @@ public class Swc4jAstConstructor
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -298,6 +299,7 @@ public class Swc4jAstConstructor
      */
     public Swc4jAstConstructor setAccessibility(Swc4jAstAccessibility accessibility) {
         this.accessibility = Optional.ofNullable(accessibility);
+        markDirty();
         return this;
     }
 
@@ -310,6 +312,7 @@ public class Swc4jAstConstructor
     public Swc4jAstConstructor setBody(Swc4jAstBlockStmt body) {
         this.body = Optional.ofNullable(body);
         this.body.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -321,6 +324,7 @@ public class Swc4jAstConstructor
      */
     public Swc4jAstConstructor setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -333,6 +337,7 @@ public class Swc4jAstConstructor
     public Swc4jAstConstructor setKey(ISwc4jAstPropName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -344,6 +349,7 @@ public class Swc4jAstConstructor
      */
     public Swc4jAstConstructor setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -375,6 +375,7 @@ public class Swc4jAstFunction
                 if (decorators.get(i) == oldNode) {
                     decorators.set(i, newDecorator);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -385,6 +386,7 @@ public class Swc4jAstFunction
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -410,6 +412,7 @@ public class Swc4jAstFunction
      */
     public Swc4jAstFunction setAsync(boolean _async) {
         this._async = _async;
+        markDirty();
         return this;
     }
 
@@ -422,6 +425,7 @@ public class Swc4jAstFunction
     public Swc4jAstFunction setBody(Swc4jAstBlockStmt body) {
         this.body = Optional.ofNullable(body);
         this.body.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -433,6 +437,7 @@ public class Swc4jAstFunction
      */
     public Swc4jAstFunction setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -444,6 +449,7 @@ public class Swc4jAstFunction
      */
     public Swc4jAstFunction setGenerator(boolean generator) {
         this.generator = generator;
+        markDirty();
         return this;
     }
 
@@ -456,6 +462,7 @@ public class Swc4jAstFunction
     public Swc4jAstFunction setReturnType(Swc4jAstTsTypeAnn returnType) {
         this.returnType = Optional.ofNullable(returnType);
         this.returnType.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -468,6 +475,7 @@ public class Swc4jAstFunction
     public Swc4jAstFunction setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
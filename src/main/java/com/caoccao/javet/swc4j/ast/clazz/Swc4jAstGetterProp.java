@@ -181,6 +181,7 @@ public class Swc4jAstGetterProp
     public Swc4jAstGetterProp setBody(Swc4jAstBlockStmt body) {
         this.body = Optional.ofNullable(body);
         this.body.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -193,6 +194,7 @@ public class Swc4jAstGetterProp
     public Swc4jAstGetterProp setKey(ISwc4jAstPropName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -205,6 +207,7 @@ public class Swc4jAstGetterProp
     public Swc4jAstGetterProp setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
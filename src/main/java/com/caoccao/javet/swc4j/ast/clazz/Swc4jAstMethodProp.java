@@ -130,6 +130,7 @@ public class Swc4jAstMethodProp
     public Swc4jAstMethodProp setFunction(Swc4jAstFunction function) {
         this.function = AssertionUtils.notNull(function, "Function");
         this.function.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -142,6 +143,7 @@ public class Swc4jAstMethodProp
     public Swc4jAstMethodProp setKey(ISwc4jAstPropName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -131,6 +131,7 @@ public class Swc4jAstParam
                 if (decorators.get(i) == oldNode) {
                     decorators.set(i, newDecorator);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -147,6 +148,7 @@ public class Swc4jAstParam
     public Swc4jAstParam setPat(ISwc4jAstPat pat) {
         this.pat = AssertionUtils.notNull(pat, "Pat");
         this.pat.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -345,6 +345,7 @@ public class Swc4jAstPrivateMethod
      */
     public Swc4jAstPrivateMethod setAbstract(boolean _abstract) {
         this._abstract = _abstract;
+        markDirty();
         return this;
     }
 
@@ -356,6 +357,7 @@ public class Swc4jAstPrivateMethod
      */
     public Swc4jAstPrivateMethod setAccessibility(Swc4jAstAccessibility accessibility) {
         this.accessibility = Optional.ofNullable(accessibility);
+        markDirty();
         return this;
     }
 
@@ -368,6 +370,7 @@ public class Swc4jAstPrivateMethod
     public Swc4jAstPrivateMethod setFunction(Swc4jAstFunction function) {
         this.function = AssertionUtils.notNull(function, "Function");
         this.function.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -380,6 +383,7 @@ public class Swc4jAstPrivateMethod
     public Swc4jAstPrivateMethod setKey(Swc4jAstPrivateName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -391,6 +395,7 @@ public class Swc4jAstPrivateMethod
      */
     public Swc4jAstPrivateMethod setKind(Swc4jAstMethodKind kind) {
         this.kind = AssertionUtils.notNull(kind, "Kind");
+        markDirty();
         return this;
     }
 
@@ -402,6 +407,7 @@ public class Swc4jAstPrivateMethod
      */
     public Swc4jAstPrivateMethod setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -413,6 +419,7 @@ public class Swc4jAstPrivateMethod
      */
     public Swc4jAstPrivateMethod setOverride(boolean _override) {
         this._override = _override;
+        markDirty();
         return this;
     }
 
@@ -424,6 +431,7 @@ public class Swc4jAstPrivateMethod
      */
     public Swc4jAstPrivateMethod setStatic(boolean _static) {
         this._static = _static;
+        markDirty();
         return this;
     }
 
@@ -103,6 +103,7 @@ public class Swc4jAstPrivateName
      */
     public Swc4jAstPrivateName setName(String name) {
         this.name = AssertionUtils.notNull(name, "Name");
+        markDirty();
         return this;
     }
 
@@ -501,6 +501,7 @@ public class Swc4jAstPrivateProp
                 if (decorators.get(i) == oldNode) {
                     decorators.set(i, newDecorator);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -528,6 +529,7 @@ public class Swc4jAstPrivateProp
      */
     public Swc4jAstPrivateProp setAccessibility(Swc4jAstAccessibility accessibility) {
         this.accessibility = Optional.ofNullable(accessibility);
+        markDirty();
         return this;
     }
 
@@ -539,6 +541,7 @@ public class Swc4jAstPrivateProp
      */
     public Swc4jAstPrivateProp setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -550,6 +553,7 @@ public class Swc4jAstPrivateProp
      */
     public Swc4jAstPrivateProp setDefinite(boolean definite) {
         this.definite = definite;
+        markDirty();
         return this;
     }
 
@@ -562,6 +566,7 @@ public class Swc4jAstPrivateProp
     public Swc4jAstPrivateProp setKey(Swc4jAstPrivateName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -573,6 +578,7 @@ public class Swc4jAstPrivateProp
      */
     public Swc4jAstPrivateProp setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -584,6 +590,7 @@ public class Swc4jAstPrivateProp
      */
     public Swc4jAstPrivateProp setOverride(boolean _override) {
         this._override = _override;
+        markDirty();
         return this;
     }
 
@@ -595,6 +602,7 @@ public class Swc4jAstPrivateProp
      */
     public Swc4jAstPrivateProp setReadonly(boolean readonly) {
         this.readonly = readonly;
+        markDirty();
         return this;
     }
 
@@ -606,6 +614,7 @@ public class Swc4jAstPrivateProp
      */
     public Swc4jAstPrivateProp setStatic(boolean _static) {
         this._static = _static;
+        markDirty();
         return this;
     }
 
@@ -618,6 +627,7 @@ public class Swc4jAstPrivateProp
     public Swc4jAstPrivateProp setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -630,6 +640,7 @@ public class Swc4jAstPrivateProp
     public Swc4jAstPrivateProp setValue(ISwc4jAstExpr value) {
         this.value = Optional.ofNullable(value);
         this.value.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
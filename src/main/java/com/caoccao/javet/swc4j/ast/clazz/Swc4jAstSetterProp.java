@@ -209,6 +209,7 @@ public class Swc4jAstSetterProp
     public Swc4jAstSetterProp setBody(Swc4jAstBlockStmt body) {
         this.body = Optional.ofNullable(body);
         this.body.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -221,6 +222,7 @@ public class Swc4jAstSetterProp
     public Swc4jAstSetterProp setKey(ISwc4jAstPropName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -233,6 +235,7 @@ public class Swc4jAstSetterProp
     public Swc4jAstSetterProp setParam(ISwc4jAstPat param) {
         this.param = AssertionUtils.notNull(param, "Param");
         this.param.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -245,6 +248,7 @@ public class Swc4jAstSetterProp
     public Swc4jAstSetterProp setThisParam(ISwc4jAstPat thisParam) {
         this.thisParam = Optional.ofNullable(thisParam);
         this.thisParam.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
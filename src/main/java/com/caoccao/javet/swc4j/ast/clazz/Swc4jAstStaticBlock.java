@@ -106,6 +106,7 @@ public class Swc4jAstStaticBlock
     public Swc4jAstStaticBlock setBody(Swc4jAstBlockStmt body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -321,6 +321,7 @@ public class Swc4jAstArrowExpr
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -346,6 +347,7 @@ public class Swc4jAstArrowExpr
      */
     public Swc4jAstArrowExpr setAsync(boolean _async) {
         this._async = _async;
+        markDirty();
         return this;
     }
 
@@ -358,6 +360,7 @@ public class Swc4jAstArrowExpr
     public Swc4jAstArrowExpr setBody(ISwc4jAstBlockStmtOrExpr body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -369,6 +372,7 @@ public class Swc4jAstArrowExpr
      */
     public Swc4jAstArrowExpr setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -380,6 +384,7 @@ public class Swc4jAstArrowExpr
      */
     public Swc4jAstArrowExpr setGenerator(boolean generator) {
         this.generator = generator;
+        markDirty();
         return this;
     }
 
@@ -392,6 +397,7 @@ public class Swc4jAstArrowExpr
     public Swc4jAstArrowExpr setReturnType(Swc4jAstTsTypeAnn returnType) {
         this.returnType = Optional.ofNullable(returnType);
         this.returnType.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -404,6 +410,7 @@ public class Swc4jAstArrowExpr
     public Swc4jAstArrowExpr setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
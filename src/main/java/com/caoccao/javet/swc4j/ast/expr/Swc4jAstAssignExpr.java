@@ -152,6 +152,7 @@ public class Swc4jAstAssignExpr
     public Swc4jAstAssignExpr setLeft(ISwc4jAstAssignTarget left) {
         this.left = AssertionUtils.notNull(left, "Left");
         this.left.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -163,6 +164,7 @@ public class Swc4jAstAssignExpr
      */
     public Swc4jAstAssignExpr setOp(Swc4jAstAssignOp op) {
         this.op = AssertionUtils.notNull(op, "Op");
+        markDirty();
         return this;
     }
 
@@ -175,6 +177,7 @@ public class Swc4jAstAssignExpr
     public Swc4jAstAssignExpr setRight(ISwc4jAstExpr right) {
         this.right = AssertionUtils.notNull(right, "Right");
         this.right.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -107,6 +107,7 @@ public class Swc4jAstAwaitExpr
     public Swc4jAstAwaitExpr setArg(ISwc4jAstExpr arg) {
         this.arg = AssertionUtils.notNull(arg, "Arg");
         this.arg.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -431,6 +431,7 @@ public class Swc4jAstBinExpr
     public Swc4jAstBinExpr setLeft(ISwc4jAstExpr left) {
         this.left = AssertionUtils.notNull(left, "Left");
         this.left.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -442,6 +443,7 @@ public class Swc4jAstBinExpr
      */
     public Swc4jAstBinExpr setOp(Swc4jAstBinaryOp op) {
         this.op = AssertionUtils.notNull(op, "Op");
+        markDirty();
         return this;
     }
 
@@ -454,6 +456,7 @@ public class Swc4jAstBinExpr
     public Swc4jAstBinExpr setRight(ISwc4jAstExpr right) {
         this.right = AssertionUtils.notNull(right, "Right");
         this.right.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -419,6 +419,7 @@ public class Swc4jAstCallExpr
                 if (args.get(i) == oldNode) {
                     args.set(i, newArg);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -443,6 +444,7 @@ public class Swc4jAstCallExpr
     public Swc4jAstCallExpr setCallee(ISwc4jAstCallee callee) {
         this.callee = AssertionUtils.notNull(callee, "Callee");
         this.callee.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -454,6 +456,7 @@ public class Swc4jAstCallExpr
      */
     public Swc4jAstCallExpr setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -466,6 +469,7 @@ public class Swc4jAstCallExpr
     public Swc4jAstCallExpr setTypeArgs(Swc4jAstTsTypeParamInstantiation typeArgs) {
         this.typeArgs = Optional.ofNullable(typeArgs);
         this.typeArgs.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -142,6 +142,7 @@ public class Swc4jAstClassExpr
     public Swc4jAstClassExpr setClazz(Swc4jAstClass clazz) {
         this.clazz = AssertionUtils.notNull(clazz, "Class");
         this.clazz.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -154,6 +155,7 @@ public class Swc4jAstClassExpr
     public Swc4jAstClassExpr setIdent(Swc4jAstIdent ident) {
         this.ident = Optional.ofNullable(ident);
         this.ident.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -153,6 +153,7 @@ public class Swc4jAstCondExpr
     public Swc4jAstCondExpr setAlt(ISwc4jAstExpr alt) {
         this.alt = AssertionUtils.notNull(alt, "Alt");
         this.alt.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -165,6 +166,7 @@ public class Swc4jAstCondExpr
     public Swc4jAstCondExpr setCons(ISwc4jAstExpr cons) {
         this.cons = AssertionUtils.notNull(cons, "Cons");
         this.cons.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -177,6 +179,7 @@ public class Swc4jAstCondExpr
     public Swc4jAstCondExpr setTest(ISwc4jAstExpr test) {
         this.test = AssertionUtils.notNull(test, "Test");
         this.test.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -133,6 +133,7 @@ public class Swc4jAstExprOrSpread
     public Swc4jAstExprOrSpread setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -144,6 +145,7 @@ public class Swc4jAstExprOrSpread
      */
     public Swc4jAstExprOrSpread setSpread(Swc4jSpan spread) {
         this.spread = Optional.ofNullable(spread);
+        markDirty();
         return this;
     }
 
@@ -142,6 +142,7 @@ public class Swc4jAstFnExpr
     public Swc4jAstFnExpr setFunction(Swc4jAstFunction function) {
         this.function = AssertionUtils.notNull(function, "Function");
         this.function.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -154,6 +155,7 @@ public class Swc4jAstFnExpr
     public Swc4jAstFnExpr setIdent(Swc4jAstIdent ident) {
         this.ident = Optional.ofNullable(ident);
         this.ident.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
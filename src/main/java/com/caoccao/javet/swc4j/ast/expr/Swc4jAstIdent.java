@@ -227,6 +227,7 @@ public class Swc4jAstIdent
      */
     public Swc4jAstIdent setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -238,6 +239,7 @@ public class Swc4jAstIdent
      */
     public Swc4jAstIdent setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -249,6 +251,7 @@ public class Swc4jAstIdent
      */
     public Swc4jAstIdent setSym(String sym) {
         this.sym = AssertionUtils.notNull(sym, "Sym");
+        markDirty();
         return this;
     }
 
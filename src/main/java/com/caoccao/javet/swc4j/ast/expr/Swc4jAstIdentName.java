@@ -170,6 +170,7 @@ public class Swc4jAstIdentName
      */
     public Swc4jAstIdentName setSym(String sym) {
         this.sym = AssertionUtils.notNull(sym, "Sym");
+        markDirty();
         return this;
     }
 
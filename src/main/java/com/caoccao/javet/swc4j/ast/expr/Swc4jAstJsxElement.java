@@ -167,6 +167,7 @@ public class Swc4jAstJsxElement
                 if (children.get(i) == oldNode) {
                     children.set(i, newChild);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -191,6 +192,7 @@ public class Swc4jAstJsxElement
     public Swc4jAstJsxElement setClosing(Swc4jAstJsxClosingElement closing) {
         this.closing = Optional.ofNullable(closing);
         this.closing.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -203,6 +205,7 @@ public class Swc4jAstJsxElement
     public Swc4jAstJsxElement setOpening(Swc4jAstJsxOpeningElement opening) {
         this.opening = AssertionUtils.notNull(opening, "Opening");
         this.opening.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -104,6 +104,7 @@ public class Swc4jAstJsxExprContainer
     public Swc4jAstJsxExprContainer setExpr(ISwc4jAstJsxExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -165,6 +165,7 @@ public class Swc4jAstJsxFragment
                 if (children.get(i) == oldNode) {
                     children.set(i, newChild);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -189,6 +190,7 @@ public class Swc4jAstJsxFragment
     public Swc4jAstJsxFragment setClosing(Swc4jAstJsxClosingFragment closing) {
         this.closing = AssertionUtils.notNull(closing, "Closing");
         this.closing.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -201,6 +203,7 @@ public class Swc4jAstJsxFragment
     public Swc4jAstJsxFragment setOpening(Swc4jAstJsxOpeningFragment opening) {
         this.opening = AssertionUtils.notNull(opening, "Opening");
         this.opening.setParent(this);
+        markDirty();
         return this;
     }
 
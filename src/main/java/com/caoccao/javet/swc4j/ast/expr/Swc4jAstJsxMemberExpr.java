@@ -129,6 +129,7 @@ public class Swc4jAstJsxMemberExpr
     public Swc4jAstJsxMemberExpr setObj(ISwc4jAstJsxObject obj) {
         this.obj = AssertionUtils.notNull(obj, "Obj");
         this.obj.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -141,6 +142,7 @@ public class Swc4jAstJsxMemberExpr
     public Swc4jAstJsxMemberExpr setProp(Swc4jAstIdentName prop) {
         this.prop = AssertionUtils.notNull(prop, "Prop");
         this.prop.setParent(this);
+        markDirty();
         return this;
     }
 
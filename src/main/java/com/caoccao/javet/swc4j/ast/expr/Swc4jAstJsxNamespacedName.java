@@ -129,6 +129,7 @@ public class Swc4jAstJsxNamespacedName
     public Swc4jAstJsxNamespacedName setName(Swc4jAstIdentName name) {
         this.name = AssertionUtils.notNull(name, "Name");
         this.name.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -141,6 +142,7 @@ public class Swc4jAstJsxNamespacedName
     public Swc4jAstJsxNamespacedName setNs(Swc4jAstIdentName ns) {
         this.ns = AssertionUtils.notNull(ns, "Ns");
         this.ns.setParent(this);
+        markDirty();
         return this;
     }
 
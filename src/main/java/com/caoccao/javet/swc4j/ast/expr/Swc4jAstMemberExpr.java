@@ -267,6 +267,7 @@ public class Swc4jAstMemberExpr
     public Swc4jAstMemberExpr setObj(ISwc4jAstExpr obj) {
         this.obj = AssertionUtils.notNull(obj, "Obj");
         this.obj.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -279,6 +280,7 @@ public class Swc4jAstMemberExpr
     public Swc4jAstMemberExpr setProp(ISwc4jAstMemberProp prop) {
         this.prop = AssertionUtils.notNull(prop, "Prop");
         this.prop.setParent(this);
+        markDirty();
         return this;
     }
 
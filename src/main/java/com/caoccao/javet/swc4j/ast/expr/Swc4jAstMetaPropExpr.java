@@ -100,6 +100,7 @@ public class Swc4jAstMetaPropExpr
      */
     public Swc4jAstMetaPropExpr setKind(Swc4jAstMetaPropKind kind) {
         this.kind = AssertionUtils.notNull(kind, "Kind");
+        markDirty();
         return this;
     }
 
@@ -208,6 +208,7 @@ public class Swc4jAstNewExpr
                 if (nodes.get(i) == oldNode) {
                     nodes.set(i, newArg);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -233,6 +234,7 @@ public class Swc4jAstNewExpr
     public Swc4jAstNewExpr setArgs(List<Swc4jAstExprOrSpread> args) {
         this.args = Optional.ofNullable(args);
         this.args.ifPresent(nodes -> nodes.forEach(node -> node.setParent(this)));
+        markDirty();
         return this;
     }
 
@@ -245,6 +247,7 @@ public class Swc4jAstNewExpr
     public Swc4jAstNewExpr setCallee(ISwc4jAstExpr callee) {
         this.callee = AssertionUtils.notNull(callee, "Callee");
         this.callee.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -256,6 +259,7 @@ public class Swc4jAstNewExpr
      */
     public Swc4jAstNewExpr setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -268,6 +272,7 @@ public class Swc4jAstNewExpr
     public Swc4jAstNewExpr setTypeArgs(Swc4jAstTsTypeParamInstantiation typeArgs) {
         this.typeArgs = Optional.ofNullable(typeArgs);
         this.typeArgs.ifPresent(nodes -> nodes.setParent(this));
+        markDirty();
         return this;
     }
 
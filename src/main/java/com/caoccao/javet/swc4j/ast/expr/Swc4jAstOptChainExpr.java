@@ -137,6 +137,7 @@ public class Swc4jAstOptChainExpr
     public Swc4jAstOptChainExpr setBase(ISwc4jAstOptChainBase base) {
         this.base = AssertionUtils.notNull(base, "Base");
         this.base.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -148,6 +149,7 @@ public class Swc4jAstOptChainExpr
      */
     public Swc4jAstOptChainExpr setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -108,6 +108,7 @@ public class Swc4jAstSeqExpr
                 if (exprs.get(i) == oldNode) {
                     exprs.set(i, newExpr);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
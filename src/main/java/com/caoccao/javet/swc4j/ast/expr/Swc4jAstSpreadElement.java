@@ -136,6 +136,7 @@ public class Swc4jAstSpreadElement
      */
     public Swc4jAstSpreadElement setDot3Token(Swc4jSpan dot3Token) {
         this.dot3Token = AssertionUtils.notNull(dot3Token, "Dot3 token");
+        markDirty();
         return this;
     }
 
@@ -148,6 +149,7 @@ public class Swc4jAstSpreadElement
     public Swc4jAstSpreadElement setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -130,6 +130,7 @@ public class Swc4jAstSuperPropExpr
     public Swc4jAstSuperPropExpr setObj(Swc4jAstSuper obj) {
         this.obj = AssertionUtils.notNull(obj, "Obj");
         this.obj.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -142,6 +143,7 @@ public class Swc4jAstSuperPropExpr
     public Swc4jAstSuperPropExpr setProp(ISwc4jAstSuperProp prop) {
         this.prop = AssertionUtils.notNull(prop, "Prop");
         this.prop.setParent(this);
+        markDirty();
         return this;
     }
 
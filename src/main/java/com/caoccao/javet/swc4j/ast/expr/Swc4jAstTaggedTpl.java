@@ -203,6 +203,7 @@ public class Swc4jAstTaggedTpl
      */
     public Swc4jAstTaggedTpl setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -215,6 +216,7 @@ public class Swc4jAstTaggedTpl
     public Swc4jAstTaggedTpl setTag(ISwc4jAstExpr tag) {
         this.tag = AssertionUtils.notNull(tag, "Tag");
         this.tag.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -227,6 +229,7 @@ public class Swc4jAstTaggedTpl
     public Swc4jAstTaggedTpl setTpl(Swc4jAstTpl tpl) {
         this.tpl = AssertionUtils.notNull(tpl, "Tag");
         this.tpl.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -239,6 +242,7 @@ public class Swc4jAstTaggedTpl
     public Swc4jAstTaggedTpl setTypeParams(Swc4jAstTsTypeParamInstantiation typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -139,6 +139,7 @@ public class Swc4jAstTpl
                 if (exprs.get(i) == oldNode) {
                     exprs.set(i, newExpr);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -149,6 +150,7 @@ public class Swc4jAstTpl
                 if (quasis.get(i) == oldNode) {
                     quasis.set(i, newQuasi);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -107,6 +107,7 @@ public class Swc4jAstTsConstAssertion
     public Swc4jAstTsConstAssertion setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -132,6 +132,7 @@ public class Swc4jAstTsInstantiation
     public Swc4jAstTsInstantiation setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -144,6 +145,7 @@ public class Swc4jAstTsInstantiation
     public Swc4jAstTsInstantiation setTypeArgs(Swc4jAstTsTypeParamInstantiation typeArgs) {
         this.typeArgs = AssertionUtils.notNull(typeArgs, "TypeArgs");
         this.typeArgs.setParent(this);
+        markDirty();
         return this;
     }
 
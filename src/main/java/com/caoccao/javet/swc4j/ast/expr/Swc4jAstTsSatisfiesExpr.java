@@ -132,6 +132,7 @@ public class Swc4jAstTsSatisfiesExpr
     public Swc4jAstTsSatisfiesExpr setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -144,6 +145,7 @@ public class Swc4jAstTsSatisfiesExpr
     public Swc4jAstTsSatisfiesExpr setTypeAnn(ISwc4jAstTsType typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "TypeAnn");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -233,6 +233,7 @@ public class Swc4jAstUnaryExpr
     public Swc4jAstUnaryExpr setArg(ISwc4jAstExpr arg) {
         this.arg = AssertionUtils.notNull(arg, "Arg");
         this.arg.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -244,6 +245,7 @@ public class Swc4jAstUnaryExpr
      */
     public Swc4jAstUnaryExpr setOp(Swc4jAstUnaryOp op) {
         this.op = AssertionUtils.notNull(op, "Op");
+        markDirty();
         return this;
     }
 
@@ -155,6 +155,7 @@ public class Swc4jAstUpdateExpr
     public Swc4jAstUpdateExpr setArg(ISwc4jAstExpr arg) {
         this.arg = AssertionUtils.notNull(arg, "Arg");
         this.arg.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -166,6 +167,7 @@ public class Swc4jAstUpdateExpr
      */
     public Swc4jAstUpdateExpr setOp(Swc4jAstUpdateOp op) {
         this.op = AssertionUtils.notNull(op, "Op");
+        markDirty();
         return this;
     }
 
@@ -177,6 +179,7 @@ public class Swc4jAstUpdateExpr
      */
     public Swc4jAstUpdateExpr setPrefix(boolean prefix) {
         this.prefix = prefix;
+        markDirty();
         return this;
     }
 
@@ -144,6 +144,7 @@ public class Swc4jAstYieldExpr
     public Swc4jAstYieldExpr setArg(ISwc4jAstExpr arg) {
         this.arg = Optional.ofNullable(arg);
         this.arg.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -155,6 +156,7 @@ public class Swc4jAstYieldExpr
      */
     public Swc4jAstYieldExpr setDelegate(boolean delegate) {
         this.delegate = delegate;
+        markDirty();
         return this;
     }
 
@@ -316,6 +316,7 @@ public class Swc4jAstArrayLit
                     Optional<Swc4jAstExprOrSpread> optionalNewElem = Optional.ofNullable((Swc4jAstExprOrSpread) newNode);
                     optionalNewElem.ifPresent(node -> node.setParent(this));
                     elems.set(i, optionalNewElem);
+                    markDirty();
                     return true;
                 }
             }
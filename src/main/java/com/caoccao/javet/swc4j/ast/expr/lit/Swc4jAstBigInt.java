@@ -219,6 +219,7 @@ public class Swc4jAstBigInt
                 value = new BigInteger(numStr);
             }
         }
+        markDirty();
         return this;
     }
 
@@ -230,6 +231,7 @@ public class Swc4jAstBigInt
      */
     public Swc4jAstBigInt setSign(Swc4jAstBigIntSign sign) {
         this.sign = AssertionUtils.notNull(sign, "Sign");
+        markDirty();
         return this;
     }
 
@@ -242,6 +244,7 @@ public class Swc4jAstBigInt
     public Swc4jAstBigInt setValue(BigInteger value) {
         this.value = AssertionUtils.notNull(value, "Value");
         raw = Optional.of(value.toString() + ISwc4jConstants.N);
+        markDirty();
         return this;
     }
 
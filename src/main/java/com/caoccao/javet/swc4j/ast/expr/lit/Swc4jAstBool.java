@@ -149,6 +149,7 @@ public class Swc4jAstBool
      */
     public Swc4jAstBool setValue(boolean value) {
         this.value = value;
+        markDirty();
         return this;
     }
 
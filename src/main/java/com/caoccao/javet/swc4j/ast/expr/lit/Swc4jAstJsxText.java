@@ -121,6 +121,7 @@ public class Swc4jAstJsxText
      */
     public Swc4jAstJsxText setRaw(String raw) {
         this.raw = AssertionUtils.notNull(raw, "Raw");
+        markDirty();
         return this;
     }
 
@@ -132,6 +133,7 @@ public class Swc4jAstJsxText
      */
     public Swc4jAstJsxText setValue(String value) {
         this.value = AssertionUtils.notNull(value, "Value");
+        markDirty();
         return this;
     }
 
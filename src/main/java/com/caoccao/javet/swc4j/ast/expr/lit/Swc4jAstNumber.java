@@ -318,6 +318,7 @@ public class Swc4jAstNumber
      */
     public Swc4jAstNumber setRaw(String raw) {
         this.raw = Optional.ofNullable(raw);
+        markDirty();
         return this;
     }
 
@@ -329,6 +330,7 @@ public class Swc4jAstNumber
      */
     public Swc4jAstNumber setValue(double value) {
         this.value = value;
+        markDirty();
         return this;
     }
 
@@ -147,6 +147,7 @@ public class Swc4jAstObjectLit
                 if (props.get(i) == oldNode) {
                     props.set(i, newProp);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -205,6 +205,7 @@ public class Swc4jAstRegex
      */
     public Swc4jAstRegex setExp(String exp) {
         this.exp = AssertionUtils.notNull(exp, "Exp");
+        markDirty();
         return this;
     }
 
@@ -216,6 +217,7 @@ public class Swc4jAstRegex
      */
     public Swc4jAstRegex setFlags(String flags) {
         this.flags = AssertionUtils.notNull(flags, "Flags");
+        markDirty();
         return this;
     }
 
@@ -193,6 +193,7 @@ public class Swc4jAstStr
      */
     public Swc4jAstStr setRaw(String raw) {
         this.raw = Optional.ofNullable(raw);
+        markDirty();
         return this;
     }
 
@@ -204,6 +205,7 @@ public class Swc4jAstStr
      */
     public Swc4jAstStr setValue(String value) {
         this.value = AssertionUtils.notNull(value, "Value");
+        markDirty();
         return this;
     }
 
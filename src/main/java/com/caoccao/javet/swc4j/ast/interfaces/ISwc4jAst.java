@@ -145,6 +145,20 @@ public interface ISwc4jAst {
     @Jni2RustMethod
     Swc4jAstType getType();
 
+    /**
+     * Is dirty.
+     * <p>
+     * A node is dirty if it or any of its descendants has been changed by the setters or
+     * {@link #replaceNode(ISwc4jAst, ISwc4jAst)} after it was attached to a parent.
+     * The nodes that do not track the changes are always dirty.
+     *
+     * @return true : dirty, false : not dirty
+     * @since 2.3.0
+     */
+    default boolean isDirty() {
+        return true;
+    }
+
     /**
      * Is infinity.
      *
@@ -175,6 +189,16 @@ public interface ISwc4jAst {
         return false;
     }
 
+    /**
+     * Mark the node and its ancestors dirty.
+     * Call it after changing the lists returned by the getters in place,
+     * because these changes cannot be tracked.
+     *
+     * @since 2.3.0
+     */
+    default void markDirty() {
+    }
+
     /**
      * Replace the old node with the new node.
      *
@@ -193,6 +217,15 @@ public interface ISwc4jAst {
      */
     void setParent(ISwc4jAst parent);
 
+    /**
+     * Sets span.
+     * It does not mark the node dirty because the span is not converted back to the native side.
+     *
+     * @param span the span
+     * @since 2.3.0
+     */
+    void setSpan(Swc4jSpan span);
+
     /**
      * To debug string.
      *
@@ -45,6 +45,18 @@ public interface ISwc4jAstProgram<AST extends ISwc4jAst> extends ISwc4jAst {
      */
     List<AST> getBody();
 
+    /**
+     * Gets the clean body indexes.
+     * <p>
+     * Each entry is the index of the item in the body when the program was created if the item
+     * is still the same object and is not dirty, otherwise -1.
+     * The native side reuses its original items for the clean entries and only converts the others back.
+     *
+     * @return the clean body indexes
+     * @since 2.3.0
+     */
+    List<Integer> getCleanBodyIndexes();
+
     /**
      * Gets shebang.
      *
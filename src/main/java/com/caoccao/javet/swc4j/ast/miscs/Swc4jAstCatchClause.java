@@ -142,6 +142,7 @@ public class Swc4jAstCatchClause
     public Swc4jAstCatchClause setBody(Swc4jAstBlockStmt body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -154,6 +155,7 @@ public class Swc4jAstCatchClause
     public Swc4jAstCatchClause setParam(ISwc4jAstPat param) {
         this.param = Optional.ofNullable(param);
         this.param.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
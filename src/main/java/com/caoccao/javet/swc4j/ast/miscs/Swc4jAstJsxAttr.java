@@ -144,6 +144,7 @@ public class Swc4jAstJsxAttr
     public Swc4jAstJsxAttr setName(ISwc4jAstJsxAttrName name) {
         this.name = AssertionUtils.notNull(name, "Name");
         this.name.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -156,6 +157,7 @@ public class Swc4jAstJsxAttr
     public Swc4jAstJsxAttr setValue(ISwc4jAstJsxAttrValue value) {
         this.value = Optional.ofNullable(value);
         this.value.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
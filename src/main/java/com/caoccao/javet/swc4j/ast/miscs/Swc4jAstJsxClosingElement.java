@@ -104,6 +104,7 @@ public class Swc4jAstJsxClosingElement
     public Swc4jAstJsxClosingElement setName(ISwc4jAstJsxElementName name) {
         this.name = AssertionUtils.notNull(name, "Name");
         this.name.setParent(this);
+        markDirty();
         return this;
     }
 
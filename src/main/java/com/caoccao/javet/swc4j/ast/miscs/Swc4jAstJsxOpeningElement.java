@@ -196,6 +196,7 @@ public class Swc4jAstJsxOpeningElement
                 if (attrs.get(i) == oldNode) {
                     attrs.set(i, newAttr);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -221,6 +222,7 @@ public class Swc4jAstJsxOpeningElement
     public Swc4jAstJsxOpeningElement setName(ISwc4jAstJsxElementName name) {
         this.name = AssertionUtils.notNull(name, "Name");
         this.name.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -232,6 +234,7 @@ public class Swc4jAstJsxOpeningElement
      */
     public Swc4jAstJsxOpeningElement setSelfClosing(boolean selfClosing) {
         this.selfClosing = selfClosing;
+        markDirty();
         return this;
     }
 
@@ -244,6 +247,7 @@ public class Swc4jAstJsxOpeningElement
     public Swc4jAstJsxOpeningElement setTypeArgs(Swc4jAstTsTypeParamInstantiation typeArgs) {
         this.typeArgs = Optional.ofNullable(typeArgs);
         this.typeArgs.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -207,6 +207,7 @@ public class Swc4jAstOptCall
                 if (args.get(i) == oldNode) {
                     args.set(i, newArg);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -232,6 +233,7 @@ public class Swc4jAstOptCall
     public Swc4jAstOptCall setCallee(ISwc4jAstExpr callee) {
         this.callee = AssertionUtils.notNull(callee, "Callee");
         this.callee.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -243,6 +245,7 @@ public class Swc4jAstOptCall
      */
     public Swc4jAstOptCall setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -255,6 +258,7 @@ public class Swc4jAstOptCall
     public Swc4jAstOptCall setTypeArgs(Swc4jAstTsTypeParamInstantiation typeArgs) {
         this.typeArgs = Optional.ofNullable(typeArgs);
         this.typeArgs.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -145,6 +145,7 @@ public class Swc4jAstSwitchCase
                 if (cons.get(i) == oldNode) {
                     cons.set(i, newCon);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -165,6 +166,7 @@ public class Swc4jAstSwitchCase
     public Swc4jAstSwitchCase setTest(ISwc4jAstExpr test) {
         this.test = Optional.ofNullable(test);
         this.test.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
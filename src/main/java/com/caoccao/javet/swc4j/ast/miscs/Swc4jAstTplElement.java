@@ -155,6 +155,7 @@ public class Swc4jAstTplElement
      */
     public Swc4jAstTplElement setCooked(String cooked) {
         this.cooked = Optional.ofNullable(cooked);
+        markDirty();
         return this;
     }
 
@@ -166,6 +167,7 @@ public class Swc4jAstTplElement
      */
     public Swc4jAstTplElement setRaw(String raw) {
         this.raw = AssertionUtils.notNull(raw, "Raw");
+        markDirty();
         return this;
     }
 
@@ -177,6 +179,7 @@ public class Swc4jAstTplElement
      */
     public Swc4jAstTplElement setTail(boolean tail) {
         this.tail = tail;
+        markDirty();
         return this;
     }
 
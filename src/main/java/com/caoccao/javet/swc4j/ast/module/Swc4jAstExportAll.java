@@ -172,6 +172,7 @@ public class Swc4jAstExportAll
     public Swc4jAstExportAll setSrc(Swc4jAstStr src) {
         this.src = AssertionUtils.notNull(src, "Src");
         this.src.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -183,6 +184,7 @@ public class Swc4jAstExportAll
      */
     public Swc4jAstExportAll setTypeOnly(boolean typeOnly) {
         this.typeOnly = typeOnly;
+        markDirty();
         return this;
     }
 
@@ -195,6 +197,7 @@ public class Swc4jAstExportAll
     public Swc4jAstExportAll setWith(Swc4jAstObjectLit with) {
         this.with = Optional.ofNullable(with);
         this.with.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
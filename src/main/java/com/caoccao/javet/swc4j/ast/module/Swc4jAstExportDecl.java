@@ -106,6 +106,7 @@ public class Swc4jAstExportDecl
     public Swc4jAstExportDecl setDecl(ISwc4jAstDecl decl) {
         this.decl = AssertionUtils.notNull(decl, "Decl");
         this.decl.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -106,6 +106,7 @@ public class Swc4jAstExportDefaultDecl
     public Swc4jAstExportDefaultDecl setDecl(ISwc4jAstDefaultDecl decl) {
         this.decl = AssertionUtils.notNull(decl, "Decl");
         this.decl.setParent(this);
+        markDirty();
         return this;
     }
 
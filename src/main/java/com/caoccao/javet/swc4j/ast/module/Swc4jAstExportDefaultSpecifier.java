@@ -107,6 +107,7 @@ public class Swc4jAstExportDefaultSpecifier
     public Swc4jAstExportDefaultSpecifier setExported(Swc4jAstIdent exported) {
         this.exported = AssertionUtils.notNull(exported, "Exported");
         this.exported.setParent(this);
+        markDirty();
         return this;
     }
 
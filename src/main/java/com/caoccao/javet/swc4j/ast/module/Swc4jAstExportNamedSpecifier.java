@@ -175,6 +175,7 @@ public class Swc4jAstExportNamedSpecifier
     public Swc4jAstExportNamedSpecifier setExported(ISwc4jAstModuleExportName exported) {
         this.exported = Optional.ofNullable(exported);
         this.exported.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -187,6 +188,7 @@ public class Swc4jAstExportNamedSpecifier
     public Swc4jAstExportNamedSpecifier setOrig(ISwc4jAstModuleExportName orig) {
         this.orig = AssertionUtils.notNull(orig, "Orig");
         this.orig.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -198,6 +200,7 @@ public class Swc4jAstExportNamedSpecifier
      */
     public Swc4jAstExportNamedSpecifier setTypeOnly(boolean typeOnly) {
         this.typeOnly = typeOnly;
+        markDirty();
         return this;
     }
 
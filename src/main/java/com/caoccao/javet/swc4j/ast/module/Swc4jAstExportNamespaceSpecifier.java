@@ -106,6 +106,7 @@ public class Swc4jAstExportNamespaceSpecifier
     public Swc4jAstExportNamespaceSpecifier setName(ISwc4jAstModuleExportName name) {
         this.name = AssertionUtils.notNull(name, "Name");
         this.name.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -100,6 +100,7 @@ public class Swc4jAstImport
      */
     public Swc4jAstImport setPhase(Swc4jAstImportPhase phase) {
         this.phase = AssertionUtils.notNull(phase, "Phase");
+        markDirty();
         return this;
     }
 
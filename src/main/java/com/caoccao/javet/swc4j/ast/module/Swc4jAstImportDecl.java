@@ -224,6 +224,7 @@ public class Swc4jAstImportDecl
                 if (specifiers.get(i) == oldNode) {
                     specifiers.set(i, newSpecifier);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -248,6 +249,7 @@ public class Swc4jAstImportDecl
      */
     public Swc4jAstImportDecl setPhase(Swc4jAstImportPhase phase) {
         this.phase = AssertionUtils.notNull(phase, "Phase");
+        markDirty();
         return this;
     }
 
@@ -260,6 +262,7 @@ public class Swc4jAstImportDecl
     public Swc4jAstImportDecl setSrc(Swc4jAstStr src) {
         this.src = AssertionUtils.notNull(src, "Src");
         this.src.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -271,6 +274,7 @@ public class Swc4jAstImportDecl
      */
     public Swc4jAstImportDecl setTypeOnly(boolean typeOnly) {
         this.typeOnly = typeOnly;
+        markDirty();
         return this;
     }
 
@@ -283,6 +287,7 @@ public class Swc4jAstImportDecl
     public Swc4jAstImportDecl setWith(Swc4jAstObjectLit with) {
         this.with = Optional.ofNullable(with);
         this.with.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
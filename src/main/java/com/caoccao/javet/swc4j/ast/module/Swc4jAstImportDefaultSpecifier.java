@@ -106,6 +106,7 @@ public class Swc4jAstImportDefaultSpecifier
     public Swc4jAstImportDefaultSpecifier setLocal(Swc4jAstIdent local) {
         this.local = AssertionUtils.notNull(local, "Local");
         this.local.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -176,6 +176,7 @@ public class Swc4jAstImportNamedSpecifier
     public Swc4jAstImportNamedSpecifier setImported(ISwc4jAstModuleExportName imported) {
         this.imported = Optional.ofNullable(imported);
         this.imported.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -188,6 +189,7 @@ public class Swc4jAstImportNamedSpecifier
     public Swc4jAstImportNamedSpecifier setLocal(Swc4jAstIdent local) {
         this.local = AssertionUtils.notNull(local, "Local");
         this.local.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -199,6 +201,7 @@ public class Swc4jAstImportNamedSpecifier
      */
     public Swc4jAstImportNamedSpecifier setTypeOnly(boolean typeOnly) {
         this.typeOnly = typeOnly;
+        markDirty();
         return this;
     }
 
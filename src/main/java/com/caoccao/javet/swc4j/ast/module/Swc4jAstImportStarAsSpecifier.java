@@ -106,6 +106,7 @@ public class Swc4jAstImportStarAsSpecifier
     public Swc4jAstImportStarAsSpecifier setLocal(Swc4jAstIdent local) {
         this.local = AssertionUtils.notNull(local, "Local");
         this.local.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -206,6 +206,7 @@ public class Swc4jAstNamedExport
                 if (specifiers.get(i) == oldNode) {
                     specifiers.set(i, newSpecifier);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -232,6 +233,7 @@ public class Swc4jAstNamedExport
     public Swc4jAstNamedExport setSrc(Swc4jAstStr src) {
         this.src = Optional.ofNullable(src);
         this.src.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -243,6 +245,7 @@ public class Swc4jAstNamedExport
      */
     public Swc4jAstNamedExport setTypeOnly(boolean typeOnly) {
         this.typeOnly = typeOnly;
+        markDirty();
         return this;
     }
 
@@ -255,6 +258,7 @@ public class Swc4jAstNamedExport
     public Swc4jAstNamedExport setWith(Swc4jAstObjectLit with) {
         this.with = Optional.ofNullable(with);
         this.with.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -108,6 +108,7 @@ public class Swc4jAstTsExportAssignment
     public Swc4jAstTsExportAssignment setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
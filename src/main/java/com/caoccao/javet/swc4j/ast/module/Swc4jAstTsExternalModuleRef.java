@@ -106,6 +106,7 @@ public class Swc4jAstTsExternalModuleRef
     public Swc4jAstTsExternalModuleRef setExpr(Swc4jAstStr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
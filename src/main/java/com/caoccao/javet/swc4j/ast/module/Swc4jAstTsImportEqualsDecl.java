@@ -194,6 +194,7 @@ public class Swc4jAstTsImportEqualsDecl
      */
     public Swc4jAstTsImportEqualsDecl setExport(boolean export) {
         this.export = export;
+        markDirty();
         return this;
     }
 
@@ -206,6 +207,7 @@ public class Swc4jAstTsImportEqualsDecl
     public Swc4jAstTsImportEqualsDecl setId(Swc4jAstIdent id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -218,6 +220,7 @@ public class Swc4jAstTsImportEqualsDecl
     public Swc4jAstTsImportEqualsDecl setModuleRef(ISwc4jAstTsModuleRef moduleRef) {
         this.moduleRef = AssertionUtils.notNull(moduleRef, "Module ref");
         this.moduleRef.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -229,6 +232,7 @@ public class Swc4jAstTsImportEqualsDecl
      */
     public Swc4jAstTsImportEqualsDecl setTypeOnly(boolean typeOnly) {
         this.typeOnly = typeOnly;
+        markDirty();
         return this;
     }
 
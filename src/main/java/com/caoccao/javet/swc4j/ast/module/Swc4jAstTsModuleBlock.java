@@ -106,6 +106,7 @@ public class Swc4jAstTsModuleBlock
                 if (body.get(i) == oldNode) {
                     body.set(i, newBody);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
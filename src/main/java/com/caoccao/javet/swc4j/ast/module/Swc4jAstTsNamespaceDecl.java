@@ -193,6 +193,7 @@ public class Swc4jAstTsNamespaceDecl
     public Swc4jAstTsNamespaceDecl setBody(ISwc4jAstTsNamespaceBody body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -204,6 +205,7 @@ public class Swc4jAstTsNamespaceDecl
      */
     public Swc4jAstTsNamespaceDecl setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -215,6 +217,7 @@ public class Swc4jAstTsNamespaceDecl
      */
     public Swc4jAstTsNamespaceDecl setGlobal(boolean global) {
         this.global = global;
+        markDirty();
         return this;
     }
 
@@ -227,6 +230,7 @@ public class Swc4jAstTsNamespaceDecl
     public Swc4jAstTsNamespaceDecl setId(Swc4jAstIdent id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
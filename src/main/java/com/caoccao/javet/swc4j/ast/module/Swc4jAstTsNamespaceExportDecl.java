@@ -106,6 +106,7 @@ public class Swc4jAstTsNamespaceExportDecl
     public Swc4jAstTsNamespaceExportDecl setId(Swc4jAstIdent id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
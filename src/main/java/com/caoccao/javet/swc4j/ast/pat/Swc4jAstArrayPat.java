@@ -174,6 +174,7 @@ public class Swc4jAstArrayPat
                     Optional<ISwc4jAstPat> optionalNewElem = Optional.ofNullable((ISwc4jAstPat) newNode);
                     optionalNewElem.ifPresent(node -> node.setParent(this));
                     elems.set(i, optionalNewElem);
+                    markDirty();
                     return true;
                 }
             }
@@ -194,6 +195,7 @@ public class Swc4jAstArrayPat
      */
     public Swc4jAstArrayPat setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -206,6 +208,7 @@ public class Swc4jAstArrayPat
     public Swc4jAstArrayPat setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
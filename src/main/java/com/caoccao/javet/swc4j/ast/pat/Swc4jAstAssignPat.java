@@ -132,6 +132,7 @@ public class Swc4jAstAssignPat
     public Swc4jAstAssignPat setLeft(ISwc4jAstPat left) {
         this.left = AssertionUtils.notNull(left, "Left");
         this.left.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -144,6 +145,7 @@ public class Swc4jAstAssignPat
     public Swc4jAstAssignPat setRight(ISwc4jAstExpr right) {
         this.right = AssertionUtils.notNull(right, "Right");
         this.right.setParent(this);
+        markDirty();
         return this;
     }
 
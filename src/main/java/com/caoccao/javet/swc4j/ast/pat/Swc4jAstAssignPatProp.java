@@ -141,6 +141,7 @@ public class Swc4jAstAssignPatProp
     public Swc4jAstAssignPatProp setKey(Swc4jAstBindingIdent key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -153,6 +154,7 @@ public class Swc4jAstAssignPatProp
     public Swc4jAstAssignPatProp setValue(ISwc4jAstExpr value) {
         this.value = Optional.ofNullable(value);
         this.value.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
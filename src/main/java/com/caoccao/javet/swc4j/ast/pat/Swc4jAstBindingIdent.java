@@ -141,6 +141,7 @@ public class Swc4jAstBindingIdent
     public Swc4jAstBindingIdent setId(Swc4jAstIdent id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -153,6 +154,7 @@ public class Swc4jAstBindingIdent
     public Swc4jAstBindingIdent setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
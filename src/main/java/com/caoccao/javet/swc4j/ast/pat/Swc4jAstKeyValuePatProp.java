@@ -131,6 +131,7 @@ public class Swc4jAstKeyValuePatProp
     public Swc4jAstKeyValuePatProp setKey(ISwc4jAstPropName key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -143,6 +144,7 @@ public class Swc4jAstKeyValuePatProp
     public Swc4jAstKeyValuePatProp setValue(ISwc4jAstPat value) {
         this.value = AssertionUtils.notNull(value, "Value");
         this.value.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -167,6 +167,7 @@ public class Swc4jAstObjectPat
                 if (props.get(i) == oldNode) {
                     props.set(i, newProp);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -187,6 +188,7 @@ public class Swc4jAstObjectPat
      */
     public Swc4jAstObjectPat setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -199,6 +201,7 @@ public class Swc4jAstObjectPat
     public Swc4jAstObjectPat setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -173,6 +173,7 @@ public class Swc4jAstRestPat
     public Swc4jAstRestPat setArg(ISwc4jAstPat arg) {
         this.arg = AssertionUtils.notNull(arg, "Expr");
         this.arg.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -184,6 +185,7 @@ public class Swc4jAstRestPat
      */
     public Swc4jAstRestPat setDot3Token(Swc4jSpan dot3Token) {
         this.dot3Token = AssertionUtils.notNull(dot3Token, "Dot3 token");
+        markDirty();
         return this;
     }
 
@@ -196,6 +198,7 @@ public class Swc4jAstRestPat
     public Swc4jAstRestPat setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
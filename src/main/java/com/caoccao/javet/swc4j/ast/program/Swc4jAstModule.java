@@ -46,6 +46,13 @@ public class Swc4jAstModule
      * @since 0.2.0
      */
     protected final List<ISwc4jAstModuleItem> body;
+    /**
+     * The original body.
+     *
+     * @since 2.3.0
+     */
+    @Jni2RustField(ignore = true)
+    protected final List<ISwc4jAstModuleItem> originalBody;
     /**
      * The Shebang.
      *
@@ -71,6 +78,7 @@ public class Swc4jAstModule
         setShebang(shebang);
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.forEach(node -> node.setParent(this));
+        originalBody = SimpleList.copyOf(this.body);
     }
 
     /**
@@ -109,6 +117,12 @@ public class Swc4jAstModule
         return body;
     }
 
+    @Jni2RustMethod
+    @Override
+    public List<Integer> getCleanBodyIndexes() {
+        return getCleanIndexes(originalBody, body);
+    }
+
     @Override
     public List<ISwc4jAst> getChildNodes() {
         return SimpleList.copyOf(body);
@@ -133,6 +147,7 @@ public class Swc4jAstModule
                 if (body.get(i) == oldNode) {
                     body.set(i, newItem);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -148,6 +163,7 @@ public class Swc4jAstModule
      */
     public Swc4jAstModule setShebang(String shebang) {
         this.shebang = Optional.ofNullable(shebang);
+        markDirty();
         return this;
     }
 
@@ -133,6 +133,7 @@ public class Swc4jAstBlockStmt
                 if (stmts.get(i) == oldNode) {
                     stmts.set(i, newStmt);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -148,6 +149,7 @@ public class Swc4jAstBlockStmt
      */
     public Swc4jAstBlockStmt setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
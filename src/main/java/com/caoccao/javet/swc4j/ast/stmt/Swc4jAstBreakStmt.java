@@ -119,6 +119,7 @@ public class Swc4jAstBreakStmt
     public Swc4jAstBreakStmt setLabel(Swc4jAstIdent label) {
         this.label = Optional.ofNullable(label);
         this.label.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -160,6 +160,7 @@ public class Swc4jAstClassDecl
     public Swc4jAstClassDecl setClazz(Swc4jAstClass clazz) {
         this.clazz = AssertionUtils.notNull(clazz, "Class");
         this.clazz.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -171,6 +172,7 @@ public class Swc4jAstClassDecl
      */
     public Swc4jAstClassDecl setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -183,6 +185,7 @@ public class Swc4jAstClassDecl
     public Swc4jAstClassDecl setIdent(Swc4jAstIdent ident) {
         this.ident = AssertionUtils.notNull(ident, "Ident");
         this.ident.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -119,6 +119,7 @@ public class Swc4jAstContinueStmt
     public Swc4jAstContinueStmt setLabel(Swc4jAstIdent label) {
         this.label = Optional.ofNullable(label);
         this.label.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -141,6 +141,7 @@ public class Swc4jAstDoWhileStmt
     public Swc4jAstDoWhileStmt setBody(ISwc4jAstStmt body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -153,6 +154,7 @@ public class Swc4jAstDoWhileStmt
     public Swc4jAstDoWhileStmt setTest(ISwc4jAstExpr test) {
         this.test = AssertionUtils.notNull(test, "Test");
         this.test.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -108,6 +108,7 @@ public class Swc4jAstExprStmt
     public Swc4jAstExprStmt setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -159,6 +159,7 @@ public class Swc4jAstFnDecl
      */
     public Swc4jAstFnDecl setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -171,6 +172,7 @@ public class Swc4jAstFnDecl
     public Swc4jAstFnDecl setFunction(Swc4jAstFunction function) {
         this.function = AssertionUtils.notNull(function, "Function");
         this.function.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -183,6 +185,7 @@ public class Swc4jAstFnDecl
     public Swc4jAstFnDecl setIdent(Swc4jAstIdent ident) {
         this.ident = AssertionUtils.notNull(ident, "Ident");
         this.ident.setParent(this);
+        markDirty();
         return this;
     }
 
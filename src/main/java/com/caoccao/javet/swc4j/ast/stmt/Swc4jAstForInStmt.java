@@ -165,6 +165,7 @@ public class Swc4jAstForInStmt
     public Swc4jAstForInStmt setBody(ISwc4jAstStmt body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -177,6 +178,7 @@ public class Swc4jAstForInStmt
     public Swc4jAstForInStmt setLeft(ISwc4jAstForHead left) {
         this.left = AssertionUtils.notNull(left, "Left");
         this.left.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -189,6 +191,7 @@ public class Swc4jAstForInStmt
     public Swc4jAstForInStmt setRight(ISwc4jAstExpr right) {
         this.right = AssertionUtils.notNull(right, "Right");
         this.right.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -196,6 +196,7 @@ public class Swc4jAstForOfStmt
      */
     public Swc4jAstForOfStmt setAwait(boolean _await) {
         this._await = _await;
+        markDirty();
         return this;
     }
 
@@ -208,6 +209,7 @@ public class Swc4jAstForOfStmt
     public Swc4jAstForOfStmt setBody(ISwc4jAstStmt body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -220,6 +222,7 @@ public class Swc4jAstForOfStmt
     public Swc4jAstForOfStmt setLeft(ISwc4jAstForHead left) {
         this.left = AssertionUtils.notNull(left, "Left");
         this.left.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -232,6 +235,7 @@ public class Swc4jAstForOfStmt
     public Swc4jAstForOfStmt setRight(ISwc4jAstExpr right) {
         this.right = AssertionUtils.notNull(right, "Right");
         this.right.setParent(this);
+        markDirty();
         return this;
     }
 
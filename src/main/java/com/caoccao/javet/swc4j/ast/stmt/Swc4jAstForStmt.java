@@ -228,6 +228,7 @@ public class Swc4jAstForStmt
     public Swc4jAstForStmt setBody(ISwc4jAstStmt body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -240,6 +241,7 @@ public class Swc4jAstForStmt
     public Swc4jAstForStmt setInit(ISwc4jAstVarDeclOrExpr init) {
         this.init = Optional.ofNullable(init);
         this.init.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -252,6 +254,7 @@ public class Swc4jAstForStmt
     public Swc4jAstForStmt setTest(ISwc4jAstExpr test) {
         this.test = Optional.ofNullable(test);
         this.test.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -264,6 +267,7 @@ public class Swc4jAstForStmt
     public Swc4jAstForStmt setUpdate(ISwc4jAstExpr update) {
         this.update = Optional.ofNullable(update);
         this.update.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
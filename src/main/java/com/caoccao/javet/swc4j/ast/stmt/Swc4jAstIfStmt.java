@@ -176,6 +176,7 @@ public class Swc4jAstIfStmt
     public Swc4jAstIfStmt setAlt(ISwc4jAstStmt alt) {
         this.alt = Optional.ofNullable(alt);
         this.alt.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -188,6 +189,7 @@ public class Swc4jAstIfStmt
     public Swc4jAstIfStmt setCons(ISwc4jAstStmt cons) {
         this.cons = AssertionUtils.notNull(cons, "Body");
         this.cons.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -200,6 +202,7 @@ public class Swc4jAstIfStmt
     public Swc4jAstIfStmt setTest(ISwc4jAstExpr test) {
         this.test = AssertionUtils.notNull(test, "Right");
         this.test.setParent(this);
+        markDirty();
         return this;
     }
 
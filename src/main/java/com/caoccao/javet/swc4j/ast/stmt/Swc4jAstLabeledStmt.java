@@ -140,6 +140,7 @@ public class Swc4jAstLabeledStmt
     public Swc4jAstLabeledStmt setBody(ISwc4jAstStmt body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -152,6 +153,7 @@ public class Swc4jAstLabeledStmt
     public Swc4jAstLabeledStmt setLabel(Swc4jAstIdent label) {
         this.label = AssertionUtils.notNull(label, "Label");
         this.label.setParent(this);
+        markDirty();
         return this;
     }
 
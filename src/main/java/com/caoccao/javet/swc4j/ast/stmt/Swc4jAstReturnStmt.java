@@ -117,6 +117,7 @@ public class Swc4jAstReturnStmt
     public Swc4jAstReturnStmt setArg(ISwc4jAstExpr arg) {
         this.arg = Optional.ofNullable(arg);
         this.arg.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
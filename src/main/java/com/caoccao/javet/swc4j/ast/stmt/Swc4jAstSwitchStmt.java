@@ -130,6 +130,7 @@ public class Swc4jAstSwitchStmt
                 if (cases.get(i) == oldNode) {
                     cases.set(i, newCase);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -150,6 +151,7 @@ public class Swc4jAstSwitchStmt
     public Swc4jAstSwitchStmt setDiscriminant(ISwc4jAstExpr discriminant) {
         this.discriminant = AssertionUtils.notNull(discriminant, "Discriminant");
         this.discriminant.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -108,6 +108,7 @@ public class Swc4jAstThrowStmt
     public Swc4jAstThrowStmt setArg(ISwc4jAstExpr arg) {
         this.arg = AssertionUtils.notNull(arg, "Discriminant");
         this.arg.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -192,6 +192,7 @@ public class Swc4jAstTryStmt
     public Swc4jAstTryStmt setBlock(Swc4jAstBlockStmt block) {
         this.block = AssertionUtils.notNull(block, "Block");
         this.block.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -204,6 +205,7 @@ public class Swc4jAstTryStmt
     public Swc4jAstTryStmt setFinalizer(Swc4jAstBlockStmt finalizer) {
         this.finalizer = Optional.ofNullable(finalizer);
         this.finalizer.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -216,6 +218,7 @@ public class Swc4jAstTryStmt
     public Swc4jAstTryStmt setHandler(Swc4jAstCatchClause handler) {
         this.handler = Optional.ofNullable(handler);
         this.handler.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -197,6 +197,7 @@ public class Swc4jAstTsEnumDecl
                 if (members.get(i) == oldNode) {
                     members.set(i, newMember);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -212,6 +213,7 @@ public class Swc4jAstTsEnumDecl
      */
     public Swc4jAstTsEnumDecl setConst(boolean _const) {
         this._const = _const;
+        markDirty();
         return this;
     }
 
@@ -223,6 +225,7 @@ public class Swc4jAstTsEnumDecl
      */
     public Swc4jAstTsEnumDecl setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -235,6 +238,7 @@ public class Swc4jAstTsEnumDecl
     public Swc4jAstTsEnumDecl setId(Swc4jAstIdent id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -229,6 +229,7 @@ public class Swc4jAstTsInterfaceDecl
                 if (_extends.get(i) == oldNode) {
                     _extends.set(i, newExtend);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -254,6 +255,7 @@ public class Swc4jAstTsInterfaceDecl
     public Swc4jAstTsInterfaceDecl setBody(Swc4jAstTsInterfaceBody body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -265,6 +267,7 @@ public class Swc4jAstTsInterfaceDecl
      */
     public Swc4jAstTsInterfaceDecl setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -277,6 +280,7 @@ public class Swc4jAstTsInterfaceDecl
     public Swc4jAstTsInterfaceDecl setId(Swc4jAstIdent id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -289,6 +293,7 @@ public class Swc4jAstTsInterfaceDecl
     public Swc4jAstTsInterfaceDecl setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
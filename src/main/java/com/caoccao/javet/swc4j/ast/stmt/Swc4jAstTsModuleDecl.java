@@ -246,6 +246,7 @@ public class Swc4jAstTsModuleDecl
     public Swc4jAstTsModuleDecl setBody(ISwc4jAstTsNamespaceBody body) {
         this.body = Optional.ofNullable(body);
         this.body.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -257,6 +258,7 @@ public class Swc4jAstTsModuleDecl
      */
     public Swc4jAstTsModuleDecl setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -268,6 +270,7 @@ public class Swc4jAstTsModuleDecl
      */
     public Swc4jAstTsModuleDecl setGlobal(boolean global) {
         this.global = global;
+        markDirty();
         return this;
     }
 
@@ -280,6 +283,7 @@ public class Swc4jAstTsModuleDecl
     public Swc4jAstTsModuleDecl setId(ISwc4jAstTsModuleName id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -291,6 +295,7 @@ public class Swc4jAstTsModuleDecl
      */
     public Swc4jAstTsModuleDecl setNamespace(boolean namespace) {
         this.namespace = namespace;
+        markDirty();
         return this;
     }
 
@@ -203,6 +203,7 @@ public class Swc4jAstTsTypeAliasDecl
      */
     public Swc4jAstTsTypeAliasDecl setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -215,6 +216,7 @@ public class Swc4jAstTsTypeAliasDecl
     public Swc4jAstTsTypeAliasDecl setId(Swc4jAstIdent id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -227,6 +229,7 @@ public class Swc4jAstTsTypeAliasDecl
     public Swc4jAstTsTypeAliasDecl setTypeAnn(ISwc4jAstTsType typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "TypeAnn");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -239,6 +242,7 @@ public class Swc4jAstTsTypeAliasDecl
     public Swc4jAstTsTypeAliasDecl setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -134,6 +134,7 @@ public class Swc4jAstUsingDecl
                 if (decls.get(i) == oldNode) {
                     decls.set(i, newDecl);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -149,6 +150,7 @@ public class Swc4jAstUsingDecl
      */
     public Swc4jAstUsingDecl setAwait(boolean _await) {
         this._await = _await;
+        markDirty();
         return this;
     }
 
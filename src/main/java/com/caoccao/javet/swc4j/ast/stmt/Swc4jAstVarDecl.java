@@ -203,6 +203,7 @@ public class Swc4jAstVarDecl
                 if (decls.get(i) == oldNode) {
                     decls.set(i, newDecl);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -218,6 +219,7 @@ public class Swc4jAstVarDecl
      */
     public Swc4jAstVarDecl setCtxt(int ctxt) {
         this.ctxt = ctxt;
+        markDirty();
         return this;
     }
 
@@ -229,6 +231,7 @@ public class Swc4jAstVarDecl
      */
     public Swc4jAstVarDecl setDeclare(boolean declare) {
         this.declare = declare;
+        markDirty();
         return this;
     }
 
@@ -240,6 +243,7 @@ public class Swc4jAstVarDecl
      */
     public Swc4jAstVarDecl setKind(Swc4jAstVarDeclKind kind) {
         this.kind = AssertionUtils.notNull(kind, "Kind");
+        markDirty();
         return this;
     }
 
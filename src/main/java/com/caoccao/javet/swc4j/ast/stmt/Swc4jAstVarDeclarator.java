@@ -170,6 +170,7 @@ public class Swc4jAstVarDeclarator
      */
     public Swc4jAstVarDeclarator setDefinite(boolean definite) {
         this.definite = definite;
+        markDirty();
         return this;
     }
 
@@ -182,6 +183,7 @@ public class Swc4jAstVarDeclarator
     public Swc4jAstVarDeclarator setInit(ISwc4jAstExpr init) {
         this.init = Optional.ofNullable(init);
         this.init.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -194,6 +196,7 @@ public class Swc4jAstVarDeclarator
     public Swc4jAstVarDeclarator setName(ISwc4jAstPat name) {
         this.name = AssertionUtils.notNull(name, "Name");
         this.name.setParent(this);
+        markDirty();
         return this;
     }
 
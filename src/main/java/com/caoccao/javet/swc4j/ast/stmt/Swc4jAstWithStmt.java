@@ -141,6 +141,7 @@ public class Swc4jAstWithStmt
     public Swc4jAstWithStmt setBody(ISwc4jAstStmt body) {
         this.body = AssertionUtils.notNull(body, "Body");
         this.body.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -153,6 +154,7 @@ public class Swc4jAstWithStmt
     public Swc4jAstWithStmt setObj(ISwc4jAstExpr obj) {
         this.obj = AssertionUtils.notNull(obj, "Obj");
         this.obj.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -107,6 +107,7 @@ public class Swc4jAstTsArrayType
     public Swc4jAstTsArrayType setElemType(ISwc4jAstTsType elemType) {
         this.elemType = AssertionUtils.notNull(elemType, "Elem type");
         this.elemType.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -180,6 +180,7 @@ public class Swc4jAstTsConditionalType
     public Swc4jAstTsConditionalType setCheckType(ISwc4jAstTsType checkType) {
         this.checkType = AssertionUtils.notNull(checkType, "Check type");
         this.checkType.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -192,6 +193,7 @@ public class Swc4jAstTsConditionalType
     public Swc4jAstTsConditionalType setExtendsType(ISwc4jAstTsType extendsType) {
         this.extendsType = AssertionUtils.notNull(extendsType, "Extends type");
         this.extendsType.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -204,6 +206,7 @@ public class Swc4jAstTsConditionalType
     public Swc4jAstTsConditionalType setFalseType(ISwc4jAstTsType falseType) {
         this.falseType = AssertionUtils.notNull(falseType, "False type");
         this.falseType.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -216,6 +219,7 @@ public class Swc4jAstTsConditionalType
     public Swc4jAstTsConditionalType setTrueType(ISwc4jAstTsType trueType) {
         this.trueType = AssertionUtils.notNull(trueType, "True type");
         this.trueType.setParent(this);
+        markDirty();
         return this;
     }
 
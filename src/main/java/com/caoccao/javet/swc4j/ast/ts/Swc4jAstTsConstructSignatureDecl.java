@@ -181,6 +181,7 @@ public class Swc4jAstTsConstructSignatureDecl
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -207,6 +208,7 @@ public class Swc4jAstTsConstructSignatureDecl
     public Swc4jAstTsConstructSignatureDecl setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -219,6 +221,7 @@ public class Swc4jAstTsConstructSignatureDecl
     public Swc4jAstTsConstructSignatureDecl setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -196,6 +196,7 @@ public class Swc4jAstTsConstructorType
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -220,6 +221,7 @@ public class Swc4jAstTsConstructorType
      */
     public Swc4jAstTsConstructorType setAbstract(boolean _abstract) {
         this._abstract = _abstract;
+        markDirty();
         return this;
     }
 
@@ -232,6 +234,7 @@ public class Swc4jAstTsConstructorType
     public Swc4jAstTsConstructorType setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "Type ann");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -244,6 +247,7 @@ public class Swc4jAstTsConstructorType
     public Swc4jAstTsConstructorType setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
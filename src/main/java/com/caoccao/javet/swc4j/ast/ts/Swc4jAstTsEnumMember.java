@@ -140,6 +140,7 @@ public class Swc4jAstTsEnumMember
     public Swc4jAstTsEnumMember setId(ISwc4jAstTsEnumMemberId id) {
         this.id = AssertionUtils.notNull(id, "Id");
         this.id.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -152,6 +153,7 @@ public class Swc4jAstTsEnumMember
     public Swc4jAstTsEnumMember setInit(ISwc4jAstExpr init) {
         this.init = Optional.ofNullable(init);
         this.init.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
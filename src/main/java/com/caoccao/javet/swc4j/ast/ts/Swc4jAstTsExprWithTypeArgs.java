@@ -140,6 +140,7 @@ public class Swc4jAstTsExprWithTypeArgs
     public Swc4jAstTsExprWithTypeArgs setExpr(ISwc4jAstExpr expr) {
         this.expr = AssertionUtils.notNull(expr, "Expr");
         this.expr.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -152,6 +153,7 @@ public class Swc4jAstTsExprWithTypeArgs
     public Swc4jAstTsExprWithTypeArgs setTypeArgs(Swc4jAstTsTypeParamInstantiation typeArgs) {
         this.typeArgs = Optional.ofNullable(typeArgs);
         this.typeArgs.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -161,6 +161,7 @@ public class Swc4jAstTsFnType
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -186,6 +187,7 @@ public class Swc4jAstTsFnType
     public Swc4jAstTsFnType setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "TypeAnn");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -198,6 +200,7 @@ public class Swc4jAstTsFnType
     public Swc4jAstTsFnType setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -175,6 +175,7 @@ public class Swc4jAstTsGetterSignature
      */
     public Swc4jAstTsGetterSignature setComputed(boolean computed) {
         this.computed = computed;
+        markDirty();
         return this;
     }
 
@@ -187,6 +188,7 @@ public class Swc4jAstTsGetterSignature
     public Swc4jAstTsGetterSignature setKey(ISwc4jAstExpr key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -199,6 +201,7 @@ public class Swc4jAstTsGetterSignature
     public Swc4jAstTsGetterSignature setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
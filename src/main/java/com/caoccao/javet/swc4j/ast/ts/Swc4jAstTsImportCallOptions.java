@@ -107,6 +107,7 @@ public class Swc4jAstTsImportCallOptions
     public Swc4jAstTsImportCallOptions setWith(Swc4jAstObjectLit with) {
         this.with = AssertionUtils.notNull(with, "With");
         this.with.setParent(this);
+        markDirty();
         return this;
     }
 
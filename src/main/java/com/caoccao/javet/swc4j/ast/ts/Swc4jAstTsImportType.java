@@ -232,6 +232,7 @@ public class Swc4jAstTsImportType
     public Swc4jAstTsImportType setArg(Swc4jAstStr arg) {
         this.arg = AssertionUtils.notNull(arg, "Arg");
         this.arg.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -244,6 +245,7 @@ public class Swc4jAstTsImportType
     public Swc4jAstTsImportType setAttributes(Swc4jAstTsImportCallOptions attributes) {
         this.attributes = Optional.ofNullable(attributes);
         this.attributes.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -256,6 +258,7 @@ public class Swc4jAstTsImportType
     public Swc4jAstTsImportType setQualifier(ISwc4jAstTsEntityName qualifier) {
         this.qualifier = Optional.ofNullable(qualifier);
         this.qualifier.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -268,6 +271,7 @@ public class Swc4jAstTsImportType
     public Swc4jAstTsImportType setTypeArgs(Swc4jAstTsTypeParamInstantiation typeArgs) {
         this.typeArgs = Optional.ofNullable(typeArgs);
         this.typeArgs.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -204,6 +204,7 @@ public class Swc4jAstTsIndexSignature
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -223,6 +224,7 @@ public class Swc4jAstTsIndexSignature
      */
     public Swc4jAstTsIndexSignature setReadonly(boolean readonly) {
         this.readonly = readonly;
+        markDirty();
         return this;
     }
 
@@ -234,6 +236,7 @@ public class Swc4jAstTsIndexSignature
      */
     public Swc4jAstTsIndexSignature setStatic(boolean _static) {
         this._static = _static;
+        markDirty();
         return this;
     }
 
@@ -246,6 +249,7 @@ public class Swc4jAstTsIndexSignature
     public Swc4jAstTsIndexSignature setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
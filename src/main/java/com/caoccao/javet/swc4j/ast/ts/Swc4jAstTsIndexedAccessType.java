@@ -162,6 +162,7 @@ public class Swc4jAstTsIndexedAccessType
     public Swc4jAstTsIndexedAccessType setIndexType(ISwc4jAstTsType indexType) {
         this.indexType = AssertionUtils.notNull(indexType, "IndexType");
         this.indexType.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -174,6 +175,7 @@ public class Swc4jAstTsIndexedAccessType
     public Swc4jAstTsIndexedAccessType setObjType(ISwc4jAstTsType objType) {
         this.objType = AssertionUtils.notNull(objType, "ObjType");
         this.objType.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -185,6 +187,7 @@ public class Swc4jAstTsIndexedAccessType
      */
     public Swc4jAstTsIndexedAccessType setReadonly(boolean readonly) {
         this.readonly = readonly;
+        markDirty();
         return this;
     }
 
@@ -105,6 +105,7 @@ public class Swc4jAstTsInferType
     public Swc4jAstTsInferType setTypeParam(Swc4jAstTsTypeParam typeParam) {
         this.typeParam = AssertionUtils.notNull(typeParam, "TypeParam");
         this.typeParam.setParent(this);
+        markDirty();
         return this;
     }
 
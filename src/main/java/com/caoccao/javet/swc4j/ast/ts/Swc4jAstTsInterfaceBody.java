@@ -104,6 +104,7 @@ public class Swc4jAstTsInterfaceBody
                 if (body.get(i) == oldNode) {
                     body.set(i, newElement);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
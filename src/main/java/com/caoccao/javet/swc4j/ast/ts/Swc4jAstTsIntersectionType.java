@@ -108,6 +108,7 @@ public class Swc4jAstTsIntersectionType
                 if (types.get(i) == oldNode) {
                     types.set(i, newType);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
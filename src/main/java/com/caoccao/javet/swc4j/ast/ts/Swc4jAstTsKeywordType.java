@@ -100,6 +100,7 @@ public class Swc4jAstTsKeywordType
      */
     public Swc4jAstTsKeywordType setKind(Swc4jAstTsKeywordTypeKind kind) {
         this.kind = AssertionUtils.notNull(kind, "Kind");
+        markDirty();
         return this;
     }
 
@@ -106,6 +106,7 @@ public class Swc4jAstTsLitType
     public Swc4jAstTsLitType setLit(ISwc4jAstTsLit lit) {
         this.lit = AssertionUtils.notNull(lit, "Lit");
         this.lit.setParent(this);
+        markDirty();
         return this;
     }
 
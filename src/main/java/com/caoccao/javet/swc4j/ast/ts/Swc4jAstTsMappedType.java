@@ -250,6 +250,7 @@ public class Swc4jAstTsMappedType
     public Swc4jAstTsMappedType setNameType(ISwc4jAstTsType nameType) {
         this.nameType = Optional.ofNullable(nameType);
         this.nameType.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -261,6 +262,7 @@ public class Swc4jAstTsMappedType
      */
     public Swc4jAstTsMappedType setOptional(Swc4jAstTruePlusMinus optional) {
         this.optional = Optional.ofNullable(optional);
+        markDirty();
         return this;
     }
 
@@ -272,6 +274,7 @@ public class Swc4jAstTsMappedType
      */
     public Swc4jAstTsMappedType setReadonly(Swc4jAstTruePlusMinus readonly) {
         this.readonly = Optional.ofNullable(readonly);
+        markDirty();
         return this;
     }
 
@@ -284,6 +287,7 @@ public class Swc4jAstTsMappedType
     public Swc4jAstTsMappedType setTypeAnn(ISwc4jAstTsType typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -296,6 +300,7 @@ public class Swc4jAstTsMappedType
     public Swc4jAstTsMappedType setTypeParam(Swc4jAstTsTypeParam typeParam) {
         this.typeParam = AssertionUtils.notNull(typeParam, "TypeParam");
         this.typeParam.setParent(this);
+        markDirty();
         return this;
     }
 
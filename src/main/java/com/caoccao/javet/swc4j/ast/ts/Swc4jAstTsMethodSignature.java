@@ -278,6 +278,7 @@ public class Swc4jAstTsMethodSignature
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -303,6 +304,7 @@ public class Swc4jAstTsMethodSignature
      */
     public Swc4jAstTsMethodSignature setComputed(boolean computed) {
         this.computed = computed;
+        markDirty();
         return this;
     }
 
@@ -315,6 +317,7 @@ public class Swc4jAstTsMethodSignature
     public Swc4jAstTsMethodSignature setKey(ISwc4jAstExpr key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -326,6 +329,7 @@ public class Swc4jAstTsMethodSignature
      */
     public Swc4jAstTsMethodSignature setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -338,6 +342,7 @@ public class Swc4jAstTsMethodSignature
     public Swc4jAstTsMethodSignature setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -350,6 +355,7 @@ public class Swc4jAstTsMethodSignature
     public Swc4jAstTsMethodSignature setTypeParams(Swc4jAstTsTypeParamDecl typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
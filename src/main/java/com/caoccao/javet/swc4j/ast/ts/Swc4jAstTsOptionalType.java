@@ -107,6 +107,7 @@ public class Swc4jAstTsOptionalType
     public Swc4jAstTsOptionalType setTypeAnn(ISwc4jAstTsType typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "Type ann");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
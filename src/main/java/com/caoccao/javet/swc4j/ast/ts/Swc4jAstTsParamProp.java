@@ -231,6 +231,7 @@ public class Swc4jAstTsParamProp
                 if (decorators.get(i) == oldNode) {
                     decorators.set(i, newDecorator);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -250,6 +251,7 @@ public class Swc4jAstTsParamProp
      */
     public Swc4jAstTsParamProp setAccessibility(Swc4jAstAccessibility accessibility) {
         this.accessibility = Optional.ofNullable(accessibility);
+        markDirty();
         return this;
     }
 
@@ -261,6 +263,7 @@ public class Swc4jAstTsParamProp
      */
     public Swc4jAstTsParamProp setOverride(boolean _override) {
         this._override = _override;
+        markDirty();
         return this;
     }
 
@@ -273,6 +276,7 @@ public class Swc4jAstTsParamProp
     public Swc4jAstTsParamProp setParam(ISwc4jAstTsParamPropParam param) {
         this.param = AssertionUtils.notNull(param, "Param");
         this.param.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -284,6 +288,7 @@ public class Swc4jAstTsParamProp
      */
     public Swc4jAstTsParamProp setReadonly(boolean readonly) {
         this.readonly = readonly;
+        markDirty();
         return this;
     }
 
@@ -107,6 +107,7 @@ public class Swc4jAstTsParenthesizedType
     public Swc4jAstTsParenthesizedType setTypeAnn(ISwc4jAstTsType typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "Type ann");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
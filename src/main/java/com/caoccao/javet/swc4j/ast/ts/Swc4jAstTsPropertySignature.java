@@ -243,6 +243,7 @@ public class Swc4jAstTsPropertySignature
      */
     public Swc4jAstTsPropertySignature setComputed(boolean computed) {
         this.computed = computed;
+        markDirty();
         return this;
     }
 
@@ -255,6 +256,7 @@ public class Swc4jAstTsPropertySignature
     public Swc4jAstTsPropertySignature setKey(ISwc4jAstExpr key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -266,6 +268,7 @@ public class Swc4jAstTsPropertySignature
      */
     public Swc4jAstTsPropertySignature setOptional(boolean optional) {
         this.optional = optional;
+        markDirty();
         return this;
     }
 
@@ -277,6 +280,7 @@ public class Swc4jAstTsPropertySignature
      */
     public Swc4jAstTsPropertySignature setReadonly(boolean readonly) {
         this.readonly = readonly;
+        markDirty();
         return this;
     }
 
@@ -289,6 +293,7 @@ public class Swc4jAstTsPropertySignature
     public Swc4jAstTsPropertySignature setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
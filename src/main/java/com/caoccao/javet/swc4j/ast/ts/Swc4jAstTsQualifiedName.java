@@ -128,6 +128,7 @@ public class Swc4jAstTsQualifiedName
     public Swc4jAstTsQualifiedName setLeft(ISwc4jAstTsEntityName left) {
         this.left = AssertionUtils.notNull(left, "Left");
         this.left.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -140,6 +141,7 @@ public class Swc4jAstTsQualifiedName
     public Swc4jAstTsQualifiedName setRight(Swc4jAstIdentName right) {
         this.right = AssertionUtils.notNull(right, "Right");
         this.right.setParent(this);
+        markDirty();
         return this;
     }
 
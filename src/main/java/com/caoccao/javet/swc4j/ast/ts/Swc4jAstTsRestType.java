@@ -107,6 +107,7 @@ public class Swc4jAstTsRestType
     public Swc4jAstTsRestType setTypeAnn(ISwc4jAstTsType typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "Type ann");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
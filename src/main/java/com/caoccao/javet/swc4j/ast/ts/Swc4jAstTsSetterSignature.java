@@ -162,6 +162,7 @@ public class Swc4jAstTsSetterSignature
      */
     public Swc4jAstTsSetterSignature setComputed(boolean computed) {
         this.computed = computed;
+        markDirty();
         return this;
     }
 
@@ -174,6 +175,7 @@ public class Swc4jAstTsSetterSignature
     public Swc4jAstTsSetterSignature setKey(ISwc4jAstExpr key) {
         this.key = AssertionUtils.notNull(key, "Key");
         this.key.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -186,6 +188,7 @@ public class Swc4jAstTsSetterSignature
     public Swc4jAstTsSetterSignature setParam(ISwc4jAstTsFnParam param) {
         this.param = AssertionUtils.notNull(param, "Param");
         this.param.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -131,6 +131,7 @@ public class Swc4jAstTsTplLitType
                 if (quasis.get(i) == oldNode) {
                     quasis.set(i, newQuasi);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -141,6 +142,7 @@ public class Swc4jAstTsTplLitType
                 if (types.get(i) == oldNode) {
                     types.set(i, newType);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -140,6 +140,7 @@ public class Swc4jAstTsTupleElement
     public Swc4jAstTsTupleElement setLabel(ISwc4jAstPat label) {
         this.label = Optional.ofNullable(label);
         this.label.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -152,6 +153,7 @@ public class Swc4jAstTsTupleElement
     public Swc4jAstTsTupleElement setTy(ISwc4jAstTsType ty) {
         this.ty = AssertionUtils.notNull(ty, "Ty");
         this.ty.setParent(this);
+        markDirty();
         return this;
     }
 
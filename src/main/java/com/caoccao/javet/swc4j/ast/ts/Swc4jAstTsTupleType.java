@@ -105,6 +105,7 @@ public class Swc4jAstTsTupleType
                 if (elemTypes.get(i) == oldNode) {
                     elemTypes.set(i, newElemType);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -106,6 +106,7 @@ public class Swc4jAstTsTypeAnn
     public Swc4jAstTsTypeAnn setTypeAnn(ISwc4jAstTsType typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "Type ann");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
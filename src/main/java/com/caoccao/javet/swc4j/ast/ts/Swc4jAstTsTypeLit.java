@@ -106,6 +106,7 @@ public class Swc4jAstTsTypeLit
                 if (members.get(i) == oldNode) {
                     members.set(i, newMember);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
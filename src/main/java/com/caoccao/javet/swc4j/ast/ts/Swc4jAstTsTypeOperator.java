@@ -125,6 +125,7 @@ public class Swc4jAstTsTypeOperator
      */
     public Swc4jAstTsTypeOperator setOp(Swc4jAstTsTypeOperatorOp op) {
         this.op = AssertionUtils.notNull(op, "Op");
+        markDirty();
         return this;
     }
 
@@ -137,6 +138,7 @@ public class Swc4jAstTsTypeOperator
     public Swc4jAstTsTypeOperator setTypeAnn(ISwc4jAstTsType typeAnn) {
         this.typeAnn = AssertionUtils.notNull(typeAnn, "TypeAnn");
         this.typeAnn.setParent(this);
+        markDirty();
         return this;
     }
 
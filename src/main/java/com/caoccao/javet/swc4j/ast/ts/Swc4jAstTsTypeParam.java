@@ -282,6 +282,7 @@ public class Swc4jAstTsTypeParam
      */
     public Swc4jAstTsTypeParam setConst(boolean _const) {
         this._const = _const;
+        markDirty();
         return this;
     }
 
@@ -294,6 +295,7 @@ public class Swc4jAstTsTypeParam
     public Swc4jAstTsTypeParam setConstraint(ISwc4jAstTsType constraint) {
         this.constraint = Optional.ofNullable(constraint);
         this.constraint.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -306,6 +308,7 @@ public class Swc4jAstTsTypeParam
     public Swc4jAstTsTypeParam setDefault(ISwc4jAstTsType _default) {
         this._default = Optional.ofNullable(_default);
         this._default.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -317,6 +320,7 @@ public class Swc4jAstTsTypeParam
      */
     public Swc4jAstTsTypeParam setIn(boolean in) {
         this.in = in;
+        markDirty();
         return this;
     }
 
@@ -329,6 +333,7 @@ public class Swc4jAstTsTypeParam
     public Swc4jAstTsTypeParam setName(Swc4jAstIdent name) {
         this.name = AssertionUtils.notNull(name, "Name");
         this.name.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -340,6 +345,7 @@ public class Swc4jAstTsTypeParam
      */
     public Swc4jAstTsTypeParam setOut(boolean out) {
         this.out = out;
+        markDirty();
         return this;
     }
 
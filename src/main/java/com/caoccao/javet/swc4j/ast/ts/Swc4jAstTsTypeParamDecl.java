@@ -103,6 +103,7 @@ public class Swc4jAstTsTypeParamDecl
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
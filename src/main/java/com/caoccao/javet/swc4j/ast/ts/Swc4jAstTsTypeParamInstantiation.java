@@ -106,6 +106,7 @@ public class Swc4jAstTsTypeParamInstantiation
                 if (params.get(i) == oldNode) {
                     params.set(i, newParam);
                     newNode.setParent(this);
+                    markDirty();
                     return true;
                 }
             }
@@ -172,6 +172,7 @@ public class Swc4jAstTsTypePredicate
      */
     public Swc4jAstTsTypePredicate setAsserts(boolean asserts) {
         this.asserts = asserts;
+        markDirty();
         return this;
     }
 
@@ -184,6 +185,7 @@ public class Swc4jAstTsTypePredicate
     public Swc4jAstTsTypePredicate setParamName(ISwc4jAstTsThisTypeOrIdent paramName) {
         this.paramName = AssertionUtils.notNull(paramName, "Param name");
         this.paramName.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -196,6 +198,7 @@ public class Swc4jAstTsTypePredicate
     public Swc4jAstTsTypePredicate setTypeAnn(Swc4jAstTsTypeAnn typeAnn) {
         this.typeAnn = Optional.ofNullable(typeAnn);
         this.typeAnn.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
@@ -143,6 +143,7 @@ public class Swc4jAstTsTypeQuery
     public Swc4jAstTsTypeQuery setExprName(ISwc4jAstTsTypeQueryExpr exprName) {
         this.exprName = AssertionUtils.notNull(exprName, "Expr name");
         this.exprName.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -155,6 +156,7 @@ public class Swc4jAstTsTypeQuery
     public Swc4jAstTsTypeQuery setTypeArgs(Swc4jAstTsTypeParamInstantiation typeArgs) {
         this.typeArgs = Optional.ofNullable(typeArgs);
         this.typeArgs.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
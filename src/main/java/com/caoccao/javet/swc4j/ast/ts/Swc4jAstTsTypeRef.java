@@ -143,6 +143,7 @@ public class Swc4jAstTsTypeRef
     public Swc4jAstTsTypeRef setTypeName(ISwc4jAstTsEntityName typeName) {
         this.typeName = AssertionUtils.notNull(typeName, "ExprName");
         this.typeName.setParent(this);
+        markDirty();
         return this;
     }
 
@@ -155,6 +156,7 @@ public class Swc4jAstTsTypeRef
     public Swc4jAstTsTypeRef setTypeParams(Swc4jAstTsTypeParamInstantiation typeParams) {
         this.typeParams = Optional.ofNullable(typeParams);
         this.typeParams.ifPresent(node -> node.setParent(this));
+        markDirty();
         return this;
     }
 
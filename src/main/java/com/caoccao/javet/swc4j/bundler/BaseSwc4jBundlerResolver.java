@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.caoccao.javet.swc4j.bundler;
+
+import com.caoccao.javet.swc4j.utils.SimpleList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type Base swc4j bundler resolver resolves the relative and absolute specifiers
+ * like Node.js and TypeScript do. The exact path is tried first, then the path with
+ * the TypeScript extension replacing the JavaScript one, then the path with each of
+ * the {@link #EXTENSIONS}, then the index file of the directory with each of the {@link #EXTENSIONS}.
+ * The bare specifiers are passed to {@link #resolveBare(String)}.
+ *
+ * @since 2.3.0
+ */
+public abstract class BaseSwc4jBundlerResolver implements ISwc4jBundlerResolver {
+    /**
+     * The constant EXTENSIONS.
+     *
+     * @since 2.3.0
+     */
+    public static final List<String> EXTENSIONS = SimpleList.immutable(SimpleList.of(
+            ".ts", ".tsx", ".mts", ".cts", ".js", ".jsx", ".mjs", ".cjs"));
+    private static final String[][] TYPESCRIPT_EXTENSIONS = new String[][]{
+            {".js", ".ts", ".tsx"},
+            {".jsx", ".tsx"},
+            {".mjs", ".mts"},
+            {".cjs", ".cts"},
+    };
+
+    /**
+     * Instantiates a new Base swc4j bundler resolver.
+     *
+     * @since 2.3.0
+     */
+    protected BaseSwc4jBundlerResolver() {
+    }
+
+    /**
+     * Is the specifier a relative or absolute path.
+     *
+     * @param specifier the specifier
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    public static boolean isPathSpecifier(String specifier) {
+        return specifier.startsWith("./")
+                || specifier.startsWith("../")
+                || specifier.startsWith("/")
+                || specifier.equals(".")
+                || specifier.equals("..");
+    }
+
+    /**
+     * Does the module exist.
+     *
+     * @param id the module id
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    protected abstract boolean exists(String id);
+
+    /**
+     * Gets the candidate module ids of the path in the order they are tried.
+     *
+     * @param path the path
+     * @return the candidates
+     * @since 2.3.0
+     */
+    protected List<String> getCandidates(String path) {
+        final List<String> candidates = new ArrayList<>();
+        candidates.add(path);
+        for (String[] extensions : TYPESCRIPT_EXTENSIONS) {
+            if (path.endsWith(extensions[0])) {
+                final String prefix = path.substring(0, path.length() - extensions[0].length());
+                for (int i = 1; i < extensions.length; i++) {
+                    candidates.add(prefix + extensions[i]);
+                }
+                break;
+            }
+        }
+        for (String extension : EXTENSIONS) {
+            candidates.add(path + extension);
+        }
+        for (String extension : EXTENSIONS) {
+            candidates.add(path + "/index" + extension);
+        }
+        return candidates;
+    }
+
+    /**
+     * Join the path specifier with the directory of the importer.
+     *
+     * @param specifier the specifier
+     * @param importer  the module id of the importer, null for the entries
+     * @return the path
+     * @since 2.3.0
+     */
+    protected abstract String join(String specifier, String importer);
+
+    @Override
+    public String resolve(String specifier, String importer) {
+        if (importer != null && !isPathSpecifier(specifier)) {
+            return resolveBare(specifier);
+        }
+        for (String candidate : getCandidates(join(specifier, importer))) {
+            if (exists(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the bare specifier, e.g. a package name.
+     * The bare specifiers are left to the runtime by default.
+     *
+     * @param specifier the specifier
+     * @return the module id, null if the specifier is left to the runtime
+     * @since 2.3.0
+     */
+    protected String resolveBare(String specifier) {
+        return null;
+    }
+}
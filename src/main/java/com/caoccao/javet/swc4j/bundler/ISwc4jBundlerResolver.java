@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.bundler;
+
+import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * The interface swc4j bundler resolver maps the import specifiers to the module ids
+ * and loads the code of the modules for {@link com.caoccao.javet.swc4j.Swc4jBundler}.
+ * <p>
+ * The specifiers are resolved on the bundling thread while the modules are loaded
+ * on the executor threads, so {@link #load(String)} must be thread-safe.
+ *
+ * @since 2.3.0
+ */
+public interface ISwc4jBundlerResolver {
+    /**
+     * Gets the media type of the module. It is derived from the extension of the module id by default.
+     *
+     * @param id the module id
+     * @return the media type
+     * @since 2.3.0
+     */
+    default Swc4jMediaType getMediaType(String id) {
+        final String lowerCaseId = id.toLowerCase(Locale.ROOT);
+        if (lowerCaseId.endsWith(".tsx")) {
+            return Swc4jMediaType.Tsx;
+        } else if (lowerCaseId.endsWith(".mts")) {
+            return Swc4jMediaType.Mts;
+        } else if (lowerCaseId.endsWith(".cts")) {
+            return Swc4jMediaType.Cts;
+        } else if (lowerCaseId.endsWith(".ts")) {
+            return Swc4jMediaType.TypeScript;
+        } else if (lowerCaseId.endsWith(".jsx")) {
+            return Swc4jMediaType.Jsx;
+        } else if (lowerCaseId.endsWith(".mjs")) {
+            return Swc4jMediaType.Mjs;
+        } else if (lowerCaseId.endsWith(".cjs")) {
+            return Swc4jMediaType.Cjs;
+        }
+        return Swc4jMediaType.JavaScript;
+    }
+
+    /**
+     * Load the code of the module.
+     *
+     * @param id the module id returned by {@link #resolve(String, String)}
+     * @return the code
+     * @throws IOException the io exception
+     * @since 2.3.0
+     */
+    String load(String id) throws IOException;
+
+    /**
+     * Resolve the specifier to the module id.
+     *
+     * @param specifier the specifier
+     * @param importer  the module id of the importer, null for the entries
+     * @return the module id, null if the specifier cannot be resolved
+     * @since 2.3.0
+     */
+    String resolve(String specifier, String importer);
+}
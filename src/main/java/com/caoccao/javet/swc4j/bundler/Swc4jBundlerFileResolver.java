@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.caoccao.javet.swc4j.bundler;
+
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * The type Swc4j bundler file resolver resolves the modules from the local file system.
+ * The module ids are the absolute normalized paths and the entries are resolved against the base directory.
+ * The bare specifiers, e.g. the packages, are left to the runtime.
+ *
+ * @since 2.3.0
+ */
+public class Swc4jBundlerFileResolver extends BaseSwc4jBundlerResolver {
+    /**
+     * The Base directory.
+     *
+     * @since 2.3.0
+     */
+    protected final Path baseDirectory;
+
+    /**
+     * Instantiates a new Swc4j bundler file resolver.
+     *
+     * @param baseDirectory the base directory of the entries
+     * @since 2.3.0
+     */
+    public Swc4jBundlerFileResolver(Path baseDirectory) {
+        this.baseDirectory = AssertionUtils.notNull(baseDirectory, "Base directory").toAbsolutePath().normalize();
+    }
+
+    @Override
+    protected boolean exists(String id) {
+        try {
+            return Files.isRegularFile(Path.of(id));
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets base directory.
+     *
+     * @return the base directory
+     * @since 2.3.0
+     */
+    public Path getBaseDirectory() {
+        return baseDirectory;
+    }
+
+    @Override
+    protected String join(String specifier, String importer) {
+        final Path directory = importer == null ? baseDirectory : Path.of(importer).getParent();
+        return directory.resolve(specifier).normalize().toString();
+    }
+
+    @Override
+    public String load(String id) throws IOException {
+        return Files.readString(Path.of(id), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String resolve(String specifier, String importer) {
+        final String id = super.resolve(specifier, importer);
+        // The candidates may mix the separators on Windows.
+        return id == null ? null : Path.of(id).normalize().toString();
+    }
+}
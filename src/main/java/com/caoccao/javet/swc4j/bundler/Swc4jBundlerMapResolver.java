@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.caoccao.javet.swc4j.bundler;
+
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * The type Swc4j bundler map resolver resolves the modules from an in-memory map
+ * of the module ids to the code. The module ids are POSIX style absolute paths, e.g. /src/main.ts,
+ * and the entries are resolved against /. A bare specifier is resolved only if it is a key of the map.
+ * <p>
+ * The map is read only and must not be changed while bundling.
+ *
+ * @since 2.3.0
+ */
+public class Swc4jBundlerMapResolver extends BaseSwc4jBundlerResolver {
+    /**
+     * The Sources.
+     *
+     * @since 2.3.0
+     */
+    protected final Map<String, String> sources;
+
+    /**
+     * Instantiates a new Swc4j bundler map resolver.
+     *
+     * @param sources the map of the module ids to the code
+     * @since 2.3.0
+     */
+    public Swc4jBundlerMapResolver(Map<String, String> sources) {
+        this.sources = AssertionUtils.notNull(sources, "Sources");
+    }
+
+    /**
+     * Normalize the POSIX style path by removing the . and .. segments.
+     *
+     * @param path the path
+     * @return the normalized absolute path
+     * @since 2.3.0
+     */
+    public static String normalize(String path) {
+        final Deque<String> segments = new ArrayDeque<>();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..")) {
+                segments.pollLast();
+            } else {
+                segments.addLast(segment);
+            }
+        }
+        return "/" + String.join("/", segments);
+    }
+
+    @Override
+    protected boolean exists(String id) {
+        return sources.containsKey(id);
+    }
+
+    /**
+     * Gets sources.
+     *
+     * @return the sources
+     * @since 2.3.0
+     */
+    public Map<String, String> getSources() {
+        return sources;
+    }
+
+    @Override
+    protected String join(String specifier, String importer) {
+        if (specifier.startsWith("/")) {
+            return normalize(specifier);
+        }
+        final String directory = importer == null ? "/" : importer.substring(0, importer.lastIndexOf('/') + 1);
+        return normalize(directory + specifier);
+    }
+
+    @Override
+    public String load(String id) throws IOException {
+        final String code = sources.get(id);
+        if (code == null) {
+            throw new IOException(MessageFormat.format("Module {0} is not found", id));
+        }
+        return code;
+    }
+
+    @Override
+    protected String resolveBare(String specifier) {
+        return sources.containsKey(specifier) ? specifier : null;
+    }
+}
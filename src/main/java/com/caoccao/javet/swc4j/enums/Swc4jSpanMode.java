@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.enums;
+
+import com.caoccao.javet.swc4j.interfaces.ISwc4jEnumId;
+
+import java.util.stream.Stream;
+
+/**
+ * Span mode determines how the positions in the spans are computed.
+ *
+ * @since 2.3.0
+ */
+public enum Swc4jSpanMode implements ISwc4jEnumId {
+    /**
+     * The start and end are the indexes of the chars in the Java string
+     * and the line and column are computed.
+     */
+    CharIndex(0),
+    /**
+     * The start and end are the UTF-8 byte offsets of the source text
+     * and the line and column are 0. This skips the position mapping pass on the native side.
+     * Use {@link com.caoccao.javet.swc4j.span.Swc4jLineIndex} to compute the line and column on demand.
+     */
+    ByteOffset(1),
+    ;
+
+    private static final int LENGTH = values().length;
+    private static final Swc4jSpanMode[] TYPES = new Swc4jSpanMode[LENGTH];
+
+    static {
+        Stream.of(values()).forEach(v -> TYPES[v.getId()] = v);
+    }
+
+    private final int id;
+
+    Swc4jSpanMode(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Parse swc4j span mode.
+     *
+     * @param id the id
+     * @return the swc4j span mode
+     * @since 2.3.0
+     */
+    public static Swc4jSpanMode parse(int id) {
+        return id >= 0 && id < LENGTH ? TYPES[id] : CharIndex;
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.exceptions;
+
+/**
+ * The type Swc4j cancellation exception is thrown when a call is cancelled by its cancellation token
+ * or runs out of its time budget. The native side checks both between the phases,
+ * so the message tells which phase was about to start.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jCancellationException extends Swc4jCoreException {
+    private final boolean timedOut;
+
+    private Swc4jCancellationException(String message, boolean timedOut) {
+        super(message);
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Creates a new cancelled error with the given message.
+     *
+     * @param message the error message
+     * @return the swc4j cancellation exception
+     * @since 2.3.0
+     */
+    public static Swc4jCancellationException cancelled(String message) {
+        return new Swc4jCancellationException(message, false);
+    }
+
+    /**
+     * Creates a new timed out error with the given message.
+     *
+     * @param message the error message
+     * @return the swc4j cancellation exception
+     * @since 2.3.0
+     */
+    public static Swc4jCancellationException timedOut(String message) {
+        return new Swc4jCancellationException(message, true);
+    }
+
+    /**
+     * Is timed out.
+     *
+     * @return true : the time budget is exhausted, false : the cancellation token is cancelled
+     * @since 2.3.0
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+}
@@ -23,15 +23,51 @@ import java.text.MessageFormat;
  *
  * @since 0.1.0
  */
-public final class Swc4jCoreException extends Swc4jException {
-    private Swc4jCoreException(String message) {
+public class Swc4jCoreException extends Swc4jException {
+    /**
+     * Instantiates a new Swc4j core exception.
+     *
+     * @param message the message
+     * @since 2.3.0
+     */
+    protected Swc4jCoreException(String message) {
         super(message);
     }
 
-    private Swc4jCoreException(String message, Throwable cause) {
+    /**
+     * Instantiates a new Swc4j core exception.
+     *
+     * @param message the message
+     * @param cause   the cause
+     * @since 2.3.0
+     */
+    protected Swc4jCoreException(String message, Throwable cause) {
         super(message, cause);
     }
 
+    /**
+     * Creates a new bundle error with the given message.
+     *
+     * @param message the error message
+     * @return the swc4j core exception
+     * @since 2.3.0
+     */
+    public static Swc4jCoreException bundleError(String message) {
+        return new Swc4jCoreException(message);
+    }
+
+    /**
+     * Creates a new bundle error with the given message and cause.
+     *
+     * @param message the error message
+     * @param cause   the cause of the error
+     * @return the swc4j core exception
+     * @since 2.3.0
+     */
+    public static Swc4jCoreException bundleError(String message, Throwable cause) {
+        return new Swc4jCoreException(message, cause);
+    }
+
     /**
      * Feature not supported.
      *
@@ -24,6 +24,10 @@ public enum Jni2RustFilePath {
      * AST utilities file path
      */
     AstUtils("rust/src/ast_utils.rs"),
+    /**
+     * Binary utilities file path
+     */
+    BinaryUtils("rust/src/binary_utils.rs"),
     /**
      * Comment utilities file path
      */
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.options;
+
+import com.caoccao.javet.swc4j.Swc4jExecutor;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+/**
+ * The type Swc4j bundle options.
+ * <p>
+ * The transpile related options are applied to every module of the bundle,
+ * while the media type, the parse mode and the module kind are decided by the bundler.
+ *
+ * @since 2.3.0
+ */
+public class Swc4jBundleOptions {
+    /**
+     * The cancellation token checked between the phases of every parse and transpile of the bundle.
+     * Defaults to `null`.
+     *
+     * @since 2.3.0
+     */
+    protected Swc4jCancellationToken cancellationToken;
+    /**
+     * Kind of decorators to use. Defaults to {@link Swc4jDecoratorsTranspileOption#None()}.
+     *
+     * @since 2.3.0
+     */
+    protected Swc4jDecoratorsTranspileOption decorators;
+    /**
+     * The executor running the parses and the transpiles of the modules in parallel.
+     * Defaults to `null` that means {@link Swc4jExecutor#getDefault()}.
+     *
+     * @since 2.3.0
+     */
+    protected Swc4jExecutor executor;
+    /**
+     * Should the original code of the modules be included in the source maps. Defaults to `true`.
+     *
+     * @since 2.3.0
+     */
+    protected boolean inlineSources;
+    /**
+     * JSX runtime. Defaults to `null` that means the JSX is not transformed.
+     *
+     * @since 2.3.0
+     */
+    protected Swc4jJsxRuntimeOption jsx;
+    /**
+     * Should the comments be kept in the chunks. Defaults to `false`.
+     *
+     * @since 2.3.0
+     */
+    protected boolean keepComments;
+    /**
+     * How the combined source map of each chunk is emitted. Defaults to {@link Swc4jSourceMapOption#Separate}.
+     *
+     * @since 2.3.0
+     */
+    protected Swc4jSourceMapOption sourceMap;
+    /**
+     * The time budget in milliseconds of every parse and transpile of the bundle.
+     * Defaults to `0` that means no time budget.
+     *
+     * @since 2.3.0
+     */
+    protected long timeoutMillis;
+    /**
+     * Should the unused exports of the non-entry modules be removed. Defaults to `true`.
+     *
+     * @since 2.3.0
+     */
+    protected boolean treeShaking;
+
+    /**
+     * Instantiates a new Swc4j bundle options.
+     *
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions() {
+        setCancellationToken(null);
+        setDecorators(Swc4jDecoratorsTranspileOption.None());
+        setExecutor(null);
+        setInlineSources(true);
+        setJsx(null);
+        setKeepComments(false);
+        setSourceMap(Swc4jSourceMapOption.Separate);
+        setTimeoutMillis(0);
+        setTreeShaking(true);
+    }
+
+    /**
+     * Gets cancellation token.
+     *
+     * @return the cancellation token
+     * @since 2.3.0
+     */
+    public Swc4jCancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * Gets decorators.
+     *
+     * @return the decorators
+     * @since 2.3.0
+     */
+    public Swc4jDecoratorsTranspileOption getDecorators() {
+        return decorators;
+    }
+
+    /**
+     * Gets executor.
+     *
+     * @return the executor, null if the default executor is used
+     * @since 2.3.0
+     */
+    public Swc4jExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets jsx.
+     *
+     * @return the jsx
+     * @since 2.3.0
+     */
+    public Swc4jJsxRuntimeOption getJsx() {
+        return jsx;
+    }
+
+    /**
+     * Gets source map.
+     *
+     * @return the source map
+     * @since 2.3.0
+     */
+    public Swc4jSourceMapOption getSourceMap() {
+        return sourceMap;
+    }
+
+    /**
+     * Gets timeout millis.
+     *
+     * @return the timeout millis
+     * @since 2.3.0
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Is inline sources.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    public boolean isInlineSources() {
+        return inlineSources;
+    }
+
+    /**
+     * Is keep comments.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    public boolean isKeepComments() {
+        return keepComments;
+    }
+
+    /**
+     * Is tree shaking.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    public boolean isTreeShaking() {
+        return treeShaking;
+    }
+
+    /**
+     * Sets cancellation token.
+     *
+     * @param cancellationToken the cancellation token
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setCancellationToken(Swc4jCancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+        return this;
+    }
+
+    /**
+     * Sets decorators.
+     *
+     * @param decorators the decorators
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setDecorators(Swc4jDecoratorsTranspileOption decorators) {
+        this.decorators = AssertionUtils.notNull(decorators, "Decorators");
+        return this;
+    }
+
+    /**
+     * Sets executor.
+     *
+     * @param executor the executor, null if the default executor is used
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setExecutor(Swc4jExecutor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets inline sources.
+     *
+     * @param inlineSources the inline sources
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setInlineSources(boolean inlineSources) {
+        this.inlineSources = inlineSources;
+        return this;
+    }
+
+    /**
+     * Sets jsx.
+     *
+     * @param jsx the jsx
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setJsx(Swc4jJsxRuntimeOption jsx) {
+        this.jsx = jsx;
+        return this;
+    }
+
+    /**
+     * Sets keep comments.
+     *
+     * @param keepComments the keep comments
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setKeepComments(boolean keepComments) {
+        this.keepComments = keepComments;
+        return this;
+    }
+
+    /**
+     * Sets source map.
+     *
+     * @param sourceMap the source map
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setSourceMap(Swc4jSourceMapOption sourceMap) {
+        this.sourceMap = AssertionUtils.notNull(sourceMap, "Source map");
+        return this;
+    }
+
+    /**
+     * Sets timeout millis.
+     *
+     * @param timeoutMillis the timeout millis, 0 means no time budget
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setTimeoutMillis(long timeoutMillis) {
+        AssertionUtils.notTrue(timeoutMillis >= 0, "Timeout millis must not be negative");
+        this.timeoutMillis = timeoutMillis;
+        return this;
+    }
+
+    /**
+     * Sets tree shaking.
+     *
+     * @param treeShaking the tree shaking
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jBundleOptions setTreeShaking(boolean treeShaking) {
+        this.treeShaking = treeShaking;
+        return this;
+    }
+}
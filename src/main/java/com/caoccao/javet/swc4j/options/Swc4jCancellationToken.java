@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.options;
+
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The type Swc4j cancellation token cancels the calls that share it from any thread.
+ * <p>
+ * The state lives in a direct buffer that the native side reads without calling back into Java,
+ * so checking the token between the phases costs a single atomic load.
+ * A cancelled token stays cancelled and the calls with it fail with
+ * {@link com.caoccao.javet.swc4j.exceptions.Swc4jCancellationException}.
+ * The compiled options keep the token they are compiled with.
+ *
+ * @since 2.3.0
+ */
+@Jni2RustClass(filePath = Jni2RustFilePath.Options)
+public final class Swc4jCancellationToken {
+    private static final VarHandle STATE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private final ByteBuffer buffer;
+
+    /**
+     * Instantiates a new Swc4j cancellation token.
+     *
+     * @since 2.3.0
+     */
+    public Swc4jCancellationToken() {
+        buffer = ByteBuffer.allocateDirect(Integer.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Cancel the calls that share this token. The calls return at the next phase boundary.
+     *
+     * @since 2.3.0
+     */
+    public void cancel() {
+        STATE.setVolatile(buffer, 0, 1);
+    }
+
+    /**
+     * Gets the direct buffer holding the state for the native side. It is not meant to be changed directly.
+     *
+     * @return the buffer
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Is cancelled.
+     *
+     * @return true : cancelled, false : not cancelled
+     * @since 2.3.0
+     */
+    public boolean isCancelled() {
+        return (int) STATE.getVolatile(buffer, 0) != 0;
+    }
+}
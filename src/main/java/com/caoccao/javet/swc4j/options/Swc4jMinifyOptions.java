@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.swc4j.options;
+
+import com.caoccao.javet.swc4j.enums.Swc4jEsVersion;
+import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
+import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.plugins.ISwc4jPluginHost;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.net.URL;
+
+/**
+ * The type Swc4j minify options adds the compress and mangle controls to the transform options.
+ * The code generator options, e.g. the target and the source map, are inherited from the transform options.
+ *
+ * @since 2.3.0
+ */
+@Jni2RustClass(filePath = Jni2RustFilePath.Options)
+public class Swc4jMinifyOptions extends Swc4jTransformOptions {
+    /**
+     * The constant MAX_PASSES.
+     *
+     * @since 2.3.0
+     */
+    public static final int MAX_PASSES = 16;
+    /**
+     * Whether to compress the code by simplifying the expressions, removing the dead code
+     * and inlining the constants. Defaults to `true`.
+     *
+     * @since 2.3.0
+     */
+    protected boolean compress;
+    /**
+     * Whether to keep the class names. Defaults to `false`.
+     *
+     * @since 2.3.0
+     */
+    protected boolean keepClassNames;
+    /**
+     * Whether to keep the function names. Defaults to `false`.
+     *
+     * @since 2.3.0
+     */
+    protected boolean keepFnNames;
+    /**
+     * Whether to mangle the names of the local bindings. Defaults to `true`.
+     *
+     * @since 2.3.0
+     */
+    protected boolean mangle;
+    /**
+     * The number of the compress passes. Defaults to `1`.
+     *
+     * @since 2.3.0
+     */
+    protected int passes;
+    /**
+     * Whether to compress and mangle the top level bindings as well. Defaults to `false`.
+     *
+     * @since 2.3.0
+     */
+    protected boolean topLevel;
+
+    /**
+     * Instantiates a new Swc4j minify options.
+     *
+     * @since 2.3.0
+     */
+    public Swc4jMinifyOptions() {
+        super();
+        setCompress(true);
+        setKeepClassNames(false);
+        setKeepFnNames(false);
+        setMangle(true);
+        setMediaType(Swc4jMediaType.JavaScript);
+        setPasses(1);
+        setTopLevel(false);
+    }
+
+    @Override
+    public Swc4jMinifyOptions copy() {
+        return (Swc4jMinifyOptions) super.copy();
+    }
+
+    /**
+     * Gets passes.
+     *
+     * @return the passes
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public int getPasses() {
+        return passes;
+    }
+
+    /**
+     * Is compress.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean isCompress() {
+        return compress;
+    }
+
+    /**
+     * Is keep class names.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean isKeepClassNames() {
+        return keepClassNames;
+    }
+
+    /**
+     * Is keep fn names.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean isKeepFnNames() {
+        return keepFnNames;
+    }
+
+    /**
+     * Is mangle.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean isMangle() {
+        return mangle;
+    }
+
+    /**
+     * Is top level.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean isTopLevel() {
+        return topLevel;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setAsciiOnly(boolean asciiOnly) {
+        super.setAsciiOnly(asciiOnly);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setCancellationToken(Swc4jCancellationToken cancellationToken) {
+        super.setCancellationToken(cancellationToken);
+        return this;
+    }
+
+    /**
+     * Sets compress.
+     *
+     * @param compress the compress
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jMinifyOptions setCompress(boolean compress) {
+        this.compress = compress;
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setEmitAssertForImportAttributes(boolean emitAssertForImportAttributes) {
+        super.setEmitAssertForImportAttributes(emitAssertForImportAttributes);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setInlineSources(boolean inlineSources) {
+        super.setInlineSources(inlineSources);
+        return this;
+    }
+
+    /**
+     * Sets keep class names.
+     *
+     * @param keepClassNames the keep class names
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jMinifyOptions setKeepClassNames(boolean keepClassNames) {
+        this.keepClassNames = keepClassNames;
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setKeepComments(boolean keepComments) {
+        super.setKeepComments(keepComments);
+        return this;
+    }
+
+    /**
+     * Sets keep fn names.
+     *
+     * @param keepFnNames the keep fn names
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jMinifyOptions setKeepFnNames(boolean keepFnNames) {
+        this.keepFnNames = keepFnNames;
+        return this;
+    }
+
+    /**
+     * Sets mangle.
+     *
+     * @param mangle the mangle
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jMinifyOptions setMangle(boolean mangle) {
+        this.mangle = mangle;
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setMediaType(Swc4jMediaType mediaType) {
+        super.setMediaType(mediaType);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setMinify(boolean minify) {
+        super.setMinify(minify);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setOmitLastSemi(boolean omitLastSemi) {
+        super.setOmitLastSemi(omitLastSemi);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setParseMode(Swc4jParseMode parseMode) {
+        super.setParseMode(parseMode);
+        return this;
+    }
+
+    /**
+     * Sets the number of the compress passes.
+     *
+     * @param passes the passes
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jMinifyOptions setPasses(int passes) {
+        AssertionUtils.notTrue(
+                passes > 0 && passes <= MAX_PASSES,
+                "Passes must be between 1 and " + MAX_PASSES);
+        this.passes = passes;
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setPluginHost(ISwc4jPluginHost pluginHost) {
+        super.setPluginHost(pluginHost);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setSourceMap(Swc4jSourceMapOption sourceMap) {
+        super.setSourceMap(sourceMap);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setSpecifier(URL specifier) {
+        super.setSpecifier(specifier);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setTarget(Swc4jEsVersion target) {
+        super.setTarget(target);
+        return this;
+    }
+
+    @Override
+    public Swc4jMinifyOptions setTimeoutMillis(long timeoutMillis) {
+        super.setTimeoutMillis(timeoutMillis);
+        return this;
+    }
+
+    /**
+     * Sets top level.
+     *
+     * @param topLevel the top level
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jMinifyOptions setTopLevel(boolean topLevel) {
+        this.topLevel = topLevel;
+        return this;
+    }
+}
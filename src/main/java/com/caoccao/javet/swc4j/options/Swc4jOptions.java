@@ -31,7 +31,7 @@ import java.net.URL;
  *
  * @since 0.5.0
  */
-public abstract class Swc4jOptions {
+public abstract class Swc4jOptions implements Cloneable {
     /**
      * The constant DEFAULT_SPECIFIER.
      *
@@ -47,6 +47,13 @@ public abstract class Swc4jOptions {
         }
     }
 
+    /**
+     * The cancellation token checked between the phases of the call. Defaults to `null`.
+     * It does not change the output so it is left out of the fingerprint of the options.
+     *
+     * @since 2.3.0
+     */
+    protected Swc4jCancellationToken cancellationToken;
     /**
      * Media type of the source text.
      *
@@ -72,6 +79,14 @@ public abstract class Swc4jOptions {
      * @since 0.5.0
      */
     protected URL specifier;
+    /**
+     * The time budget of the call in milliseconds checked between the phases of the call.
+     * Defaults to `0` that means no time budget. The batch calls apply it to each code.
+     * It does not change the output so it is left out of the fingerprint of the options.
+     *
+     * @since 2.3.0
+     */
+    protected long timeoutMillis;
 
     /**
      * Instantiates a new Swc4j options.
@@ -79,10 +94,38 @@ public abstract class Swc4jOptions {
      * @since 0.5.0
      */
     public Swc4jOptions() {
+        setCancellationToken(null);
         setMediaType(Swc4jMediaType.TypeScript);
         setParseMode(Swc4jParseMode.Program);
         setPluginHost(null);
         setSpecifier(DEFAULT_SPECIFIER);
+        setTimeoutMillis(0);
+    }
+
+    /**
+     * Copy the options.
+     * The copy is shallow so that the nested objects, e.g. the plugin host and the cancellation token, are shared.
+     *
+     * @return the copy
+     * @since 2.3.0
+     */
+    public Swc4jOptions copy() {
+        try {
+            return (Swc4jOptions) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets cancellation token.
+     *
+     * @return the cancellation token
+     * @since 2.3.0
+     */
+    @Jni2RustMethod(optional = true)
+    public Swc4jCancellationToken getCancellationToken() {
+        return cancellationToken;
     }
 
     /**
@@ -129,6 +172,29 @@ public abstract class Swc4jOptions {
         return specifier;
     }
 
+    /**
+     * Gets timeout millis.
+     *
+     * @return the timeout millis
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Sets cancellation token.
+     *
+     * @param cancellationToken the cancellation token
+     * @return self
+     * @since 2.3.0
+     */
+    public Swc4jOptions setCancellationToken(Swc4jCancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+        return this;
+    }
+
     /**
      * Sets media type.
      *
@@ -176,4 +242,17 @@ public abstract class Swc4jOptions {
         this.specifier = AssertionUtils.notNull(specifier, "Specifier");
         return this;
     }
+
+    /**
+     * Sets timeout millis.
+     *
+     * @param timeoutMillis the timeout millis, 0 means no time budget
+     * @return self
+     * @since 2.3.0
+     */
+    public Swc4jOptions setTimeoutMillis(long timeoutMillis) {
+        AssertionUtils.notTrue(timeoutMillis >= 0, "Timeout millis must not be negative");
+        this.timeoutMillis = timeoutMillis;
+        return this;
+    }
 }
@@ -18,10 +18,12 @@ package com.caoccao.javet.swc4j.options;
 
 import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
 import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
+import com.caoccao.javet.swc4j.enums.Swc4jSpanMode;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
 import com.caoccao.javet.swc4j.plugins.ISwc4jPluginHost;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
 
 import java.net.URL;
 
@@ -32,6 +34,12 @@ import java.net.URL;
  */
 @Jni2RustClass(filePath = Jni2RustFilePath.Options)
 public class Swc4jParseOptions extends Swc4jOptions {
+    /**
+     * Whether to transfer the captured ast as a compact binary buffer or not.
+     *
+     * @since 2.3.0
+     */
+    protected boolean binaryAst;
     /**
      * Whether to capture ast or not.
      *
@@ -44,18 +52,36 @@ public class Swc4jParseOptions extends Swc4jOptions {
      * @since 0.4.0
      */
     protected boolean captureComments;
+    /**
+     * Whether to capture source text or not.
+     *
+     * @since 2.3.0
+     */
+    protected boolean captureSourceText;
     /**
      * Whether to capture tokens or not.
      *
      * @since 0.2.0
      */
     protected boolean captureTokens;
+    /**
+     * Whether to report the syntax errors as diagnostics instead of throwing or not.
+     *
+     * @since 2.3.0
+     */
+    protected boolean recoverable;
     /**
      * Whether to apply swc's scope analysis.
      *
      * @since 0.2.0
      */
     protected boolean scopeAnalysis;
+    /**
+     * The span mode.
+     *
+     * @since 2.3.0
+     */
+    protected Swc4jSpanMode spanMode;
 
     /**
      * Instantiates a new Swc4j parse options.
@@ -64,10 +90,44 @@ public class Swc4jParseOptions extends Swc4jOptions {
      */
     public Swc4jParseOptions() {
         super();
+        setBinaryAst(false);
         setCaptureAst(false);
         setCaptureComments(false);
+        setCaptureSourceText(true);
         setCaptureTokens(false);
+        setRecoverable(false);
         setScopeAnalysis(false);
+        setSpanMode(Swc4jSpanMode.CharIndex);
+    }
+
+    @Override
+    public Swc4jParseOptions copy() {
+        return (Swc4jParseOptions) super.copy();
+    }
+
+    /**
+     * Gets span mode.
+     *
+     * @return the span mode
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public Swc4jSpanMode getSpanMode() {
+        return spanMode;
+    }
+
+    /**
+     * Is binary ast.
+     * <p>
+     * When enabled, the native side serializes the captured ast into a compact binary buffer
+     * which is decoded in Java in one pass, instead of creating every ast node via JNI.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean isBinaryAst() {
+        return binaryAst;
     }
 
     /**
@@ -92,6 +152,20 @@ public class Swc4jParseOptions extends Swc4jOptions {
         return captureComments;
     }
 
+    /**
+     * Is capture source text.
+     * <p>
+     * When disabled, the source text is not copied back to a new Java string
+     * and the source text in the output is null.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean isCaptureSourceText() {
+        return captureSourceText;
+    }
+
     /**
      * Is capture tokens.
      *
@@ -103,6 +177,21 @@ public class Swc4jParseOptions extends Swc4jOptions {
         return captureTokens;
     }
 
+    /**
+     * Is recoverable.
+     * <p>
+     * When enabled, parse does not throw on syntax errors. It returns the output with the diagnostics instead,
+     * together with the AST if swc is able to recover from the errors.
+     * The other calls, e.g. transpile, ignore it.
+     *
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean isRecoverable() {
+        return recoverable;
+    }
+
     /**
      * Is scope analysis.
      *
@@ -114,6 +203,24 @@ public class Swc4jParseOptions extends Swc4jOptions {
         return scopeAnalysis;
     }
 
+    /**
+     * Sets binary ast.
+     *
+     * @param binaryAst the binary ast
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jParseOptions setBinaryAst(boolean binaryAst) {
+        this.binaryAst = binaryAst;
+        return this;
+    }
+
+    @Override
+    public Swc4jParseOptions setCancellationToken(Swc4jCancellationToken cancellationToken) {
+        super.setCancellationToken(cancellationToken);
+        return this;
+    }
+
     /**
      * Sets capture ast.
      *
@@ -138,6 +245,18 @@ public class Swc4jParseOptions extends Swc4jOptions {
         return this;
     }
 
+    /**
+     * Sets capture source text.
+     *
+     * @param captureSourceText the capture source text
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jParseOptions setCaptureSourceText(boolean captureSourceText) {
+        this.captureSourceText = captureSourceText;
+        return this;
+    }
+
     /**
      * Sets capture tokens.
      *
@@ -168,6 +287,18 @@ public class Swc4jParseOptions extends Swc4jOptions {
         return this;
     }
 
+    /**
+     * Sets recoverable.
+     *
+     * @param recoverable the recoverable
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jParseOptions setRecoverable(boolean recoverable) {
+        this.recoverable = recoverable;
+        return this;
+    }
+
     /**
      * Sets scope analysis.
      *
@@ -180,9 +311,27 @@ public class Swc4jParseOptions extends Swc4jOptions {
         return this;
     }
 
+    /**
+     * Sets span mode.
+     *
+     * @param spanMode the span mode
+     * @return the self
+     * @since 2.3.0
+     */
+    public Swc4jParseOptions setSpanMode(Swc4jSpanMode spanMode) {
+        this.spanMode = AssertionUtils.notNull(spanMode, "Span mode");
+        return this;
+    }
+
     @Override
     public Swc4jParseOptions setSpecifier(URL specifier) {
         super.setSpecifier(specifier);
         return this;
     }
+
+    @Override
+    public Swc4jParseOptions setTimeoutMillis(long timeoutMillis) {
+        super.setTimeoutMillis(timeoutMillis);
+        return this;
+    }
 }
@@ -108,6 +108,11 @@ public class Swc4jTransformOptions extends Swc4jOptions {
         setTarget(Swc4jEsVersion.ESNext);
     }
 
+    @Override
+    public Swc4jTransformOptions copy() {
+        return (Swc4jTransformOptions) super.copy();
+    }
+
     /**
      * Gets source map.
      *
@@ -202,6 +207,12 @@ public class Swc4jTransformOptions extends Swc4jOptions {
         return this;
     }
 
+    @Override
+    public Swc4jTransformOptions setCancellationToken(Swc4jCancellationToken cancellationToken) {
+        super.setCancellationToken(cancellationToken);
+        return this;
+    }
+
     /**
      * Sets emit assert for import attributes.
      *
@@ -309,4 +320,10 @@ public class Swc4jTransformOptions extends Swc4jOptions {
         this.target = AssertionUtils.notNull(target, "Target");
         return this;
     }
+
+    @Override
+    public Swc4jTransformOptions setTimeoutMillis(long timeoutMillis) {
+        super.setTimeoutMillis(timeoutMillis);
+        return this;
+    }
 }
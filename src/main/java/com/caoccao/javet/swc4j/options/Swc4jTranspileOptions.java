@@ -112,6 +112,11 @@ public class Swc4jTranspileOptions extends Swc4jParseOptions {
         setVerbatimModuleSyntax(false);
     }
 
+    @Override
+    public Swc4jTranspileOptions copy() {
+        return (Swc4jTranspileOptions) super.copy();
+    }
+
     /**
      * Gets decorators.
      *
@@ -211,6 +216,18 @@ public class Swc4jTranspileOptions extends Swc4jParseOptions {
         return verbatimModuleSyntax;
     }
 
+    @Override
+    public Swc4jTranspileOptions setBinaryAst(boolean binaryAst) {
+        super.setBinaryAst(binaryAst);
+        return this;
+    }
+
+    @Override
+    public Swc4jTranspileOptions setCancellationToken(Swc4jCancellationToken cancellationToken) {
+        super.setCancellationToken(cancellationToken);
+        return this;
+    }
+
     @Override
     public Swc4jTranspileOptions setCaptureAst(boolean captureAst) {
         super.setCaptureAst(captureAst);
@@ -223,6 +240,12 @@ public class Swc4jTranspileOptions extends Swc4jParseOptions {
         return this;
     }
 
+    @Override
+    public Swc4jTranspileOptions setCaptureSourceText(boolean captureSourceText) {
+        super.setCaptureSourceText(captureSourceText);
+        return this;
+    }
+
     @Override
     public Swc4jTranspileOptions setCaptureTokens(boolean captureTokens) {
         super.setCaptureTokens(captureTokens);
@@ -331,6 +354,12 @@ public class Swc4jTranspileOptions extends Swc4jParseOptions {
         return this;
     }
 
+    @Override
+    public Swc4jTranspileOptions setRecoverable(boolean recoverable) {
+        super.setRecoverable(recoverable);
+        return this;
+    }
+
     /**
      * Sets scope analysis.
      *
@@ -355,6 +384,12 @@ public class Swc4jTranspileOptions extends Swc4jParseOptions {
         return this;
     }
 
+    @Override
+    public Swc4jTranspileOptions setSpanMode(Swc4jSpanMode spanMode) {
+        super.setSpanMode(spanMode);
+        return this;
+    }
+
     /**
      * Sets Specifier of the source text.
      *
@@ -367,6 +402,12 @@ public class Swc4jTranspileOptions extends Swc4jParseOptions {
         return this;
     }
 
+    @Override
+    public Swc4jTranspileOptions setTimeoutMillis(long timeoutMillis) {
+        super.setTimeoutMillis(timeoutMillis);
+        return this;
+    }
+
     /**
      * Sets var decl imports.
      *
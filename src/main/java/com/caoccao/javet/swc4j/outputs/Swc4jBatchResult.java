@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+/**
+ * The type Swc4j batch result holds either the output or the error of one item in a batch.
+ *
+ * @param <Output> the type of the output
+ * @since 2.3.0
+ */
+public final class Swc4jBatchResult<Output> {
+    /**
+     * The Error.
+     *
+     * @since 2.3.0
+     */
+    private final Swc4jCoreException error;
+    /**
+     * The Output.
+     *
+     * @since 2.3.0
+     */
+    private final Output output;
+
+    private Swc4jBatchResult(Output output, Swc4jCoreException error) {
+        this.error = error;
+        this.output = output;
+    }
+
+    /**
+     * Create a failed batch result.
+     *
+     * @param <Output> the type of the output
+     * @param error    the error
+     * @return the swc4j batch result
+     * @since 2.3.0
+     */
+    public static <Output> Swc4jBatchResult<Output> error(Swc4jCoreException error) {
+        return new Swc4jBatchResult<>(null, AssertionUtils.notNull(error, "Error"));
+    }
+
+    /**
+     * Create a successful batch result.
+     *
+     * @param <Output> the type of the output
+     * @param output   the output
+     * @return the swc4j batch result
+     * @since 2.3.0
+     */
+    public static <Output> Swc4jBatchResult<Output> ok(Output output) {
+        return new Swc4jBatchResult<>(AssertionUtils.notNull(output, "Output"), null);
+    }
+
+    /**
+     * Gets error.
+     *
+     * @return the error, or null if the item succeeded
+     * @since 2.3.0
+     */
+    public Swc4jCoreException getError() {
+        return error;
+    }
+
+    /**
+     * Gets output.
+     *
+     * @return the output, or null if the item failed
+     * @since 2.3.0
+     */
+    public Output getOutput() {
+        return output;
+    }
+
+    /**
+     * Gets output or throws the error.
+     *
+     * @return the output
+     * @throws Swc4jCoreException the swc4j core exception
+     * @since 2.3.0
+     */
+    public Output getOutputOrThrow() throws Swc4jCoreException {
+        if (error != null) {
+            throw error;
+        }
+        return output;
+    }
+
+    /**
+     * Is ok.
+     *
+     * @return true : ok, false : error
+     * @since 2.3.0
+     */
+    public boolean isOk() {
+        return error == null;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+
+import java.util.List;
+
+/**
+ * The type Swc4j bundle chunk is the code bundled from one entry with the modules it reaches.
+ * The chunk is a script evaluating to the exports of the entry.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jBundleChunk {
+    private final String code;
+    private final String entry;
+    private final List<String> moduleIds;
+    private final Swc4jSourceMap rawSourceMap;
+
+    /**
+     * Instantiates a new Swc4j bundle chunk.
+     *
+     * @param entry        the module id of the entry
+     * @param code         the code
+     * @param moduleIds    the module ids in the order of the module indexes in the chunk
+     * @param rawSourceMap the combined source map, null if the source map is not generated
+     * @since 2.3.0
+     */
+    public Swc4jBundleChunk(String entry, String code, List<String> moduleIds, Swc4jSourceMap rawSourceMap) {
+        this.code = AssertionUtils.notNull(code, "Code");
+        this.entry = AssertionUtils.notNull(entry, "Entry");
+        this.moduleIds = SimpleList.immutable(AssertionUtils.notNull(moduleIds, "Module ids"));
+        this.rawSourceMap = rawSourceMap;
+    }
+
+    /**
+     * Gets code.
+     *
+     * @return the code
+     * @since 2.3.0
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the module id of the entry.
+     *
+     * @return the entry
+     * @since 2.3.0
+     */
+    public String getEntry() {
+        return entry;
+    }
+
+    /**
+     * Gets the module ids in the order of the module indexes in the chunk. The entry comes first.
+     *
+     * @return the module ids
+     * @since 2.3.0
+     */
+    public List<String> getModuleIds() {
+        return moduleIds;
+    }
+
+    /**
+     * Gets the combined source map whose sources are the module ids.
+     *
+     * @return the raw source map, null if the source map is not generated
+     * @since 2.3.0
+     */
+    public Swc4jSourceMap getRawSourceMap() {
+        return rawSourceMap;
+    }
+
+    /**
+     * Gets the combined source map json. It is built on the first call.
+     *
+     * @return the source map, null if the source map is not generated
+     * @since 2.3.0
+     */
+    public String getSourceMap() {
+        return rawSourceMap == null ? null : rawSourceMap.toJson();
+    }
+}
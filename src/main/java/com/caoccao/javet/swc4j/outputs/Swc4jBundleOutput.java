@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+import com.caoccao.javet.swc4j.utils.SimpleSet;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The type Swc4j bundle output.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jBundleOutput {
+    private final List<Swc4jBundleChunk> chunks;
+    private final Set<String> externals;
+    private final List<String> moduleIds;
+
+    /**
+     * Instantiates a new Swc4j bundle output.
+     *
+     * @param chunks    the chunks in the order of the entries
+     * @param moduleIds the module ids of the whole module graph in the order they are found
+     * @param externals the specifiers left to the runtime
+     * @since 2.3.0
+     */
+    public Swc4jBundleOutput(List<Swc4jBundleChunk> chunks, List<String> moduleIds, Set<String> externals) {
+        this.chunks = SimpleList.immutable(AssertionUtils.notNull(chunks, "Chunks"));
+        this.externals = SimpleSet.immutable(AssertionUtils.notNull(externals, "Externals"));
+        this.moduleIds = SimpleList.immutable(AssertionUtils.notNull(moduleIds, "Module ids"));
+    }
+
+    /**
+     * Gets chunks.
+     *
+     * @return the chunks in the order of the entries
+     * @since 2.3.0
+     */
+    public List<Swc4jBundleChunk> getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Gets the specifiers that are not bundled and left to the runtime require.
+     *
+     * @return the externals
+     * @since 2.3.0
+     */
+    public Set<String> getExternals() {
+        return externals;
+    }
+
+    /**
+     * Gets the module ids of the whole module graph in the order they are found.
+     *
+     * @return the module ids
+     * @since 2.3.0
+     */
+    public List<String> getModuleIds() {
+        return moduleIds;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The type Swc4j output sink receives the emitted code and source map as UTF-8 bytes
+ * straight from the native buffers so that they never become Java strings.
+ * <p>
+ * The native buffers are only valid during the write calls.
+ * A null target drops the corresponding output.
+ *
+ * @since 2.3.0
+ */
+@Jni2RustClass(filePath = Jni2RustFilePath.Outputs)
+public final class Swc4jOutputSink {
+    private final Target codeTarget;
+    private final Target sourceMapTarget;
+    private long codeLength;
+    private Exception error;
+    private long sourceMapLength;
+
+    private Swc4jOutputSink(Target codeTarget, Target sourceMapTarget) {
+        this.codeTarget = codeTarget;
+        this.sourceMapTarget = sourceMapTarget;
+        codeLength = 0;
+        error = null;
+        sourceMapLength = 0;
+    }
+
+    /**
+     * Create a sink that copies the output into the given byte buffers.
+     * A {@link BufferOverflowException} is recorded as the error if a buffer is too small.
+     *
+     * @param codeBuffer      the code buffer
+     * @param sourceMapBuffer the source map buffer
+     * @return the swc4j output sink
+     * @since 2.3.0
+     */
+    public static Swc4jOutputSink of(ByteBuffer codeBuffer, ByteBuffer sourceMapBuffer) {
+        return new Swc4jOutputSink(
+                codeBuffer == null ? null : codeBuffer::put,
+                sourceMapBuffer == null ? null : sourceMapBuffer::put);
+    }
+
+    /**
+     * Create a sink that writes the output to the given output streams.
+     *
+     * @param codeStream      the code stream
+     * @param sourceMapStream the source map stream
+     * @return the swc4j output sink
+     * @since 2.3.0
+     */
+    public static Swc4jOutputSink of(OutputStream codeStream, OutputStream sourceMapStream) {
+        return of(
+                codeStream == null ? null : Channels.newChannel(codeStream),
+                sourceMapStream == null ? null : Channels.newChannel(sourceMapStream));
+    }
+
+    /**
+     * Create a sink that writes the output to the given channels.
+     *
+     * @param codeChannel      the code channel
+     * @param sourceMapChannel the source map channel
+     * @return the swc4j output sink
+     * @since 2.3.0
+     */
+    public static Swc4jOutputSink of(WritableByteChannel codeChannel, WritableByteChannel sourceMapChannel) {
+        return new Swc4jOutputSink(toTarget(codeChannel), toTarget(sourceMapChannel));
+    }
+
+    private static Target toTarget(WritableByteChannel channel) {
+        if (channel == null) {
+            return null;
+        }
+        return buffer -> {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        };
+    }
+
+    /**
+     * Gets the number of code bytes written.
+     *
+     * @return the code length
+     * @since 2.3.0
+     */
+    public long getCodeLength() {
+        return codeLength;
+    }
+
+    /**
+     * Gets the error raised by the targets.
+     *
+     * @return the error, or null if there is no error
+     * @since 2.3.0
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    /**
+     * Gets the number of source map bytes written.
+     *
+     * @return the source map length
+     * @since 2.3.0
+     */
+    public long getSourceMapLength() {
+        return sourceMapLength;
+    }
+
+    private boolean write(Target target, ByteBuffer buffer) {
+        if (error != null) {
+            return false;
+        }
+        if (target != null) {
+            try {
+                target.write(AssertionUtils.notNull(buffer, "Buffer"));
+            } catch (IOException | RuntimeException e) {
+                error = e;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write code.
+     *
+     * @param buffer the native buffer holding the UTF-8 code
+     * @return true : written, false : failed
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean writeCode(ByteBuffer buffer) {
+        final int length = buffer.remaining();
+        boolean written = write(codeTarget, buffer);
+        if (written) {
+            codeLength += length;
+        }
+        return written;
+    }
+
+    /**
+     * Write source map.
+     *
+     * @param buffer the native buffer holding the UTF-8 source map
+     * @return true : written, false : failed
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public boolean writeSourceMap(ByteBuffer buffer) {
+        final int length = buffer.remaining();
+        boolean written = write(sourceMapTarget, buffer);
+        if (written) {
+            sourceMapLength += length;
+        }
+        return written;
+    }
+
+    @FunctionalInterface
+    private interface Target {
+        void write(ByteBuffer buffer) throws IOException;
+    }
+}
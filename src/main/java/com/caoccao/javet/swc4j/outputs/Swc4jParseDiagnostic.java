@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.span.Swc4jSpan;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+/**
+ * The type Swc4j parse diagnostic describes a syntax error found while parsing.
+ *
+ * @since 2.3.0
+ */
+@Jni2RustClass(filePath = Jni2RustFilePath.Outputs)
+public final class Swc4jParseDiagnostic {
+    private final String code;
+    private final boolean fatal;
+    private final String message;
+    private final Swc4jSpan span;
+
+    /**
+     * Instantiates a new Swc4j parse diagnostic.
+     *
+     * @param code    the code
+     * @param message the message
+     * @param fatal   the fatal
+     * @param span    the span
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public Swc4jParseDiagnostic(String code, String message, boolean fatal, Swc4jSpan span) {
+        this.code = AssertionUtils.notNull(code, "Code");
+        this.fatal = fatal;
+        this.message = AssertionUtils.notNull(message, "Message");
+        this.span = AssertionUtils.notNull(span, "Span");
+    }
+
+    /**
+     * Gets code, e.g. Expected, TS1005.
+     *
+     * @return the code
+     * @since 2.3.0
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Gets message.
+     *
+     * @return the message
+     * @since 2.3.0
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets span.
+     *
+     * @return the span
+     * @since 2.3.0
+     */
+    public Swc4jSpan getSpan() {
+        return span;
+    }
+
+    /**
+     * Is fatal.
+     *
+     * @return true : the parser stopped at this error and there is no AST, false : the parser recovered
+     * @since 2.3.0
+     */
+    public boolean isFatal() {
+        return fatal;
+    }
+}
@@ -24,8 +24,10 @@ import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustParam;
 import com.caoccao.javet.swc4j.tokens.Swc4jToken;
 import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.SimpleList;
 
 import java.util.List;
 
@@ -42,6 +44,12 @@ public class Swc4jParseOutput {
      * @since 0.4.0
      */
     protected final Swc4jComments comments;
+    /**
+     * The Diagnostics.
+     *
+     * @since 2.3.0
+     */
+    protected final List<Swc4jParseDiagnostic> diagnostics;
     /**
      * The Media type.
      *
@@ -66,6 +74,12 @@ public class Swc4jParseOutput {
      * @since 0.2.0
      */
     protected final String sourceText;
+    /**
+     * The Symbol table.
+     *
+     * @since 2.3.0
+     */
+    protected final Swc4jSymbolTable symbolTable;
     /**
      * The Tokens.
      *
@@ -79,12 +93,11 @@ public class Swc4jParseOutput {
      * @param program    the program
      * @param mediaType  the media type
      * @param parseMode  the parse mode
-     * @param sourceText the source text
+     * @param sourceText the source text, null if it is not captured
      * @param tokens     the tokens
      * @param comments   the comments
      * @since 0.2.0
      */
-    @Jni2RustMethod
     public Swc4jParseOutput(
             ISwc4jAstProgram<? extends ISwc4jAst> program,
             Swc4jMediaType mediaType,
@@ -92,11 +105,67 @@ public class Swc4jParseOutput {
             String sourceText,
             List<Swc4jToken> tokens,
             Swc4jComments comments) {
+        this(program, mediaType, parseMode, sourceText, tokens, comments, SimpleList.immutable(SimpleList.of()));
+    }
+
+    /**
+     * Instantiates a new Swc4j parse output.
+     *
+     * @param program     the program, null if it is not captured or the parsing failed
+     * @param mediaType   the media type
+     * @param parseMode   the parse mode
+     * @param sourceText  the source text, null if it is not captured
+     * @param tokens      the tokens
+     * @param comments    the comments
+     * @param diagnostics the diagnostics
+     * @since 2.3.0
+     */
+    public Swc4jParseOutput(
+            ISwc4jAstProgram<? extends ISwc4jAst> program,
+            Swc4jMediaType mediaType,
+            Swc4jParseMode parseMode,
+            String sourceText,
+            List<Swc4jToken> tokens,
+            Swc4jComments comments,
+            List<Swc4jParseDiagnostic> diagnostics) {
+        this(program, mediaType, parseMode, sourceText, tokens, comments, diagnostics, null);
+    }
+
+    /**
+     * Instantiates a new Swc4j parse output.
+     *
+     * @param program     the program, null if it is not captured or the parsing failed
+     * @param mediaType   the media type
+     * @param parseMode   the parse mode
+     * @param sourceText  the source text, null if it is not captured
+     * @param tokens      the tokens
+     * @param comments    the comments
+     * @param diagnostics the diagnostics
+     * @param symbolTable the symbol table, null if the scope analysis is not applied
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public Swc4jParseOutput(
+            ISwc4jAstProgram<? extends ISwc4jAst> program,
+            Swc4jMediaType mediaType,
+            Swc4jParseMode parseMode,
+            @Jni2RustParam(
+                    rustType = "source_text: Option<&str>",
+                    preCalls = {
+                            "    let java_source_text = optional_string_to_jstring!(env, &source_text);",
+                            "    let source_text = object_to_jvalue!(java_source_text);",
+                    }) String sourceText,
+            List<Swc4jToken> tokens,
+            Swc4jComments comments,
+            List<Swc4jParseDiagnostic> diagnostics,
+            @Jni2RustParam(optional = true) Swc4jSymbolTable symbolTable) {
         this.comments = comments;
+        this.diagnostics = AssertionUtils.notNull(diagnostics, "Diagnostics");
         this.mediaType = AssertionUtils.notNull(mediaType, "Media type");
         this.parseMode = AssertionUtils.notNull(parseMode, "Parse mode");
         this.program = program;
-        this.sourceText = AssertionUtils.notNull(sourceText, "Source text");
+        this.sourceText = sourceText;
+        this.symbolTable = symbolTable;
         this.tokens = tokens;
     }
 
@@ -110,6 +179,19 @@ public class Swc4jParseOutput {
         return comments;
     }
 
+    /**
+     * Gets diagnostics.
+     * <p>
+     * The diagnostics are only collected when {@link com.caoccao.javet.swc4j.options.Swc4jParseOptions#isRecoverable()}
+     * is enabled. A fatal diagnostic means there is no AST.
+     *
+     * @return the diagnostics
+     * @since 2.3.0
+     */
+    public List<Swc4jParseDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
     /**
      * Gets media type.
      *
@@ -143,13 +225,26 @@ public class Swc4jParseOutput {
     /**
      * Gets source text.
      *
-     * @return the source text
+     * @return the source text, null if it is not captured
      * @since 0.2.0
      */
     public String getSourceText() {
         return sourceText;
     }
 
+    /**
+     * Gets symbol table.
+     * <p>
+     * The symbol table is only collected when {@link com.caoccao.javet.swc4j.options.Swc4jParseOptions#isScopeAnalysis()}
+     * is enabled.
+     *
+     * @return the symbol table, null if the scope analysis is not applied
+     * @since 2.3.0
+     */
+    public Swc4jSymbolTable getSymbolTable() {
+        return symbolTable;
+    }
+
     /**
      * Gets tokens.
      *
@@ -0,0 +1,597 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.SimpleJsonUtils;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The type Swc4j source map keeps a separate source map in the form it is given,
+ * and only does the work a call needs on the first call.
+ * <p>
+ * The source map produced natively is kept as the UTF-8 json bytes of the generator
+ * together with the raw segments decoded natively. {@link #toJson()} only turns the bytes into a string,
+ * and the json is only parsed when the sources or the names are read.
+ * The source map decoded from the json bytes alone only reads the mappings out of the bytes
+ * when the segments are read, so the segment lookups never parse the json either.
+ * The source map built from the raw segments, e.g. by the bundler, only encodes the json in {@link #toJson()}.
+ * <p>
+ * The segment at index i has the generated line, the generated column, the source index,
+ * the original line, the original column and the name index. All of them are 0-based
+ * like in the source map spec, and the absent ones are {@link #ABSENT}.
+ * {@link #findSegment(int, int)} looks up the segments with a binary search.
+ * The segments are shared and must not be changed.
+ * <p>
+ * The source map is thread-safe. Concurrent first calls may do the same work more than once.
+ *
+ * @since 2.3.0
+ */
+@Jni2RustClass(filePath = Jni2RustFilePath.Outputs)
+public final class Swc4jSourceMap {
+    /**
+     * The constant ABSENT.
+     *
+     * @since 2.3.0
+     */
+    public static final int ABSENT = -1;
+    /**
+     * The constant SEGMENT_SIZE.
+     *
+     * @since 2.3.0
+     */
+    public static final int SEGMENT_SIZE = 6;
+    private static final String BASE64_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    private static final byte[] MAPPINGS_BYTES = "mappings".getBytes(StandardCharsets.US_ASCII);
+    private static final String NAMES = "names";
+    private static final String SOURCES = "sources";
+    private static final String SOURCES_CONTENT = "sourcesContent";
+    private static final int VLQ_SHIFT = 5;
+    private static final int VLQ_CONTINUATION_BIT = 1 << VLQ_SHIFT;
+    private static final int VLQ_VALUE_MASK = VLQ_CONTINUATION_BIT - 1;
+    private final byte[] jsonBytes;
+    private volatile Decoded decoded;
+    private volatile String json;
+    private volatile String mappings;
+    private volatile int[] segments;
+
+    /**
+     * Instantiates a new Swc4j source map.
+     *
+     * @param sources        the sources
+     * @param sourcesContent the sources content, null if the sources are not inlined
+     * @param names          the names
+     * @param segments       the segments
+     * @since 2.3.0
+     */
+    public Swc4jSourceMap(List<String> sources, List<String> sourcesContent, List<String> names, int[] segments) {
+        AssertionUtils.notTrue(
+                AssertionUtils.notNull(segments, "Segments").length % SEGMENT_SIZE == 0,
+                "Segments must be a multiple of " + SEGMENT_SIZE);
+        decoded = new Decoded(
+                SimpleList.immutable(AssertionUtils.notNull(names, "Names")),
+                SimpleList.immutable(AssertionUtils.notNull(sources, "Sources")),
+                sourcesContent == null ? null : SimpleList.immutable(sourcesContent));
+        json = null;
+        jsonBytes = null;
+        mappings = null;
+        this.segments = segments;
+    }
+
+    private Swc4jSourceMap(byte[] jsonBytes, int[] segments) {
+        decoded = null;
+        json = null;
+        this.jsonBytes = jsonBytes;
+        mappings = null;
+        this.segments = segments;
+    }
+
+    private static void appendStrings(StringBuilder sb, List<String> strings) {
+        sb.append('[');
+        for (int i = 0; i < strings.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            final String string = strings.get(i);
+            if (string == null) {
+                sb.append("null");
+            } else {
+                sb.append('"').append(SimpleJsonUtils.escape(string)).append('"');
+            }
+        }
+        sb.append(']');
+    }
+
+    /**
+     * Decode the UTF-8 json of the source map, e.g. the one stored by a cache.
+     * The bytes are copied as they are. Only the mappings are read from the bytes when the segments are read,
+     * and the bytes are only parsed when the sources or the names are read.
+     *
+     * @param buffer the buffer
+     * @return the swc4j source map
+     * @since 2.3.0
+     */
+    public static Swc4jSourceMap decode(ByteBuffer buffer) {
+        final byte[] jsonBytes = new byte[AssertionUtils.notNull(buffer, "Buffer").remaining()];
+        buffer.get(jsonBytes);
+        return new Swc4jSourceMap(jsonBytes, null);
+    }
+
+    private static int decodeBase64(char c) {
+        final int digit = c < 128 ? BASE64_CHARS.indexOf(c) : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid base64 char " + c + " in mappings");
+        }
+        return digit;
+    }
+
+    /**
+     * Decode the VLQ mappings into the raw segments.
+     *
+     * @param mappings the mappings
+     * @return the segments
+     * @since 2.3.0
+     */
+    public static int[] decodeMappings(String mappings) {
+        AssertionUtils.notNull(mappings, "Mappings");
+        int[] segments = new int[Math.max(SEGMENT_SIZE, mappings.length() / 4 * SEGMENT_SIZE)];
+        int length = 0;
+        final long[] fields = new long[SEGMENT_SIZE - 1];
+        // The generated column restarts per line while the other fields run across the lines.
+        final long[] previous = new long[SEGMENT_SIZE - 1];
+        int fieldCount = 0;
+        int generatedLine = 0;
+        int index = 0;
+        final int mappingsLength = mappings.length();
+        while (index <= mappingsLength) {
+            final char c = index < mappingsLength ? mappings.charAt(index) : ';';
+            if (c == ';' || c == ',') {
+                if (fieldCount > 0) {
+                    if (fieldCount != 1 && fieldCount != 4 && fieldCount != 5) {
+                        throw new IllegalArgumentException(
+                                "Invalid segment with " + fieldCount + " fields in mappings");
+                    }
+                    if (length + SEGMENT_SIZE > segments.length) {
+                        segments = Arrays.copyOf(segments, segments.length * 2);
+                    }
+                    segments[length++] = generatedLine;
+                    for (int i = 0; i < fields.length; i++) {
+                        if (i < fieldCount) {
+                            previous[i] += fields[i];
+                            segments[length++] = (int) previous[i];
+                        } else {
+                            segments[length++] = ABSENT;
+                        }
+                    }
+                    fieldCount = 0;
+                }
+                if (c == ';') {
+                    generatedLine++;
+                    previous[0] = 0;
+                }
+                index++;
+            } else {
+                long value = 0;
+                int shift = 0;
+                int digit;
+                do {
+                    if (index >= mappingsLength) {
+                        throw new IllegalArgumentException("Unexpected end of mappings");
+                    }
+                    if (shift > 32) {
+                        throw new IllegalArgumentException("VLQ value overflows in mappings");
+                    }
+                    digit = decodeBase64(mappings.charAt(index++));
+                    value += (long) (digit & VLQ_VALUE_MASK) << shift;
+                    shift += VLQ_SHIFT;
+                } while ((digit & VLQ_CONTINUATION_BIT) != 0);
+                if (fieldCount >= fields.length) {
+                    throw new IllegalArgumentException("Too many fields in a segment of mappings");
+                }
+                fields[fieldCount++] = (value & 1) == 1 ? -(value >> 1) : value >> 1;
+            }
+        }
+        return length == segments.length ? segments : Arrays.copyOf(segments, length);
+    }
+
+    private static List<String> decodeStrings(SimpleJsonUtils.JsonObjectNode jsonObjectNode, String key) {
+        final SimpleJsonUtils.JsonNode jsonNode = jsonObjectNode.getNodeMap().get(key);
+        if (jsonNode == null || !jsonNode.isArray()) {
+            return null;
+        }
+        return SimpleList.immutable(jsonNode.asArray().getNodes().stream()
+                .map(node -> node.isText() ? node.asText().getValue() : null)
+                .toList());
+    }
+
+    /**
+     * Decode the source map built by the native side, that is the little endian segment count
+     * and segments followed by the UTF-8 json bytes.
+     * The segments are taken as they are and the bytes are only parsed when the sources or the names are read.
+     *
+     * @param buffer the buffer
+     * @return the swc4j source map
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public static Swc4jSourceMap decodeWithSegments(ByteBuffer buffer) {
+        AssertionUtils.notNull(buffer, "Buffer").order(ByteOrder.LITTLE_ENDIAN);
+        final int[] segments = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(segments);
+        buffer.position(buffer.position() + segments.length * Integer.BYTES);
+        final byte[] jsonBytes = new byte[buffer.remaining()];
+        buffer.get(jsonBytes);
+        return new Swc4jSourceMap(jsonBytes, segments);
+    }
+
+    private static void encodeVlq(StringBuilder sb, int value) {
+        long vlq = value < 0 ? ((-(long) value) << 1) | 1 : ((long) value) << 1;
+        do {
+            int digit = (int) (vlq & VLQ_VALUE_MASK);
+            vlq >>>= VLQ_SHIFT;
+            if (vlq > 0) {
+                digit |= VLQ_CONTINUATION_BIT;
+            }
+            sb.append(BASE64_CHARS.charAt(digit));
+        } while (vlq > 0);
+    }
+
+    private static String findMappings(byte[] jsonBytes) {
+        // Only the top level keys are read and the other values are skipped without being parsed.
+        int index = skipWhitespace(jsonBytes, 0);
+        if (index >= jsonBytes.length || jsonBytes[index] != '{') {
+            throw new IllegalArgumentException("Invalid source map: it is not an object");
+        }
+        index++;
+        while (true) {
+            index = skipWhitespace(jsonBytes, index);
+            if (index >= jsonBytes.length || jsonBytes[index] != '"') {
+                break;
+            }
+            final int keyEnd = skipString(jsonBytes, index);
+            final boolean isMappings = Arrays.equals(
+                    jsonBytes, index + 1, keyEnd - 1, MAPPINGS_BYTES, 0, MAPPINGS_BYTES.length);
+            index = skipWhitespace(jsonBytes, keyEnd);
+            if (index >= jsonBytes.length || jsonBytes[index] != ':') {
+                break;
+            }
+            index = skipWhitespace(jsonBytes, index + 1);
+            if (isMappings) {
+                if (index >= jsonBytes.length || jsonBytes[index] != '"') {
+                    break;
+                }
+                // The mappings only have the base64 chars, the commas and the semicolons, so they are never escaped.
+                final int valueEnd = skipString(jsonBytes, index);
+                return new String(jsonBytes, index + 1, valueEnd - index - 2, StandardCharsets.US_ASCII);
+            }
+            index = skipWhitespace(jsonBytes, skipValue(jsonBytes, index));
+            if (index >= jsonBytes.length || jsonBytes[index] != ',') {
+                break;
+            }
+            index++;
+        }
+        throw new IllegalArgumentException("Invalid source map: mappings is not found");
+    }
+
+    private static int skipString(byte[] jsonBytes, int index) {
+        index++;
+        while (index < jsonBytes.length) {
+            final byte b = jsonBytes[index];
+            if (b == '\\') {
+                index += 2;
+            } else if (b == '"') {
+                return index + 1;
+            } else {
+                index++;
+            }
+        }
+        throw new IllegalArgumentException("Invalid source map: string is not closed");
+    }
+
+    private static int skipValue(byte[] jsonBytes, int index) {
+        int depth = 0;
+        while (index < jsonBytes.length) {
+            final byte b = jsonBytes[index];
+            if (b == '"') {
+                index = skipString(jsonBytes, index);
+            } else if (b == '{' || b == '[') {
+                depth++;
+                index++;
+            } else if (b == '}' || b == ']') {
+                if (depth == 0) {
+                    return index;
+                }
+                depth--;
+                index++;
+            } else if (b == ',' && depth == 0) {
+                return index;
+            } else {
+                index++;
+            }
+        }
+        return index;
+    }
+
+    private static int skipWhitespace(byte[] jsonBytes, int index) {
+        while (index < jsonBytes.length && Character.isWhitespace(jsonBytes[index])) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Find the segment covering the generated position, that is the last segment
+     * on the generated line that starts at or before the generated column.
+     *
+     * @param generatedLine   the 0-based generated line
+     * @param generatedColumn the 0-based generated column
+     * @return the segment index, -1 if no segment covers the position
+     * @since 2.3.0
+     */
+    public int findSegment(int generatedLine, int generatedColumn) {
+        final int[] segments = getSegments();
+        int low = 0;
+        int high = segments.length / SEGMENT_SIZE - 1;
+        int result = -1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int offset = middle * SEGMENT_SIZE;
+            final int line = segments[offset];
+            if (line < generatedLine || (line == generatedLine && segments[offset + 1] <= generatedColumn)) {
+                result = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return result >= 0 && segments[result * SEGMENT_SIZE] == generatedLine ? result : -1;
+    }
+
+    private Decoded getDecoded() {
+        Decoded decoded = this.decoded;
+        if (decoded == null) {
+            final SimpleJsonUtils.JsonNode jsonNode = SimpleJsonUtils.parse(toJson());
+            if (!jsonNode.isObject()) {
+                throw new IllegalArgumentException("Invalid source map: it is not an object");
+            }
+            final SimpleJsonUtils.JsonObjectNode jsonObjectNode = jsonNode.asObject();
+            final List<String> names = decodeStrings(jsonObjectNode, NAMES);
+            final List<String> sources = decodeStrings(jsonObjectNode, SOURCES);
+            decoded = new Decoded(
+                    names == null ? SimpleList.of() : names,
+                    sources == null ? SimpleList.of() : sources,
+                    decodeStrings(jsonObjectNode, SOURCES_CONTENT));
+            this.decoded = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * Gets the generated column of the segment.
+     *
+     * @param index the segment index
+     * @return the generated column
+     * @since 2.3.0
+     */
+    public int getGeneratedColumn(int index) {
+        return getSegments()[index * SEGMENT_SIZE + 1];
+    }
+
+    /**
+     * Gets the generated line of the segment.
+     *
+     * @param index the segment index
+     * @return the generated line
+     * @since 2.3.0
+     */
+    public int getGeneratedLine(int index) {
+        return getSegments()[index * SEGMENT_SIZE];
+    }
+
+    /**
+     * Gets the VLQ encoded mappings. They are read or encoded on the first call.
+     *
+     * @return the mappings
+     * @since 2.3.0
+     */
+    public String getMappings() {
+        String mappings = this.mappings;
+        if (mappings == null) {
+            if (jsonBytes != null) {
+                mappings = findMappings(jsonBytes);
+            } else {
+                final int[] segments = getSegments();
+                final StringBuilder sb = new StringBuilder(segments.length * 2);
+                final int[] previous = new int[SEGMENT_SIZE - 1];
+                int generatedLine = 0;
+                boolean firstInLine = true;
+                for (int offset = 0; offset < segments.length; offset += SEGMENT_SIZE) {
+                    while (generatedLine < segments[offset]) {
+                        sb.append(';');
+                        generatedLine++;
+                        // The generated column restarts per line while the other fields run across the lines.
+                        previous[0] = 0;
+                        firstInLine = true;
+                    }
+                    if (!firstInLine) {
+                        sb.append(',');
+                    }
+                    firstInLine = false;
+                    for (int i = 0; i < previous.length; i++) {
+                        final int value = segments[offset + i + 1];
+                        if (value == ABSENT) {
+                            break;
+                        }
+                        encodeVlq(sb, value - previous[i]);
+                        previous[i] = value;
+                    }
+                }
+                mappings = sb.toString();
+            }
+            this.mappings = mappings;
+        }
+        return mappings;
+    }
+
+    /**
+     * Gets the name index of the segment.
+     *
+     * @param index the segment index
+     * @return the name index, -1 if absent
+     * @since 2.3.0
+     */
+    public int getNameIndex(int index) {
+        return getSegments()[index * SEGMENT_SIZE + 5];
+    }
+
+    /**
+     * Gets names.
+     *
+     * @return the names
+     * @since 2.3.0
+     */
+    public List<String> getNames() {
+        return getDecoded().names();
+    }
+
+    /**
+     * Gets the original column of the segment.
+     *
+     * @param index the segment index
+     * @return the original column, -1 if absent
+     * @since 2.3.0
+     */
+    public int getOriginalColumn(int index) {
+        return getSegments()[index * SEGMENT_SIZE + 4];
+    }
+
+    /**
+     * Gets the original line of the segment.
+     *
+     * @param index the segment index
+     * @return the original line, -1 if absent
+     * @since 2.3.0
+     */
+    public int getOriginalLine(int index) {
+        return getSegments()[index * SEGMENT_SIZE + 3];
+    }
+
+    /**
+     * Gets the number of the segments.
+     *
+     * @return the segment count
+     * @since 2.3.0
+     */
+    public int getSegmentCount() {
+        return getSegments().length / SEGMENT_SIZE;
+    }
+
+    /**
+     * Gets all the segments.
+     *
+     * @return the segments
+     * @since 2.3.0
+     */
+    public int[] getSegments() {
+        int[] segments = this.segments;
+        if (segments == null) {
+            segments = decodeMappings(getMappings());
+            this.segments = segments;
+        }
+        return segments;
+    }
+
+    /**
+     * Gets the source index of the segment.
+     *
+     * @param index the segment index
+     * @return the source index, -1 if absent
+     * @since 2.3.0
+     */
+    public int getSourceIndex(int index) {
+        return getSegments()[index * SEGMENT_SIZE + 2];
+    }
+
+    /**
+     * Gets sources.
+     *
+     * @return the sources
+     * @since 2.3.0
+     */
+    public List<String> getSources() {
+        return getDecoded().sources();
+    }
+
+    /**
+     * Gets sources content.
+     *
+     * @return the sources content, null if the sources are not inlined
+     * @since 2.3.0
+     */
+    public List<String> getSourcesContent() {
+        return getDecoded().sourcesContent();
+    }
+
+    /**
+     * Gets the json. The json produced natively is returned as it is,
+     * while the json of the raw segments is built in the same layout on the first call.
+     *
+     * @return the json
+     * @since 2.3.0
+     */
+    public String toJson() {
+        String json = this.json;
+        if (json == null) {
+            if (jsonBytes != null) {
+                json = new String(jsonBytes, StandardCharsets.UTF_8);
+            } else {
+                final Decoded decoded = getDecoded();
+                final String mappings = getMappings();
+                final StringBuilder sb = new StringBuilder(mappings.length() + 256);
+                sb.append("{\"version\":3,\"sources\":");
+                appendStrings(sb, decoded.sources());
+                if (decoded.sourcesContent() != null) {
+                    sb.append(",\"sourcesContent\":");
+                    appendStrings(sb, decoded.sourcesContent());
+                }
+                sb.append(",\"names\":");
+                appendStrings(sb, decoded.names());
+                sb.append(",\"mappings\":\"").append(mappings).append("\"}");
+                json = sb.toString();
+            }
+            this.json = json;
+        }
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+
+    private record Decoded(List<String> names, List<String> sources, List<String> sourcesContent) {
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstIdent;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
+import com.caoccao.javet.swc4j.ast.pat.Swc4jAstBindingIdent;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.span.Swc4jSpan;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The type Swc4j symbol table keeps the bindings resolved by the scope analysis
+ * and the identifier occurrences referring to them as primitive arrays.
+ * <p>
+ * A binding is identified by its name and the ctxt assigned by the resolver, so that the
+ * shadowed bindings with the same name have different binding ids. The unresolved globals
+ * are bindings without declaration. The occurrences are sorted by the start position,
+ * and an occurrence is either a declaration or a reference. {@link #getBindingId(ISwc4jAst)}
+ * maps an ident to its binding with a binary search, and the references of a binding are
+ * grouped on construction, so that no AST walk is needed for the lookups.
+ * The positions follow the span mode of the parse.
+ * The arrays are shared and must not be changed.
+ *
+ * @since 2.3.0
+ */
+@Jni2RustClass(filePath = Jni2RustFilePath.Outputs)
+public final class Swc4jSymbolTable {
+    /**
+     * The constant ABSENT.
+     *
+     * @since 2.3.0
+     */
+    public static final int ABSENT = -1;
+    /**
+     * The constant FLAG_DECLARATION.
+     *
+     * @since 2.3.0
+     */
+    public static final int FLAG_DECLARATION = 1;
+    private final int[] bindingCtxts;
+    private final List<String> bindingNames;
+    private final int[] declarationEnds;
+    private final int[] declarationStarts;
+    private final int[] occurrenceBindingIds;
+    private final int[] occurrenceEnds;
+    private final int[] occurrenceFlags;
+    private final int[] occurrenceStarts;
+    private final int[] referenceIndexes;
+    private final int[] referenceOffsets;
+
+    /**
+     * Instantiates a new Swc4j symbol table.
+     *
+     * @param bindingNames         the binding names
+     * @param bindingCtxts         the binding ctxts
+     * @param declarationStarts    the declaration starts, -1 if absent
+     * @param declarationEnds      the declaration ends, -1 if absent
+     * @param occurrenceStarts     the occurrence starts in ascending order
+     * @param occurrenceEnds       the occurrence ends
+     * @param occurrenceBindingIds the occurrence binding ids
+     * @param occurrenceFlags      the occurrence flags
+     * @since 2.3.0
+     */
+    public Swc4jSymbolTable(
+            List<String> bindingNames,
+            int[] bindingCtxts,
+            int[] declarationStarts,
+            int[] declarationEnds,
+            int[] occurrenceStarts,
+            int[] occurrenceEnds,
+            int[] occurrenceBindingIds,
+            int[] occurrenceFlags) {
+        final int bindingCount = AssertionUtils.notNull(bindingNames, "Binding names").size();
+        AssertionUtils.notTrue(
+                AssertionUtils.notNull(bindingCtxts, "Binding ctxts").length == bindingCount
+                        && AssertionUtils.notNull(declarationStarts, "Declaration starts").length == bindingCount
+                        && AssertionUtils.notNull(declarationEnds, "Declaration ends").length == bindingCount,
+                "Binding arrays must have the same length");
+        final int occurrenceCount = AssertionUtils.notNull(occurrenceStarts, "Occurrence starts").length;
+        AssertionUtils.notTrue(
+                AssertionUtils.notNull(occurrenceEnds, "Occurrence ends").length == occurrenceCount
+                        && AssertionUtils.notNull(occurrenceBindingIds, "Occurrence binding ids").length == occurrenceCount
+                        && AssertionUtils.notNull(occurrenceFlags, "Occurrence flags").length == occurrenceCount,
+                "Occurrence arrays must have the same length");
+        this.bindingCtxts = bindingCtxts;
+        this.bindingNames = SimpleList.immutable(bindingNames);
+        this.declarationEnds = declarationEnds;
+        this.declarationStarts = declarationStarts;
+        this.occurrenceBindingIds = occurrenceBindingIds;
+        this.occurrenceEnds = occurrenceEnds;
+        this.occurrenceFlags = occurrenceFlags;
+        this.occurrenceStarts = occurrenceStarts;
+        // Group the references by binding with a counting sort, keeping them in the source order.
+        referenceOffsets = new int[bindingCount + 1];
+        for (int i = 0; i < occurrenceCount; i++) {
+            if ((occurrenceFlags[i] & FLAG_DECLARATION) == 0) {
+                referenceOffsets[occurrenceBindingIds[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < bindingCount; i++) {
+            referenceOffsets[i + 1] += referenceOffsets[i];
+        }
+        referenceIndexes = new int[referenceOffsets[bindingCount]];
+        final int[] positions = Arrays.copyOf(referenceOffsets, bindingCount);
+        for (int i = 0; i < occurrenceCount; i++) {
+            if ((occurrenceFlags[i] & FLAG_DECLARATION) == 0) {
+                referenceIndexes[positions[occurrenceBindingIds[i]]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Decode the buffer built by the native side.
+     *
+     * @param buffer the buffer
+     * @return the swc4j symbol table
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public static Swc4jSymbolTable decode(ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final int bindingCount = buffer.getInt();
+        final int[] bindingCtxts = decodeInts(buffer, bindingCount);
+        final int[] declarationStarts = decodeInts(buffer, bindingCount);
+        final int[] declarationEnds = decodeInts(buffer, bindingCount);
+        final List<String> bindingNames = new ArrayList<>(bindingCount);
+        for (int i = 0; i < bindingCount; i++) {
+            final byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            bindingNames.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        final int occurrenceCount = buffer.getInt();
+        final int[] occurrenceStarts = decodeInts(buffer, occurrenceCount);
+        final int[] occurrenceEnds = decodeInts(buffer, occurrenceCount);
+        final int[] occurrenceBindingIds = decodeInts(buffer, occurrenceCount);
+        final int[] occurrenceFlags = decodeInts(buffer, occurrenceCount);
+        return new Swc4jSymbolTable(
+                bindingNames,
+                bindingCtxts,
+                declarationStarts,
+                declarationEnds,
+                occurrenceStarts,
+                occurrenceEnds,
+                occurrenceBindingIds,
+                occurrenceFlags);
+    }
+
+    private static int[] decodeInts(ByteBuffer buffer, int length) {
+        final int[] ints = new int[length];
+        final IntBuffer intBuffer = buffer.asIntBuffer();
+        intBuffer.get(ints);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return ints;
+    }
+
+    /**
+     * Find the occurrence by its span.
+     *
+     * @param start the start
+     * @param end   the end
+     * @return the occurrence index, -1 if not found
+     * @since 2.3.0
+     */
+    public int findOccurrence(int start, int end) {
+        int low = 0;
+        int high = occurrenceStarts.length - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int middleStart = occurrenceStarts[middle];
+            if (middleStart < start) {
+                low = middle + 1;
+            } else if (middleStart > start) {
+                high = middle - 1;
+            } else {
+                return occurrenceEnds[middle] == end ? middle : ABSENT;
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Gets the number of the bindings.
+     *
+     * @return the binding count
+     * @since 2.3.0
+     */
+    public int getBindingCount() {
+        return bindingNames.size();
+    }
+
+    /**
+     * Gets the ctxt of the binding.
+     *
+     * @param bindingId the binding id
+     * @return the ctxt
+     * @since 2.3.0
+     */
+    public int getBindingCtxt(int bindingId) {
+        return bindingCtxts[bindingId];
+    }
+
+    /**
+     * Gets the binding id of the ident or the binding ident.
+     *
+     * @param node the node
+     * @return the binding id, -1 if the node is not a resolved ident
+     * @since 2.3.0
+     */
+    public int getBindingId(ISwc4jAst node) {
+        final Swc4jAstIdent ident;
+        if (node instanceof Swc4jAstIdent) {
+            ident = (Swc4jAstIdent) node;
+        } else if (node instanceof Swc4jAstBindingIdent) {
+            ident = ((Swc4jAstBindingIdent) node).getId();
+        } else {
+            return ABSENT;
+        }
+        final Swc4jSpan span = ident.getSpan();
+        final int index = findOccurrence(span.getStart(), span.getEnd());
+        return index == ABSENT ? ABSENT : occurrenceBindingIds[index];
+    }
+
+    /**
+     * Gets the name of the binding.
+     *
+     * @param bindingId the binding id
+     * @return the name
+     * @since 2.3.0
+     */
+    public String getBindingName(int bindingId) {
+        return bindingNames.get(bindingId);
+    }
+
+    /**
+     * Gets the binding names.
+     *
+     * @return the binding names
+     * @since 2.3.0
+     */
+    public List<String> getBindingNames() {
+        return bindingNames;
+    }
+
+    /**
+     * Gets the end of the first declaration of the binding.
+     *
+     * @param bindingId the binding id
+     * @return the declaration end, -1 if the binding is unresolved
+     * @since 2.3.0
+     */
+    public int getDeclarationEnd(int bindingId) {
+        return declarationEnds[bindingId];
+    }
+
+    /**
+     * Gets the start of the first declaration of the binding.
+     *
+     * @param bindingId the binding id
+     * @return the declaration start, -1 if the binding is unresolved
+     * @since 2.3.0
+     */
+    public int getDeclarationStart(int bindingId) {
+        return declarationStarts[bindingId];
+    }
+
+    /**
+     * Gets the binding id of the occurrence.
+     *
+     * @param index the occurrence index
+     * @return the binding id
+     * @since 2.3.0
+     */
+    public int getOccurrenceBindingId(int index) {
+        return occurrenceBindingIds[index];
+    }
+
+    /**
+     * Gets the number of the occurrences.
+     *
+     * @return the occurrence count
+     * @since 2.3.0
+     */
+    public int getOccurrenceCount() {
+        return occurrenceStarts.length;
+    }
+
+    /**
+     * Gets the end of the occurrence.
+     *
+     * @param index the occurrence index
+     * @return the end
+     * @since 2.3.0
+     */
+    public int getOccurrenceEnd(int index) {
+        return occurrenceEnds[index];
+    }
+
+    /**
+     * Gets the flags of the occurrence.
+     *
+     * @param index the occurrence index
+     * @return the flags
+     * @since 2.3.0
+     */
+    public int getOccurrenceFlags(int index) {
+        return occurrenceFlags[index];
+    }
+
+    /**
+     * Gets the start of the occurrence.
+     *
+     * @param index the occurrence index
+     * @return the start
+     * @since 2.3.0
+     */
+    public int getOccurrenceStart(int index) {
+        return occurrenceStarts[index];
+    }
+
+    /**
+     * Gets the number of the references of the binding.
+     *
+     * @param bindingId the binding id
+     * @return the reference count
+     * @since 2.3.0
+     */
+    public int getReferenceCount(int bindingId) {
+        return referenceOffsets[bindingId + 1] - referenceOffsets[bindingId];
+    }
+
+    /**
+     * Gets the occurrence indexes of the references of the binding in the source order.
+     *
+     * @param bindingId the binding id
+     * @return the occurrence indexes
+     * @since 2.3.0
+     */
+    public int[] getReferences(int bindingId) {
+        return Arrays.copyOfRange(referenceIndexes, referenceOffsets[bindingId], referenceOffsets[bindingId + 1]);
+    }
+
+    /**
+     * Is the occurrence a declaration.
+     *
+     * @param index the occurrence index
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    public boolean isDeclaration(int index) {
+        return (occurrenceFlags[index] & FLAG_DECLARATION) != 0;
+    }
+
+    /**
+     * Is the binding resolved to a declaration in the code.
+     *
+     * @param bindingId the binding id
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    public boolean isResolved(int bindingId) {
+        return declarationStarts[bindingId] != ABSENT;
+    }
+
+    /**
+     * Is the binding declared but never referenced.
+     *
+     * @param bindingId the binding id
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    public boolean isUnused(int bindingId) {
+        return isResolved(bindingId) && getReferenceCount(bindingId) == 0;
+    }
+}
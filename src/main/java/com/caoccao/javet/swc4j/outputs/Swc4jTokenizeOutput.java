@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.enums.Swc4jSpanMode;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.jni2rust.Jni2RustParam;
+import com.caoccao.javet.swc4j.tokens.Swc4jTokenType;
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * The type Swc4j tokenize output keeps the tokens as a struct of arrays.
+ * The token at index i has the type id {@code getTypeIds()[i]}, the span
+ * from {@code getStarts()[i]} to {@code getEnds()[i]} and a line break ahead
+ * if {@code getLineBreaks().get(i)} is true.
+ * <p>
+ * The text of a token is only created by {@link #getText(int)}.
+ * The arrays are shared and must not be changed.
+ *
+ * @since 2.3.0
+ */
+@Jni2RustClass(filePath = Jni2RustFilePath.Outputs)
+public final class Swc4jTokenizeOutput {
+    private final String code;
+    private final int[] ends;
+    private final BitSet lineBreaks;
+    private final Swc4jSpanMode spanMode;
+    private final int[] starts;
+    private final int[] typeIds;
+    private byte[] bytes;
+    private int[] charIndexes;
+
+    /**
+     * Instantiates a new Swc4j tokenize output.
+     *
+     * @param code       the code
+     * @param spanMode   the span mode
+     * @param typeIds    the type ids
+     * @param starts     the starts
+     * @param ends       the ends
+     * @param lineBreaks the line breaks
+     * @since 2.3.0
+     */
+    public Swc4jTokenizeOutput(
+            String code,
+            Swc4jSpanMode spanMode,
+            int[] typeIds,
+            int[] starts,
+            int[] ends,
+            BitSet lineBreaks) {
+        AssertionUtils.notNull(typeIds, "Type ids");
+        AssertionUtils.notTrue(
+                AssertionUtils.notNull(starts, "Starts").length == typeIds.length
+                        && AssertionUtils.notNull(ends, "Ends").length == typeIds.length,
+                "Type ids, starts and ends must have the same length");
+        this.code = AssertionUtils.notNull(code, "Code");
+        this.ends = ends;
+        this.lineBreaks = AssertionUtils.notNull(lineBreaks, "Line breaks");
+        this.spanMode = AssertionUtils.notNull(spanMode, "Span mode");
+        this.starts = starts;
+        this.typeIds = typeIds;
+        bytes = null;
+        charIndexes = null;
+    }
+
+    /**
+     * Decode the tokens packed by the native side.
+     * The buffer is only valid during the call so the arrays are copied out of it.
+     *
+     * @param buffer the buffer
+     * @param code   the code
+     * @return the swc4j tokenize output
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    public static Swc4jTokenizeOutput decode(
+            ByteBuffer buffer,
+            @Jni2RustParam(
+                    rustType = "code: &JObject<'_>",
+                    preCalls = {
+                            "    let code = object_to_jvalue!(code);",
+                    },
+                    postCalls = {
+                            "    // The code is the Java string passed in by the caller so it is not deleted here.",
+                    }) String code) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final Swc4jSpanMode spanMode = Swc4jSpanMode.parse(buffer.getInt());
+        final int size = buffer.getInt();
+        final int[] typeIds = new int[size];
+        final int[] starts = new int[size];
+        final int[] ends = new int[size];
+        buffer.asIntBuffer().get(typeIds);
+        buffer.position(buffer.position() + size * Integer.BYTES);
+        buffer.asIntBuffer().get(starts);
+        buffer.position(buffer.position() + size * Integer.BYTES);
+        buffer.asIntBuffer().get(ends);
+        buffer.position(buffer.position() + size * Integer.BYTES);
+        final long[] words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        buffer.asLongBuffer().get(words);
+        return new Swc4jTokenizeOutput(code, spanMode, typeIds, starts, ends, BitSet.valueOf(words));
+    }
+
+    private int[] getCharIndexes() {
+        // The char index spans count the code points, so the surrogate pairs need a lookup table.
+        // The empty table means the code points are the chars.
+        final int codePointCount = code.codePointCount(0, code.length());
+        if (codePointCount == code.length()) {
+            return new int[0];
+        }
+        final int[] indexes = new int[codePointCount + 1];
+        for (int i = 0, charIndex = 0; i < codePointCount; i++) {
+            indexes[i] = charIndex;
+            charIndex += Character.charCount(code.codePointAt(charIndex));
+        }
+        indexes[codePointCount] = code.length();
+        return indexes;
+    }
+
+    /**
+     * Gets code.
+     *
+     * @return the code
+     * @since 2.3.0
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the end of the token.
+     *
+     * @param index the index
+     * @return the end
+     * @since 2.3.0
+     */
+    public int getEnd(int index) {
+        return ends[index];
+    }
+
+    /**
+     * Gets the ends of all the tokens.
+     *
+     * @return the ends
+     * @since 2.3.0
+     */
+    public int[] getEnds() {
+        return ends;
+    }
+
+    /**
+     * Gets the line breaks. The bit at index i is set if the token at index i has a line break ahead.
+     *
+     * @return the line breaks
+     * @since 2.3.0
+     */
+    public BitSet getLineBreaks() {
+        return lineBreaks;
+    }
+
+    /**
+     * Gets the number of the tokens.
+     *
+     * @return the size
+     * @since 2.3.0
+     */
+    public int getSize() {
+        return typeIds.length;
+    }
+
+    /**
+     * Gets span mode.
+     *
+     * @return the span mode
+     * @since 2.3.0
+     */
+    public Swc4jSpanMode getSpanMode() {
+        return spanMode;
+    }
+
+    /**
+     * Gets the start of the token.
+     *
+     * @param index the index
+     * @return the start
+     * @since 2.3.0
+     */
+    public int getStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * Gets the starts of all the tokens.
+     *
+     * @return the starts
+     * @since 2.3.0
+     */
+    public int[] getStarts() {
+        return starts;
+    }
+
+    /**
+     * Gets the text of the token.
+     *
+     * @param index the index
+     * @return the text
+     * @since 2.3.0
+     */
+    public String getText(int index) {
+        final int start = starts[index];
+        final int end = ends[index];
+        if (spanMode == Swc4jSpanMode.ByteOffset) {
+            if (bytes == null) {
+                bytes = code.getBytes(StandardCharsets.UTF_8);
+            }
+            return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        }
+        if (charIndexes == null) {
+            charIndexes = getCharIndexes();
+        }
+        return charIndexes.length == 0
+                ? code.substring(start, end)
+                : code.substring(charIndexes[start], charIndexes[end]);
+    }
+
+    /**
+     * Gets the type of the token.
+     *
+     * @param index the index
+     * @return the type
+     * @since 2.3.0
+     */
+    public Swc4jTokenType getType(int index) {
+        return Swc4jTokenType.parse(typeIds[index]);
+    }
+
+    /**
+     * Gets the type ids of all the tokens.
+     *
+     * @return the type ids
+     * @see Swc4jTokenType#parse(int)
+     * @since 2.3.0
+     */
+    public int[] getTypeIds() {
+        return typeIds;
+    }
+
+    /**
+     * Has a line break ahead of the token.
+     *
+     * @param index the index
+     * @return true : yes, false : no
+     * @since 2.3.0
+     */
+    public boolean hasLineBreakAhead(int index) {
+        return lineBreaks.get(index);
+    }
+}
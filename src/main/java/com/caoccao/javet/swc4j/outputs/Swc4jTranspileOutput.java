@@ -42,6 +42,12 @@ public class Swc4jTranspileOutput extends Swc4jParseOutput {
      * @since 0.1.0
      */
     protected final String code;
+    /**
+     * The raw source map that builds the json on demand, null if the source map is passed as json.
+     *
+     * @since 2.3.0
+     */
+    protected final Swc4jSourceMap rawSourceMap;
     /**
      * The Source map.
      *
@@ -57,11 +63,37 @@ public class Swc4jTranspileOutput extends Swc4jParseOutput {
      * @param mediaType  the media type
      * @param parseMode  the parse mode
      * @param sourceMap  the source map
-     * @param sourceText the source text
+     * @param sourceText the source text, null if it is not captured
      * @param tokens     the tokens
      * @param comments   the comments
      * @since 0.1.0
      */
+    public Swc4jTranspileOutput(
+            ISwc4jAstProgram<? extends ISwc4jAst> program,
+            String code,
+            Swc4jMediaType mediaType,
+            Swc4jParseMode parseMode,
+            String sourceMap,
+            String sourceText,
+            List<Swc4jToken> tokens,
+            Swc4jComments comments) {
+        this(program, code, mediaType, parseMode, sourceMap, null, sourceText, tokens, comments);
+    }
+
+    /**
+     * Instantiates a new Swc4j transpile output.
+     *
+     * @param program      the program
+     * @param code         the code
+     * @param mediaType    the media type
+     * @param parseMode    the parse mode
+     * @param sourceMap    the source map
+     * @param rawSourceMap the raw source map, null if the source map is passed as json
+     * @param sourceText   the source text, null if it is not captured
+     * @param tokens       the tokens
+     * @param comments     the comments
+     * @since 2.3.0
+     */
     @Jni2RustMethod
     public Swc4jTranspileOutput(
             ISwc4jAstProgram<? extends ISwc4jAst> program,
@@ -69,11 +101,18 @@ public class Swc4jTranspileOutput extends Swc4jParseOutput {
             Swc4jMediaType mediaType,
             Swc4jParseMode parseMode,
             @Jni2RustParam(optional = true) String sourceMap,
-            String sourceText,
+            @Jni2RustParam(optional = true) Swc4jSourceMap rawSourceMap,
+            @Jni2RustParam(
+                    rustType = "source_text: Option<&str>",
+                    preCalls = {
+                            "    let java_source_text = optional_string_to_jstring!(env, &source_text);",
+                            "    let source_text = object_to_jvalue!(java_source_text);",
+                    }) String sourceText,
             List<Swc4jToken> tokens,
             Swc4jComments comments) {
         super(program, mediaType, parseMode, sourceText, tokens, comments);
         this.code = code;
+        this.rawSourceMap = rawSourceMap;
         this.sourceMap = sourceMap;
     }
 
@@ -87,13 +126,28 @@ public class Swc4jTranspileOutput extends Swc4jParseOutput {
         return code;
     }
 
+    /**
+     * Gets the raw source map which decodes the mappings on the first lookup.
+     * It is only available for the separate source map produced natively.
+     *
+     * @return the raw source map, null if the source map is passed as json or absent
+     * @since 2.3.0
+     */
+    public Swc4jSourceMap getRawSourceMap() {
+        return rawSourceMap;
+    }
+
     /**
      * Source map back to the original file.
+     * The json of the raw source map is created on the first call.
      *
      * @return the source map
      * @since 0.1.0
      */
     public String getSourceMap() {
+        if (sourceMap == null && rawSourceMap != null) {
+            return rawSourceMap.toJson();
+        }
         return sourceMap;
     }
 }
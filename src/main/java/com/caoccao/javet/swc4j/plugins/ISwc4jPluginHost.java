@@ -16,16 +16,69 @@
 
 package com.caoccao.javet.swc4j.plugins;
 
+import com.caoccao.javet.swc4j.ast.enums.Swc4jAstType;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
 import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstProgram;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustClass;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustFilePath;
 import com.caoccao.javet.swc4j.jni2rust.Jni2RustMethod;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+
+import java.util.List;
 
 /**
  * Interface for plugin hosts that can process AST programs.
+ * <p>
+ * The native side may call {@link #process(ISwc4jAstProgram)} from any thread,
+ * including the native batch workers and concurrent calls sharing the same options,
+ * so the implementations must be thread-safe.
  */
 @Jni2RustClass(filePath = Jni2RustFilePath.PluginUtils)
 public interface ISwc4jPluginHost {
+    /**
+     * Gets the AST types the read-only plugin host is interested in.
+     * <p>
+     * When the plugin host is read-only and the list is not empty, the native side only sends the top level items
+     * containing at least one node of these types to Java, so the program seen by the plugins is a subset.
+     * An empty list means all the top level items are sent.
+     *
+     * @return the AST types
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    default List<Swc4jAstType> getAstTypes() {
+        return SimpleList.of();
+    }
+
+    /**
+     * Is dirty tracking.
+     * <p>
+     * When enabled, the native side only converts back the top level items that are new or dirty
+     * and keeps its original items for the rest. The plugins must call {@link ISwc4jAst#markDirty()}
+     * after changing the lists of the nodes in place, because these changes cannot be tracked.
+     *
+     * @return true : enabled, false : disabled
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    default boolean isDirtyTracking() {
+        return false;
+    }
+
+    /**
+     * Is read only.
+     * <p>
+     * When enabled, the native side never converts the program back after {@link #process(ISwc4jAstProgram)},
+     * so the changes made by the plugins are discarded. It suits the plugins that only inspect the code.
+     *
+     * @return true : read only, false : read write
+     * @since 2.3.0
+     */
+    @Jni2RustMethod
+    default boolean isReadOnly() {
+        return false;
+    }
+
     /**
      * Processes the given AST program.
      *
@@ -16,21 +16,46 @@
 
 package com.caoccao.javet.swc4j.plugins;
 
+import com.caoccao.javet.swc4j.ast.enums.Swc4jAstType;
 import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstProgram;
 import com.caoccao.javet.swc4j.utils.AssertionUtils;
 import com.caoccao.javet.swc4j.utils.SimpleList;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The type swc4j plugin host.
+ * <p>
+ * The plugin host is thread-safe. It may be called by many threads at the same time,
+ * e.g. from concurrent parse calls or from the native batch workers,
+ * and each call iterates over an immutable snapshot of the plugin chain,
+ * so adding or removing plugins never affects the programs being processed.
+ * The plugins themselves must be thread-safe if the plugin host is shared.
  */
 public class Swc4jPluginHost implements ISwc4jPluginHost {
     /**
      * The Plugins.
      */
     protected final List<ISwc4jPlugin> plugins;
+    /**
+     * The AST types.
+     *
+     * @since 2.3.0
+     */
+    protected volatile List<Swc4jAstType> astTypes;
+    /**
+     * The Dirty tracking.
+     *
+     * @since 2.3.0
+     */
+    protected volatile boolean dirtyTracking;
+    /**
+     * The Read only.
+     *
+     * @since 2.3.0
+     */
+    protected volatile boolean readOnly;
 
     /**
      * Instantiates a new swc4j plugin host.
@@ -45,7 +70,10 @@ public class Swc4jPluginHost implements ISwc4jPluginHost {
      * @param plugins the plugins
      */
     public Swc4jPluginHost(List<ISwc4jPlugin> plugins) {
-        this.plugins = AssertionUtils.notNull(plugins, "Plugins");
+        this.plugins = new CopyOnWriteArrayList<>(AssertionUtils.notNull(plugins, "Plugins"));
+        astTypes = SimpleList.immutable(SimpleList.of());
+        dirtyTracking = false;
+        readOnly = false;
     }
 
     /**
@@ -55,10 +83,15 @@ public class Swc4jPluginHost implements ISwc4jPluginHost {
      * @return the swc4j plugin host
      */
     public Swc4jPluginHost add(ISwc4jPlugin... plugins) {
-        Collections.addAll(this.plugins, plugins);
+        this.plugins.addAll(SimpleList.of(plugins));
         return this;
     }
 
+    @Override
+    public List<Swc4jAstType> getAstTypes() {
+        return astTypes;
+    }
+
     /**
      * Gets plugins.
      *
@@ -68,6 +101,16 @@ public class Swc4jPluginHost implements ISwc4jPluginHost {
         return plugins;
     }
 
+    @Override
+    public boolean isDirtyTracking() {
+        return dirtyTracking;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     @Override
     public boolean process(ISwc4jAstProgram<?> program) {
         for (ISwc4jPlugin plugin : plugins) {
@@ -88,4 +131,40 @@ public class Swc4jPluginHost implements ISwc4jPluginHost {
         this.plugins.removeAll(SimpleList.of(plugins));
         return this;
     }
+
+    /**
+     * Sets the AST types the read-only plugin host is interested in.
+     *
+     * @param astTypes the AST types
+     * @return the swc4j plugin host
+     * @since 2.3.0
+     */
+    public Swc4jPluginHost setAstTypes(Swc4jAstType... astTypes) {
+        this.astTypes = SimpleList.immutable(SimpleList.of(AssertionUtils.notNull(astTypes, "AST types")));
+        return this;
+    }
+
+    /**
+     * Sets dirty tracking.
+     *
+     * @param dirtyTracking the dirty tracking
+     * @return the swc4j plugin host
+     * @since 2.3.0
+     */
+    public Swc4jPluginHost setDirtyTracking(boolean dirtyTracking) {
+        this.dirtyTracking = dirtyTracking;
+        return this;
+    }
+
+    /**
+     * Sets read only.
+     *
+     * @param readOnly the read only
+     * @return the swc4j plugin host
+     * @since 2.3.0
+     */
+    public Swc4jPluginHost setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+        return this;
+    }
 }
@@ -21,11 +21,14 @@ import com.caoccao.javet.swc4j.ast.visitors.ISwc4jAstVisitor;
 import com.caoccao.javet.swc4j.utils.AssertionUtils;
 import com.caoccao.javet.swc4j.utils.SimpleList;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The type swc4j plugin visitors.
+ * <p>
+ * Each call iterates over an immutable snapshot of the visitors.
+ * The visitors must be thread-safe if the plugin is shared by concurrent calls.
  */
 public class Swc4jPluginVisitors implements ISwc4jPlugin {
     /**
@@ -46,7 +49,7 @@ public class Swc4jPluginVisitors implements ISwc4jPlugin {
      * @param visitors the visitors
      */
     public Swc4jPluginVisitors(List<ISwc4jAstVisitor> visitors) {
-        this.visitors = AssertionUtils.notNull(visitors, "Visitors");
+        this.visitors = new CopyOnWriteArrayList<>(AssertionUtils.notNull(visitors, "Visitors"));
     }
 
     /**
@@ -56,7 +59,7 @@ public class Swc4jPluginVisitors implements ISwc4jPlugin {
      * @return the swc4j plugin visitors
      */
     public Swc4jPluginVisitors add(ISwc4jAstVisitor... visitors) {
-        Collections.addAll(this.visitors, visitors);
+        this.visitors.addAll(SimpleList.of(visitors));
         return this;
     }
 
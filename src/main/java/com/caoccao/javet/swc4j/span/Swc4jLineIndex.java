@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.span;
+
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The type Swc4j line index computes the line and column of the UTF-8 byte offsets
+ * returned by {@link com.caoccao.javet.swc4j.enums.Swc4jSpanMode#ByteOffset}.
+ * <p>
+ * The line starts are computed on the first query and each lookup is a binary search.
+ * Lines and columns are 1-based and the column counts the code points like the native side does.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jLineIndex {
+    private final byte[] bytes;
+    private int[] lineStarts;
+
+    private Swc4jLineIndex(byte[] bytes) {
+        this.bytes = bytes;
+        lineStarts = null;
+    }
+
+    /**
+     * Create a line index from the UTF-8 bytes of the source text.
+     * The bytes are not copied.
+     *
+     * @param bytes the bytes
+     * @return the swc4j line index
+     * @since 2.3.0
+     */
+    public static Swc4jLineIndex of(byte[] bytes) {
+        return new Swc4jLineIndex(AssertionUtils.notNull(bytes, "Bytes"));
+    }
+
+    /**
+     * Create a line index from the source text.
+     *
+     * @param sourceText the source text
+     * @return the swc4j line index
+     * @since 2.3.0
+     */
+    public static Swc4jLineIndex of(String sourceText) {
+        return of(AssertionUtils.notNull(sourceText, "Source text").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets column.
+     *
+     * @param byteOffset the byte offset
+     * @return the 1-based column
+     * @since 2.3.0
+     */
+    public int getColumn(int byteOffset) {
+        validate(byteOffset);
+        int column = 1;
+        for (int i = getLineStarts()[getLineIndex(byteOffset)]; i < byteOffset; i++) {
+            // Continuation bytes do not start a code point.
+            if ((bytes[i] & 0xC0) != 0x80) {
+                ++column;
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Gets line.
+     *
+     * @param byteOffset the byte offset
+     * @return the 1-based line
+     * @since 2.3.0
+     */
+    public int getLine(int byteOffset) {
+        validate(byteOffset);
+        return getLineIndex(byteOffset) + 1;
+    }
+
+    /**
+     * Gets line count.
+     *
+     * @return the line count
+     * @since 2.3.0
+     */
+    public int getLineCount() {
+        return getLineStarts().length;
+    }
+
+    private int getLineIndex(int byteOffset) {
+        int index = Arrays.binarySearch(getLineStarts(), byteOffset);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Gets the byte offset of the start of the line.
+     *
+     * @param line the 1-based line
+     * @return the byte offset
+     * @since 2.3.0
+     */
+    public int getLineStart(int line) {
+        int[] lineStarts = getLineStarts();
+        if (line < 1 || line > lineStarts.length) {
+            throw new IndexOutOfBoundsException("Line " + line + " is out of range [1, " + lineStarts.length + "]");
+        }
+        return lineStarts[line - 1];
+    }
+
+    private int[] getLineStarts() {
+        if (lineStarts == null) {
+            int count = 1;
+            for (byte b : bytes) {
+                if (b == '\n') {
+                    ++count;
+                }
+            }
+            int[] starts = new int[count];
+            int index = 1;
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] == '\n') {
+                    starts[index++] = i + 1;
+                }
+            }
+            lineStarts = starts;
+        }
+        return lineStarts;
+    }
+
+    /**
+     * Convert the byte offset span to a span with line and column.
+     * The start and end remain the byte offsets.
+     *
+     * @param span the byte offset span
+     * @return the span with line and column
+     * @since 2.3.0
+     */
+    public Swc4jSpan toSpan(Swc4jSpan span) {
+        AssertionUtils.notNull(span, "Span");
+        final int start = span.getStart();
+        return new Swc4jSpan(start, span.getEnd(), getLine(start), getColumn(start));
+    }
+
+    private void validate(int byteOffset) {
+        if (byteOffset < 0 || byteOffset > bytes.length) {
+            throw new IndexOutOfBoundsException("Byte offset " + byteOffset + " is out of range [0, " + bytes.length + "]");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.span;
+
+import com.caoccao.javet.swc4j.utils.AssertionUtils;
+
+/**
+ * The type Swc4j text edit replaces the text between the start and the end with the new text.
+ * The start and the end are in the same unit as the spans in {@link com.caoccao.javet.swc4j.enums.Swc4jSpanMode#CharIndex}.
+ *
+ * @since 2.3.0
+ */
+public final class Swc4jTextEdit {
+    private final int end;
+    private final int start;
+    private final String text;
+
+    /**
+     * Instantiates a new Swc4j text edit.
+     *
+     * @param start the start
+     * @param end   the end
+     * @param text  the new text
+     * @since 2.3.0
+     */
+    public Swc4jTextEdit(int start, int end, String text) {
+        AssertionUtils.notTrue(start >= 0 && start <= end, "Start must be in range [0, end]");
+        this.end = end;
+        this.start = start;
+        this.text = AssertionUtils.notNull(text, "Text");
+    }
+
+    /**
+     * Create a text edit that deletes the text between the start and the end.
+     *
+     * @param start the start
+     * @param end   the end
+     * @return the swc4j text edit
+     * @since 2.3.0
+     */
+    public static Swc4jTextEdit delete(int start, int end) {
+        return new Swc4jTextEdit(start, end, "");
+    }
+
+    /**
+     * Create a text edit that inserts the text at the position.
+     *
+     * @param position the position
+     * @param text     the text
+     * @return the swc4j text edit
+     * @since 2.3.0
+     */
+    public static Swc4jTextEdit insert(int position, String text) {
+        return new Swc4jTextEdit(position, position, text);
+    }
+
+    /**
+     * Gets end.
+     *
+     * @return the end
+     * @since 2.3.0
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Gets start.
+     *
+     * @return the start
+     * @since 2.3.0
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the new text.
+     *
+     * @return the text
+     * @since 2.3.0
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return "{ start: " + start + ", end: " + end + ", text: " + text + " }";
+    }
+}
@@ -16,11 +16,264 @@
 
 package com.caoccao.javet.swc4j;
 
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstIdent;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
+import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.outputs.Swc4jBatchResult;
+import com.caoccao.javet.swc4j.outputs.Swc4jOutputSink;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTokenizeOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.span.Swc4jTextEdit;
+import com.caoccao.javet.swc4j.tokens.Swc4jToken;
+import com.caoccao.javet.swc4j.tokens.Swc4jTokenType;
 import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 
 public class TestSwc4j extends BaseTestSuite {
+    private static List<String> getBatchCodes() {
+        List<String> codes = IntStream.range(0, 32)
+                .mapToObj(i -> "function add" + i + "(a:number, b:number) { return a+b; }")
+                .collect(Collectors.toList());
+        codes.add("function (");
+        return codes;
+    }
+
+    @Test
+    public void testParseBytes() throws Swc4jCoreException {
+        String code = "const a = '\u4F60\u597D'; const b = a;";
+        byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+        String expectedDebugString = swc4j.parse(code, tsScriptParseOptions.setCaptureAst(true))
+                .getProgram().toDebugString();
+        assertThat(swc4j.parse(bytes, tsScriptParseOptions).getProgram().toDebugString())
+                .isEqualTo(expectedDebugString);
+        ByteBuffer heapBuffer = ByteBuffer.wrap(bytes);
+        assertThat(swc4j.parse(heapBuffer, tsScriptParseOptions).getProgram().toDebugString())
+                .isEqualTo(expectedDebugString);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length + 4);
+        directBuffer.put(new byte[]{' ', ' '}).put(bytes).flip().position(2);
+        assertThat(swc4j.parse(directBuffer, tsScriptParseOptions).getSourceText()).isEqualTo(code);
+        assertThat(directBuffer.position()).isEqualTo(2);
+        assertThatThrownBy(() -> swc4j.parse(new byte[]{(byte) 0xC3, (byte) 0x28}, tsScriptParseOptions))
+                .isInstanceOf(Swc4jCoreException.class);
+    }
+
+    @Test
+    public void testParseBatch() throws Swc4jCoreException {
+        List<Swc4jBatchResult<Swc4jParseOutput>> results = swc4j.parseBatch(
+                getBatchCodes(), tsScriptParseOptions.setCaptureAst(true));
+        assertThat(results).hasSize(33);
+        for (int i = 0; i < 32; i++) {
+            assertThat(results.get(i).isOk()).isTrue();
+            assertThat(results.get(i).getOutput().getProgram()).isNotNull();
+        }
+        assertThat(results.get(32).isOk()).isFalse();
+        assertThat(results.get(32).getError()).isNotNull();
+    }
+
+    @Test
+    public void testReparse() throws Swc4jCoreException {
+        String code = "const a = 1;\nconst b = '\u4F60';\nconst c = a + b; const d = c;\n";
+        Swc4jParseOutput output = swc4j.parse(code, tsScriptParseOptions.setCaptureAst(true));
+        ISwc4jAst lastItem = output.getProgram().getBody().get(3);
+        assertThat(output.getProgram().getBody().get(2).getSpan())
+                .hasToString("{ start: 28, end: 44, line: 3, column: 1 }");
+        assertThat(lastItem.getSpan()).hasToString("{ start: 45, end: 57, line: 3, column: 18 }");
+        // Replace "'\u4F60'" with "x(\n2)" so that the following items are shifted by 1 line and 2 chars.
+        List<Swc4jTextEdit> edits = List.of(new Swc4jTextEdit(23, 26, "x(\n2)"));
+        String newCode = "const a = 1;\nconst b = x(\n2);\nconst c = a + b; const d = c;\n";
+        Swc4jParseOutput newOutput = swc4j.reparse(output, edits, tsScriptParseOptions);
+        assertThat(newOutput.getSourceText()).isEqualTo(newCode);
+        assertThat(newOutput.getProgram().toDebugString())
+                .isEqualTo(swc4j.parse(newCode, tsScriptParseOptions).getProgram().toDebugString());
+        assertThat(newOutput.getProgram().getBody().get(2).getSpan())
+                .hasToString("{ start: 30, end: 46, line: 4, column: 1 }");
+        assertThat(newOutput.getProgram().getBody().get(3)).isSameAs(lastItem);
+        assertThat(lastItem.getSpan()).hasToString("{ start: 47, end: 59, line: 4, column: 18 }");
+    }
+
+    @Test
+    public void testReparseWithFallback() throws Swc4jCoreException {
+        String code = "const a = 1;\nfoo;\n(bar);\nconst c = 3;\n";
+        Swc4jParseOutput output = swc4j.parse(code, tsScriptParseOptions.setCaptureAst(true));
+        // Deleting the semicolon merges "foo" and "(bar)" into one call.
+        String newCode = "const a = 1;\nfoo\n(bar);\nconst c = 3;\n";
+        Swc4jParseOutput newOutput = swc4j.reparse(output, List.of(Swc4jTextEdit.delete(16, 17)), tsScriptParseOptions);
+        assertThat(newOutput.getProgram().getBody()).hasSize(3);
+        assertThat(newOutput.getProgram().toDebugString())
+                .isEqualTo(swc4j.parse(newCode, tsScriptParseOptions).getProgram().toDebugString());
+        assertThatThrownBy(() -> swc4j.reparse(output, List.of(Swc4jTextEdit.insert(13, "const (")), tsScriptParseOptions))
+                .isInstanceOf(Swc4jCoreException.class);
+        assertThatThrownBy(() -> swc4j.reparse(
+                output,
+                List.of(Swc4jTextEdit.insert(20, "x"), Swc4jTextEdit.insert(10, "y")),
+                tsScriptParseOptions))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testTokenize() throws Swc4jCoreException {
+        String code = "const a = '\u4F60\uD83D\uDE00';\nlet b = a + 1;";
+        Swc4jTokenizeOutput output = swc4j.tokenize(code, tsScriptParseOptions);
+        List<Swc4jToken> expectedTokens = swc4j.parse(code, tsScriptParseOptions.setCaptureTokens(true)).getTokens();
+        assertThat(output.getCode()).isSameAs(code);
+        assertThat(output.getSize()).isEqualTo(expectedTokens.size());
+        for (int i = 0; i < output.getSize(); i++) {
+            Swc4jToken expectedToken = expectedTokens.get(i);
+            assertThat(output.getType(i)).isEqualTo(expectedToken.getType());
+            assertThat(output.getStart(i)).isEqualTo(expectedToken.getSpan().getStart());
+            assertThat(output.getEnd(i)).isEqualTo(expectedToken.getSpan().getEnd());
+            assertThat(output.getText(i)).isEqualTo(expectedToken.getText());
+            assertThat(output.hasLineBreakAhead(i)).isEqualTo(expectedToken.isLineBreakAhead());
+        }
+        assertThat(output.hasLineBreakAhead(5)).isTrue();
+        // The lexer reports the errors as tokens instead of throwing.
+        output = swc4j.tokenize("const a = '", tsScriptParseOptions);
+        assertThat(output.getType(output.getSize() - 1)).isEqualTo(Swc4jTokenType.Error);
+    }
+
+    @Test
+    public void testTransformBatch() throws Swc4jCoreException {
+        List<Swc4jBatchResult<Swc4jTransformOutput>> results = swc4j.transformBatch(
+                getBatchCodes(), tsScriptTransformOptions.setSourceMap(Swc4jSourceMapOption.None));
+        assertThat(results).hasSize(33);
+        for (int i = 0; i < 32; i++) {
+            assertThat(results.get(i).getOutput().getCode())
+                    .startsWith("function add" + i + "(a:number,b:number){return a+b;}");
+        }
+        assertThat(results.get(32).getError()).isNotNull();
+    }
+
+    @Test
+    public void testTranspileToSink() throws Swc4jCoreException {
+        String code = "const a = '\u4F60\u597D';";
+        tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.Separate);
+        Swc4jTranspileOutput expectedOutput = swc4j.transpile(code, tsScriptTranspileOptions);
+        ByteBuffer codeBuffer = ByteBuffer.allocateDirect(1024);
+        Swc4jOutputSink outputSink = Swc4jOutputSink.of(codeBuffer, null);
+        Swc4jTranspileOutput output = swc4j.transpile(code, tsScriptTranspileOptions, outputSink);
+        assertThat(output.getCode()).isEmpty();
+        assertThat(output.getSourceMap()).isNull();
+        assertThat(outputSink.getSourceMapLength()).isEqualTo(
+                expectedOutput.getSourceMap().getBytes(StandardCharsets.UTF_8).length);
+        codeBuffer.flip();
+        assertThat(StandardCharsets.UTF_8.decode(codeBuffer).toString()).isEqualTo(expectedOutput.getCode());
+        assertThatThrownBy(() -> swc4j.transpile(
+                code, tsScriptTranspileOptions, Swc4jOutputSink.of(ByteBuffer.allocate(1), null)))
+                .isInstanceOf(Swc4jCoreException.class)
+                .hasMessage("Failed to write the output")
+                .hasCauseInstanceOf(BufferOverflowException.class);
+    }
+
+    @Test
+    public void testTranspileFile() throws Swc4jCoreException, IOException {
+        String code = "function add(a:number, b:number) { return a+b; }";
+        Path path = Files.createTempFile("swc4j", ".ts");
+        try {
+            Files.write(path, code.getBytes(StandardCharsets.UTF_8));
+            tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None);
+            assertThat(swc4j.transpile(path, tsScriptTranspileOptions).getCode())
+                    .isEqualTo(swc4j.transpile(code, tsScriptTranspileOptions).getCode());
+        } finally {
+            Files.delete(path);
+        }
+        assertThatThrownBy(() -> swc4j.transpile(path, tsScriptTranspileOptions))
+                .isInstanceOf(Swc4jCoreException.class)
+                .hasMessageContaining("Failed to read");
+    }
+
+    @Test
+    public void testTransformProgram() throws Swc4jCoreException {
+        String code = "function add(a:number, b:number) { return a+b; }";
+        Swc4jParseOutput parseOutput = swc4j.parse(code, tsScriptParseOptions.setCaptureAst(true));
+        parseOutput.getProgram().find(Swc4jAstIdent.class).stream()
+                .filter(ident -> "a".equals(ident.getSym()))
+                .forEach(ident -> ident.setSym("x"));
+        Swc4jTransformOutput output = swc4j.transform(
+                parseOutput.getProgram(),
+                tsScriptTransformOptions.setSourceMap(Swc4jSourceMapOption.None));
+        assertThat(output.getCode()).isEqualTo(swc4j.transform(
+                "function add(x:number, b:number) { return x+b; }",
+                tsScriptTransformOptions).getCode());
+        assertThat(output.getParseMode()).isEqualTo(Swc4jParseMode.Script);
+    }
+
+    @Test
+    public void testTransformToSink() throws Swc4jCoreException {
+        String code = "function add(a:number, b:number) { return a+b; }";
+        tsScriptTransformOptions.setSourceMap(Swc4jSourceMapOption.Separate);
+        Swc4jTransformOutput expectedOutput = swc4j.transform(code, tsScriptTransformOptions);
+        assertThat(expectedOutput.getSourceMap()).isNotNull();
+        ByteArrayOutputStream codeStream = new ByteArrayOutputStream();
+        ByteArrayOutputStream sourceMapStream = new ByteArrayOutputStream();
+        Swc4jOutputSink outputSink = Swc4jOutputSink.of(codeStream, sourceMapStream);
+        Swc4jTransformOutput output = swc4j.transform(code, tsScriptTransformOptions, outputSink);
+        assertThat(output.getCode()).isEmpty();
+        assertThat(output.getSourceMap()).isNull();
+        assertThat(outputSink.getError()).isNull();
+        assertThat(codeStream.toString(StandardCharsets.UTF_8)).isEqualTo(expectedOutput.getCode());
+        assertThat(sourceMapStream.toString(StandardCharsets.UTF_8)).isEqualTo(expectedOutput.getSourceMap());
+        assertThat(outputSink.getCodeLength()).isEqualTo(codeStream.size());
+    }
+
+    @Test
+    public void testTranspileBatch() throws Swc4jCoreException {
+        List<Swc4jBatchResult<Swc4jTranspileOutput>> results = swc4j.transpileBatch(
+                getBatchCodes(), tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None));
+        assertThat(results).hasSize(33);
+        for (int i = 0; i < 32; i++) {
+            assertThat(results.get(i).getOutputOrThrow().getCode())
+                    .isEqualTo("function add" + i + "(a, b) {\n  return a + b;\n}\n");
+        }
+        assertThat(results.get(32).getOutput()).isNull();
+        assertThat(results.get(32).getError().getMessage()).isNotEmpty();
+    }
+
+    @Test
+    public void testTranspileProgram() throws Swc4jCoreException {
+        String code = "function add(a:number, b:number) { return a+b; }";
+        Swc4jParseOutput parseOutput = swc4j.parse(code, tsScriptParseOptions.setCaptureAst(true));
+        parseOutput.getProgram().find(Swc4jAstIdent.class).stream()
+                .filter(ident -> "b".equals(ident.getSym()))
+                .forEach(ident -> ident.setSym("y"));
+        Swc4jTranspileOutput output = swc4j.transpile(
+                parseOutput.getProgram(),
+                tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None));
+        assertThat(output.getCode()).isEqualTo("function add(a, y) {\n  return a + y;\n}\n");
+    }
+
+    @Test
+    public void testTranspileProgramWithScopeAnalysis() throws Swc4jCoreException {
+        String code = "const a = 1; function f(a: number) { { const a = 2; return a; } }";
+        Swc4jParseOutput parseOutput = swc4j.parse(code, tsScriptParseOptions
+                .setCaptureAst(true)
+                .setScopeAnalysis(true));
+        assertThat(parseOutput.getProgram().find(Swc4jAstIdent.class).stream()
+                .filter(ident -> "a".equals(ident.getSym()))
+                .mapToInt(Swc4jAstIdent::getCtxt)
+                .distinct()
+                .count()).isEqualTo(3);
+        tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None);
+        Swc4jTranspileOutput output = swc4j.transpile(parseOutput.getProgram(), tsScriptTranspileOptions);
+        assertThat(output.getCode()).isEqualTo(swc4j.transpile(code, tsScriptTranspileOptions).getCode());
+    }
+
     @Test
     public void testGetVersion() {
         assertThat(swc4j.getVersion()).isEqualTo("2.2.0");
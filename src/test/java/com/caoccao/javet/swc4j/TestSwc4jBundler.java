@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.bundler.Swc4jBundlerFileResolver;
+import com.caoccao.javet.swc4j.bundler.Swc4jBundlerMapResolver;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jBundleOptions;
+import com.caoccao.javet.swc4j.options.Swc4jDecoratorsTranspileOption;
+import com.caoccao.javet.swc4j.outputs.Swc4jBundleChunk;
+import com.caoccao.javet.swc4j.outputs.Swc4jBundleOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jSourceMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jBundler extends BaseTestSuite {
+    private static final Map<String, String> SOURCES = Map.of(
+            "/main.ts", "import { area } from \"./math.js\";\nimport React from \"react\";\nconsole.log(area(2), React);\n",
+            "/math.ts", "export const PI: number = 3.14;\n" +
+                    "function square(x: number) { return x * x; }\n" +
+                    "function cube(x: number) { return x * x * x; }\n" +
+                    "export function area(r: number) { return PI * square(r); }\n" +
+                    "export function volume(r: number) { return PI * cube(r); }\n",
+            "/other.ts", "import { volume } from \"./math\";\nconsole.log(volume(2));\n");
+
+    @Test
+    public void testExternals() throws Swc4jCoreException {
+        Swc4jBundler bundler = new Swc4jBundler(swc4j, new Swc4jBundlerMapResolver(SOURCES));
+        Swc4jBundleOutput output = bundler.bundle(List.of("main.ts"));
+        assertThat(output.getExternals()).containsExactly("react");
+        assertThat(output.getModuleIds()).containsExactly("/main.ts", "/math.ts");
+        Swc4jBundleChunk chunk = output.getChunks().get(0);
+        assertThat(chunk.getEntry()).isEqualTo("/main.ts");
+        assertThat(chunk.getModuleIds()).containsExactly("/main.ts", "/math.ts");
+        assertThat(chunk.getCode())
+                .contains("{\"./math.js\": 1, \"react\": \"react\"}")
+                .endsWith("return __swc4j_require(0);\n})();\n");
+    }
+
+    @Test
+    public void testFileResolver() throws IOException, Swc4jCoreException {
+        Path directory = Files.createTempDirectory("swc4j-bundler");
+        try {
+            Files.createDirectories(directory.resolve("lib"));
+            Files.writeString(directory.resolve("main.js"),
+                    "import { hello } from './lib';\nconsole.log(hello());\n", StandardCharsets.UTF_8);
+            Files.writeString(directory.resolve("lib").resolve("index.js"),
+                    "export function hello() { return 'hello'; }\n", StandardCharsets.UTF_8);
+            Swc4jBundler bundler = new Swc4jBundler(swc4j, new Swc4jBundlerFileResolver(directory));
+            Swc4jBundleOutput output = bundler.bundle(List.of("main.js"));
+            assertThat(output.getModuleIds()).containsExactly(
+                    directory.toAbsolutePath().normalize().resolve("main.js").toString(),
+                    directory.toAbsolutePath().normalize().resolve("lib").resolve("index.js").toString());
+            assertThat(output.getChunks().get(0).getCode()).contains("function hello()");
+        } finally {
+            Files.deleteIfExists(directory.resolve("lib").resolve("index.js"));
+            Files.deleteIfExists(directory.resolve("lib"));
+            Files.deleteIfExists(directory.resolve("main.js"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testMultipleEntries() throws Swc4jCoreException {
+        Swc4jBundler bundler = new Swc4jBundler(swc4j, new Swc4jBundlerMapResolver(SOURCES));
+        Swc4jBundleOutput output = bundler.bundle(List.of("main.ts", "./other.ts"));
+        assertThat(output.getChunks()).hasSize(2);
+        assertThat(output.getChunks().get(1).getModuleIds()).containsExactly("/other.ts", "/math.ts");
+        // The shared module keeps the exports used by any chunk.
+        output.getChunks().forEach(chunk -> assertThat(chunk.getCode())
+                .contains("function area(")
+                .contains("function volume("));
+    }
+
+    @Test
+    public void testSourceMap() throws Swc4jCoreException {
+        Swc4jBundler bundler = new Swc4jBundler(swc4j, new Swc4jBundlerMapResolver(SOURCES));
+        Swc4jBundleChunk chunk = bundler.bundle(List.of("main.ts")).getChunks().get(0);
+        Swc4jSourceMap sourceMap = chunk.getRawSourceMap();
+        assertThat(sourceMap.getSources()).containsExactly("/main.ts", "/math.ts");
+        assertThat(sourceMap.getSourcesContent()).containsExactly(SOURCES.get("/main.ts"), SOURCES.get("/math.ts"));
+        int[] segments = sourceMap.getSegments();
+        assertThat(segments).isNotEmpty();
+        // The entry is mapped after the lines of the chunk header.
+        assertThat(segments[0]).isGreaterThanOrEqualTo(3);
+        String[] lines = chunk.getCode().split("\n", -1);
+        boolean areaFound = false;
+        for (int i = 0; i < segments.length; i += Swc4jSourceMap.SEGMENT_SIZE) {
+            // The line of function area in the math module.
+            if (segments[i + 2] == 1 && segments[i + 3] == 3) {
+                areaFound |= lines[segments[i]].contains("function area(");
+            }
+        }
+        assertThat(areaFound).isTrue();
+        assertThat(chunk.getSourceMap()).contains("\"/math.ts\"");
+        Swc4jBundleOptions options = new Swc4jBundleOptions().setSourceMap(Swc4jSourceMapOption.Inline);
+        chunk = bundler.bundle(List.of("main.ts"), options).getChunks().get(0);
+        assertThat(chunk.getCode()).contains("//# sourceMappingURL=data:application/json;base64,");
+        options.setSourceMap(Swc4jSourceMapOption.None);
+        chunk = bundler.bundle(List.of("main.ts"), options).getChunks().get(0);
+        assertThat(chunk.getRawSourceMap()).isNull();
+        assertThat(chunk.getSourceMap()).isNull();
+    }
+
+    @Test
+    public void testTreeShaking() throws Swc4jCoreException {
+        Swc4jBundler bundler = new Swc4jBundler(swc4j, new Swc4jBundlerMapResolver(SOURCES));
+        String code = bundler.bundle(List.of("main.ts")).getChunks().get(0).getCode();
+        assertThat(code)
+                .contains("function area(")
+                .contains("function square(")
+                .contains("PI = 3.14")
+                .doesNotContain("volume")
+                .doesNotContain("cube");
+        code = bundler.bundle(List.of("main.ts"), new Swc4jBundleOptions().setTreeShaking(false))
+                .getChunks().get(0).getCode();
+        assertThat(code)
+                .contains("function volume(")
+                .contains("function cube(");
+    }
+
+    @Test
+    public void testTreeShakingWithComputedKeys() throws Swc4jCoreException {
+        Swc4jBundler bundler = new Swc4jBundler(swc4j, new Swc4jBundlerMapResolver(Map.of(
+                "/main.ts", "import { used } from \"./lib\";\nconsole.log(used());\n",
+                "/lib.ts", "export function used() { return 1; }\n" +
+                        "function init() { return \"k\"; }\n" +
+                        "export class LiteralKey { [\"a\"]() {} static [1] = 1; }\n" +
+                        "export class MethodKey { [init()]() {} }\n" +
+                        "export class PropKey { [init()] = 1; }\n")));
+        String code = bundler.bundle(List.of("main.ts")).getChunks().get(0).getCode();
+        // The computed keys other than the literals run when the class is defined.
+        assertThat(code)
+                .contains("class MethodKey")
+                .contains("class PropKey")
+                .contains("function init(")
+                .doesNotContain("LiteralKey");
+    }
+
+    @Test
+    public void testTreeShakingWithDecorators() throws Swc4jCoreException {
+        Swc4jBundler bundler = new Swc4jBundler(swc4j, new Swc4jBundlerMapResolver(Map.of(
+                "/main.ts", "import { used } from \"./lib\";\nconsole.log(used());\n",
+                "/lib.ts", "export function used() { return 1; }\n" +
+                        "function log(target: any, key: string) {}\n" +
+                        "function inject(target: any, key: string | undefined, index: number) {}\n" +
+                        "export class DecoratedMethod { @log method() {} }\n" +
+                        "export class DecoratedParam { method(@inject a: string) {} }\n" +
+                        "export class DecoratedCtor { constructor(@inject a: string) {} }\n" +
+                        "export class Plain { method(a: string) {} }\n")));
+        Swc4jBundleOptions options = new Swc4jBundleOptions()
+                .setDecorators(Swc4jDecoratorsTranspileOption.LegacyTypeScript());
+        String code = bundler.bundle(List.of("main.ts"), options).getChunks().get(0).getCode();
+        // The member decorators and the parameter decorators run when the class is defined.
+        assertThat(code)
+                .contains("DecoratedMethod")
+                .contains("DecoratedParam")
+                .contains("DecoratedCtor")
+                .contains("function log(")
+                .contains("function inject(")
+                .doesNotContain("Plain");
+    }
+
+    @Test
+    public void testUnresolved() {
+        Swc4jBundler bundler = new Swc4jBundler(swc4j, new Swc4jBundlerMapResolver(
+                Map.of("/main.js", "import './missing';\n")));
+        assertThatThrownBy(() -> bundler.bundle(List.of("main.js")))
+                .isInstanceOf(Swc4jCoreException.class)
+                .hasMessage("Couldn't resolve ./missing imported by /main.js");
+        assertThatThrownBy(() -> bundler.bundle(List.of("./other.js")))
+                .isInstanceOf(Swc4jCoreException.class)
+                .hasMessage("Couldn't resolve entry ./other.js");
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jParseOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTransformOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.plugins.ISwc4jPluginHost;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jCompiledOptions extends BaseTestSuite {
+    private static final String CODE = "function add(a:number, b:number) { return a+b; }";
+
+    @Test
+    public void testClose() throws Swc4jCoreException {
+        Swc4jCompiledOptions<Swc4jParseOptions> compiledOptions = swc4j.compile(tsScriptParseOptions);
+        assertThat(compiledOptions.isClosed()).isFalse();
+        compiledOptions.close();
+        assertThat(compiledOptions.isClosed()).isTrue();
+        compiledOptions.close();
+        assertThatThrownBy(() -> swc4j.parse(CODE, compiledOptions))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Swc4jCompiledOptions is closed");
+    }
+
+    @Test
+    public void testCloseWhileInUse() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        ISwc4jPluginHost pluginHost = program -> {
+            entered.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        };
+        Swc4jCompiledOptions<Swc4jTranspileOptions> compiledOptions = swc4j.compile(
+                tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None).setPluginHost(pluginHost));
+        AtomicReference<String> code = new AtomicReference<>();
+        Thread transpileThread = new Thread(() -> {
+            try {
+                code.set(swc4j.transpile(CODE, compiledOptions).getCode());
+            } catch (Swc4jCoreException e) {
+                code.set(e.getMessage());
+            }
+        });
+        transpileThread.start();
+        entered.await();
+        Thread closeThread = new Thread(compiledOptions::close);
+        closeThread.start();
+        // The close waits for the native call in progress.
+        closeThread.join(100);
+        assertThat(closeThread.isAlive()).isTrue();
+        assertThat(compiledOptions.isClosed()).isFalse();
+        released.countDown();
+        transpileThread.join();
+        closeThread.join();
+        assertThat(code.get()).isEqualTo("function add(a, b) {\n  return a + b;\n}\n");
+        assertThat(compiledOptions.isClosed()).isTrue();
+        assertThatThrownBy(() -> swc4j.transpile(CODE, compiledOptions))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Swc4jCompiledOptions is closed");
+    }
+
+    @Test
+    public void testImmutable() throws Swc4jCoreException {
+        Swc4jParseOptions options = new Swc4jParseOptions().setCaptureAst(true);
+        try (Swc4jCompiledOptions<Swc4jParseOptions> compiledOptions = swc4j.compile(options)) {
+            options.setCaptureAst(false).setMediaType(Swc4jMediaType.JavaScript);
+            Swc4jParseOutput output = swc4j.parse(CODE, compiledOptions);
+            assertThat(output.getProgram()).isNotNull();
+            assertThat(output.getMediaType()).isEqualTo(Swc4jMediaType.TypeScript);
+        }
+    }
+
+    @Test
+    public void testParse() throws Swc4jCoreException {
+        try (Swc4jCompiledOptions<Swc4jParseOptions> compiledOptions =
+                     swc4j.compile(tsScriptParseOptions.setCaptureAst(true))) {
+            assertThat(compiledOptions.getOptionsClass()).isEqualTo(Swc4jParseOptions.class);
+            for (int i = 0; i < 3; i++) {
+                Swc4jParseOutput expectedOutput = swc4j.parse(CODE, tsScriptParseOptions);
+                Swc4jParseOutput output = swc4j.parse(CODE, compiledOptions);
+                assertThat(output.getProgram().toDebugString())
+                        .isEqualTo(expectedOutput.getProgram().toDebugString());
+            }
+            assertThatThrownBy(() -> swc4j.parse("function (", compiledOptions))
+                    .isInstanceOf(Swc4jCoreException.class);
+        }
+    }
+
+    @Test
+    public void testPluginHost() throws Swc4jCoreException {
+        AtomicInteger count = new AtomicInteger();
+        ISwc4jPluginHost pluginHost = program -> {
+            count.incrementAndGet();
+            return true;
+        };
+        try (Swc4jCompiledOptions<Swc4jTranspileOptions> compiledOptions = swc4j.compile(
+                tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None).setPluginHost(pluginHost))) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(swc4j.transpile(CODE, compiledOptions).getCode())
+                        .isEqualTo("function add(a, b) {\n  return a + b;\n}\n");
+            }
+        }
+        assertThat(count.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testTransform() throws Swc4jCoreException {
+        Swc4jTransformOptions options = tsScriptTransformOptions.setSourceMap(Swc4jSourceMapOption.None);
+        try (Swc4jCompiledOptions<Swc4jTransformOptions> compiledOptions = swc4j.compile(options)) {
+            assertThat(swc4j.transform(CODE, compiledOptions).getCode())
+                    .isEqualTo(swc4j.transform(CODE, options).getCode());
+        }
+    }
+
+    @Test
+    public void testTranspile() throws Swc4jCoreException {
+        Swc4jTranspileOptions options = tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None);
+        try (Swc4jCompiledOptions<Swc4jTranspileOptions> compiledOptions = swc4j.compile(options)) {
+            assertThat(compiledOptions.getOptionsClass()).isEqualTo(Swc4jTranspileOptions.class);
+            assertThat(swc4j.transpile(CODE, compiledOptions).getCode())
+                    .isEqualTo("function add(a, b) {\n  return a + b;\n}\n");
+        }
+    }
+}
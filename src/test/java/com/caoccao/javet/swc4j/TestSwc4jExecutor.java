@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jExecutor extends BaseTestSuite {
+    @Test
+    public void testAsync() throws ExecutionException, InterruptedException {
+        try (Swc4jExecutor executor = new Swc4jExecutor(2, 4)) {
+            tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None);
+            List<CompletableFuture<Swc4jTranspileOutput>> futures = IntStream.range(0, 32)
+                    .mapToObj(i -> swc4j.transpileAsync(
+                            "function add" + i + "(a:number, b:number) { return a+b; }",
+                            tsScriptTranspileOptions,
+                            executor))
+                    .collect(Collectors.toList());
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get().getCode())
+                        .isEqualTo("function add" + i + "(a, b) {\n  return a + b;\n}\n");
+            }
+            CompletableFuture<?> future = swc4j.parseAsync("function (", tsScriptParseOptions, executor);
+            assertThatThrownBy(future::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(Swc4jCoreException.class);
+            assertThat(swc4j.transformAsync("a+b", tsScriptTransformOptions).get().getCode())
+                    .startsWith("a+b");
+        }
+    }
+
+    @Test
+    public void testAsyncOptionsCopy() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        try (Swc4jExecutor executor = new Swc4jExecutor(1, 1)) {
+            executor.submit(() -> {
+                latch.await();
+                return null;
+            });
+            CompletableFuture<Swc4jTranspileOutput> future = swc4j.transpileAsync(
+                    "const a: number = 1;",
+                    tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None),
+                    executor);
+            // The change after submit must not be seen by the queued call.
+            tsScriptTranspileOptions.setMediaType(Swc4jMediaType.JavaScript);
+            latch.countDown();
+            assertThat(future.get().getCode()).isEqualTo("const a = 1;\n");
+            assertThat(future.get().getMediaType()).isEqualTo(Swc4jMediaType.TypeScript);
+        }
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        try (Swc4jExecutor executor = new Swc4jExecutor(1, 1)) {
+            assertThat(executor.getCapacity()).isEqualTo(2);
+            CompletableFuture<Integer> future1 = executor.submit(() -> {
+                latch.await();
+                return 1;
+            });
+            CompletableFuture<Integer> future2 = executor.submit(() -> 2);
+            Thread thread = new Thread(() -> executor.submit(() -> 3));
+            thread.start();
+            while (executor.getWaitingCount() == 0) {
+                Thread.sleep(1);
+            }
+            assertThat(executor.getQueueDepth()).isEqualTo(1);
+            assertThat(thread.isAlive()).isTrue();
+            latch.countDown();
+            thread.join();
+            assertThat(future1.get()).isEqualTo(1);
+            assertThat(future2.get()).isEqualTo(2);
+            assertThat(executor.getWaitingCount()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testClose() {
+        Swc4jExecutor executor = new Swc4jExecutor(1, 0);
+        assertThat(executor.isClosed()).isFalse();
+        executor.close();
+        assertThat(executor.isClosed()).isTrue();
+        assertThatThrownBy(() -> executor.submit(() -> 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Swc4jExecutor is closed");
+        assertThatThrownBy(() -> Swc4jExecutor.getDefault().close())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new Swc4jExecutor(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.ast.enums.Swc4jAstType;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstProgram;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jLazyProgram extends BaseTestSuite {
+    private static final String CODE = "import a from 'a';\nconst b = 1;\nexport function c() {}";
+
+    @Test
+    public void testClose() throws Swc4jCoreException {
+        Swc4jLazyProgram lazyProgram = swc4j.parseLazy(CODE, tsModuleParseOptions);
+        ISwc4jAst item = lazyProgram.getItem(0);
+        lazyProgram.close();
+        assertThat(lazyProgram.isClosed()).isTrue();
+        lazyProgram.close();
+        assertThat(lazyProgram.getItem(0)).isSameAs(item);
+        assertThat(lazyProgram.getItemType(1)).isEqualTo(Swc4jAstType.VarDecl);
+        assertThatThrownBy(() -> lazyProgram.getItem(1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Swc4jLazyProgram is closed");
+    }
+
+    @Test
+    public void testGetItem() throws Swc4jCoreException {
+        ISwc4jAstProgram<?> expectedProgram = swc4j.parse(CODE, tsModuleParseOptions.setCaptureAst(true)).getProgram();
+        try (Swc4jLazyProgram lazyProgram = swc4j.parseLazy(CODE, tsModuleParseOptions.setCaptureAst(false))) {
+            assertThat(lazyProgram.getItemCount()).isEqualTo(3);
+            assertThat(lazyProgram.getItemTypes()).containsExactly(
+                    Swc4jAstType.ImportDecl, Swc4jAstType.VarDecl, Swc4jAstType.ExportDecl);
+            ISwc4jAstProgram<?> program = lazyProgram.getProgram();
+            assertThat(program.getType()).isEqualTo(Swc4jAstType.Module);
+            assertThat(program.getSpan()).isEqualTo(expectedProgram.getSpan());
+            assertThat(program.getBody()).isEmpty();
+            ISwc4jAst item = lazyProgram.getItem(1);
+            assertThat(item.getType()).isEqualTo(Swc4jAstType.VarDecl);
+            assertThat(item.getParent()).isSameAs(program);
+            assertThat(item.toDebugString()).isEqualTo(expectedProgram.getBody().get(1).toDebugString());
+            assertThat(lazyProgram.getItem(1)).isSameAs(item);
+            assertThatThrownBy(() -> lazyProgram.getItem(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    public void testMaterialize() throws Swc4jCoreException {
+        ISwc4jAstProgram<?> expectedProgram = swc4j.parse(CODE, tsModuleParseOptions.setCaptureAst(true)).getProgram();
+        try (Swc4jLazyProgram lazyProgram = swc4j.parseLazy(CODE, tsModuleParseOptions)) {
+            ISwc4jAst item = lazyProgram.getItem(2);
+            ISwc4jAstProgram<?> program = lazyProgram.materialize();
+            List<?> body = program.getBody();
+            assertThat(body).hasSize(3);
+            assertThat(body.get(2)).isSameAs(item);
+            assertThat(program.toDebugString()).isEqualTo(expectedProgram.toDebugString());
+            assertThat(lazyProgram.materialize()).isSameAs(program);
+            assertThat(program.getBody()).hasSize(3);
+        }
+    }
+
+    @Test
+    public void testParseError() {
+        assertThatThrownBy(() -> swc4j.parseLazy("function (", tsModuleParseOptions))
+                .isInstanceOf(Swc4jCoreException.class);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.enums.Swc4jEsVersion;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jParseOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTransformOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jParsedSource extends BaseTestSuite {
+    private static final String CODE = "const add = (a:number, b:number) => a ?? b;";
+
+    @Test
+    public void testClose() throws Swc4jCoreException {
+        Swc4jParsedSource parsedSource = swc4j.parseRetained(CODE, tsScriptParseOptions);
+        assertThat(parsedSource.isClosed()).isFalse();
+        parsedSource.close();
+        assertThat(parsedSource.isClosed()).isTrue();
+        parsedSource.close();
+        assertThatThrownBy(() -> parsedSource.transform(tsScriptTransformOptions))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Swc4jParsedSource is closed");
+        assertThatThrownBy(() -> swc4j.parseRetained("function (", tsScriptParseOptions))
+                .isInstanceOf(Swc4jCoreException.class);
+    }
+
+    @Test
+    public void testGetParseOutput() throws Swc4jCoreException {
+        Swc4jParseOptions options = tsScriptParseOptions.setScopeAnalysis(true);
+        try (Swc4jParsedSource parsedSource = swc4j.parseRetained(CODE, options)) {
+            Swc4jParseOutput output = parsedSource.getParseOutput(options.setCaptureAst(true));
+            assertThat(output.getProgram()).isNotNull();
+            assertThat(output.getSymbolTable()).isNotNull();
+            assertThat(parsedSource.getParseOutput(options.setCaptureAst(false)).getProgram()).isNull();
+            // The parsed source is still available for the transpile.
+            assertThat(parsedSource.transpile(tsScriptTranspileOptions).getCode())
+                    .isEqualTo(swc4j.transpile(CODE, tsScriptTranspileOptions).getCode());
+        }
+        try (Swc4jParsedSource parsedSource = swc4j.parseRetained(CODE, tsScriptParseOptions.setScopeAnalysis(false))) {
+            assertThatThrownBy(() -> parsedSource.getParseOutput(tsScriptParseOptions.setScopeAnalysis(true)))
+                    .isInstanceOf(Swc4jCoreException.class)
+                    .hasMessageContaining("Scope analysis is not applied");
+        }
+    }
+
+    @Test
+    public void testTransform() throws Swc4jCoreException {
+        try (Swc4jParsedSource parsedSource = swc4j.parseRetained(CODE, tsScriptParseOptions)) {
+            for (Swc4jEsVersion target : new Swc4jEsVersion[]{Swc4jEsVersion.ES2015, Swc4jEsVersion.ES2022}) {
+                for (boolean minify : new boolean[]{true, false}) {
+                    Swc4jTransformOptions options = tsScriptTransformOptions
+                            .setSourceMap(Swc4jSourceMapOption.Separate)
+                            .setTarget(target)
+                            .setMinify(minify);
+                    Swc4jTransformOutput expectedOutput = swc4j.transform(CODE, options);
+                    Swc4jTransformOutput output = parsedSource.transform(options);
+                    assertThat(output.getCode()).isEqualTo(expectedOutput.getCode());
+                    assertThat(output.getSourceMap()).isEqualTo(expectedOutput.getSourceMap());
+                    assertThat(output.getParseMode()).isEqualTo(expectedOutput.getParseMode());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTranspile() throws Swc4jCoreException {
+        try (Swc4jParsedSource parsedSource = swc4j.parseRetained(CODE, tsScriptParseOptions)) {
+            for (Swc4jSourceMapOption sourceMap : Swc4jSourceMapOption.values()) {
+                Swc4jTranspileOptions options = tsScriptTranspileOptions.setSourceMap(sourceMap);
+                Swc4jTranspileOutput expectedOutput = swc4j.transpile(CODE, options);
+                Swc4jTranspileOutput output = parsedSource.transpile(options);
+                assertThat(output.getCode()).isEqualTo(expectedOutput.getCode());
+                assertThat(output.getSourceMap()).isEqualTo(expectedOutput.getSourceMap());
+            }
+            assertThatThrownBy(() -> parsedSource.transpile(tsScriptTranspileOptions.setCaptureTokens(true)))
+                    .isInstanceOf(Swc4jCoreException.class)
+                    .hasMessageContaining("Tokens are not captured");
+        }
+    }
+}
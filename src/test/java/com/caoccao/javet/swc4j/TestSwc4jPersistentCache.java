@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jTransformOptions;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jSourceMap;
+import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jPersistentCache extends BaseTestSuite {
+    private static final String CODE = "function add(a:number, b:number) { return a+b; }";
+    private Path directory;
+
+    @BeforeEach
+    protected void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("swc4j-cache");
+    }
+
+    @AfterEach
+    protected void deleteDirectory() throws IOException {
+        try (Stream<Path> stream = Files.walk(directory)) {
+            for (Path path : stream.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private long countFullPutProbes(int maxEntries, int putCount) throws IOException {
+        Random random = new Random(maxEntries);
+        byte[] key = new byte[32];
+        try (Swc4jPersistentCache cache = new Swc4jPersistentCache(swc4j, directory, maxEntries, 1024)) {
+            cache.clear();
+            long startProbeCount = cache.getProbeCount();
+            for (int i = 0; i < putCount; i++) {
+                random.nextBytes(key);
+                cache.put(key, 512);
+            }
+            assertThat(cache.getSize()).isEqualTo(2);
+            assertThat(cache.getTotalBytes()).isEqualTo(1024);
+            assertThat(cache.getEvictionCount()).isEqualTo(putCount - 2);
+            return cache.getProbeCount() - startProbeCount;
+        }
+    }
+
+    @Test
+    public void testEviction() throws IOException, Swc4jCoreException {
+        Swc4jTranspileOptions options = tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None);
+        try (Swc4jPersistentCache cache = new Swc4jPersistentCache(swc4j, directory, 2, 1024 * 1024)) {
+            cache.transpile("a + 1;", options);
+            cache.transpile("a + 2;", options);
+            cache.transpile("a + 1;", options);
+            cache.transpile("a + 3;", options);
+            assertThat(cache.getSize()).isEqualTo(2);
+            assertThat(cache.getEvictionCount()).isEqualTo(1);
+            // "a + 2;" is the least recently used one.
+            cache.transpile("a + 1;", options);
+            assertThat(cache.getHitCount()).isEqualTo(2);
+            cache.transpile("a + 2;", options);
+            assertThat(cache.getMissCount()).isEqualTo(4);
+            cache.clear();
+            assertThat(cache.getSize()).isEqualTo(0);
+            assertThat(cache.getTotalBytes()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testEvictionCost() throws IOException {
+        // Every put evicts, so a scan over the slots would visit far more slots in the large index.
+        final int putCount = 10_000;
+        long smallProbeCount = countFullPutProbes(8, putCount);
+        long largeProbeCount = countFullPutProbes(1 << 16, putCount);
+        assertThat(smallProbeCount).isLessThan(putCount * 8L);
+        assertThat(largeProbeCount).isLessThan(putCount * 8L);
+    }
+
+    @Test
+    public void testLocked() throws IOException {
+        try (Swc4jPersistentCache cache = new Swc4jPersistentCache(swc4j, directory, 16, 1024 * 1024)) {
+            assertThatThrownBy(() -> new Swc4jPersistentCache(swc4j, directory, 16, 1024 * 1024))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("is in use");
+            cache.close();
+            assertThat(cache.isClosed()).isTrue();
+            assertThatThrownBy(() -> cache.transpile(CODE, tsScriptTranspileOptions))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Swc4jPersistentCache is closed");
+        }
+    }
+
+    @Test
+    public void testTransform() throws IOException, Swc4jCoreException {
+        Swc4jTransformOptions options = tsScriptTransformOptions.setSourceMap(Swc4jSourceMapOption.Separate);
+        Swc4jTransformOutput expectedOutput = swc4j.transform(CODE, options);
+        try (Swc4jPersistentCache cache = new Swc4jPersistentCache(swc4j, directory, 16, 1024 * 1024)) {
+            cache.transform(CODE, options);
+            Swc4jTransformOutput output = cache.transform(CODE, options);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(output.getCode()).isEqualTo(expectedOutput.getCode());
+            assertThat(output.getSourceMap()).isEqualTo(expectedOutput.getSourceMap());
+            assertThat(output.getMediaType()).isEqualTo(expectedOutput.getMediaType());
+            assertThat(output.getParseMode()).isEqualTo(expectedOutput.getParseMode());
+        }
+    }
+
+    @Test
+    public void testTranspile() throws IOException, Swc4jCoreException {
+        Swc4jTranspileOptions options = tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.Separate);
+        try (Swc4jPersistentCache cache = new Swc4jPersistentCache(swc4j, directory, 16, 1024 * 1024)) {
+            Swc4jTranspileOutput expectedOutput = cache.transpile(CODE, options);
+            Swc4jTranspileOutput output = cache.transpile(CODE, options);
+            assertThat(cache.getMissCount()).isEqualTo(1);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(output.getCode()).isEqualTo(expectedOutput.getCode());
+            assertThat(output.getSourceMap()).isEqualTo(expectedOutput.getSourceMap());
+            Swc4jSourceMap expectedSourceMap = expectedOutput.getRawSourceMap();
+            Swc4jSourceMap sourceMap = output.getRawSourceMap();
+            assertThat(expectedSourceMap).isNotNull();
+            assertThat(sourceMap).isNotNull();
+            assertThat(sourceMap.getSegments()).containsExactly(expectedSourceMap.getSegments());
+            assertThat(sourceMap.getSources()).isEqualTo(expectedSourceMap.getSources());
+            assertThat(sourceMap.findSegment(0, 0)).isEqualTo(expectedSourceMap.findSegment(0, 0));
+            options.setSourceMap(Swc4jSourceMapOption.None);
+            cache.transpile(CODE, options);
+            output = cache.transpile(CODE, options);
+            assertThat(cache.getHitCount()).isEqualTo(2);
+            assertThat(output.getRawSourceMap()).isNull();
+            assertThat(output.getSourceMap()).isNull();
+        }
+    }
+
+    @Test
+    public void testWarmStart() throws IOException, Swc4jCoreException {
+        Swc4jTranspileOptions options = tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None);
+        try (Swc4jPersistentCache cache = new Swc4jPersistentCache(swc4j, directory, 16, 1024 * 1024)) {
+            assertThat(cache.transpile(CODE, options).getCode())
+                    .isEqualTo("function add(a, b) {\n  return a + b;\n}\n");
+            assertThat(cache.getMissCount()).isEqualTo(1);
+        }
+        try (Swc4jPersistentCache cache = new Swc4jPersistentCache(swc4j, directory, 16, 1024 * 1024)) {
+            assertThat(cache.getSize()).isEqualTo(1);
+            Swc4jTranspileOutput output = cache.transpile(CODE, options);
+            assertThat(output.getCode()).isEqualTo("function add(a, b) {\n  return a + b;\n}\n");
+            assertThat(output.getProgram()).isNull();
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isEqualTo(0);
+            cache.transpile(CODE, options.setKeepComments(!options.isKeepComments()));
+            assertThat(cache.getMissCount()).isEqualTo(1);
+            cache.transpile(CODE, options.setCaptureAst(true));
+            assertThat(cache.getBypassCount()).isEqualTo(1);
+            assertThat(cache.getErrorCount()).isEqualTo(0);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j;
+
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jCancellationToken;
+import com.caoccao.javet.swc4j.options.Swc4jJsxRuntimeOption;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.plugins.Swc4jPluginHost;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSwc4jTranspileCache extends BaseTestSuite {
+    private static final String CODE = "function add(a:number, b:number) { return a+b; }";
+
+    @Test
+    public void testEviction() throws Swc4jCoreException {
+        Swc4jTranspileCache cache = new Swc4jTranspileCache(swc4j, 2);
+        Swc4jTranspileOptions options = tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None);
+        cache.transpile("a + 1;", options);
+        cache.transpile("a + 2;", options);
+        cache.transpile("a + 1;", options);
+        cache.transpile("a + 3;", options);
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        // "a + 2;" is the least recently used one.
+        cache.transpile("a + 1;", options);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        cache.transpile("a + 2;", options);
+        assertThat(cache.getMissCount()).isEqualTo(4);
+        cache.clear();
+        assertThat(cache.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testFingerprint() {
+        Swc4jTranspileOptions options = new Swc4jTranspileOptions();
+        String fingerprint = Swc4jTranspileCache.getFingerprint(options);
+        assertThat(Swc4jTranspileCache.getFingerprint(new Swc4jTranspileOptions())).isEqualTo(fingerprint);
+        assertThat(Swc4jTranspileCache.getFingerprint(new Swc4jTranspileOptions()
+                .setCancellationToken(new Swc4jCancellationToken())
+                .setTimeoutMillis(1000)))
+                .isEqualTo(fingerprint);
+        assertThat(Swc4jTranspileCache.getFingerprint(options.setKeepComments(!options.isKeepComments())))
+                .isNotEqualTo(fingerprint);
+        fingerprint = Swc4jTranspileCache.getFingerprint(options.setJsx(Swc4jJsxRuntimeOption.Classic("h", "F")));
+        assertThat(Swc4jTranspileCache.getFingerprint(options.setJsx(Swc4jJsxRuntimeOption.Classic("h2", "F"))))
+                .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void testHitAndMiss() throws Swc4jCoreException {
+        Swc4jTranspileCache cache = new Swc4jTranspileCache(swc4j, 16);
+        Swc4jTranspileOptions options = tsScriptTranspileOptions.setSourceMap(Swc4jSourceMapOption.None);
+        Swc4jTranspileOutput output = cache.transpile(CODE, options);
+        assertThat(output.getCode()).isEqualTo("function add(a, b) {\n  return a + b;\n}\n");
+        assertThat(cache.transpile(new String(CODE), options)).isSameAs(output);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        options.setSourceMap(Swc4jSourceMapOption.Inline);
+        assertThat(cache.transpile(CODE, options)).isNotSameAs(output);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getSize()).isEqualTo(2);
+        options.setPluginHost(new Swc4jPluginHost());
+        assertThat(cache.transpile(CODE, options)).isNotSameAs(output);
+        assertThat(cache.getBypassCount()).isEqualTo(1);
+        assertThat(cache.getSize()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.ast;
+
+import com.caoccao.javet.swc4j.BaseTestSuite;
+import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAstProgram;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jParseOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.utils.OSUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSwc4jAstBinaryDecoder extends BaseTestSuite {
+    private void assertSameAst(String code, Swc4jParseOptions options) throws Swc4jCoreException {
+        Swc4jParseOutput jniOutput = swc4j.parse(code, options.setCaptureAst(true).setBinaryAst(false));
+        Swc4jParseOutput binaryOutput = swc4j.parse(code, options.setCaptureAst(true).setBinaryAst(true));
+        ISwc4jAstProgram<?> jniProgram = jniOutput.getProgram();
+        ISwc4jAstProgram<?> binaryProgram = binaryOutput.getProgram();
+        assertThat(binaryProgram).isNotNull();
+        assertThat(binaryProgram.getType()).isEqualTo(jniProgram.getType());
+        assertThat(binaryProgram.getParent()).isNull();
+        assertThat(binaryProgram.toDebugString()).isEqualTo(jniProgram.toDebugString());
+    }
+
+    @Test
+    public void testJsx() throws Swc4jCoreException {
+        assertSameAst(
+                "const a = <div className=\"x\" {...props}>Hello {name}<br /><></></div>;",
+                jsxModuleParseOptions);
+    }
+
+    @Test
+    public void testLargeModule() throws Swc4jCoreException, IOException {
+        File scriptFile = new File(OSUtils.WORKING_DIRECTORY, "scripts/deno/change_swc4j_version.ts");
+        String code = new String(Files.readAllBytes(scriptFile.toPath()));
+        assertSameAst(code, tsModuleParseOptions);
+    }
+
+    @Test
+    public void testLiteralsAndOptionals() throws Swc4jCoreException {
+        assertSameAst(
+                "const a = [1, , 2.5e3, 123n, 'x\\u0041', `a${b}c\\u{1F600}`, /abc/gi, true, null, \u4F60\u597D];\n" +
+                        "const b = new Foo;\n" +
+                        "const c = a?.b?.(1, ...d);\n" +
+                        "let { e = 1, ...f } = g;\n" +
+                        "for await (const x of y) { x++; }\n",
+                tsModuleParseOptions);
+    }
+
+    @Test
+    public void testTranspile() throws Swc4jCoreException {
+        String code = "export class A<T> { private readonly a?: T; constructor(public b: number) {} }";
+        Swc4jTranspileOutput jniOutput = swc4j.transpile(code, tsModuleTranspileOptions.setCaptureAst(true));
+        Swc4jTranspileOutput binaryOutput = swc4j.transpile(
+                code, tsModuleTranspileOptions.setCaptureAst(true).setBinaryAst(true));
+        assertThat(binaryOutput.getCode()).isEqualTo(jniOutput.getCode());
+        assertThat(binaryOutput.getProgram().toDebugString()).isEqualTo(jniOutput.getProgram().toDebugString());
+    }
+
+    @Test
+    public void testTypeScript() throws Swc4jCoreException {
+        assertSameAst(
+                "abstract class A<in out T extends object = {}> implements B, C {\n" +
+                        "  declare static readonly a: number;\n" +
+                        "  protected abstract b?(): void;\n" +
+                        "  #c = 1;\n" +
+                        "  accessor d = 2;\n" +
+                        "  constructor(private readonly e: string) { super(); }\n" +
+                        "}\n" +
+                        "type M<T> = { readonly [K in keyof T]+?: T[K] };\n" +
+                        "enum E { A = 1, B }\n" +
+                        "declare module 'm' { export function f(a: unknown): asserts a is string; }\n",
+                tsModuleParseOptions);
+    }
+}
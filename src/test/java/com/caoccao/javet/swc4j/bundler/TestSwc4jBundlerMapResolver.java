@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.bundler;
+
+import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jBundlerMapResolver {
+    @Test
+    public void testLoad() throws IOException {
+        Swc4jBundlerMapResolver resolver = new Swc4jBundlerMapResolver(Map.of("/a.js", "a"));
+        assertThat(resolver.load("/a.js")).isEqualTo("a");
+        assertThatThrownBy(() -> resolver.load("/b.js"))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Module /b.js is not found");
+    }
+
+    @Test
+    public void testMediaType() {
+        Swc4jBundlerMapResolver resolver = new Swc4jBundlerMapResolver(Map.of());
+        assertThat(resolver.getMediaType("/a.ts")).isEqualTo(Swc4jMediaType.TypeScript);
+        assertThat(resolver.getMediaType("/a.TSX")).isEqualTo(Swc4jMediaType.Tsx);
+        assertThat(resolver.getMediaType("/a.mjs")).isEqualTo(Swc4jMediaType.Mjs);
+        assertThat(resolver.getMediaType("/a")).isEqualTo(Swc4jMediaType.JavaScript);
+    }
+
+    @Test
+    public void testNormalize() {
+        assertThat(Swc4jBundlerMapResolver.normalize("/a/./b/../c.js")).isEqualTo("/a/c.js");
+        assertThat(Swc4jBundlerMapResolver.normalize("a//b")).isEqualTo("/a/b");
+        assertThat(Swc4jBundlerMapResolver.normalize("/../a")).isEqualTo("/a");
+    }
+
+    @Test
+    public void testResolve() {
+        Swc4jBundlerMapResolver resolver = new Swc4jBundlerMapResolver(Map.of(
+                "/src/main.ts", "",
+                "/src/utils.ts", "",
+                "/src/lib/index.tsx", "",
+                "/src/data.json.js", "",
+                "lodash", ""));
+        assertThat(resolver.resolve("src/main.ts", null)).isEqualTo("/src/main.ts");
+        assertThat(resolver.resolve("./src/main", null)).isEqualTo("/src/main.ts");
+        assertThat(resolver.resolve("./utils", "/src/main.ts")).isEqualTo("/src/utils.ts");
+        assertThat(resolver.resolve("./utils.js", "/src/main.ts")).isEqualTo("/src/utils.ts");
+        assertThat(resolver.resolve("../src/utils.ts", "/src/main.ts")).isEqualTo("/src/utils.ts");
+        assertThat(resolver.resolve("/src/lib", "/src/main.ts")).isEqualTo("/src/lib/index.tsx");
+        assertThat(resolver.resolve("./data.json", "/src/main.ts")).isEqualTo("/src/data.json.js");
+        assertThat(resolver.resolve("./missing", "/src/main.ts")).isNull();
+        assertThat(resolver.resolve("lodash", "/src/main.ts")).isEqualTo("lodash");
+        assertThat(resolver.resolve("react", "/src/main.ts")).isNull();
+    }
+}
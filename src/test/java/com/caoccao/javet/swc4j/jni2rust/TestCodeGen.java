@@ -16,12 +16,19 @@
 
 package com.caoccao.javet.swc4j.jni2rust;
 
+import com.caoccao.javet.swc4j.ast.Swc4jAstBinaryDecoder;
 import com.caoccao.javet.swc4j.ast.Swc4jAstStore;
+import com.caoccao.javet.swc4j.ast.enums.Swc4jAstType;
 import com.caoccao.javet.swc4j.ast.interfaces.ISwc4jAst;
 import com.caoccao.javet.swc4j.comments.Swc4jComment;
 import com.caoccao.javet.swc4j.comments.Swc4jComments;
 import com.caoccao.javet.swc4j.options.*;
+import com.caoccao.javet.swc4j.outputs.Swc4jOutputSink;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseDiagnostic;
 import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.outputs.Swc4jSourceMap;
+import com.caoccao.javet.swc4j.outputs.Swc4jSymbolTable;
+import com.caoccao.javet.swc4j.outputs.Swc4jTokenizeOutput;
 import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
 import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
 import com.caoccao.javet.swc4j.plugins.ISwc4jPluginHost;
@@ -46,6 +53,168 @@ import static org.assertj.core.api.Assertions.fail;
 
 
 public class TestCodeGen {
+    @Test
+    public void testBinary() throws IOException {
+        Path rustFilePath = new File(OSUtils.WORKING_DIRECTORY).toPath()
+                .resolve(Jni2RustFilePath.AstUtils.getFilePath());
+        File rustFile = rustFilePath.toFile();
+        assertThat(rustFile.exists()).isTrue();
+        assertThat(rustFile.isFile()).isTrue();
+        assertThat(rustFile.canRead()).isTrue();
+        assertThat(rustFile.canWrite()).isTrue();
+        String startSign = "\n/* Binary Begin */\n";
+        String endSign = "/* Binary End */\n";
+        byte[] originalBuffer = Files.readAllBytes(rustFilePath);
+        String fileContent = new String(originalBuffer, StandardCharsets.UTF_8);
+        final int startPosition = fileContent.indexOf(startSign) + startSign.length();
+        final int endPosition = fileContent.indexOf(endSign);
+        assertThat(startPosition).as("Start position is invalid").isPositive();
+        assertThat(endPosition).as("End position is invalid").isGreaterThan(startPosition);
+        final Map<Class<?>, Swc4jAstType> astTypeMap = new HashMap<>();
+        Stream.of(Swc4jAstType.values()).forEach(astType -> astTypeMap.put(astType.getAstClass(), astType));
+        final AtomicInteger counter = new AtomicInteger();
+        final List<String> lines = new ArrayList<>();
+        // Enum
+        Swc4jAstStore.getInstance().getEnumMap().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .filter(Class::isInterface)
+                .filter(clazz -> clazz.isAnnotationPresent(Jni2RustClass.class))
+                .filter(clazz -> ArrayUtils.isNotEmpty(new Jni2RustClassUtils<>(clazz).getMappings()))
+                .forEach(clazz -> {
+                    String enumName = new Jni2RustClassUtils<>(clazz).getName();
+                    lines.add(String.format("impl ToBinaryWithMap<ByteToIndexMap> for %s {", enumName));
+                    lines.add("  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {");
+                    lines.add("    match self {");
+                    Stream.of(new Jni2RustClassUtils<>(clazz).getMappings())
+                            .sorted(Comparator.comparing(Jni2RustEnumMapping::name))
+                            .forEach(mapping -> lines.add(String.format("      %s::%s(node) => node.to_binary_with_map(writer, map),",
+                                    enumName,
+                                    mapping.name())));
+                    lines.add("    }");
+                    lines.add("  }");
+                    lines.add("}\n");
+                    counter.incrementAndGet();
+                });
+        // Struct
+        Swc4jAstStore.getInstance().getStructMap().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .filter(clazz -> !new Jni2RustClassUtils<>(clazz).isCustomToJava())
+                .forEach(clazz -> {
+                    Constructor<?>[] constructors = clazz.getConstructors();
+                    assertThat(constructors.length).isEqualTo(1);
+                    Constructor<?> constructor = constructors[0];
+                    final Map<String, Integer> fieldOrderMap = new HashMap<>(constructor.getParameterCount());
+                    int fieldOrder = 0;
+                    for (Parameter parameter : constructor.getParameters()) {
+                        fieldOrderMap.put(parameter.getName(), fieldOrder);
+                        ++fieldOrder;
+                    }
+                    Jni2RustClassUtils<?> jni2RustClassUtils = new Jni2RustClassUtils<>(clazz);
+                    Swc4jAstType astType = astTypeMap.get(clazz);
+                    assertThat(astType).as(clazz.getSimpleName() + " should have an AST type").isNotNull();
+                    String spanCall = jni2RustClassUtils.isSpan() ? "" : "()";
+                    lines.add(String.format("impl ToBinaryWithMap<ByteToIndexMap> for %s {", jni2RustClassUtils.getName()));
+                    lines.add("  fn to_binary_with_map(&self, writer: &mut BinaryWriter, map: &'_ ByteToIndexMap) {");
+                    lines.add(String.format("    writer.write_id(AstType::%s.get_id());", astType.name()));
+                    ReflectionUtils.getDeclaredFields(clazz).values().stream()
+                            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                            .filter(field -> !new Jni2RustFieldUtils(field).isIgnore())
+                            .sorted(Comparator.comparingInt(field -> fieldOrderMap.getOrDefault(field.getName(), Integer.MAX_VALUE)))
+                            .forEach(field -> {
+                                Jni2RustFieldUtils jni2RustFieldUtils = new Jni2RustFieldUtils(field);
+                                Class<?> fieldType = field.getType();
+                                String arg = StringUtils.toSnakeCase(jni2RustFieldUtils.getName());
+                                if (Optional.class.isAssignableFrom(fieldType)) {
+                                    assertThat(field.getGenericType()).isInstanceOf(ParameterizedType.class);
+                                    Type innerType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+                                    if (innerType instanceof Class<?> innerClass) {
+                                        if (ISwc4jAst.class.isAssignableFrom(innerClass)) {
+                                            lines.add(String.format("    writer.write_optional(self.%s.as_ref(), |writer, node| node.to_binary_with_map(writer, map));",
+                                                    arg));
+                                        } else if (Swc4jSpan.class.isAssignableFrom(innerClass)) {
+                                            lines.add(String.format("    writer.write_optional(self.%s.as_ref(), |writer, node| writer.write_span_ex(&map.get_span_ex_by_span(node)));",
+                                                    arg));
+                                        } else if (innerClass == String.class) {
+                                            if (jni2RustFieldUtils.isComponentWtf8Atom()) {
+                                                lines.add(String.format("    writer.write_optional(self.%s.as_ref(), |writer, node| writer.write_str(&node.to_string_lossy()));",
+                                                        arg));
+                                            } else {
+                                                lines.add(String.format("    writer.write_optional(self.%s.as_ref(), |writer, node| writer.write_str(node.as_str()));",
+                                                        arg));
+                                            }
+                                        } else if (innerClass.isEnum()) {
+                                            lines.add(String.format("    writer.write_optional(self.%s.as_ref(), |writer, node| writer.write_id(node.get_id()));",
+                                                    arg));
+                                        } else {
+                                            fail(field.getGenericType().getTypeName() + " is not expected");
+                                        }
+                                    } else if (innerType instanceof ParameterizedType) {
+                                        assertThat(List.class.isAssignableFrom((Class<?>) ((ParameterizedType) innerType).getRawType())).isTrue();
+                                        lines.add(String.format("    writer.write_optional(self.%s.as_ref(), |writer, nodes| {", arg));
+                                        lines.add("      writer.write_length(nodes.len());");
+                                        lines.add("      nodes.iter().for_each(|node| node.to_binary_with_map(writer, map));");
+                                        lines.add("    });");
+                                    } else {
+                                        fail(field.getGenericType().getTypeName() + " is not expected");
+                                    }
+                                } else if (List.class.isAssignableFrom(fieldType)) {
+                                    assertThat(field.getGenericType()).isInstanceOf(ParameterizedType.class);
+                                    Type innerType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+                                    lines.add(String.format("    writer.write_length(self.%s.len());", arg));
+                                    if (innerType instanceof Class<?> innerClass) {
+                                        assertThat(ISwc4jAst.class.isAssignableFrom(innerClass)).isTrue();
+                                        lines.add(String.format("    self.%s.iter().for_each(|node| node.to_binary_with_map(writer, map));",
+                                                arg));
+                                    } else if (innerType instanceof ParameterizedType) {
+                                        assertThat(Optional.class.isAssignableFrom((Class<?>) ((ParameterizedType) innerType).getRawType())).isTrue();
+                                        lines.add(String.format("    for node in self.%s.iter() {", arg));
+                                        lines.add("      writer.write_optional(node.as_ref(), |writer, node| node.to_binary_with_map(writer, map));");
+                                        lines.add("    }");
+                                    } else {
+                                        fail(innerType.getTypeName() + " is not expected");
+                                    }
+                                } else if (ISwc4jAst.class.isAssignableFrom(fieldType)) {
+                                    lines.add(String.format("    self.%s.to_binary_with_map(writer, map);", arg));
+                                } else if (Swc4jSpan.class.isAssignableFrom(fieldType)) {
+                                    lines.add(String.format("    writer.write_span_ex(&map.get_span_ex_by_span(&self.%s));", arg));
+                                } else if (fieldType == boolean.class) {
+                                    lines.add(String.format("    writer.write_bool(self.%s);", arg));
+                                } else if (fieldType == double.class) {
+                                    lines.add(String.format("    writer.write_double(self.%s);", arg));
+                                } else if (fieldType == int.class && jni2RustFieldUtils.isSyntaxContext()) {
+                                    lines.add(String.format("    writer.write_varint(self.%s.as_u32());", arg));
+                                } else if (fieldType == String.class) {
+                                    if (jni2RustFieldUtils.isWtf8Atom()) {
+                                        lines.add(String.format("    writer.write_str(&self.%s.to_string_lossy());", arg));
+                                    } else {
+                                        lines.add(String.format("    writer.write_str(self.%s.as_str());", arg));
+                                    }
+                                } else if (fieldType.isEnum()) {
+                                    lines.add(String.format("    writer.write_id(self.%s.get_id());", arg));
+                                } else {
+                                    fail(field.getGenericType().getTypeName() + " is not expected");
+                                }
+                            });
+                    lines.add(String.format("    writer.write_span_ex(&map.get_span_ex_by_span(&self.span%s));", spanCall));
+                    lines.add("  }");
+                    lines.add("}\n");
+                    counter.incrementAndGet();
+                });
+        assertThat(counter.get()).isPositive();
+        StringBuilder sb = new StringBuilder(fileContent.length());
+        sb.append(fileContent, 0, startPosition);
+        String code = StringUtils.join("\n", lines);
+        sb.append(code);
+        sb.append(fileContent, endPosition, fileContent.length());
+        byte[] newBuffer = sb.toString().getBytes(StandardCharsets.UTF_8);
+        if (!Arrays.equals(originalBuffer, newBuffer)) {
+            // Only generate document when content is changed.
+            Files.write(rustFilePath, newBuffer, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+    }
+
     @Test
     public void testEnum() throws IOException {
         Path rustFilePath = new File(OSUtils.WORKING_DIRECTORY).toPath()
@@ -780,6 +949,18 @@ public class TestCodeGen {
         }
     }
 
+    @Test
+    public void testSwc4jAstBinaryDecoder() throws IOException {
+        Jni2Rust<Swc4jAstBinaryDecoder> jni2Rust = new Jni2Rust<>(Swc4jAstBinaryDecoder.class);
+        jni2Rust.updateFile();
+    }
+
+    @Test
+    public void testSwc4jCancellationToken() throws IOException {
+        Jni2Rust<Swc4jCancellationToken> jni2Rust = new Jni2Rust<>(Swc4jCancellationToken.class);
+        jni2Rust.updateFile();
+    }
+
     @Test
     public void testSwc4jComment() throws IOException {
         Jni2Rust<Swc4jComment> jni2Rust = new Jni2Rust<>(Swc4jComment.class);
@@ -792,6 +973,24 @@ public class TestCodeGen {
         jni2Rust.updateFile();
     }
 
+    @Test
+    public void testSwc4jMinifyOptions() throws IOException {
+        Jni2Rust<Swc4jMinifyOptions> jni2Rust = new Jni2Rust<>(Swc4jMinifyOptions.class);
+        jni2Rust.updateFile();
+    }
+
+    @Test
+    public void testSwc4jOutputSink() throws IOException {
+        Jni2Rust<Swc4jOutputSink> jni2Rust = new Jni2Rust<>(Swc4jOutputSink.class);
+        jni2Rust.updateFile();
+    }
+
+    @Test
+    public void testSwc4jParseDiagnostic() throws IOException {
+        Jni2Rust<Swc4jParseDiagnostic> jni2Rust = new Jni2Rust<>(Swc4jParseDiagnostic.class);
+        jni2Rust.updateFile();
+    }
+
     @Test
     public void testSwc4jParseOptions() throws IOException {
         Jni2Rust<Swc4jParseOptions> jni2Rust = new Jni2Rust<>(Swc4jParseOptions.class);
@@ -810,6 +1009,18 @@ public class TestCodeGen {
         jni2Rust.updateFile();
     }
 
+    @Test
+    public void testSwc4jSourceMap() throws IOException {
+        Jni2Rust<Swc4jSourceMap> jni2Rust = new Jni2Rust<>(Swc4jSourceMap.class);
+        jni2Rust.updateFile();
+    }
+
+    @Test
+    public void testSwc4jSymbolTable() throws IOException {
+        Jni2Rust<Swc4jSymbolTable> jni2Rust = new Jni2Rust<>(Swc4jSymbolTable.class);
+        jni2Rust.updateFile();
+    }
+
     @Test
     public void testSwc4jSpan() throws IOException {
         Jni2Rust<Swc4jSpan> jni2Rust = new Jni2Rust<>(Swc4jSpan.class);
@@ -822,6 +1033,12 @@ public class TestCodeGen {
         jni2Rust.updateFile();
     }
 
+    @Test
+    public void testSwc4jTokenizeOutput() throws IOException {
+        Jni2Rust<Swc4jTokenizeOutput> jni2Rust = new Jni2Rust<>(Swc4jTokenizeOutput.class);
+        jni2Rust.updateFile();
+    }
+
     @Test
     public void testSwc4jTransformOptions() throws IOException {
         Jni2Rust<Swc4jTransformOptions> jni2Rust = new Jni2Rust<>(Swc4jTransformOptions.class);
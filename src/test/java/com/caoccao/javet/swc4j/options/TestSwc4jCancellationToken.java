@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.options;
+
+import com.caoccao.javet.swc4j.BaseTestSuite;
+import com.caoccao.javet.swc4j.Swc4jTranspileCache;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCancellationException;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.outputs.Swc4jBatchResult;
+import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
+import com.caoccao.javet.swc4j.plugins.ISwc4jPluginHost;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestSwc4jCancellationToken extends BaseTestSuite {
+    private static final String CODE = "function add(a:number, b:number) { return a+b; }";
+
+    @Test
+    public void testCancelBeforeCall() {
+        Swc4jCancellationToken cancellationToken = new Swc4jCancellationToken();
+        assertThat(cancellationToken.isCancelled()).isFalse();
+        cancellationToken.cancel();
+        assertThat(cancellationToken.isCancelled()).isTrue();
+        assertThatThrownBy(() -> swc4j.parse(CODE, tsScriptParseOptions.setCancellationToken(cancellationToken)))
+                .isInstanceOf(Swc4jCancellationException.class)
+                .hasMessage("Cancelled before parse");
+        assertThatThrownBy(() -> swc4j.transform(CODE, tsScriptTransformOptions.setCancellationToken(cancellationToken)))
+                .isInstanceOf(Swc4jCancellationException.class)
+                .hasMessage("Cancelled before parse");
+    }
+
+    @Test
+    public void testCancelBatch() throws Swc4jCoreException {
+        Swc4jCancellationToken cancellationToken = new Swc4jCancellationToken();
+        cancellationToken.cancel();
+        List<Swc4jBatchResult<Swc4jTranspileOutput>> results = swc4j.transpileBatch(
+                List.of(CODE, CODE, "function ("),
+                tsScriptTranspileOptions.setCancellationToken(cancellationToken));
+        assertThat(results).hasSize(3);
+        // The cancelled batch items keep the type of the cancellation.
+        results.forEach(result -> {
+            assertThat(result.isOk()).isFalse();
+            assertThat(result.getError())
+                    .isInstanceOf(Swc4jCancellationException.class)
+                    .hasMessage("Cancelled before parse");
+        });
+    }
+
+    @Test
+    public void testCancelDuringCall() {
+        Swc4jCancellationToken cancellationToken = new Swc4jCancellationToken();
+        ISwc4jPluginHost pluginHost = program -> {
+            cancellationToken.cancel();
+            return true;
+        };
+        Swc4jCancellationException exception = assertThrows(
+                Swc4jCancellationException.class,
+                () -> swc4j.transpile(CODE, tsScriptTranspileOptions
+                        .setCancellationToken(cancellationToken)
+                        .setPluginHost(pluginHost)));
+        assertThat(exception.getMessage()).isEqualTo("Cancelled before transpile");
+        assertThat(exception.isTimedOut()).isFalse();
+    }
+
+    @Test
+    public void testFingerprint() {
+        Swc4jTranspileOptions options = new Swc4jTranspileOptions()
+                .setCancellationToken(new Swc4jCancellationToken())
+                .setTimeoutMillis(1000);
+        assertThat(Swc4jTranspileCache.getFingerprint(options))
+                .isEqualTo(Swc4jTranspileCache.getFingerprint(new Swc4jTranspileOptions()));
+    }
+
+    @Test
+    public void testNotCancelled() throws Swc4jCoreException {
+        Swc4jTranspileOptions options = tsScriptTranspileOptions
+                .setCancellationToken(new Swc4jCancellationToken())
+                .setTimeoutMillis(60_000);
+        assertThat(swc4j.transpile(CODE, options).getCode()).contains("function add(a, b)");
+    }
+
+    @Test
+    public void testTimeout() {
+        String code = CODE.repeat(20_000);
+        Swc4jCancellationException exception = assertThrows(
+                Swc4jCancellationException.class,
+                () -> swc4j.transpile(code, tsScriptTranspileOptions.setTimeoutMillis(1)));
+        assertThat(exception.getMessage()).startsWith("Timed out after 1 ms before ");
+        assertThat(exception.isTimedOut()).isTrue();
+        assertThatThrownBy(() -> tsScriptTranspileOptions.setTimeoutMillis(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Timeout millis must not be negative");
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.swc4j.options;
+
+import com.caoccao.javet.swc4j.BaseTestSuite;
+import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
+import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jMinifyOptions extends BaseTestSuite {
+    private static final String CODE = """
+            function outer(firstParameter) {
+              var localVariable = firstParameter + 1;
+              if (false) {
+                console.log('dead code');
+              }
+              return function innerFunction() {
+                return localVariable * 2;
+              };
+            }
+            console.log(outer(1)());""";
+
+    private Swc4jMinifyOptions createOptions() {
+        return new Swc4jMinifyOptions()
+                .setParseMode(Swc4jParseMode.Script)
+                .setSourceMap(Swc4jSourceMapOption.None);
+    }
+
+    @Test
+    public void testCompress() throws Swc4jCoreException {
+        Swc4jTransformOutput output = swc4j.minify(CODE, createOptions().setMangle(false));
+        assertThat(output.getCode()).doesNotContain("dead code").contains("localVariable");
+        output = swc4j.minify(CODE, createOptions().setCompress(false).setMangle(false));
+        assertThat(output.getCode()).contains("dead code");
+    }
+
+    @Test
+    public void testDefaultOptions() throws Swc4jCoreException {
+        Swc4jMinifyOptions options = new Swc4jMinifyOptions();
+        assertThat(options.getMediaType()).isEqualTo(Swc4jMediaType.JavaScript);
+        assertThat(options.isCompress()).isTrue();
+        assertThat(options.isMangle()).isTrue();
+        assertThat(options.getPasses()).isEqualTo(1);
+        assertThat(options.isTopLevel()).isFalse();
+        assertThatThrownBy(() -> options.setPasses(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> options.setPasses(Swc4jMinifyOptions.MAX_PASSES + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testEval() throws Swc4jCoreException {
+        String code = "function f() { var localVariable = 1; return eval('localVariable'); }";
+        Swc4jTransformOutput output = swc4j.minify(code, createOptions().setCompress(false));
+        assertThat(output.getCode()).contains("localVariable");
+    }
+
+    @Test
+    public void testKeepFnNames() throws Swc4jCoreException {
+        Swc4jTransformOutput output = swc4j.minify(CODE, createOptions().setCompress(false));
+        assertThat(output.getCode())
+                .contains("function outer(")
+                .contains("console.log(outer(1)())")
+                .doesNotContain("firstParameter")
+                .doesNotContain("localVariable")
+                .doesNotContain("innerFunction");
+        output = swc4j.minify(CODE, createOptions().setCompress(false).setKeepFnNames(true));
+        assertThat(output.getCode())
+                .contains("innerFunction")
+                .doesNotContain("localVariable");
+    }
+
+    @Test
+    public void testSourceMap() throws Swc4jCoreException {
+        Swc4jTransformOutput output = swc4j.minify(CODE, createOptions().setSourceMap(Swc4jSourceMapOption.Separate));
+        assertThat(output.getSourceMap()).isNotNull().contains("\"mappings\"");
+    }
+
+    @Test
+    public void testTopLevel() throws Swc4jCoreException {
+        Swc4jTransformOutput output = swc4j.minify(CODE, createOptions().setCompress(false).setTopLevel(true));
+        assertThat(output.getCode())
+                .doesNotContain("outer")
+                .contains("console.log(");
+    }
+}
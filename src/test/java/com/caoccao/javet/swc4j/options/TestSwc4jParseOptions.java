@@ -21,8 +21,12 @@ import com.caoccao.javet.swc4j.comments.Swc4jComment;
 import com.caoccao.javet.swc4j.comments.Swc4jCommentKind;
 import com.caoccao.javet.swc4j.enums.Swc4jMediaType;
 import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
+import com.caoccao.javet.swc4j.enums.Swc4jSpanMode;
 import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.outputs.Swc4jParseDiagnostic;
 import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
+import com.caoccao.javet.swc4j.span.Swc4jLineIndex;
+import com.caoccao.javet.swc4j.span.Swc4jSpan;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -32,6 +36,17 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestSwc4jParseOptions extends BaseTestSuite {
 
+    @Test
+    public void testCaptureSourceText() throws Swc4jCoreException {
+        String code = "let a = 1;";
+        assertThat(tsScriptParseOptions.isCaptureSourceText()).isTrue();
+        Swc4jParseOutput output = swc4j.parse(code, tsScriptParseOptions
+                .setCaptureAst(true)
+                .setCaptureSourceText(false));
+        assertThat(output.getSourceText()).isNull();
+        assertThat(output.getProgram().getBody()).hasSize(1);
+    }
+
     @Test
     public void testJsxWithDefaultOptions() throws Swc4jCoreException {
         String code = """
@@ -52,6 +67,59 @@ public class TestSwc4jParseOptions extends BaseTestSuite {
         assertThat(output.getTokens()).isNull();
     }
 
+    @Test
+    public void testRecoverableWithFatalError() throws Swc4jCoreException {
+        String code = "function add(a:number, b:number) { return a+b; }";
+        Swc4jParseOutput output = swc4j.parse(code, jsModuleParseOptions
+                .setCaptureAst(true)
+                .setRecoverable(true));
+        assertThat(output.getProgram()).isNull();
+        assertThat(output.getSourceText()).isEqualTo(code);
+        assertThat(output.getDiagnostics()).hasSize(1);
+        Swc4jParseDiagnostic diagnostic = output.getDiagnostics().get(0);
+        assertThat(diagnostic.isFatal()).isTrue();
+        assertThat(diagnostic.getCode()).isEqualTo("Expected");
+        assertThat(diagnostic.getMessage()).startsWith("Expected ','");
+        assertThat(diagnostic.getSpan().getStart()).isEqualTo(14);
+        assertThat(diagnostic.getSpan().getLine()).isEqualTo(1);
+        assertThat(diagnostic.getSpan().getColumn()).isEqualTo(15);
+    }
+
+    @Test
+    public void testRecoverableWithRecoveredError() throws Swc4jCoreException {
+        String code = "const a = 010;";
+        Swc4jParseOutput output = swc4j.parse(code, jsModuleParseOptions
+                .setCaptureAst(true)
+                .setRecoverable(true));
+        assertThat(output.getProgram()).isNotNull();
+        assertThat(output.getProgram().getBody()).hasSize(1);
+        assertThat(output.getDiagnostics()).isNotEmpty();
+        output.getDiagnostics().forEach(diagnostic -> assertThat(diagnostic.isFatal()).isFalse());
+        output = swc4j.parse("const a = 1;", jsModuleParseOptions);
+        assertThat(output.getDiagnostics()).isEmpty();
+    }
+
+    @Test
+    public void testSpanModeByteOffset() throws Swc4jCoreException {
+        String code = "const a = '\u4F60';\nlet b = 1;";
+        Swc4jParseOutput output = swc4j.parse(code, tsScriptParseOptions
+                .setCaptureAst(true)
+                .setSpanMode(Swc4jSpanMode.ByteOffset));
+        Swc4jSpan span = output.getProgram().getBody().get(1).getSpan();
+        assertThat(span.getStart()).isEqualTo(17);
+        assertThat(span.getEnd()).isEqualTo(27);
+        assertThat(span.getLine()).isEqualTo(0);
+        assertThat(span.getColumn()).isEqualTo(0);
+        Swc4jSpan lineSpan = Swc4jLineIndex.of(output.getSourceText()).toSpan(span);
+        assertThat(lineSpan.getLine()).isEqualTo(2);
+        assertThat(lineSpan.getColumn()).isEqualTo(1);
+        output = swc4j.parse(code, tsScriptParseOptions.setSpanMode(Swc4jSpanMode.CharIndex));
+        span = output.getProgram().getBody().get(1).getSpan();
+        assertThat(span.getStart()).isEqualTo(15);
+        assertThat(span.getLine()).isEqualTo(2);
+        assertThat(span.getColumn()).isEqualTo(1);
+    }
+
     @Test
     public void testTypeScriptWithComments() throws Swc4jCoreException {
         String code = "let a: /* Comment 1 */ number = 1; // Comment 2";
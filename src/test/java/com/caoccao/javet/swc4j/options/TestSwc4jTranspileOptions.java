@@ -190,6 +190,16 @@ public class TestSwc4jTranspileOptions extends BaseTestSuite {
         assertThat(output.getSourceMap()).isNull();
     }
 
+    @Test
+    public void testTypeScriptWithoutCaptureSourceText() throws Swc4jCoreException {
+        String code = "let a: number = 1;";
+        Swc4jTranspileOutput output = swc4j.transpile(code, tsScriptTranspileOptions
+                .setCaptureSourceText(false)
+                .setSourceMap(Swc4jSourceMapOption.None));
+        assertThat(output.getSourceText()).isNull();
+        assertThat(output.getCode()).isEqualTo("let a = 1;\n");
+    }
+
     @Test
     public void testTypeScriptWithoutComments() throws Swc4jCoreException {
         String code = "let a: /* Comment 1 */ number = 1; // Comment 2";
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.BaseTestSuite;
+import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+import com.caoccao.javet.swc4j.utils.SourceMapUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jSourceMap extends BaseTestSuite {
+    @Test
+    public void testDecode() {
+        String json = "{\"version\":3,\"sources\":[\"a.ts\"],\"sourcesContent\":[\"let \\\"a\\\" = 1;\"]," +
+                "\"names\":[\"a\"],\"mappings\":\"AAAA;;AACAA,CAAC\"}";
+        Swc4jSourceMap sourceMap = Swc4jSourceMap.decode(
+                ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+        assertThat(sourceMap.toJson()).isEqualTo(json);
+        assertThat(sourceMap.getSources()).isEqualTo(SimpleList.of("a.ts"));
+        assertThat(sourceMap.getSourcesContent()).isEqualTo(SimpleList.of("let \"a\" = 1;"));
+        assertThat(sourceMap.getNames()).isEqualTo(SimpleList.of("a"));
+        assertThat(sourceMap.getMappings()).isEqualTo("AAAA;;AACAA,CAAC");
+        assertThat(sourceMap.getSegments()).containsExactly(
+                0, 0, 0, 0, 0, Swc4jSourceMap.ABSENT,
+                2, 0, 0, 1, 0, 0,
+                2, 1, 0, 1, 1, Swc4jSourceMap.ABSENT);
+    }
+
+    @Test
+    public void testDecodeMappings() {
+        assertThat(Swc4jSourceMap.decodeMappings("")).isEmpty();
+        assertThat(Swc4jSourceMap.decodeMappings("A;;CAAC")).containsExactly(
+                0, 0, Swc4jSourceMap.ABSENT, Swc4jSourceMap.ABSENT, Swc4jSourceMap.ABSENT, Swc4jSourceMap.ABSENT,
+                2, 1, 0, 0, 1, Swc4jSourceMap.ABSENT);
+        assertThatThrownBy(() -> Swc4jSourceMap.decodeMappings("AA!A"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid base64 char ! in mappings");
+        assertThatThrownBy(() -> Swc4jSourceMap.decodeMappings("AAA"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid segment with 3 fields in mappings");
+    }
+
+    @Test
+    public void testDecodeWithSegments() {
+        String json = "{\"version\":3,\"sources\":[\"a.ts\"],\"names\":[],\"mappings\":\"AAAA;;AACA\"}";
+        int[] segments = new int[]{
+                0, 0, 0, 0, 0, Swc4jSourceMap.ABSENT,
+                2, 0, 0, 1, 0, Swc4jSourceMap.ABSENT};
+        byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * (segments.length + 1) + jsonBytes.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(segments.length);
+        for (int segment : segments) {
+            buffer.putInt(segment);
+        }
+        buffer.put(jsonBytes).flip();
+        Swc4jSourceMap sourceMap = Swc4jSourceMap.decodeWithSegments(buffer);
+        assertThat(sourceMap.getSegments()).containsExactly(segments);
+        assertThat(sourceMap.findSegment(2, 3)).isEqualTo(1);
+        assertThat(sourceMap.toJson()).isEqualTo(json);
+        assertThat(sourceMap.getMappings()).isEqualTo("AAAA;;AACA");
+        assertThat(sourceMap.getSources()).isEqualTo(SimpleList.of("a.ts"));
+    }
+
+    @Test
+    public void testFindMappings() {
+        // The mappings are read from the top level only, and the other values are skipped as they are.
+        String json = "{ \"sourcesContent\" : [\"\\\"mappings\\\":\\\"B\\\" {[\"], \"x\":{\"mappings\":\"C\"}," +
+                " \"mappings\" : \"AAAA;;AACA\" }";
+        Swc4jSourceMap sourceMap = Swc4jSourceMap.decode(
+                ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+        assertThat(sourceMap.getMappings()).isEqualTo("AAAA;;AACA");
+        assertThat(sourceMap.findSegment(2, 3)).isEqualTo(1);
+        assertThat(sourceMap.getSourcesContent()).isEqualTo(SimpleList.of("\"mappings\":\"B\" {["));
+        assertThatThrownBy(() -> Swc4jSourceMap.decode(
+                ByteBuffer.wrap("{\"version\":3}".getBytes(StandardCharsets.UTF_8))).getSegments())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid source map: mappings is not found");
+    }
+
+    @Test
+    public void testFindSegment() {
+        Swc4jSourceMap sourceMap = new Swc4jSourceMap(
+                SimpleList.of("a.ts"),
+                null,
+                SimpleList.of(),
+                new int[]{
+                        0, 0, 0, 0, 0, Swc4jSourceMap.ABSENT,
+                        2, 0, 0, 1, 0, Swc4jSourceMap.ABSENT,
+                        2, 1, 0, 1, 1, Swc4jSourceMap.ABSENT,
+                });
+        assertThat(sourceMap.getSegmentCount()).isEqualTo(3);
+        assertThat(sourceMap.findSegment(0, 10)).isEqualTo(0);
+        assertThat(sourceMap.findSegment(1, 0)).isEqualTo(-1);
+        assertThat(sourceMap.findSegment(2, 0)).isEqualTo(1);
+        assertThat(sourceMap.findSegment(2, 5)).isEqualTo(2);
+        assertThat(sourceMap.findSegment(3, 0)).isEqualTo(-1);
+        assertThat(sourceMap.getOriginalLine(2)).isEqualTo(1);
+        assertThat(sourceMap.getOriginalColumn(2)).isEqualTo(1);
+        assertThat(sourceMap.getNameIndex(2)).isEqualTo(Swc4jSourceMap.ABSENT);
+    }
+
+    @Test
+    public void testToJson() {
+        Swc4jSourceMap sourceMap = new Swc4jSourceMap(
+                SimpleList.of("a.ts"),
+                SimpleList.of("let \"a\" = 1;"),
+                SimpleList.of("a"),
+                new int[]{
+                        0, 0, 0, 0, 0, Swc4jSourceMap.ABSENT,
+                        2, 0, 0, 1, 0, 0,
+                        2, 1, 0, 1, 1, Swc4jSourceMap.ABSENT,
+                });
+        assertThat(sourceMap.getMappings()).isEqualTo("AAAA;;AACAA,CAAC");
+        assertThat(sourceMap.toJson()).isEqualTo("{\"version\":3,\"sources\":[\"a.ts\"]," +
+                "\"sourcesContent\":[\"let \\\"a\\\" = 1;\"],\"names\":[\"a\"],\"mappings\":\"AAAA;;AACAA,CAAC\"}");
+        SourceMapUtils sourceMapUtils = SourceMapUtils.of(sourceMap.toJson());
+        assertThat(sourceMapUtils.getSourceFilePaths()).isEqualTo(SimpleList.of("a.ts"));
+        assertThat(sourceMapUtils.getMappings()).isEqualTo(sourceMap.getMappings());
+    }
+
+    @Test
+    public void testTranspile() throws Swc4jCoreException {
+        String code = "function add(a:number, b:number) { return a+b; }";
+        Swc4jTranspileOutput output = swc4j.transpile(code, tsModuleTranspileOptions
+                .setSourceMap(Swc4jSourceMapOption.Separate));
+        Swc4jSourceMap sourceMap = output.getRawSourceMap();
+        assertThat(sourceMap).isNotNull();
+        assertThat(sourceMap.getSources()).isEqualTo(SimpleList.of("file:///main.js"));
+        assertThat(sourceMap.getSegmentCount()).isGreaterThan(0);
+        assertThat(sourceMap.findSegment(0, 0)).isEqualTo(0);
+        assertThat(sourceMap.getOriginalLine(0)).isEqualTo(0);
+        assertThat(sourceMap.getSegments()).containsExactly(Swc4jSourceMap.decodeMappings(sourceMap.getMappings()));
+        assertThat(output.getSourceMap()).isEqualTo(sourceMap.toJson());
+        assertThat(output.getSourceMap()).contains("\"mappings\":\"" + sourceMap.getMappings() + "\"");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.outputs;
+
+import com.caoccao.javet.swc4j.BaseTestSuite;
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstIdent;
+import com.caoccao.javet.swc4j.ast.program.Swc4jAstScript;
+import com.caoccao.javet.swc4j.ast.stmt.Swc4jAstExprStmt;
+import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.utils.SimpleList;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSwc4jSymbolTable extends BaseTestSuite {
+    @Test
+    public void testParse() throws Swc4jCoreException {
+        String code = "let a = 1; { let a = 2; a; } a; b; let c;";
+        Swc4jParseOutput output = swc4j.parse(code, jsScriptParseOptions
+                .setCaptureAst(true)
+                .setScopeAnalysis(true));
+        Swc4jSymbolTable symbolTable = output.getSymbolTable();
+        assertThat(symbolTable).isNotNull();
+        assertThat(symbolTable.getBindingNames()).isEqualTo(SimpleList.of("a", "a", "b", "c"));
+        assertThat(symbolTable.getOccurrenceCount()).isEqualTo(6);
+        assertThat(symbolTable.getDeclarationStart(0)).isEqualTo(4);
+        assertThat(symbolTable.getDeclarationEnd(0)).isEqualTo(5);
+        assertThat(symbolTable.getDeclarationStart(1)).isEqualTo(17);
+        assertThat(symbolTable.isResolved(2)).isFalse();
+        assertThat(symbolTable.getReferenceCount(0)).isEqualTo(1);
+        assertThat(symbolTable.getReferences(1)).containsExactly(2);
+        assertThat(symbolTable.isUnused(0)).isFalse();
+        assertThat(symbolTable.isUnused(2)).isFalse();
+        assertThat(symbolTable.isUnused(3)).isTrue();
+        Swc4jAstScript script = output.getProgram().as(Swc4jAstScript.class);
+        Swc4jAstIdent ident = script.getBody().get(2).as(Swc4jAstExprStmt.class).getExpr().as(Swc4jAstIdent.class);
+        assertThat(symbolTable.getBindingId(ident)).isEqualTo(0);
+        assertThat(symbolTable.getBindingCtxt(0)).isEqualTo(ident.getCtxt());
+        assertThat(symbolTable.getBindingId(script.getBody().get(2))).isEqualTo(Swc4jSymbolTable.ABSENT);
+    }
+
+    @Test
+    public void testReferences() {
+        Swc4jSymbolTable symbolTable = new Swc4jSymbolTable(
+                SimpleList.of("a", "b"),
+                new int[]{1, 1},
+                new int[]{0, Swc4jSymbolTable.ABSENT},
+                new int[]{1, Swc4jSymbolTable.ABSENT},
+                new int[]{0, 4, 8, 12},
+                new int[]{1, 5, 9, 13},
+                new int[]{0, 1, 0, 0},
+                new int[]{Swc4jSymbolTable.FLAG_DECLARATION, 0, 0, 0});
+        assertThat(symbolTable.getBindingCount()).isEqualTo(2);
+        assertThat(symbolTable.getReferences(0)).containsExactly(2, 3);
+        assertThat(symbolTable.getReferences(1)).containsExactly(1);
+        assertThat(symbolTable.findOccurrence(8, 9)).isEqualTo(2);
+        assertThat(symbolTable.findOccurrence(8, 10)).isEqualTo(Swc4jSymbolTable.ABSENT);
+        assertThat(symbolTable.findOccurrence(6, 7)).isEqualTo(Swc4jSymbolTable.ABSENT);
+        assertThat(symbolTable.isDeclaration(0)).isTrue();
+        assertThat(symbolTable.isDeclaration(1)).isFalse();
+        assertThat(symbolTable.isResolved(1)).isFalse();
+        assertThat(symbolTable.isUnused(0)).isFalse();
+    }
+}
@@ -17,22 +17,92 @@
 package com.caoccao.javet.swc4j.plugins;
 
 import com.caoccao.javet.swc4j.BaseTestSuite;
+import com.caoccao.javet.swc4j.ast.enums.Swc4jAstType;
+import com.caoccao.javet.swc4j.ast.expr.Swc4jAstCallExpr;
+import com.caoccao.javet.swc4j.ast.expr.lit.Swc4jAstNumber;
 import com.caoccao.javet.swc4j.ast.program.Swc4jAstScript;
 import com.caoccao.javet.swc4j.ast.visitors.Swc4jAstVisitor;
 import com.caoccao.javet.swc4j.ast.visitors.Swc4jAstVisitorResponse;
 import com.caoccao.javet.swc4j.enums.Swc4jParseMode;
 import com.caoccao.javet.swc4j.enums.Swc4jSourceMapOption;
 import com.caoccao.javet.swc4j.exceptions.Swc4jCoreException;
+import com.caoccao.javet.swc4j.options.Swc4jTranspileOptions;
+import com.caoccao.javet.swc4j.outputs.Swc4jBatchResult;
 import com.caoccao.javet.swc4j.outputs.Swc4jParseOutput;
 import com.caoccao.javet.swc4j.outputs.Swc4jTransformOutput;
 import com.caoccao.javet.swc4j.outputs.Swc4jTranspileOutput;
 import com.caoccao.javet.swc4j.utils.SimpleList;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
 
 public class TestSwc4jPluginHost extends BaseTestSuite {
+    @Test
+    public void testConcurrentTranspile() throws Exception {
+        final int threadCount = 4;
+        final int taskCount = 32;
+        AtomicInteger count = new AtomicInteger();
+        ISwc4jPlugin plugin = program -> {
+            count.incrementAndGet();
+            return Swc4jPluginResponse.OkAndContinue;
+        };
+        Swc4jTranspileOptions options = jsScriptTranspileOptions
+                .setInlineSources(false)
+                .setSourceMap(Swc4jSourceMapOption.None)
+                .setPluginHost(new Swc4jPluginHost().add(plugin));
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < taskCount; i++) {
+                final String code = "a + " + i + ";";
+                futures.add(executorService.submit(() -> swc4j.transpile(code, options).getCode()));
+            }
+            for (int i = 0; i < taskCount; i++) {
+                assertThat(futures.get(i).get()).isEqualTo("a + " + i + ";\n");
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(count.get()).isEqualTo(taskCount);
+    }
+
+    @Test
+    public void testDirtyTracking() throws Swc4jCoreException {
+        String code = "a + 1;\nb + 2;\nc + 3;";
+        List<Boolean> dirtyFlags = new ArrayList<>();
+        Swc4jAstVisitor visitor = new Swc4jAstVisitor() {
+            @Override
+            public Swc4jAstVisitorResponse visitNumber(Swc4jAstNumber node) {
+                if (node.getValue() == 2) {
+                    node.setValue(4).setRaw("4");
+                }
+                return super.visitNumber(node);
+            }
+        };
+        ISwc4jPlugin plugin = program -> {
+            program.getBody().forEach(node -> dirtyFlags.add(node.isDirty()));
+            assertThat(program.getCleanBodyIndexes()).containsExactly(0, -1, 2);
+            return Swc4jPluginResponse.OkAndContinue;
+        };
+        Swc4jTranspileOutput output = swc4j.transpile(code, jsScriptTranspileOptions
+                .setInlineSources(false)
+                .setSourceMap(Swc4jSourceMapOption.None)
+                .setPluginHost(new Swc4jPluginHost()
+                        .add(new Swc4jPluginVisitors(SimpleList.of(visitor)), plugin)
+                        .setDirtyTracking(true)));
+        assertThat(output.getCode()).isEqualTo("a + 1;\nb + 4;\nc + 3;\n");
+        assertThat(dirtyFlags).containsExactly(false, true, false);
+    }
+
     @Test
     public void testParseModuleCount() {
         String code = "import a from 'a';";
@@ -153,6 +223,67 @@ public class TestSwc4jPluginHost extends BaseTestSuite {
         }
     }
 
+    @Test
+    public void testReadOnly() throws Swc4jCoreException {
+        String code = "a + 1;\nfoo(2);\nb + 3;";
+        List<String> callees = new ArrayList<>();
+        Swc4jAstVisitor visitor = new Swc4jAstVisitor() {
+            @Override
+            public Swc4jAstVisitorResponse visitCallExpr(Swc4jAstCallExpr node) {
+                callees.add(node.getCallee().toString());
+                return super.visitCallExpr(node);
+            }
+
+            @Override
+            public Swc4jAstVisitorResponse visitNumber(Swc4jAstNumber node) {
+                node.setValue(4).setRaw("4");
+                return super.visitNumber(node);
+            }
+        };
+        AtomicInteger itemCount = new AtomicInteger();
+        ISwc4jPlugin plugin = program -> {
+            itemCount.set(program.getBody().size());
+            return Swc4jPluginResponse.OkAndContinue;
+        };
+        Swc4jPluginHost pluginHost = new Swc4jPluginHost()
+                .add(plugin, new Swc4jPluginVisitors(SimpleList.of(visitor)))
+                .setReadOnly(true);
+        Swc4jTranspileOptions options = jsScriptTranspileOptions
+                .setInlineSources(false)
+                .setSourceMap(Swc4jSourceMapOption.None)
+                .setPluginHost(pluginHost);
+        assertThat(swc4j.transpile(code, options).getCode()).isEqualTo("a + 1;\nfoo(2);\nb + 3;\n");
+        assertThat(itemCount.get()).isEqualTo(3);
+        assertThat(callees).containsExactly("foo");
+        callees.clear();
+        pluginHost.setAstTypes(Swc4jAstType.CallExpr);
+        assertThat(swc4j.transpile(code, options).getCode()).isEqualTo("a + 1;\nfoo(2);\nb + 3;\n");
+        assertThat(itemCount.get()).isEqualTo(1);
+        assertThat(callees).containsExactly("foo");
+    }
+
+    @Test
+    public void testTranspileBatch() throws Swc4jCoreException {
+        AtomicInteger count = new AtomicInteger();
+        ISwc4jPlugin plugin = program -> {
+            count.incrementAndGet();
+            return Swc4jPluginResponse.OkAndContinue;
+        };
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            codes.add("a + " + i + ";");
+        }
+        List<Swc4jBatchResult<Swc4jTranspileOutput>> results = swc4j.transpileBatch(codes, jsScriptTranspileOptions
+                .setInlineSources(false)
+                .setSourceMap(Swc4jSourceMapOption.None)
+                .setPluginHost(new Swc4jPluginHost().add(plugin)));
+        assertThat(results).hasSize(codes.size());
+        for (int i = 0; i < codes.size(); i++) {
+            assertThat(results.get(i).getOutputOrThrow().getCode()).isEqualTo("a + " + i + ";\n");
+        }
+        assertThat(count.get()).isEqualTo(codes.size());
+    }
+
     @Test
     public void testTranspileModuleCount() {
         String code = "import a from 'a'; a + 1;";
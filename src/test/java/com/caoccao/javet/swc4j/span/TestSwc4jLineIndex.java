@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.swc4j.span;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSwc4jLineIndex {
+    @Test
+    public void testEmpty() {
+        Swc4jLineIndex lineIndex = Swc4jLineIndex.of("");
+        assertThat(lineIndex.getLineCount()).isEqualTo(1);
+        assertThat(lineIndex.getLine(0)).isEqualTo(1);
+        assertThat(lineIndex.getColumn(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void testMultipleLines() {
+        // "a你b" takes 5 bytes.
+        Swc4jLineIndex lineIndex = Swc4jLineIndex.of("a你b\n\nc\n");
+        assertThat(lineIndex.getLineCount()).isEqualTo(4);
+        assertThat(lineIndex.getLineStart(1)).isEqualTo(0);
+        assertThat(lineIndex.getLineStart(2)).isEqualTo(6);
+        assertThat(lineIndex.getLineStart(3)).isEqualTo(7);
+        assertThat(lineIndex.getLineStart(4)).isEqualTo(9);
+        assertThat(lineIndex.getLine(4)).isEqualTo(1);
+        assertThat(lineIndex.getColumn(4)).isEqualTo(3);
+        assertThat(lineIndex.getLine(5)).isEqualTo(1);
+        assertThat(lineIndex.getColumn(5)).isEqualTo(4);
+        assertThat(lineIndex.getLine(6)).isEqualTo(2);
+        assertThat(lineIndex.getColumn(6)).isEqualTo(1);
+        assertThat(lineIndex.getLine(7)).isEqualTo(3);
+        assertThat(lineIndex.getLine(9)).isEqualTo(4);
+        Swc4jSpan span = lineIndex.toSpan(new Swc4jSpan(7, 8, 0, 0));
+        assertThat(span.getStart()).isEqualTo(7);
+        assertThat(span.getEnd()).isEqualTo(8);
+        assertThat(span.getLine()).isEqualTo(3);
+        assertThat(span.getColumn()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOutOfRange() {
+        Swc4jLineIndex lineIndex = Swc4jLineIndex.of("abc");
+        assertThatThrownBy(() -> lineIndex.getLine(4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> lineIndex.getColumn(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> lineIndex.getLineStart(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}